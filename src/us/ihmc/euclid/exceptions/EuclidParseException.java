@@ -0,0 +1,30 @@
+package us.ihmc.euclid.exceptions;
+
+/**
+ * {@code RuntimeException} dedicated to the parsing of text representations of geometry objects.
+ * It is thrown when the input does not match the expected format.
+ *
+ * @author Sylvain Bertrand
+ */
+public class EuclidParseException extends RuntimeException
+{
+   private static final long serialVersionUID = 6493617251024570112L;
+
+   /**
+    * Constructs an {@code EuclidParseException} with no detail message.
+    */
+   public EuclidParseException()
+   {
+      super();
+   }
+
+   /**
+    * Constructs an {@code EuclidParseException} with the specified detail message.
+    *
+    * @param message the detail message.
+    */
+   public EuclidParseException(String message)
+   {
+      super(message);
+   }
+}
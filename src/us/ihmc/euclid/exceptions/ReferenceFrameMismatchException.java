@@ -0,0 +1,30 @@
+package us.ihmc.euclid.exceptions;
+
+/**
+ * {@code RuntimeException} dedicated to operations involving reference frames. It is thrown when
+ * an operation requires two reference frames to belong to the same tree but they do not.
+ *
+ * @author Sylvain Bertrand
+ */
+public class ReferenceFrameMismatchException extends RuntimeException
+{
+   private static final long serialVersionUID = 6285468715468123458L;
+
+   /**
+    * Constructs an {@code ReferenceFrameMismatchException} with no detail message.
+    */
+   public ReferenceFrameMismatchException()
+   {
+      super();
+   }
+
+   /**
+    * Constructs an {@code ReferenceFrameMismatchException} with the specified detail message.
+    *
+    * @param message the detail message.
+    */
+   public ReferenceFrameMismatchException(String message)
+   {
+      super(message);
+   }
+}
@@ -0,0 +1,166 @@
+package us.ihmc.euclid.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This class compresses rigid-body transforms by combining a {@link SmallestThreeQuaternionCodec}
+ * for the rotation part with a {@link FixedPointTuple3DCodec} for the translation part.
+ * <p>
+ * A transform is stored as its encoded rotation followed by its encoded translation. For instance,
+ * a transform with a 48-bit rotation and a 16-bit per component translation is stored in 12 bytes
+ * instead of the 96 bytes needed to store the 12 coefficients in double precision.
+ * </p>
+ * <p>
+ * Both codecs preserve {@code NaN}: a rotation that cannot be normalized is decoded as a
+ * {@code NaN} quaternion and {@code NaN} translation components are decoded as {@code NaN}.
+ * </p>
+ * <p>
+ * An instance of this class is not thread-safe but does not generate garbage.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class CompressedTransformCodec
+{
+   private final SmallestThreeQuaternionCodec rotationCodec;
+   private final FixedPointTuple3DCodec translationCodec;
+
+   /** Used to convert the rotation part of a {@link RigidBodyTransform}. */
+   private final Quaternion quaternion = new Quaternion();
+   /** Used to decode the translation part of a transform. */
+   private final Vector3D translation = new Vector3D();
+
+   /**
+    * Creates a new codec for transforms.
+    *
+    * @param rotationBits the size of the encoded rotation part, either 32, 48, or 64.
+    * @param maximumTranslation the bound on the magnitude of each component of the translation part.
+    *           Components outside the range saturate.
+    * @param translationBitsPerComponent the number of bits used for each component of the
+    *           translation part, either 16 or 32.
+    * @throws IllegalArgumentException if any of the arguments is invalid, see
+    *            {@link SmallestThreeQuaternionCodec#SmallestThreeQuaternionCodec(int)} and
+    *            {@link FixedPointTuple3DCodec#FixedPointTuple3DCodec(double, int)}.
+    */
+   public CompressedTransformCodec(int rotationBits, double maximumTranslation, int translationBitsPerComponent)
+   {
+      this(new SmallestThreeQuaternionCodec(rotationBits), new FixedPointTuple3DCodec(maximumTranslation, translationBitsPerComponent));
+   }
+
+   /**
+    * Creates a new codec for transforms from the codecs to use for the rotation and translation
+    * parts.
+    *
+    * @param rotationCodec the codec used for the rotation part. Not modified.
+    * @param translationCodec the codec used for the translation part. Not modified.
+    */
+   public CompressedTransformCodec(SmallestThreeQuaternionCodec rotationCodec, FixedPointTuple3DCodec translationCodec)
+   {
+      this.rotationCodec = rotationCodec;
+      this.translationCodec = translationCodec;
+   }
+
+   /**
+    * Gets the codec used for the rotation part.
+    *
+    * @return the rotation codec.
+    */
+   public SmallestThreeQuaternionCodec getRotationCodec()
+   {
+      return rotationCodec;
+   }
+
+   /**
+    * Gets the codec used for the translation part.
+    *
+    * @return the translation codec.
+    */
+   public FixedPointTuple3DCodec getTranslationCodec()
+   {
+      return translationCodec;
+   }
+
+   /**
+    * Gets the number of bytes used when writing a transform to a {@link ByteBuffer}.
+    *
+    * @return the size in bytes.
+    */
+   public int getEncodedSize()
+   {
+      return rotationCodec.getEncodedSize() + translationCodec.getEncodedSize();
+   }
+
+   /**
+    * Encodes and writes the given transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param transform the transform to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeRigidBodyTransform(ByteBuffer buffer, RigidBodyTransform transform)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferOverflowException();
+
+      quaternion.set(transform.getRotationMatrix());
+      rotationCodec.writeQuaternion(buffer, quaternion);
+      translationCodec.writeTuple3D(buffer, transform.getTranslationVector());
+   }
+
+   /**
+    * Reads and decodes a transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param transformToPack the transform in which the decoded transform is stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readRigidBodyTransform(ByteBuffer buffer, RigidBodyTransform transformToPack)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferUnderflowException();
+
+      rotationCodec.readQuaternion(buffer, quaternion);
+      translationCodec.readTuple3D(buffer, translation);
+      transformToPack.set(quaternion, translation);
+   }
+
+   /**
+    * Encodes and writes the given transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param transform the transform to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeQuaternionBasedTransform(ByteBuffer buffer, QuaternionBasedTransform transform)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferOverflowException();
+
+      rotationCodec.writeQuaternion(buffer, transform.getQuaternion());
+      translationCodec.writeTuple3D(buffer, transform.getTranslationVector());
+   }
+
+   /**
+    * Reads and decodes a transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param transformToPack the transform in which the decoded transform is stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readQuaternionBasedTransform(ByteBuffer buffer, QuaternionBasedTransform transformToPack)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferUnderflowException();
+
+      rotationCodec.readQuaternion(buffer, quaternion);
+      translationCodec.readTuple3D(buffer, translation);
+      transformToPack.set(quaternion, translation);
+   }
+}
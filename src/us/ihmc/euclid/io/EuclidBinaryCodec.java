@@ -0,0 +1,746 @@
+package us.ihmc.euclid.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
+import us.ihmc.euclid.exceptions.NotARotationMatrixException;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.RotationScaleMatrix;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics;
+import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollReadOnly;
+
+/**
+ * This class writes and reads geometry objects to and from {@link ByteBuffer}s in a compact binary
+ * format.
+ * <p>
+ * Each object is stored as the plain sequence of its components, without header or padding, in
+ * either single or double precision as chosen at construction. The number of components of each
+ * type is given by the {@code *_LENGTH} constants, see {@link #getEncodedSize(int)} to get the
+ * corresponding number of bytes:
+ * <ul>
+ * <li>tuples: their components, x, y, (z, (s)).
+ * <li>quaternions: x, y, z, s.
+ * <li>axis-angles: x, y, z, angle.
+ * <li>yaw-pitch-rolls: yaw, pitch, roll.
+ * <li>rotation matrices: the 9 coefficients in row-major order.
+ * <li>rotation-scale matrices: the 9 coefficients of the rotation part in row-major order followed
+ * by the 3 scale factors.
+ * <li>rigid-body transforms: the rotation matrix followed by the translation.
+ * <li>quaternion-based transforms: the quaternion followed by the translation.
+ * <li>affine transforms: the rotation matrix, the 3 scale factors, and the translation.
+ * </ul>
+ * </p>
+ * <p>
+ * The relative accessors of the buffer are used: objects are written or read at the current
+ * position of the buffer which is then advanced. The byte order is the one of the buffer, such
+ * that the sender and the receiver only have to agree on it and on the precision. When a buffer is
+ * too small, the method throws a {@link BufferOverflowException} or a
+ * {@link BufferUnderflowException} as would {@link ByteBuffer}.
+ * </p>
+ * <p>
+ * When reading a rotation in single precision, the rotation is normalized to compensate for the
+ * rounding of its components. In double precision, the data is read as is and the reading methods
+ * throw a {@link NotARotationMatrixException} if a rotation matrix has been corrupted.
+ * </p>
+ * <p>
+ * An instance of this class is not thread-safe but does not generate garbage once created, except
+ * for the first bulk operation on a new buffer, see
+ * {@link #writeDoubles(ByteBuffer, double[], int, int)}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class EuclidBinaryCodec
+{
+   /** Number of components of a 2D tuple. */
+   public static final int TUPLE2D_LENGTH = 2;
+   /** Number of components of a 3D tuple. */
+   public static final int TUPLE3D_LENGTH = 3;
+   /** Number of components of a 4D tuple. */
+   public static final int TUPLE4D_LENGTH = 4;
+   /** Number of components of a quaternion. */
+   public static final int QUATERNION_LENGTH = 4;
+   /** Number of components of an axis-angle. */
+   public static final int AXIS_ANGLE_LENGTH = 4;
+   /** Number of components of a yaw-pitch-roll. */
+   public static final int YAW_PITCH_ROLL_LENGTH = 3;
+   /** Number of components of a rotation matrix. */
+   public static final int ROTATION_MATRIX_LENGTH = 9;
+   /** Number of components of a rotation-scale matrix. */
+   public static final int ROTATION_SCALE_MATRIX_LENGTH = 12;
+   /** Number of components of a rigid-body transform. */
+   public static final int RIGID_BODY_TRANSFORM_LENGTH = 12;
+   /** Number of components of a quaternion-based transform. */
+   public static final int QUATERNION_BASED_TRANSFORM_LENGTH = 7;
+   /** Number of components of an affine transform. */
+   public static final int AFFINE_TRANSFORM_LENGTH = 15;
+
+   /** Whether the components are stored as {@code float}s or {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one component. */
+   private final int componentSize;
+
+   /** Rotation used to read rotation-scale matrices and affine transforms. */
+   private final RotationMatrix rotation = new RotationMatrix();
+
+   /** The last buffer used with a bulk operation in double precision. */
+   private ByteBuffer viewedBuffer;
+   /** The byte order of {@link #viewedBuffer} when {@link #doubleView} was created. */
+   private ByteOrder viewedByteOrder;
+   /** View of the entire {@link #viewedBuffer} starting at index 0. */
+   private DoubleBuffer doubleView;
+
+   /**
+    * Creates a new codec storing the components in single or double precision.
+    *
+    * @param singlePrecision whether the components are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public EuclidBinaryCodec(boolean singlePrecision)
+   {
+      this.singlePrecision = singlePrecision;
+      componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+   }
+
+   /**
+    * Whether this codec stores the components as {@code float}s or as {@code double}s.
+    *
+    * @return {@code true} if the components are stored in single precision, {@code false} if they
+    *         are stored in double precision.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes used by this codec to store the given number of components.
+    * <p>
+    * For instance, {@code getEncodedSize(RIGID_BODY_TRANSFORM_LENGTH)} is the number of bytes
+    * written for a {@code RigidBodyTransform}.
+    * </p>
+    *
+    * @param numberOfComponents the number of components.
+    * @return the size in bytes.
+    */
+   public int getEncodedSize(int numberOfComponents)
+   {
+      return numberOfComponents * componentSize;
+   }
+
+   /**
+    * Writes the given tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param tuple the tuple to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeTuple2D(ByteBuffer buffer, Tuple2DReadOnly tuple)
+   {
+      checkRemaining(buffer, TUPLE2D_LENGTH, true);
+      put(buffer, tuple.getX());
+      put(buffer, tuple.getY());
+   }
+
+   /**
+    * Reads a tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param tupleToPack the tuple in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readTuple2D(ByteBuffer buffer, Tuple2DBasics tupleToPack)
+   {
+      checkRemaining(buffer, TUPLE2D_LENGTH, false);
+      double x = get(buffer);
+      double y = get(buffer);
+      tupleToPack.set(x, y);
+   }
+
+   /**
+    * Writes the given tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param tuple the tuple to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeTuple3D(ByteBuffer buffer, Tuple3DReadOnly tuple)
+   {
+      checkRemaining(buffer, TUPLE3D_LENGTH, true);
+      putTuple3D(buffer, tuple);
+   }
+
+   /**
+    * Reads a tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param tupleToPack the tuple in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readTuple3D(ByteBuffer buffer, Tuple3DBasics tupleToPack)
+   {
+      checkRemaining(buffer, TUPLE3D_LENGTH, false);
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      tupleToPack.set(x, y, z);
+   }
+
+   /**
+    * Writes the given tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param tuple the tuple to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeTuple4D(ByteBuffer buffer, Tuple4DReadOnly tuple)
+   {
+      checkRemaining(buffer, TUPLE4D_LENGTH, true);
+      putTuple4D(buffer, tuple);
+   }
+
+   /**
+    * Reads a tuple at the current position of the buffer.
+    * <p>
+    * Note that when {@code tupleToPack} is a quaternion, it is normalized after being set.
+    * </p>
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param tupleToPack the tuple in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readTuple4D(ByteBuffer buffer, Tuple4DBasics tupleToPack)
+   {
+      checkRemaining(buffer, TUPLE4D_LENGTH, false);
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      double s = get(buffer);
+      tupleToPack.set(x, y, z, s);
+   }
+
+   /**
+    * Writes the given quaternion at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param quaternion the quaternion to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeQuaternion(ByteBuffer buffer, QuaternionReadOnly quaternion)
+   {
+      writeTuple4D(buffer, quaternion);
+   }
+
+   /**
+    * Reads a quaternion at the current position of the buffer.
+    * <p>
+    * The quaternion is normalized after being set.
+    * </p>
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param quaternionToPack the quaternion in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readQuaternion(ByteBuffer buffer, QuaternionBasics quaternionToPack)
+   {
+      readTuple4D(buffer, quaternionToPack);
+   }
+
+   /**
+    * Writes the given axis-angle at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param axisAngle the axis-angle to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeAxisAngle(ByteBuffer buffer, AxisAngleReadOnly axisAngle)
+   {
+      checkRemaining(buffer, AXIS_ANGLE_LENGTH, true);
+      put(buffer, axisAngle.getX());
+      put(buffer, axisAngle.getY());
+      put(buffer, axisAngle.getZ());
+      put(buffer, axisAngle.getAngle());
+   }
+
+   /**
+    * Reads an axis-angle at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param axisAngleToPack the axis-angle in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readAxisAngle(ByteBuffer buffer, AxisAngleBasics axisAngleToPack)
+   {
+      checkRemaining(buffer, AXIS_ANGLE_LENGTH, false);
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      double angle = get(buffer);
+      axisAngleToPack.set(x, y, z, angle);
+   }
+
+   /**
+    * Writes the given yaw-pitch-roll at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param yawPitchRoll the yaw-pitch-roll to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeYawPitchRoll(ByteBuffer buffer, YawPitchRollReadOnly yawPitchRoll)
+   {
+      checkRemaining(buffer, YAW_PITCH_ROLL_LENGTH, true);
+      put(buffer, yawPitchRoll.getYaw());
+      put(buffer, yawPitchRoll.getPitch());
+      put(buffer, yawPitchRoll.getRoll());
+   }
+
+   /**
+    * Reads a yaw-pitch-roll at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param yawPitchRollToPack the yaw-pitch-roll in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readYawPitchRoll(ByteBuffer buffer, YawPitchRollBasics yawPitchRollToPack)
+   {
+      checkRemaining(buffer, YAW_PITCH_ROLL_LENGTH, false);
+      double yaw = get(buffer);
+      double pitch = get(buffer);
+      double roll = get(buffer);
+      yawPitchRollToPack.set(yaw, pitch, roll);
+   }
+
+   /**
+    * Writes the given rotation matrix at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param rotationMatrix the rotation matrix to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeRotationMatrix(ByteBuffer buffer, RotationMatrixReadOnly rotationMatrix)
+   {
+      checkRemaining(buffer, ROTATION_MATRIX_LENGTH, true);
+      putRotationMatrix(buffer, rotationMatrix);
+   }
+
+   /**
+    * Reads a rotation matrix at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param rotationMatrixToPack the rotation matrix in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws NotARotationMatrixException in double precision, if the read values do not represent
+    *            a rotation matrix.
+    */
+   public void readRotationMatrix(ByteBuffer buffer, RotationMatrix rotationMatrixToPack)
+   {
+      checkRemaining(buffer, ROTATION_MATRIX_LENGTH, false);
+      getRotationMatrix(buffer, rotationMatrixToPack);
+   }
+
+   /**
+    * Writes the given rotation-scale matrix at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param rotationScaleMatrix the rotation-scale matrix to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeRotationScaleMatrix(ByteBuffer buffer, RotationScaleMatrixReadOnly rotationScaleMatrix)
+   {
+      checkRemaining(buffer, ROTATION_SCALE_MATRIX_LENGTH, true);
+      putRotationMatrix(buffer, rotationScaleMatrix.getRotationMatrix());
+      putTuple3D(buffer, rotationScaleMatrix.getScale());
+   }
+
+   /**
+    * Reads a rotation-scale matrix at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param rotationScaleMatrixToPack the rotation-scale matrix in which the read values are stored.
+    *           Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws NotARotationMatrixException in double precision, if the read values do not represent
+    *            a rotation matrix.
+    */
+   public void readRotationScaleMatrix(ByteBuffer buffer, RotationScaleMatrix rotationScaleMatrixToPack)
+   {
+      checkRemaining(buffer, ROTATION_SCALE_MATRIX_LENGTH, false);
+      getRotationMatrix(buffer, rotation);
+      double scaleX = get(buffer);
+      double scaleY = get(buffer);
+      double scaleZ = get(buffer);
+      rotationScaleMatrixToPack.set(rotation, scaleX, scaleY, scaleZ);
+   }
+
+   /**
+    * Writes the given transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param transform the transform to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeRigidBodyTransform(ByteBuffer buffer, RigidBodyTransform transform)
+   {
+      checkRemaining(buffer, RIGID_BODY_TRANSFORM_LENGTH, true);
+      putRotationMatrix(buffer, transform.getRotationMatrix());
+      putTuple3D(buffer, transform.getTranslationVector());
+   }
+
+   /**
+    * Reads a transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param transformToPack the transform in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws NotARotationMatrixException in double precision, if the read values do not represent
+    *            a rotation matrix.
+    */
+   public void readRigidBodyTransform(ByteBuffer buffer, RigidBodyTransform transformToPack)
+   {
+      checkRemaining(buffer, RIGID_BODY_TRANSFORM_LENGTH, false);
+      double m00 = get(buffer);
+      double m01 = get(buffer);
+      double m02 = get(buffer);
+      double m10 = get(buffer);
+      double m11 = get(buffer);
+      double m12 = get(buffer);
+      double m20 = get(buffer);
+      double m21 = get(buffer);
+      double m22 = get(buffer);
+
+      if (singlePrecision)
+      {
+         transformToPack.setRotationUnsafe(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+         transformToPack.normalizeRotationPart();
+      }
+      else
+      {
+         transformToPack.setRotation(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      }
+
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      transformToPack.setTranslation(x, y, z);
+   }
+
+   /**
+    * Writes the given transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param transform the transform to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeQuaternionBasedTransform(ByteBuffer buffer, QuaternionBasedTransform transform)
+   {
+      checkRemaining(buffer, QUATERNION_BASED_TRANSFORM_LENGTH, true);
+      putTuple4D(buffer, transform.getQuaternion());
+      putTuple3D(buffer, transform.getTranslationVector());
+   }
+
+   /**
+    * Reads a transform at the current position of the buffer.
+    * <p>
+    * The quaternion part of the transform is normalized after being set.
+    * </p>
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param transformToPack the transform in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readQuaternionBasedTransform(ByteBuffer buffer, QuaternionBasedTransform transformToPack)
+   {
+      checkRemaining(buffer, QUATERNION_BASED_TRANSFORM_LENGTH, false);
+      double qx = get(buffer);
+      double qy = get(buffer);
+      double qz = get(buffer);
+      double qs = get(buffer);
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      transformToPack.set(qx, qy, qz, qs, x, y, z);
+   }
+
+   /**
+    * Writes the given transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param transform the transform to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeAffineTransform(ByteBuffer buffer, AffineTransform transform)
+   {
+      checkRemaining(buffer, AFFINE_TRANSFORM_LENGTH, true);
+      putRotationMatrix(buffer, transform.getRotationMatrix());
+      putTuple3D(buffer, transform.getScale());
+      putTuple3D(buffer, transform.getTranslationVector());
+   }
+
+   /**
+    * Reads a transform at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param transformToPack the transform in which the read values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws NotARotationMatrixException in double precision, if the read values do not represent
+    *            a rotation matrix.
+    */
+   public void readAffineTransform(ByteBuffer buffer, AffineTransform transformToPack)
+   {
+      checkRemaining(buffer, AFFINE_TRANSFORM_LENGTH, false);
+      getRotationMatrix(buffer, rotation);
+      transformToPack.setRotation(rotation);
+      double scaleX = get(buffer);
+      double scaleY = get(buffer);
+      double scaleZ = get(buffer);
+      transformToPack.setScale(scaleX, scaleY, scaleZ);
+      double x = get(buffer);
+      double y = get(buffer);
+      double z = get(buffer);
+      transformToPack.setTranslation(x, y, z);
+   }
+
+   /**
+    * Writes {@code length} elements of the given array at the current position of the buffer.
+    * <p>
+    * In double precision and when the position of the buffer is a multiple of
+    * {@value Double#BYTES}, the elements are transferred at once using a {@link DoubleBuffer} view
+    * of the buffer. The view is created the first time a buffer is used for a bulk operation and is
+    * then reused as long as the same buffer is given with the same byte order. Otherwise, the
+    * elements are written one at a time.
+    * </p>
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param array the array containing the values to write. Not modified.
+    * @param start the index of the first element to write.
+    * @param length the number of elements to write.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    * @throws IndexOutOfBoundsException if {@code start} and {@code length} do not describe a valid
+    *            range of {@code array}.
+    */
+   public void writeDoubles(ByteBuffer buffer, double[] array, int start, int length)
+   {
+      checkRange(array.length, start, length);
+      checkRemaining(buffer, length, true);
+
+      int position = buffer.position();
+
+      if (!singlePrecision && position % Double.BYTES == 0)
+      {
+         DoubleBuffer view = getDoubleView(buffer);
+         view.position(position / Double.BYTES);
+         view.put(array, start, length);
+         buffer.position(position + length * Double.BYTES);
+      }
+      else
+      {
+         for (int i = start; i < start + length; i++)
+            put(buffer, array[i]);
+      }
+   }
+
+   /**
+    * Reads {@code length} values at the current position of the buffer and stores them in the given
+    * array.
+    * <p>
+    * See {@link #writeDoubles(ByteBuffer, double[], int, int)} for the use of {@link DoubleBuffer}
+    * views.
+    * </p>
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param arrayToPack the array in which the read values are stored. Modified.
+    * @param start the index in {@code arrayToPack} where to store the first value.
+    * @param length the number of values to read.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws IndexOutOfBoundsException if {@code start} and {@code length} do not describe a valid
+    *            range of {@code arrayToPack}.
+    */
+   public void readDoubles(ByteBuffer buffer, double[] arrayToPack, int start, int length)
+   {
+      checkRange(arrayToPack.length, start, length);
+      checkRemaining(buffer, length, false);
+
+      int position = buffer.position();
+
+      if (!singlePrecision && position % Double.BYTES == 0)
+      {
+         DoubleBuffer view = getDoubleView(buffer);
+         view.position(position / Double.BYTES);
+         view.get(arrayToPack, start, length);
+         buffer.position(position + length * Double.BYTES);
+      }
+      else
+      {
+         for (int i = start; i < start + length; i++)
+            arrayToPack[i] = get(buffer);
+      }
+   }
+
+   /**
+    * Writes the tuples of the given array at the current position of the buffer.
+    * <p>
+    * The array is stored as its size, as an {@code int}, followed by the x-components of all the
+    * tuples, then the y-components, and finally the z-components. Each block of components is
+    * transferred with {@link #writeDoubles(ByteBuffer, double[], int, int)}.
+    * </p>
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param tuples the tuples to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeTuple3DArray(ByteBuffer buffer, Tuple3DArray<?> tuples)
+   {
+      int size = tuples.size();
+      if (buffer.remaining() < Integer.BYTES + (long) TUPLE3D_LENGTH * size * componentSize)
+         throw new BufferOverflowException();
+
+      buffer.putInt(size);
+      writeDoubles(buffer, tuples.getXArray(), 0, size);
+      writeDoubles(buffer, tuples.getYArray(), 0, size);
+      writeDoubles(buffer, tuples.getZArray(), 0, size);
+   }
+
+   /**
+    * Reads tuples at the current position of the buffer, see
+    * {@link #writeTuple3DArray(ByteBuffer, Tuple3DArray)} for the format.
+    * <p>
+    * The size of {@code tuplesToPack} is set to the number of tuples read.
+    * </p>
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param tuplesToPack the array in which the read tuples are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readTuple3DArray(ByteBuffer buffer, Tuple3DArray<?> tuplesToPack)
+   {
+      if (buffer.remaining() < Integer.BYTES)
+         throw new BufferUnderflowException();
+
+      int position = buffer.position();
+      int size = buffer.getInt();
+
+      if (size < 0 || buffer.remaining() < (long) TUPLE3D_LENGTH * size * componentSize)
+      {
+         buffer.position(position);
+         throw new BufferUnderflowException();
+      }
+
+      tuplesToPack.setSize(size);
+      readDoubles(buffer, tuplesToPack.getXArray(), 0, size);
+      readDoubles(buffer, tuplesToPack.getYArray(), 0, size);
+      readDoubles(buffer, tuplesToPack.getZArray(), 0, size);
+   }
+
+   private DoubleBuffer getDoubleView(ByteBuffer buffer)
+   {
+      if (buffer != viewedBuffer || buffer.order() != viewedByteOrder)
+      {
+         ByteBuffer duplicate = buffer.duplicate();
+         duplicate.clear();
+         duplicate.order(buffer.order());
+         doubleView = duplicate.asDoubleBuffer();
+         viewedBuffer = buffer;
+         viewedByteOrder = buffer.order();
+      }
+      return doubleView;
+   }
+
+   private void putTuple3D(ByteBuffer buffer, Tuple3DReadOnly tuple)
+   {
+      put(buffer, tuple.getX());
+      put(buffer, tuple.getY());
+      put(buffer, tuple.getZ());
+   }
+
+   private void putTuple4D(ByteBuffer buffer, Tuple4DReadOnly tuple)
+   {
+      put(buffer, tuple.getX());
+      put(buffer, tuple.getY());
+      put(buffer, tuple.getZ());
+      put(buffer, tuple.getS());
+   }
+
+   private void putRotationMatrix(ByteBuffer buffer, RotationMatrixReadOnly rotationMatrix)
+   {
+      put(buffer, rotationMatrix.getM00());
+      put(buffer, rotationMatrix.getM01());
+      put(buffer, rotationMatrix.getM02());
+      put(buffer, rotationMatrix.getM10());
+      put(buffer, rotationMatrix.getM11());
+      put(buffer, rotationMatrix.getM12());
+      put(buffer, rotationMatrix.getM20());
+      put(buffer, rotationMatrix.getM21());
+      put(buffer, rotationMatrix.getM22());
+   }
+
+   private void getRotationMatrix(ByteBuffer buffer, RotationMatrix rotationMatrixToPack)
+   {
+      double m00 = get(buffer);
+      double m01 = get(buffer);
+      double m02 = get(buffer);
+      double m10 = get(buffer);
+      double m11 = get(buffer);
+      double m12 = get(buffer);
+      double m20 = get(buffer);
+      double m21 = get(buffer);
+      double m22 = get(buffer);
+
+      if (singlePrecision)
+         rotationMatrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      else
+         rotationMatrixToPack.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+
+   private void put(ByteBuffer buffer, double value)
+   {
+      if (singlePrecision)
+         buffer.putFloat((float) value);
+      else
+         buffer.putDouble(value);
+   }
+
+   private double get(ByteBuffer buffer)
+   {
+      return singlePrecision ? buffer.getFloat() : buffer.getDouble();
+   }
+
+   /**
+    * Verifies that there is enough room for the given number of components before writing or
+    * reading anything, such that the buffer is never left with a partially written or read object.
+    */
+   private void checkRemaining(ByteBuffer buffer, int numberOfComponents, boolean write)
+   {
+      if (buffer.remaining() < (long) numberOfComponents * componentSize)
+      {
+         if (write)
+            throw new BufferOverflowException();
+         else
+            throw new BufferUnderflowException();
+      }
+   }
+
+   private static void checkRange(int arrayLength, int start, int length)
+   {
+      if (start < 0 || length < 0 || start + length > arrayLength)
+         throw new IndexOutOfBoundsException("Invalid range, start: " + start + ", length: " + length + ", array length: " + arrayLength);
+   }
+}
@@ -0,0 +1,211 @@
+package us.ihmc.euclid.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * This class compresses 3D tuples, typically the translation of a transform, by storing each
+ * component as a fixed-point number over 16 or 32 bits.
+ * <p>
+ * The range [-{@code maximumAbsoluteValue}, {@code maximumAbsoluteValue}] given at construction
+ * is uniformly divided such that zero is exactly represented and the resolution is
+ * {@code maximumAbsoluteValue / (2}<sup>{@code bits - 1}</sup>{@code  - 1)}. For instance, a range
+ * of 10m is encoded with a resolution of about 0.31mm over 16 bits and 4.7nm over 32 bits. The
+ * decoded components are within half the resolution of the original components, see
+ * {@link #getMaximumError()}.
+ * </p>
+ * <p>
+ * Components outside the range saturate and are decoded as &plusmn;{@code maximumAbsoluteValue}.
+ * {@code NaN} is encoded with the one value that is not used by the range, i.e.
+ * {@link Short#MIN_VALUE} or {@link Integer#MIN_VALUE}, and decoded as {@code NaN}.
+ * </p>
+ * <p>
+ * An instance of this class is immutable and does not generate garbage.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class FixedPointTuple3DCodec
+{
+   /** The bound on the magnitude of the components that can be represented. */
+   private final double maximumAbsoluteValue;
+   /** The number of bits used for each component: 16 or 32. */
+   private final int bitsPerComponent;
+   /** The components are quantized from -{@code maxQuantizedValue} to {@code maxQuantizedValue}. */
+   private final int maxQuantizedValue;
+   /** The value used to encode {@code NaN}. */
+   private final int nanValue;
+   /** Conversion factor from a component to its quantized value. */
+   private final double quantizationScale;
+
+   /**
+    * Creates a new codec for tuples with components in [-{@code maximumAbsoluteValue},
+    * {@code maximumAbsoluteValue}].
+    *
+    * @param maximumAbsoluteValue the bound on the magnitude of the components. Components outside
+    *           the range saturate.
+    * @param bitsPerComponent the number of bits used to store each component, either 16 or 32.
+    * @throws IllegalArgumentException if {@code maximumAbsoluteValue} is not strictly positive and
+    *            finite, or if {@code bitsPerComponent} is neither 16 nor 32.
+    */
+   public FixedPointTuple3DCodec(double maximumAbsoluteValue, int bitsPerComponent)
+   {
+      if (!(maximumAbsoluteValue > 0.0) || Double.isInfinite(maximumAbsoluteValue))
+         throw new IllegalArgumentException("The maximum absolute value has to be strictly positive and finite, was: " + maximumAbsoluteValue);
+      if (bitsPerComponent != 16 && bitsPerComponent != 32)
+         throw new IllegalArgumentException("The number of bits per component has to be either 16 or 32, was: " + bitsPerComponent);
+
+      this.maximumAbsoluteValue = maximumAbsoluteValue;
+      this.bitsPerComponent = bitsPerComponent;
+
+      if (bitsPerComponent == 16)
+      {
+         maxQuantizedValue = Short.MAX_VALUE;
+         nanValue = Short.MIN_VALUE;
+      }
+      else
+      {
+         maxQuantizedValue = Integer.MAX_VALUE;
+         nanValue = Integer.MIN_VALUE;
+      }
+
+      quantizationScale = maxQuantizedValue / maximumAbsoluteValue;
+   }
+
+   /**
+    * Gets the bound on the magnitude of the components that can be represented.
+    *
+    * @return the maximum absolute value of a component.
+    */
+   public double getMaximumAbsoluteValue()
+   {
+      return maximumAbsoluteValue;
+   }
+
+   /**
+    * Gets the number of bits used to store each component.
+    *
+    * @return the number of bits per component: 16 or 32.
+    */
+   public int getBitsPerComponent()
+   {
+      return bitsPerComponent;
+   }
+
+   /**
+    * Gets the number of bytes used when writing a tuple to a {@link ByteBuffer}.
+    *
+    * @return the size in bytes: 6 or 12.
+    */
+   public int getEncodedSize()
+   {
+      return 3 * bitsPerComponent / Byte.SIZE;
+   }
+
+   /**
+    * Gets the difference between two successive values that can be represented.
+    *
+    * @return the resolution of this codec.
+    */
+   public double getResolution()
+   {
+      return 1.0 / quantizationScale;
+   }
+
+   /**
+    * Gets the worst-case difference between a component within the range of this codec and its
+    * decoded value, which is half the resolution.
+    *
+    * @return the maximum error on each component.
+    */
+   public double getMaximumError()
+   {
+      return 0.5 / quantizationScale;
+   }
+
+   /**
+    * Encodes a single component.
+    *
+    * @param value the value to encode.
+    * @return the quantized value, fits in a {@code short} when using 16 bits per component.
+    */
+   public int encode(double value)
+   {
+      if (Double.isNaN(value))
+         return nanValue;
+
+      double scaledValue = value * quantizationScale;
+      if (scaledValue >= maxQuantizedValue)
+         return maxQuantizedValue;
+      else if (scaledValue <= -maxQuantizedValue)
+         return -maxQuantizedValue;
+      else
+         return (int) Math.round(scaledValue);
+   }
+
+   /**
+    * Decodes a single component previously encoded with this codec.
+    *
+    * @param encoded the quantized value.
+    * @return the decoded value.
+    */
+   public double decode(int encoded)
+   {
+      if (encoded == nanValue)
+         return Double.NaN;
+      return encoded / quantizationScale;
+   }
+
+   /**
+    * Encodes and writes the given tuple at the current position of the buffer using
+    * {@link #getEncodedSize()} bytes.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param tuple the tuple to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeTuple3D(ByteBuffer buffer, Tuple3DReadOnly tuple)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferOverflowException();
+
+      put(buffer, encode(tuple.getX()));
+      put(buffer, encode(tuple.getY()));
+      put(buffer, encode(tuple.getZ()));
+   }
+
+   /**
+    * Reads and decodes a tuple at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param tupleToPack the tuple in which the decoded values are stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readTuple3D(ByteBuffer buffer, Tuple3DBasics tupleToPack)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferUnderflowException();
+
+      double x = decode(get(buffer));
+      double y = decode(get(buffer));
+      double z = decode(get(buffer));
+      tupleToPack.set(x, y, z);
+   }
+
+   private void put(ByteBuffer buffer, int encoded)
+   {
+      if (bitsPerComponent == 16)
+         buffer.putShort((short) encoded);
+      else
+         buffer.putInt(encoded);
+   }
+
+   private int get(ByteBuffer buffer)
+   {
+      return bitsPerComponent == 16 ? buffer.getShort() : buffer.getInt();
+   }
+}
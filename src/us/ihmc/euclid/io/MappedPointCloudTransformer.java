@@ -0,0 +1,277 @@
+package us.ihmc.euclid.io;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import us.ihmc.euclid.transform.interfaces.Transform;
+
+/**
+ * This class can be used to transform point clouds stored in raw binary files without loading the
+ * entire file in memory.
+ * <p>
+ * The file is expected to only contain the coordinates of the points stored as x<sub>0</sub>,
+ * y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ..., either in single
+ * or double precision. The file is mapped in memory with {@link FileChannel#map} one chunk at a
+ * time, such that files larger than the available memory can be processed. The points of each chunk
+ * are transformed using
+ * {@link Transform#transformPoints(float[], int, float[], int, int)} or
+ * {@link Transform#transformPoints(double[], int, double[], int, int)}.
+ * </p>
+ * <p>
+ * The time spent and the number of bytes processed by the last operation are recorded and can be
+ * used to evaluate the throughput, see {@link #getLastThroughput()}.
+ * </p>
+ * <p>
+ * An instance of this class is not thread-safe but can be reused for any number of files without
+ * generating garbage other than the mapped buffers.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class MappedPointCloudTransformer
+{
+   /** Default size in bytes of the chunks that are mapped one at a time: 64MiB. */
+   public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+   /** Whether the coordinates are stored as {@code float}s or {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one point. */
+   private final int pointSize;
+   /** The number of points processed per chunk. */
+   private int pointsPerChunk;
+   /** The byte order used in the files. */
+   private ByteOrder byteOrder = ByteOrder.nativeOrder();
+
+   /** Buffer used to transform the coordinates of a chunk when in single precision. */
+   private float[] floatChunk;
+   /** Buffer used to transform the coordinates of a chunk when in double precision. */
+   private double[] doubleChunk;
+
+   /** The number of bytes processed during the last operation. */
+   private long lastNumberOfBytes = 0;
+   /** The duration in nanoseconds of the last operation. */
+   private long lastDuration = 0;
+
+   /**
+    * Creates a new transformer for files where the coordinates are stored in single or double
+    * precision and using the default chunk size {@value #DEFAULT_CHUNK_SIZE}.
+    *
+    * @param singlePrecision whether the coordinates are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public MappedPointCloudTransformer(boolean singlePrecision)
+   {
+      this(singlePrecision, DEFAULT_CHUNK_SIZE);
+   }
+
+   /**
+    * Creates a new transformer for files where the coordinates are stored in single or double
+    * precision.
+    *
+    * @param singlePrecision whether the coordinates are stored as {@code float}s or as
+    *           {@code double}s.
+    * @param chunkSize the maximum number of bytes to map at once. It is rounded down to a multiple
+    *           of the size of a point.
+    * @throws IllegalArgumentException if {@code chunkSize} is smaller than the size of a single
+    *            point.
+    */
+   public MappedPointCloudTransformer(boolean singlePrecision, int chunkSize)
+   {
+      this.singlePrecision = singlePrecision;
+      pointSize = 3 * (singlePrecision ? Float.BYTES : Double.BYTES);
+      setChunkSize(chunkSize);
+   }
+
+   /**
+    * Sets the maximum number of bytes to map at once.
+    * <p>
+    * The given size is rounded down to a multiple of the size of a point. Larger chunks reduce the
+    * number of mappings while smaller chunks reduce the memory footprint.
+    * </p>
+    *
+    * @param chunkSize the maximum number of bytes to map at once.
+    * @throws IllegalArgumentException if {@code chunkSize} is smaller than the size of a single
+    *            point.
+    */
+   public void setChunkSize(int chunkSize)
+   {
+      if (chunkSize < pointSize)
+         throw new IllegalArgumentException("The chunk size has to be at least " + pointSize + " bytes, was: " + chunkSize);
+
+      pointsPerChunk = chunkSize / pointSize;
+      floatChunk = null;
+      doubleChunk = null;
+   }
+
+   /**
+    * Sets the byte order used in the files. The default value is {@link ByteOrder#nativeOrder()}.
+    *
+    * @param byteOrder the byte order of the files to process.
+    */
+   public void setByteOrder(ByteOrder byteOrder)
+   {
+      this.byteOrder = byteOrder;
+   }
+
+   /**
+    * Transforms in place all the points stored in the given file.
+    *
+    * @param file the path to the file to process. Modified.
+    * @param transform the transform to apply to each point. Not modified.
+    * @return the number of points transformed.
+    * @throws IOException if an I/O error occurs.
+    * @throws IllegalArgumentException if the size of the file is not a multiple of the size of a
+    *            point.
+    */
+   public long transform(Path file, Transform transform) throws IOException
+   {
+      long startTime = System.nanoTime();
+
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE))
+      {
+         long size = checkFileSize(channel.size());
+         processChunks(channel, channel, size, transform);
+         return finish(startTime, size);
+      }
+   }
+
+   /**
+    * Transforms all the points stored in {@code source} and writes the result in
+    * {@code destination}.
+    * <p>
+    * The destination file is created if it does not exist yet, and is resized to match the size of
+    * the source file otherwise.
+    * </p>
+    *
+    * @param source the path to the file to read the points from. Not modified.
+    * @param destination the path to the file to write the transformed points to. Modified.
+    * @param transform the transform to apply to each point. Not modified.
+    * @return the number of points transformed.
+    * @throws IOException if an I/O error occurs.
+    * @throws IllegalArgumentException if the size of the source file is not a multiple of the size
+    *            of a point.
+    */
+   public long transform(Path source, Path destination, Transform transform) throws IOException
+   {
+      long startTime = System.nanoTime();
+
+      try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+            FileChannel destinationChannel = FileChannel.open(destination, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                              StandardOpenOption.CREATE))
+      {
+         long size = checkFileSize(sourceChannel.size());
+         if (destinationChannel.size() > size)
+            destinationChannel.truncate(size);
+         processChunks(sourceChannel, destinationChannel, size, transform);
+         return finish(startTime, size);
+      }
+   }
+
+   private void processChunks(FileChannel sourceChannel, FileChannel destinationChannel, long size, Transform transform) throws IOException
+   {
+      boolean inPlace = sourceChannel == destinationChannel;
+      long chunkSize = (long) pointsPerChunk * pointSize;
+
+      for (long position = 0; position < size; position += chunkSize)
+      {
+         int bytesInChunk = (int) Math.min(chunkSize, size - position);
+         int numberOfPoints = bytesInChunk / pointSize;
+
+         MappedByteBuffer source = sourceChannel.map(inPlace ? MapMode.READ_WRITE : MapMode.READ_ONLY, position, bytesInChunk);
+         MappedByteBuffer destination = inPlace ? source : destinationChannel.map(MapMode.READ_WRITE, position, bytesInChunk);
+         source.order(byteOrder);
+         destination.order(byteOrder);
+
+         if (singlePrecision)
+            transformChunk(source.asFloatBuffer(), destination.asFloatBuffer(), numberOfPoints, transform);
+         else
+            transformChunk(source.asDoubleBuffer(), destination.asDoubleBuffer(), numberOfPoints, transform);
+      }
+   }
+
+   private void transformChunk(FloatBuffer source, FloatBuffer destination, int numberOfPoints, Transform transform)
+   {
+      if (floatChunk == null)
+         floatChunk = new float[3 * pointsPerChunk];
+
+      source.get(floatChunk, 0, 3 * numberOfPoints);
+      transform.transformPoints(floatChunk, 0, floatChunk, 0, numberOfPoints);
+      destination.put(floatChunk, 0, 3 * numberOfPoints);
+   }
+
+   private void transformChunk(DoubleBuffer source, DoubleBuffer destination, int numberOfPoints, Transform transform)
+   {
+      if (doubleChunk == null)
+         doubleChunk = new double[3 * pointsPerChunk];
+
+      source.get(doubleChunk, 0, 3 * numberOfPoints);
+      transform.transformPoints(doubleChunk, 0, doubleChunk, 0, numberOfPoints);
+      destination.put(doubleChunk, 0, 3 * numberOfPoints);
+   }
+
+   private long checkFileSize(long size)
+   {
+      if (size % pointSize != 0)
+         throw new IllegalArgumentException("The file size (" + size + " bytes) is not a multiple of the point size (" + pointSize + " bytes).");
+      return size;
+   }
+
+   private long finish(long startTime, long size)
+   {
+      lastDuration = System.nanoTime() - startTime;
+      lastNumberOfBytes = size;
+      return size / pointSize;
+   }
+
+   /**
+    * Whether the coordinates are expected to be stored as {@code float}s or {@code double}s.
+    *
+    * @return {@code true} if this transformer processes single precision files, {@code false}
+    *         otherwise.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes processed during the last operation.
+    *
+    * @return the size in bytes of the last processed file.
+    */
+   public long getLastNumberOfBytes()
+   {
+      return lastNumberOfBytes;
+   }
+
+   /**
+    * Gets the time spent in the last operation, including opening and mapping the files.
+    *
+    * @return the duration in seconds of the last operation.
+    */
+   public double getLastDuration()
+   {
+      return lastDuration * 1.0e-9;
+   }
+
+   /**
+    * Computes the throughput of the last operation in gigabytes, i.e. 10<sup>9</sup> bytes, of
+    * source data processed per second.
+    *
+    * @return the throughput in GB/s of the last operation, or {@link Double#NaN} if no operation has
+    *         been performed yet.
+    */
+   public double getLastThroughput()
+   {
+      if (lastDuration == 0)
+         return Double.NaN;
+      return lastNumberOfBytes / (double) lastDuration;
+   }
+}
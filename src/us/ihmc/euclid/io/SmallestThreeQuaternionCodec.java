@@ -0,0 +1,390 @@
+package us.ihmc.euclid.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * This class compresses quaternions into 32, 48, or 64 bits using the smallest-three scheme.
+ * <p>
+ * A unit quaternion and its opposite represent the same orientation and the four components of a
+ * unit quaternion verify x<sup>2</sup> + y<sup>2</sup> + z<sup>2</sup> + s<sup>2</sup> = 1. Hence,
+ * only the three components with the smallest magnitudes are stored, the largest one being
+ * recovered from the unit norm after flipping the quaternion such that the largest component is
+ * positive. Being smaller than the largest component, each of the three stored components is in
+ * [-1/&radic;2, 1/&radic;2] which is then quantized uniformly over {@code b} bits.
+ * </p>
+ * <p>
+ * The encoded value is organized as follows, from the most significant bits to the least
+ * significant bits:
+ * <ul>
+ * <li>2 bits: the index of the dropped component, 0 for x, 1 for y, 2 for z, and 3 for s.
+ * <li>3 &times; {@code b} bits: the three other components in the order x, y, z, s.
+ * </ul>
+ * with {@code b} being equal to 10 for 32 bits, 15 for 48 bits, and 20 for 64 bits. The remaining
+ * most significant bits, if any, are zero.
+ * </p>
+ * <p>
+ * A quantized component never has all its {@code b} bits set. The value with all the
+ * 2 + 3 &times; {@code b} bits set is therefore reserved for the quaternions that cannot be
+ * normalized, i.e. that contain {@code NaN} or have a zero or infinite norm, and is decoded as
+ * {@code NaN}.
+ * </p>
+ * <p>
+ * The decoded quaternion represents the same orientation as the original quaternion within
+ * {@link #getMaximumAngularError()}, that is about 4.8&times;10<sup>-3</sup>rad for 32 bits,
+ * 1.5&times;10<sup>-4</sup>rad for 48 bits, and 4.7&times;10<sup>-6</sup>rad for 64 bits. Note
+ * that the decoded quaternion may be the opposite of the original quaternion as its largest
+ * component is always positive.
+ * </p>
+ * <p>
+ * An instance of this class is immutable and does not generate garbage.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class SmallestThreeQuaternionCodec
+{
+   /** Bound on the magnitude of the three smallest components of a unit quaternion. */
+   private static final double MAX_SMALLEST_COMPONENT = Math.sqrt(0.5);
+
+   /** The number of bits of an encoded quaternion: 32, 48, or 64. */
+   private final int numberOfBits;
+   /** The number of bits used for each of the three stored components. */
+   private final int bitsPerComponent;
+   /** Mask to extract a single component from an encoded quaternion. */
+   private final long componentMask;
+   /**
+    * The three components are quantized from -{@code maxQuantizedValue} to
+    * {@code maxQuantizedValue} and then offset by {@code maxQuantizedValue}.
+    */
+   private final int maxQuantizedValue;
+   /** Conversion factor from a component to its quantized value. */
+   private final double quantizationScale;
+   /** The worst-case angle between the original and decoded orientations. */
+   private final double maximumAngularError;
+   /** The encoded value reserved for the quaternions that cannot be normalized. */
+   private final long nanEncoding;
+
+   /**
+    * Creates a new codec that compresses quaternions into the given number of bits.
+    *
+    * @param numberOfBits the size of an encoded quaternion, either 32, 48, or 64.
+    * @throws IllegalArgumentException if {@code numberOfBits} is not one of 32, 48, or 64.
+    */
+   public SmallestThreeQuaternionCodec(int numberOfBits)
+   {
+      if (numberOfBits != 32 && numberOfBits != 48 && numberOfBits != 64)
+         throw new IllegalArgumentException("The number of bits has to be one of 32, 48, or 64, was: " + numberOfBits);
+
+      this.numberOfBits = numberOfBits;
+      bitsPerComponent = (numberOfBits - 2) / 3;
+      componentMask = (1L << bitsPerComponent) - 1L;
+      maxQuantizedValue = (1 << (bitsPerComponent - 1)) - 1;
+      quantizationScale = maxQuantizedValue / MAX_SMALLEST_COMPONENT;
+      nanEncoding = (1L << (2 + 3 * bitsPerComponent)) - 1L;
+
+      /*
+       * Each of the three stored components is off by at most half a quantization step, i.e. the
+       * error vector on these components has a norm of at most sqrt(3) * step / 2. The recovered
+       * largest component is at least 1/2 such that the error on the entire quaternion is at most
+       * twice that. Finally, the angle between two orientations is twice the angle between their
+       * unit quaternions.
+       */
+      double step = 1.0 / quantizationScale;
+      double maximumQuaternionError = Math.sqrt(3.0) * step;
+      maximumAngularError = 4.0 * Math.asin(0.5 * maximumQuaternionError);
+   }
+
+   /**
+    * Gets the size in bits of an encoded quaternion.
+    *
+    * @return the number of bits: 32, 48, or 64.
+    */
+   public int getNumberOfBits()
+   {
+      return numberOfBits;
+   }
+
+   /**
+    * Gets the number of bytes used when writing a quaternion to a {@link ByteBuffer}.
+    *
+    * @return the size in bytes: 4, 6, or 8.
+    */
+   public int getEncodedSize()
+   {
+      return numberOfBits / Byte.SIZE;
+   }
+
+   /**
+    * Gets the worst-case angle between the orientation represented by a quaternion and the
+    * orientation represented by its decoded version.
+    *
+    * @return the maximum angular error in radians.
+    */
+   public double getMaximumAngularError()
+   {
+      return maximumAngularError;
+   }
+
+   /**
+    * Encodes the given quaternion.
+    * <p>
+    * The quaternion does not need to be exactly unitary, it is normalized before being encoded. A
+    * quaternion that cannot be normalized, i.e. that contains {@code NaN} or has a zero or infinite
+    * norm, is encoded such that it is decoded as {@code NaN}.
+    * </p>
+    *
+    * @param quaternion the quaternion to encode. Not modified.
+    * @return the encoded quaternion stored in the {@link #getNumberOfBits()} least significant
+    *         bits.
+    */
+   public long encode(QuaternionReadOnly quaternion)
+   {
+      return encode(quaternion.getX(), quaternion.getY(), quaternion.getZ(), quaternion.getS());
+   }
+
+   /**
+    * Encodes the quaternion (qx, qy, qz, qs).
+    * <p>
+    * The quaternion does not need to be exactly unitary, it is normalized before being encoded. A
+    * quaternion that cannot be normalized, i.e. that contains {@code NaN} or has a zero or infinite
+    * norm, is encoded such that it is decoded as {@code NaN}.
+    * </p>
+    *
+    * @param qx the x-component of the quaternion.
+    * @param qy the y-component of the quaternion.
+    * @param qz the z-component of the quaternion.
+    * @param qs the s-component of the quaternion.
+    * @return the encoded quaternion stored in the {@link #getNumberOfBits()} least significant
+    *         bits.
+    */
+   public long encode(double qx, double qy, double qz, double qs)
+   {
+      double norm = EuclidCoreTools.norm(qx, qy, qz, qs);
+      // Written such that NaN is also caught.
+      if (!(norm > 0.0 && norm < Double.POSITIVE_INFINITY))
+         return nanEncoding;
+
+      double absX = Math.abs(qx);
+      double absY = Math.abs(qy);
+      double absZ = Math.abs(qz);
+      double absS = Math.abs(qs);
+
+      int largestIndex;
+      double largest;
+
+      if (absX >= absY && absX >= absZ && absX >= absS)
+      {
+         largestIndex = 0;
+         largest = qx;
+      }
+      else if (absY >= absZ && absY >= absS)
+      {
+         largestIndex = 1;
+         largest = qy;
+      }
+      else if (absZ >= absS)
+      {
+         largestIndex = 2;
+         largest = qz;
+      }
+      else
+      {
+         largestIndex = 3;
+         largest = qs;
+      }
+
+      // Flipping the quaternion such that the dropped component is positive.
+      double scale = (largest < 0.0 ? -quantizationScale : quantizationScale) / norm;
+
+      long encoded = largestIndex;
+      if (largestIndex != 0)
+         encoded = (encoded << bitsPerComponent) | quantize(qx * scale);
+      if (largestIndex != 1)
+         encoded = (encoded << bitsPerComponent) | quantize(qy * scale);
+      if (largestIndex != 2)
+         encoded = (encoded << bitsPerComponent) | quantize(qz * scale);
+      if (largestIndex != 3)
+         encoded = (encoded << bitsPerComponent) | quantize(qs * scale);
+      return encoded;
+   }
+
+   /**
+    * Decodes a quaternion previously encoded with this codec.
+    * <p>
+    * The decoded quaternion is set to {@code NaN} if the original quaternion could not be
+    * normalized.
+    * </p>
+    *
+    * @param encoded the encoded quaternion.
+    * @param quaternionToPack the quaternion in which the decoded quaternion is stored. Modified.
+    */
+   public void decode(long encoded, QuaternionBasics quaternionToPack)
+   {
+      if (encoded == nanEncoding)
+      {
+         quaternionToPack.setToNaN();
+         return;
+      }
+
+      double c2 = dequantize(encoded);
+      encoded >>>= bitsPerComponent;
+      double c1 = dequantize(encoded);
+      encoded >>>= bitsPerComponent;
+      double c0 = dequantize(encoded);
+      encoded >>>= bitsPerComponent;
+      int largestIndex = (int) (encoded & 0x3L);
+
+      double largest = Math.sqrt(Math.max(0.0, 1.0 - (c0 * c0 + c1 * c1 + c2 * c2)));
+
+      switch (largestIndex)
+      {
+      case 0:
+         quaternionToPack.set(largest, c0, c1, c2);
+         break;
+      case 1:
+         quaternionToPack.set(c0, largest, c1, c2);
+         break;
+      case 2:
+         quaternionToPack.set(c0, c1, largest, c2);
+         break;
+      default:
+         quaternionToPack.set(c0, c1, c2, largest);
+         break;
+      }
+   }
+
+   /**
+    * Encodes and writes the given quaternion at the current position of the buffer using
+    * {@link #getEncodedSize()} bytes.
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param quaternion the quaternion to write. Not modified.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    */
+   public void writeQuaternion(ByteBuffer buffer, QuaternionReadOnly quaternion)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferOverflowException();
+      put(buffer, encode(quaternion));
+   }
+
+   /**
+    * Reads and decodes a quaternion at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param quaternionToPack the quaternion in which the decoded quaternion is stored. Modified.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    */
+   public void readQuaternion(ByteBuffer buffer, QuaternionBasics quaternionToPack)
+   {
+      if (buffer.remaining() < getEncodedSize())
+         throw new BufferUnderflowException();
+      decode(get(buffer), quaternionToPack);
+   }
+
+   /**
+    * Encodes and writes {@code length} quaternions of the given array at the current position of
+    * the buffer.
+    * <p>
+    * The quaternions are written back to back, the total size being
+    * {@code length * getEncodedSize()} bytes.
+    * </p>
+    *
+    * @param buffer the buffer to write to. Modified.
+    * @param quaternions the array containing the quaternions to write. Not modified.
+    * @param start the index of the first quaternion to write.
+    * @param length the number of quaternions to write.
+    * @throws BufferOverflowException if there is not enough space remaining in the buffer.
+    * @throws IndexOutOfBoundsException if {@code start} and {@code length} do not describe a valid
+    *            range of {@code quaternions}.
+    */
+   public void writeQuaternions(ByteBuffer buffer, QuaternionReadOnly[] quaternions, int start, int length)
+   {
+      checkRange(quaternions.length, start, length);
+      if (buffer.remaining() < (long) length * getEncodedSize())
+         throw new BufferOverflowException();
+
+      for (int i = start; i < start + length; i++)
+         put(buffer, encode(quaternions[i]));
+   }
+
+   /**
+    * Reads and decodes {@code length} quaternions at the current position of the buffer.
+    *
+    * @param buffer the buffer to read from. Modified.
+    * @param quaternionsToPack the array in which the decoded quaternions are stored. Modified.
+    * @param start the index in {@code quaternionsToPack} where to store the first quaternion.
+    * @param length the number of quaternions to read.
+    * @throws BufferUnderflowException if there is not enough data remaining in the buffer.
+    * @throws IndexOutOfBoundsException if {@code start} and {@code length} do not describe a valid
+    *            range of {@code quaternionsToPack}.
+    */
+   public void readQuaternions(ByteBuffer buffer, QuaternionBasics[] quaternionsToPack, int start, int length)
+   {
+      checkRange(quaternionsToPack.length, start, length);
+      if (buffer.remaining() < (long) length * getEncodedSize())
+         throw new BufferUnderflowException();
+
+      for (int i = start; i < start + length; i++)
+         decode(get(buffer), quaternionsToPack[i]);
+   }
+
+   private long quantize(double scaledComponent)
+   {
+      long quantized = Math.round(scaledComponent);
+      // Clamping to handle the rounding of the normalization.
+      if (quantized > maxQuantizedValue)
+         quantized = maxQuantizedValue;
+      else if (quantized < -maxQuantizedValue)
+         quantized = -maxQuantizedValue;
+      return quantized + maxQuantizedValue;
+   }
+
+   private double dequantize(long encoded)
+   {
+      return ((encoded & componentMask) - maxQuantizedValue) / quantizationScale;
+   }
+
+   private void put(ByteBuffer buffer, long encoded)
+   {
+      switch (numberOfBits)
+      {
+      case 32:
+         buffer.putInt((int) encoded);
+         break;
+      case 48:
+         buffer.putShort((short) (encoded >>> 32));
+         buffer.putInt((int) encoded);
+         break;
+      default:
+         buffer.putLong(encoded);
+         break;
+      }
+   }
+
+   private long get(ByteBuffer buffer)
+   {
+      switch (numberOfBits)
+      {
+      case 32:
+         return buffer.getInt() & 0xFFFFFFFFL;
+      case 48:
+         long high = buffer.getShort() & 0xFFFFL;
+         return (high << 32) | (buffer.getInt() & 0xFFFFFFFFL);
+      default:
+         return buffer.getLong();
+      }
+   }
+
+   private static void checkRange(int arrayLength, int start, int length)
+   {
+      if (start < 0 || length < 0 || start + length > arrayLength)
+         throw new IndexOutOfBoundsException("Invalid range, start: " + start + ", length: " + length + ", array length: " + arrayLength);
+   }
+}
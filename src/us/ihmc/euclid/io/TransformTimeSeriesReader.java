@@ -0,0 +1,453 @@
+package us.ihmc.euclid.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * This class reads a time-series of rigid-body transforms recorded with
+ * {@link TransformTimeSeriesWriter}, see the writer for a description of the format.
+ * <p>
+ * The frames are decoded sequentially with {@link #next(QuaternionBasedTransform)} or
+ * {@link #next(RigidBodyTransform)}. Thanks to the keyframe index, the reader can also jump to any
+ * keyframe with {@link #seekToKeyframe(int)}, or to any frame with {@link #seekToFrame(long)} in
+ * which case the frames from the preceding keyframe are decoded.
+ * </p>
+ * <p>
+ * The keyframe index is loaded when creating the reader. After that, decoding and seeking do not
+ * generate garbage. When the footer is missing, i.e. the writer was not closed, the keyframe index
+ * is instead rebuilt by scanning the frames up to the first one that is incomplete, see
+ * {@link #isRecovered()}.
+ * </p>
+ * <p>
+ * The time-series is mapped in memory at once, such that its size is limited to
+ * {@link TransformTimeSeriesWriter#MAXIMUM_SIZE} bytes.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class TransformTimeSeriesReader
+{
+   private final ByteBuffer buffer;
+   private final int keyframeInterval;
+   private final CompressedTransformCodec deltaCodec;
+   private final EuclidBinaryCodec keyframeCodec = new EuclidBinaryCodec(false);
+
+   /** Whether the keyframe index was rebuilt from the frames because the footer is missing. */
+   private final boolean isRecovered;
+   /** The byte offset of the keyframe index, i.e. the end of the frames. */
+   private long indexOffset;
+   private long numberOfFrames;
+   private long[] keyframeOffsets;
+   private long[] keyframeFrameIndices;
+   private long[] keyframeTimestamps;
+
+   /** The last decoded transform. */
+   private final QuaternionBasedTransform decodedTransform = new QuaternionBasedTransform();
+   /** Used to decode the deltas. */
+   private final QuaternionBasedTransform decodedDelta = new QuaternionBasedTransform();
+
+   /** The index of the next frame to decode. */
+   private long nextFrameIndex = 0;
+   /** The timestamp of the last decoded frame. */
+   private long timestamp = Long.MIN_VALUE;
+
+   /**
+    * Maps the given file in memory and creates a reader for it.
+    *
+    * @param file the path to the file holding the time-series.
+    * @return the new reader.
+    * @throws IOException if an I/O error occurs while opening or mapping the file.
+    * @throws IllegalArgumentException if the file does not hold a valid time-series or is larger
+    *            than {@link TransformTimeSeriesWriter#MAXIMUM_SIZE} bytes.
+    */
+   public static TransformTimeSeriesReader open(Path file) throws IOException
+   {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+      {
+         if (channel.size() > TransformTimeSeriesWriter.MAXIMUM_SIZE)
+            throw new IllegalArgumentException("The file is too large: " + channel.size() + " bytes, maximum: " + TransformTimeSeriesWriter.MAXIMUM_SIZE);
+         return new TransformTimeSeriesReader(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+      }
+   }
+
+   /**
+    * Creates a new reader for the time-series held in the given buffer.
+    * <p>
+    * The time-series is expected to start at index 0 and to end at the limit of the buffer. The
+    * position, limit, and byte order of the buffer are not modified. A time-series without footer
+    * is recovered, see {@link #isRecovered()}.
+    * </p>
+    *
+    * @param buffer the buffer holding the time-series. Not modified.
+    * @throws IllegalArgumentException if the buffer does not hold a valid time-series.
+    */
+   public TransformTimeSeriesReader(ByteBuffer buffer)
+   {
+      this.buffer = buffer.duplicate();
+      this.buffer.order(ByteOrder.BIG_ENDIAN);
+      int limit = this.buffer.limit();
+
+      if (limit < TransformTimeSeriesWriter.HEADER_SIZE)
+         throw new IllegalArgumentException("The buffer is too small to hold a time-series: " + limit + " bytes.");
+      if (this.buffer.getInt(0) != TransformTimeSeriesWriter.MAGIC)
+         throw new IllegalArgumentException("The buffer does not hold a time-series.");
+      int version = this.buffer.getInt(Integer.BYTES);
+      if (version != TransformTimeSeriesWriter.VERSION)
+         throw new IllegalArgumentException("Unsupported version: " + version);
+
+      this.buffer.position(2 * Integer.BYTES);
+      keyframeInterval = this.buffer.getInt();
+      int rotationBits = this.buffer.getInt();
+      int translationBitsPerComponent = this.buffer.getInt();
+      double maximumTranslation = this.buffer.getDouble();
+      deltaCodec = new CompressedTransformCodec(rotationBits, maximumTranslation, translationBitsPerComponent);
+
+      isRecovered = limit < TransformTimeSeriesWriter.HEADER_SIZE + TransformTimeSeriesWriter.FOOTER_SIZE
+            || this.buffer.getInt(limit - Integer.BYTES) != TransformTimeSeriesWriter.MAGIC;
+
+      if (isRecovered)
+         recoverIndex(limit);
+      else
+         loadIndex(limit);
+
+      this.buffer.position(TransformTimeSeriesWriter.HEADER_SIZE);
+      this.buffer.limit((int) indexOffset);
+   }
+
+   private void loadIndex(int limit)
+   {
+      buffer.position(limit - TransformTimeSeriesWriter.FOOTER_SIZE);
+      indexOffset = buffer.getLong();
+      numberOfFrames = buffer.getLong();
+      int numberOfKeyframes = buffer.getInt();
+
+      long expectedIndexOffset = limit - TransformTimeSeriesWriter.FOOTER_SIZE - (long) numberOfKeyframes * TransformTimeSeriesWriter.INDEX_ENTRY_SIZE;
+      if (numberOfKeyframes < 0 || indexOffset != expectedIndexOffset || indexOffset < TransformTimeSeriesWriter.HEADER_SIZE)
+         throw new IllegalArgumentException("The keyframe index is corrupted.");
+
+      keyframeOffsets = new long[numberOfKeyframes];
+      keyframeFrameIndices = new long[numberOfKeyframes];
+      keyframeTimestamps = new long[numberOfKeyframes];
+
+      buffer.position((int) indexOffset);
+      for (int i = 0; i < numberOfKeyframes; i++)
+      {
+         keyframeOffsets[i] = buffer.getLong();
+         keyframeFrameIndices[i] = buffer.getLong();
+         keyframeTimestamps[i] = buffer.getLong();
+      }
+   }
+
+   /**
+    * Rebuilds the keyframe index by scanning the frames from the header.
+    * <p>
+    * The scan stops at the first frame that is incomplete or that does not start with a valid tag.
+    * This also covers a partially written index: its entries start with the offset of a keyframe
+    * which, as the size of a time-series is less than 2GiB, starts with a zero byte that is not a
+    * valid tag.
+    * </p>
+    */
+   private void recoverIndex(int limit)
+   {
+      int keyframeSize = TransformTimeSeriesWriter.MAXIMUM_FRAME_SIZE;
+      int deltaSize = 1 + Integer.BYTES + deltaCodec.getEncodedSize();
+      int numberOfKeyframes = 0;
+      keyframeOffsets = new long[16];
+      keyframeFrameIndices = new long[16];
+      keyframeTimestamps = new long[16];
+
+      int position = TransformTimeSeriesWriter.HEADER_SIZE;
+      numberOfFrames = 0;
+
+      while (position < limit)
+      {
+         byte tag = buffer.get(position);
+
+         if (tag == TransformTimeSeriesWriter.KEYFRAME_TAG)
+         {
+            if (limit - position < keyframeSize)
+               break;
+
+            long keyframeTimestamp = buffer.getLong(position + 1);
+            if (numberOfKeyframes > 0 && keyframeTimestamp < keyframeTimestamps[numberOfKeyframes - 1])
+               break;
+
+            if (numberOfKeyframes == keyframeOffsets.length)
+            {
+               int newLength = 2 * numberOfKeyframes;
+               keyframeOffsets = Arrays.copyOf(keyframeOffsets, newLength);
+               keyframeFrameIndices = Arrays.copyOf(keyframeFrameIndices, newLength);
+               keyframeTimestamps = Arrays.copyOf(keyframeTimestamps, newLength);
+            }
+
+            keyframeOffsets[numberOfKeyframes] = position;
+            keyframeFrameIndices[numberOfKeyframes] = numberOfFrames;
+            keyframeTimestamps[numberOfKeyframes] = keyframeTimestamp;
+            numberOfKeyframes++;
+            position += keyframeSize;
+         }
+         else if (tag == TransformTimeSeriesWriter.DELTA_TAG && numberOfKeyframes > 0)
+         {
+            if (limit - position < deltaSize)
+               break;
+
+            position += deltaSize;
+         }
+         else
+         {
+            break;
+         }
+
+         numberOfFrames++;
+      }
+
+      indexOffset = position;
+      keyframeOffsets = Arrays.copyOf(keyframeOffsets, numberOfKeyframes);
+      keyframeFrameIndices = Arrays.copyOf(keyframeFrameIndices, numberOfKeyframes);
+      keyframeTimestamps = Arrays.copyOf(keyframeTimestamps, numberOfKeyframes);
+   }
+
+   /**
+    * Tests whether the keyframe index was rebuilt by scanning the frames because the footer is
+    * missing, typically because the writer was not closed.
+    * <p>
+    * In such case, the frames that were not entirely written are ignored.
+    * </p>
+    *
+    * @return {@code true} if the time-series was recovered, {@code false} if it is complete.
+    */
+   public boolean isRecovered()
+   {
+      return isRecovered;
+   }
+
+   /**
+    * Gets the maximum number of frames between two successive keyframes, as given to the writer.
+    *
+    * @return the keyframe interval.
+    */
+   public int getKeyframeInterval()
+   {
+      return keyframeInterval;
+   }
+
+   /**
+    * Gets the codec used to decode the deltas between successive frames.
+    *
+    * @return the delta codec.
+    */
+   public CompressedTransformCodec getDeltaCodec()
+   {
+      return deltaCodec;
+   }
+
+   /**
+    * Gets the total number of frames in the time-series.
+    *
+    * @return the number of frames.
+    */
+   public long getNumberOfFrames()
+   {
+      return numberOfFrames;
+   }
+
+   /**
+    * Gets the number of keyframes in the time-series.
+    *
+    * @return the number of keyframes.
+    */
+   public int getNumberOfKeyframes()
+   {
+      return keyframeOffsets.length;
+   }
+
+   /**
+    * Gets the index of the frame stored by the {@code keyframeIndex}<sup>th</sup> keyframe.
+    *
+    * @param keyframeIndex the index of the keyframe.
+    * @return the frame index.
+    * @throws ArrayIndexOutOfBoundsException if {@code keyframeIndex} is out of range.
+    */
+   public long getKeyframeFrameIndex(int keyframeIndex)
+   {
+      return keyframeFrameIndices[keyframeIndex];
+   }
+
+   /**
+    * Gets the timestamp of the {@code keyframeIndex}<sup>th</sup> keyframe.
+    *
+    * @param keyframeIndex the index of the keyframe.
+    * @return the timestamp.
+    * @throws ArrayIndexOutOfBoundsException if {@code keyframeIndex} is out of range.
+    */
+   public long getKeyframeTimestamp(int keyframeIndex)
+   {
+      return keyframeTimestamps[keyframeIndex];
+   }
+
+   /**
+    * Finds the last keyframe with a timestamp less than or equal to the given timestamp.
+    *
+    * @param timestamp the timestamp to search for.
+    * @return the index of the keyframe, or -1 if {@code timestamp} precedes the first keyframe.
+    */
+   public int findKeyframeByTimestamp(long timestamp)
+   {
+      return findLastLessOrEqual(keyframeTimestamps, timestamp);
+   }
+
+   /**
+    * Finds the last keyframe located at or before the given frame.
+    *
+    * @param frameIndex the index of the frame.
+    * @return the index of the keyframe, or -1 if there is no such keyframe.
+    */
+   public int findKeyframeByFrameIndex(long frameIndex)
+   {
+      return findLastLessOrEqual(keyframeFrameIndices, frameIndex);
+   }
+
+   /**
+    * Moves this reader such that the next call to {@link #next(QuaternionBasedTransform)} decodes
+    * the {@code keyframeIndex}<sup>th</sup> keyframe.
+    *
+    * @param keyframeIndex the index of the keyframe to jump to.
+    * @throws ArrayIndexOutOfBoundsException if {@code keyframeIndex} is out of range.
+    */
+   public void seekToKeyframe(int keyframeIndex)
+   {
+      buffer.position((int) keyframeOffsets[keyframeIndex]);
+      nextFrameIndex = keyframeFrameIndices[keyframeIndex];
+   }
+
+   /**
+    * Moves this reader such that the next call to {@link #next(QuaternionBasedTransform)} decodes
+    * the {@code frameIndex}<sup>th</sup> frame.
+    * <p>
+    * This reader jumps to the preceding keyframe and then decodes the frames until reaching the
+    * requested frame, i.e. at most {@link #getKeyframeInterval()} - 1 frames.
+    * </p>
+    *
+    * @param frameIndex the index of the frame to jump to.
+    * @throws IndexOutOfBoundsException if {@code frameIndex} is out of range.
+    */
+   public void seekToFrame(long frameIndex)
+   {
+      if (frameIndex < 0 || frameIndex >= numberOfFrames)
+         throw new IndexOutOfBoundsException("Frame index: " + frameIndex + ", number of frames: " + numberOfFrames);
+
+      seekToKeyframe(findKeyframeByFrameIndex(frameIndex));
+
+      while (nextFrameIndex < frameIndex)
+         decodeNext();
+   }
+
+   /**
+    * Tests whether there are frames left to decode.
+    *
+    * @return {@code true} if {@link #next(QuaternionBasedTransform)} can be called, {@code false}
+    *         otherwise.
+    */
+   public boolean hasNext()
+   {
+      return nextFrameIndex < numberOfFrames;
+   }
+
+   /**
+    * Decodes the next frame.
+    *
+    * @param transformToPack the transform in which the decoded transform is stored. Modified.
+    * @throws NoSuchElementException if all the frames have been decoded.
+    */
+   public void next(QuaternionBasedTransform transformToPack)
+   {
+      decodeNext();
+      transformToPack.set(decodedTransform);
+   }
+
+   /**
+    * Decodes the next frame.
+    *
+    * @param transformToPack the transform in which the decoded transform is stored. Modified.
+    * @throws NoSuchElementException if all the frames have been decoded.
+    */
+   public void next(RigidBodyTransform transformToPack)
+   {
+      decodeNext();
+      transformToPack.set(decodedTransform);
+   }
+
+   /**
+    * Gets the timestamp of the last decoded frame.
+    *
+    * @return the timestamp.
+    */
+   public long getTimestamp()
+   {
+      return timestamp;
+   }
+
+   /**
+    * Gets the index of the last decoded frame.
+    *
+    * @return the frame index, or -1 if no frame has been decoded yet.
+    */
+   public long getFrameIndex()
+   {
+      return nextFrameIndex - 1;
+   }
+
+   private void decodeNext()
+   {
+      if (!hasNext())
+         throw new NoSuchElementException("All the " + numberOfFrames + " frames have been decoded.");
+
+      byte tag = buffer.get();
+
+      if (tag == TransformTimeSeriesWriter.KEYFRAME_TAG)
+      {
+         timestamp = buffer.getLong();
+         keyframeCodec.readQuaternionBasedTransform(buffer, decodedTransform);
+      }
+      else if (tag == TransformTimeSeriesWriter.DELTA_TAG)
+      {
+         timestamp += buffer.getInt();
+         deltaCodec.readQuaternionBasedTransform(buffer, decodedDelta);
+         decodedTransform.multiply(decodedDelta);
+      }
+      else
+      {
+         throw new IllegalStateException("Unexpected frame tag: " + tag + " at byte " + (buffer.position() - 1));
+      }
+
+      nextFrameIndex++;
+   }
+
+   private static int findLastLessOrEqual(long[] sortedArray, long value)
+   {
+      int low = 0;
+      int high = sortedArray.length - 1;
+
+      while (low <= high)
+      {
+         int middle = (low + high) >>> 1;
+
+         if (sortedArray[middle] <= value)
+            low = middle + 1;
+         else
+            high = middle - 1;
+      }
+
+      return high;
+   }
+}
@@ -0,0 +1,366 @@
+package us.ihmc.euclid.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * This class records a time-series of rigid-body transforms, typically the pose of a body at each
+ * control tick, in a compact binary format that can be read back with
+ * {@link TransformTimeSeriesReader}.
+ * <p>
+ * Most frames are stored as the delta from the previous frame: the relative transform
+ * previous<sup>-1</sup> * current, computed with
+ * {@link QuaternionBasedTransform#multiplyInvertThis(QuaternionBasedTransform)} is quantized with a
+ * {@link CompressedTransformCodec}, i.e. its rotation with the smallest-three scheme and its
+ * translation as fixed-point numbers. The delta is computed with respect to the previous frame as
+ * it will be decoded, not as it was given, such that the quantization errors do not accumulate:
+ * the error on any decoded frame is the error of a single delta.
+ * </p>
+ * <p>
+ * A keyframe storing the transform in double precision is written every
+ * {@code keyframeInterval} frames, and whenever a delta cannot be represented: when its
+ * translation exceeds the range of the codec or when the time elapsed since the previous frame
+ * does not fit in an {@code int}. The location of every keyframe is recorded in an index written
+ * when closing this writer, such that the reader can jump to any keyframe.
+ * </p>
+ * <p>
+ * Layout, all values being big-endian:
+ * <ul>
+ * <li>header: magic number, version, keyframe interval, number of bits for the delta rotations,
+ * number of bits per component for the delta translations, all as {@code int}s, followed by the
+ * range of the delta translations as a {@code double}.
+ * <li>frames, each starting with a tag byte:
+ * <ul>
+ * <li>keyframe: the timestamp as a {@code long} and the transform as written by
+ * {@link EuclidBinaryCodec#writeQuaternionBasedTransform(ByteBuffer, QuaternionBasedTransform)} in
+ * double precision.
+ * <li>delta: the time elapsed since the previous frame as an {@code int} and the relative
+ * transform as written by
+ * {@link CompressedTransformCodec#writeQuaternionBasedTransform(ByteBuffer, QuaternionBasedTransform)}.
+ * </ul>
+ * <li>index: for each keyframe, its byte offset, frame index, and timestamp as {@code long}s.
+ * <li>footer: the byte offset of the index and the number of frames as {@code long}s, the number
+ * of keyframes and the magic number as {@code int}s.
+ * </ul>
+ * </p>
+ * <p>
+ * The frames are staged in a buffer that is written to the channel when full. Once created, a
+ * writer only allocates memory when the keyframe index has to grow. The reader can still recover
+ * the frames that were written to the channel when this writer was not closed, e.g. after a crash.
+ * </p>
+ * <p>
+ * The reader maps the entire time-series in memory at once, which limits its size to
+ * {@link #MAXIMUM_SIZE} bytes, index and footer included. Writing a frame that would exceed this
+ * limit fails.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class TransformTimeSeriesWriter implements Closeable
+{
+   /** Magic number identifying the format: "ETTS". */
+   static final int MAGIC = 0x45545453;
+   /** Version of the format. */
+   static final int VERSION = 1;
+   /** Size in bytes of the header. */
+   static final int HEADER_SIZE = 5 * Integer.BYTES + Double.BYTES;
+   /** Size in bytes of an entry of the keyframe index. */
+   static final int INDEX_ENTRY_SIZE = 3 * Long.BYTES;
+   /** Size in bytes of the footer. */
+   static final int FOOTER_SIZE = 2 * Long.BYTES + 2 * Integer.BYTES;
+   /** Tag of a frame stored in full precision. */
+   static final byte KEYFRAME_TAG = 1;
+   /** Tag of a frame stored as a delta from the previous frame. */
+   static final byte DELTA_TAG = 2;
+   /** Size in bytes of the transform stored in a keyframe. */
+   static final int KEYFRAME_TRANSFORM_SIZE = EuclidBinaryCodec.QUATERNION_BASED_TRANSFORM_LENGTH * Double.BYTES;
+   /** Upper bound on the size in bytes of a frame, reached by keyframes. */
+   static final int MAXIMUM_FRAME_SIZE = 1 + Long.BYTES + KEYFRAME_TRANSFORM_SIZE;
+
+   /** Default size in bytes of the buffer in which the frames are staged: 64KiB. */
+   public static final int DEFAULT_STAGING_BUFFER_SIZE = 64 * 1024;
+   /** Maximum size in bytes of a time-series such that it can be mapped in memory by the reader. */
+   public static final long MAXIMUM_SIZE = Integer.MAX_VALUE;
+
+   private final WritableByteChannel channel;
+   private final int keyframeInterval;
+   private final CompressedTransformCodec deltaCodec;
+   private final EuclidBinaryCodec keyframeCodec = new EuclidBinaryCodec(false);
+   private final ByteBuffer stagingBuffer;
+   private final long maximumSize;
+
+   /** The transform as it will be decoded by the reader. */
+   private final QuaternionBasedTransform decodedTransform = new QuaternionBasedTransform();
+   /** Used to convert {@link RigidBodyTransform}s. */
+   private final QuaternionBasedTransform transform = new QuaternionBasedTransform();
+   /** The relative transform from the previous decoded frame to the current frame. */
+   private final QuaternionBasedTransform delta = new QuaternionBasedTransform();
+   /** The relative transform as it will be decoded by the reader. */
+   private final QuaternionBasedTransform decodedDelta = new QuaternionBasedTransform();
+
+   private long numberOfFrames = 0;
+   private long lastTimestamp = Long.MIN_VALUE;
+   /** The number of bytes written to the channel so far. */
+   private long numberOfBytesFlushed = 0;
+
+   private int numberOfKeyframes = 0;
+   private long[] keyframeOffsets = new long[16];
+   private long[] keyframeFrameIndices = new long[16];
+   private long[] keyframeTimestamps = new long[16];
+
+   private boolean closed = false;
+
+   /**
+    * Creates a new writer and stages the header of the time-series.
+    *
+    * @param channel the channel to write to, typically a {@link java.nio.channels.FileChannel}. It
+    *           is closed when closing this writer.
+    * @param keyframeInterval the maximum number of frames between two successive keyframes.
+    * @param deltaCodec the codec used to quantize the deltas between successive frames. Its range
+    *           for the translation should cover the largest displacement between two frames.
+    * @throws IllegalArgumentException if {@code keyframeInterval} is not strictly positive.
+    */
+   public TransformTimeSeriesWriter(WritableByteChannel channel, int keyframeInterval, CompressedTransformCodec deltaCodec)
+   {
+      this(channel, keyframeInterval, deltaCodec, DEFAULT_STAGING_BUFFER_SIZE);
+   }
+
+   /**
+    * Creates a new writer and stages the header of the time-series.
+    *
+    * @param channel the channel to write to, typically a {@link java.nio.channels.FileChannel}. It
+    *           is closed when closing this writer.
+    * @param keyframeInterval the maximum number of frames between two successive keyframes.
+    * @param deltaCodec the codec used to quantize the deltas between successive frames. Its range
+    *           for the translation should cover the largest displacement between two frames.
+    * @param stagingBufferSize the size in bytes of the buffer in which the frames are staged before
+    *           being written to the channel.
+    * @throws IllegalArgumentException if {@code keyframeInterval} is not strictly positive, or if
+    *            {@code stagingBufferSize} is too small to hold the header or a keyframe.
+    */
+   public TransformTimeSeriesWriter(WritableByteChannel channel, int keyframeInterval, CompressedTransformCodec deltaCodec, int stagingBufferSize)
+   {
+      this(channel, keyframeInterval, deltaCodec, stagingBufferSize, MAXIMUM_SIZE);
+   }
+
+   /**
+    * Creates a new writer with a custom size limit, used for testing.
+    */
+   TransformTimeSeriesWriter(WritableByteChannel channel, int keyframeInterval, CompressedTransformCodec deltaCodec, int stagingBufferSize,
+                             long maximumSize)
+   {
+      if (keyframeInterval < 1)
+         throw new IllegalArgumentException("The keyframe interval has to be strictly positive, was: " + keyframeInterval);
+      if (stagingBufferSize < Math.max(HEADER_SIZE, MAXIMUM_FRAME_SIZE))
+         throw new IllegalArgumentException("The staging buffer is too small: " + stagingBufferSize);
+
+      this.channel = channel;
+      this.keyframeInterval = keyframeInterval;
+      this.deltaCodec = deltaCodec;
+      this.maximumSize = maximumSize;
+      stagingBuffer = ByteBuffer.allocateDirect(stagingBufferSize);
+
+      stagingBuffer.putInt(MAGIC);
+      stagingBuffer.putInt(VERSION);
+      stagingBuffer.putInt(keyframeInterval);
+      stagingBuffer.putInt(deltaCodec.getRotationCodec().getNumberOfBits());
+      stagingBuffer.putInt(deltaCodec.getTranslationCodec().getBitsPerComponent());
+      stagingBuffer.putDouble(deltaCodec.getTranslationCodec().getMaximumAbsoluteValue());
+   }
+
+   /**
+    * Appends a frame to the time-series.
+    *
+    * @param timestamp the time of the frame, in any unit. Timestamps have to be non-decreasing.
+    * @param transform the transform of the frame. Not modified.
+    * @throws IOException if an I/O error occurs while writing to the channel.
+    * @throws IllegalArgumentException if {@code timestamp} is smaller than the timestamp of the
+    *            previous frame.
+    * @throws IllegalStateException if this writer has been closed, or if the time-series would
+    *            exceed {@link #MAXIMUM_SIZE} bytes.
+    */
+   public void write(long timestamp, RigidBodyTransform transform) throws IOException
+   {
+      this.transform.set(transform);
+      write(timestamp, this.transform);
+   }
+
+   /**
+    * Appends a frame to the time-series.
+    *
+    * @param timestamp the time of the frame, in any unit. Timestamps have to be non-decreasing.
+    * @param transform the transform of the frame. Not modified.
+    * @throws IOException if an I/O error occurs while writing to the channel.
+    * @throws IllegalArgumentException if {@code timestamp} is smaller than the timestamp of the
+    *            previous frame.
+    * @throws IllegalStateException if this writer has been closed, or if the time-series would
+    *            exceed {@link #MAXIMUM_SIZE} bytes.
+    */
+   public void write(long timestamp, QuaternionBasedTransform transform) throws IOException
+   {
+      if (closed)
+         throw new IllegalStateException("This writer has been closed.");
+      if (numberOfFrames > 0 && timestamp < lastTimestamp)
+         throw new IllegalArgumentException("The timestamps have to be non-decreasing, previous: " + lastTimestamp + ", current: " + timestamp);
+      // Assuming the frame is a keyframe, the index and footer have to fit as well.
+      long sizeAfterClosing = getNumberOfBytesWritten() + MAXIMUM_FRAME_SIZE + (numberOfKeyframes + 1L) * INDEX_ENTRY_SIZE + FOOTER_SIZE;
+      if (sizeAfterClosing > maximumSize)
+         throw new IllegalStateException("The time-series has reached its maximum size of " + maximumSize + " bytes.");
+
+      if (stagingBuffer.remaining() < MAXIMUM_FRAME_SIZE)
+         flush();
+
+      if (isKeyframeNeeded(timestamp, transform))
+         writeKeyframe(timestamp, transform);
+      else
+         writeDelta(timestamp);
+
+      lastTimestamp = timestamp;
+      numberOfFrames++;
+   }
+
+   /**
+    * Tests whether the given frame has to be stored as a keyframe. When it does not, the relative
+    * transform is computed and stored in {@link #delta}.
+    */
+   private boolean isKeyframeNeeded(long timestamp, QuaternionBasedTransform transform)
+   {
+      if (numberOfFrames % keyframeInterval == 0)
+         return true;
+      if (timestamp - lastTimestamp > Integer.MAX_VALUE)
+         return true;
+
+      delta.set(decodedTransform);
+      delta.multiplyInvertThis(transform);
+
+      Vector3DReadOnly translation = delta.getTranslationVector();
+      double maximumTranslation = deltaCodec.getTranslationCodec().getMaximumAbsoluteValue();
+      // Written such that NaNs also require a keyframe.
+      return !(Math.abs(translation.getX()) <= maximumTranslation && Math.abs(translation.getY()) <= maximumTranslation
+            && Math.abs(translation.getZ()) <= maximumTranslation) || delta.containsNaN();
+   }
+
+   private void writeKeyframe(long timestamp, QuaternionBasedTransform transform)
+   {
+      if (numberOfKeyframes == keyframeOffsets.length)
+      {
+         int newLength = 2 * numberOfKeyframes;
+         keyframeOffsets = Arrays.copyOf(keyframeOffsets, newLength);
+         keyframeFrameIndices = Arrays.copyOf(keyframeFrameIndices, newLength);
+         keyframeTimestamps = Arrays.copyOf(keyframeTimestamps, newLength);
+      }
+
+      keyframeOffsets[numberOfKeyframes] = getNumberOfBytesWritten();
+      keyframeFrameIndices[numberOfKeyframes] = numberOfFrames;
+      keyframeTimestamps[numberOfKeyframes] = timestamp;
+      numberOfKeyframes++;
+
+      stagingBuffer.put(KEYFRAME_TAG);
+      stagingBuffer.putLong(timestamp);
+      int position = stagingBuffer.position();
+      keyframeCodec.writeQuaternionBasedTransform(stagingBuffer, transform);
+      // Reading back the transform to be in the same state as the reader.
+      stagingBuffer.position(position);
+      keyframeCodec.readQuaternionBasedTransform(stagingBuffer, decodedTransform);
+   }
+
+   private void writeDelta(long timestamp)
+   {
+      stagingBuffer.put(DELTA_TAG);
+      stagingBuffer.putInt((int) (timestamp - lastTimestamp));
+      int position = stagingBuffer.position();
+      deltaCodec.writeQuaternionBasedTransform(stagingBuffer, delta);
+      // Reading back the quantized delta to be in the same state as the reader.
+      stagingBuffer.position(position);
+      deltaCodec.readQuaternionBasedTransform(stagingBuffer, decodedDelta);
+      decodedTransform.multiply(decodedDelta);
+   }
+
+   /**
+    * Writes the keyframe index and the footer, flushes the staged data, and closes the channel.
+    * <p>
+    * This method has no effect if this writer is already closed.
+    * </p>
+    *
+    * @throws IOException if an I/O error occurs while writing to or closing the channel.
+    */
+   @Override
+   public void close() throws IOException
+   {
+      if (closed)
+         return;
+
+      closed = true;
+
+      try
+      {
+         long indexOffset = getNumberOfBytesWritten();
+
+         for (int i = 0; i < numberOfKeyframes; i++)
+         {
+            if (stagingBuffer.remaining() < INDEX_ENTRY_SIZE)
+               flush();
+            stagingBuffer.putLong(keyframeOffsets[i]);
+            stagingBuffer.putLong(keyframeFrameIndices[i]);
+            stagingBuffer.putLong(keyframeTimestamps[i]);
+         }
+
+         if (stagingBuffer.remaining() < FOOTER_SIZE)
+            flush();
+         stagingBuffer.putLong(indexOffset);
+         stagingBuffer.putLong(numberOfFrames);
+         stagingBuffer.putInt(numberOfKeyframes);
+         stagingBuffer.putInt(MAGIC);
+         flush();
+      }
+      finally
+      {
+         channel.close();
+      }
+   }
+
+   private void flush() throws IOException
+   {
+      stagingBuffer.flip();
+      while (stagingBuffer.hasRemaining())
+         numberOfBytesFlushed += channel.write(stagingBuffer);
+      stagingBuffer.clear();
+   }
+
+   /**
+    * Gets the number of frames written so far.
+    *
+    * @return the number of frames.
+    */
+   public long getNumberOfFrames()
+   {
+      return numberOfFrames;
+   }
+
+   /**
+    * Gets the number of keyframes written so far.
+    *
+    * @return the number of keyframes.
+    */
+   public int getNumberOfKeyframes()
+   {
+      return numberOfKeyframes;
+   }
+
+   /**
+    * Gets the number of bytes written so far, including the data that is still staged.
+    *
+    * @return the size of the time-series in bytes.
+    */
+   public long getNumberOfBytesWritten()
+   {
+      return numberOfBytesFlushed + stagingBuffer.position();
+   }
+}
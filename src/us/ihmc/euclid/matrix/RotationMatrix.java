@@ -13,6 +13,7 @@ import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
 import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tools.RotationMatrixTools;
 import us.ihmc.euclid.transform.interfaces.Transform;
@@ -60,6 +61,8 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    private double m21;
    /** The 3rd row 3rd column coefficient of this matrix. */
    private double m22;
+   /** Monitors the drift of this matrix, {@code null} when the drift tracking is disabled. */
+   private RotationMatrixDriftTracker driftTracker = null;
 
    /**
     * Create a new rotation matrix initialized to identity.
@@ -194,6 +197,82 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void normalize()
    {
       Matrix3DTools.normalize(this);
+      if (driftTracker != null)
+         driftTracker.registerNormalization();
+   }
+
+   /**
+    * Enables the tracking of the drift of this matrix with the default parameters
+    * {@link RotationMatrixDriftTracker#DEFAULT_NUMBER_OF_OPERATIONS_PER_CHECK} and
+    * {@link RotationMatrixDriftTracker#DEFAULT_ORTHOGONALITY_TOLERANCE}.
+    *
+    * @see #enableDriftTracking(int, double)
+    */
+   public void enableDriftTracking()
+   {
+      enableDriftTracking(RotationMatrixDriftTracker.DEFAULT_NUMBER_OF_OPERATIONS_PER_CHECK, RotationMatrixDriftTracker.DEFAULT_ORTHOGONALITY_TOLERANCE);
+   }
+
+   /**
+    * Enables the tracking of the drift of this matrix away from orthonormality.
+    * <p>
+    * Once enabled, the operations composing this matrix with another rotation, i.e. the
+    * {@code multiply}, {@code preMultiply}, {@code append}, and {@code prepend} methods, are counted.
+    * Every {@code numberOfOperationsPerCheck} operations, the orthogonality error of this matrix is
+    * evaluated and this matrix is normalized if the error exceeds {@code orthogonalityTolerance}.
+    * This bounds the drift of this matrix at a fraction of the cost of normalizing it after every
+    * operation.
+    * </p>
+    * <p>
+    * The statistics about the normalizations can be obtained from {@link #getDriftTracker()}. The
+    * drift tracking is disabled by default and any previous statistics are discarded when calling
+    * this method.
+    * </p>
+    *
+    * @param numberOfOperationsPerCheck the number of operations between two checks of the
+    *           orthogonality error.
+    * @param orthogonalityTolerance the orthogonality error above which this matrix is normalized,
+    *           see {@link us.ihmc.euclid.tools.Matrix3DFeatures#computeOrthogonalityError}.
+    * @throws IllegalArgumentException if {@code numberOfOperationsPerCheck < 1} or
+    *            {@code orthogonalityTolerance < 0}.
+    */
+   public void enableDriftTracking(int numberOfOperationsPerCheck, double orthogonalityTolerance)
+   {
+      driftTracker = new RotationMatrixDriftTracker(numberOfOperationsPerCheck, orthogonalityTolerance);
+   }
+
+   /**
+    * Disables the tracking of the drift of this matrix.
+    */
+   public void disableDriftTracking()
+   {
+      driftTracker = null;
+   }
+
+   /**
+    * Gets the tracker monitoring the drift of this matrix.
+    *
+    * @return the drift tracker or {@code null} if the drift tracking is disabled.
+    * @see #enableDriftTracking(int, double)
+    */
+   public RotationMatrixDriftTracker getDriftTracker()
+   {
+      return driftTracker;
+   }
+
+   /**
+    * Notifies the drift tracker, if any, that an operation has been performed on this matrix, and
+    * normalizes this matrix if its orthogonality error has become too large.
+    */
+   private void registerOperation()
+   {
+      if (driftTracker == null || !driftTracker.registerOperation())
+         return;
+
+      double orthogonalityError = Matrix3DFeatures.computeOrthogonalityError(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+
+      if (driftTracker.registerCheck(orthogonalityError))
+         Matrix3DTools.normalize(this);
    }
 
    /**
@@ -573,12 +652,14 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void multiply(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiply(this, other, this);
+      registerOperation();
    }
 
    @Override
    public void append(Orientation3DReadOnly orientation)
    {
       RotationMatrixTools.multiply(this, false, orientation, false, this);
+      registerOperation();
    }
 
    /**
@@ -592,6 +673,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void multiplyTransposeThis(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeLeft(this, other, this);
+      registerOperation();
    }
 
    /**
@@ -605,12 +687,14 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void multiplyTransposeOther(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeRight(this, other, this);
+      registerOperation();
    }
 
    @Override
    public void appendInvertOther(Orientation3DReadOnly orientation)
    {
       RotationMatrixTools.multiply(this, false, orientation, true, this);
+      registerOperation();
    }
 
    /**
@@ -624,6 +708,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void multiplyTransposeBoth(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeBoth(this, other, this);
+      registerOperation();
    }
 
    /**
@@ -641,6 +726,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void appendYawRotation(double yaw)
    {
       RotationMatrixTools.appendYawRotation(this, yaw, this);
+      registerOperation();
    }
 
    /**
@@ -658,6 +744,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void appendPitchRotation(double pitch)
    {
       RotationMatrixTools.appendPitchRotation(this, pitch, this);
+      registerOperation();
    }
 
    /**
@@ -675,6 +762,29 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void appendRollRotation(double roll)
    {
       RotationMatrixTools.appendRollRotation(this, roll, this);
+      registerOperation();
+   }
+
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the local frame of this
+    * rotation matrix over the duration {@code dt}.
+    * <p>
+    * this = this * exp(angularVelocity * dt)
+    * </p>
+    * <p>
+    * See
+    * {@link RotationMatrixTools#integrateInBodyFrame(RotationMatrixReadOnly, Vector3DReadOnly, double, RotationMatrix)}
+    * for more details.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the local frame of this matrix. Not
+    *           modified.
+    * @param dt the integration time step.
+    */
+   public void integrateInBodyFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      RotationMatrixTools.integrateInBodyFrame(this, angularVelocity, dt, this);
+      registerOperation();
    }
 
    /**
@@ -688,12 +798,14 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void preMultiply(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiply(other, this, this);
+      registerOperation();
    }
 
    @Override
    public void prepend(Orientation3DReadOnly orientation)
    {
       RotationMatrixTools.multiply(orientation, false, this, false, this);
+      registerOperation();
    }
 
    /**
@@ -707,6 +819,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void preMultiplyTransposeThis(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeRight(other, this, this);
+      registerOperation();
    }
 
    /**
@@ -720,12 +833,14 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void preMultiplyTransposeOther(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeLeft(other, this, this);
+      registerOperation();
    }
 
    @Override
    public void prependInvertOther(Orientation3DReadOnly orientation)
    {
       RotationMatrixTools.multiply(orientation, true, this, false, this);
+      registerOperation();
    }
 
    /**
@@ -739,6 +854,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void preMultiplyTransposeBoth(RotationMatrixReadOnly other)
    {
       RotationMatrixTools.multiplyTransposeBoth(other, this, this);
+      registerOperation();
    }
 
    /**
@@ -756,6 +872,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void prependYawRotation(double yaw)
    {
       RotationMatrixTools.prependYawRotation(yaw, this, this);
+      registerOperation();
    }
 
    /**
@@ -773,6 +890,7 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void prependPitchRotation(double pitch)
    {
       RotationMatrixTools.prependPitchRotation(pitch, this, this);
+      registerOperation();
    }
 
    /**
@@ -790,6 +908,28 @@ public class RotationMatrix implements CommonMatrix3DBasics, RotationMatrixReadO
    public void prependRollRotation(double roll)
    {
       RotationMatrixTools.prependRollRotation(roll, this, this);
+      registerOperation();
+   }
+
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the world frame over the
+    * duration {@code dt}.
+    * <p>
+    * this = exp(angularVelocity * dt) * this
+    * </p>
+    * <p>
+    * See
+    * {@link RotationMatrixTools#integrateInWorldFrame(Vector3DReadOnly, double, RotationMatrixReadOnly, RotationMatrix)}
+    * for more details.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the world frame. Not modified.
+    * @param dt the integration time step.
+    */
+   public void integrateInWorldFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      RotationMatrixTools.integrateInWorldFrame(angularVelocity, dt, this, this);
+      registerOperation();
    }
 
    /**
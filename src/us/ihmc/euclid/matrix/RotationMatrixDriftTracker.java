@@ -0,0 +1,204 @@
+package us.ihmc.euclid.matrix;
+
+/**
+ * Monitors the drift of a {@link RotationMatrix} away from orthonormality and holds the
+ * statistics about the normalizations it triggered.
+ * <p>
+ * Each operation composing a rotation matrix, e.g. {@link RotationMatrix#multiply} or
+ * {@link RotationMatrix#prependYawRotation(double)}, keeps the matrix orthonormal only up to
+ * round-off errors which accumulate over successive operations. Instead of normalizing the matrix
+ * after every operation, the tracker counts the operations and, every
+ * {@link #getNumberOfOperationsPerCheck()} operations, evaluates the orthogonality error of the
+ * matrix, see {@link us.ihmc.euclid.tools.Matrix3DFeatures#computeOrthogonalityError}. The matrix
+ * is normalized only when the error exceeds {@link #getOrthogonalityTolerance()}.
+ * </p>
+ * <p>
+ * A tracker is created and attached to a rotation matrix with
+ * {@link RotationMatrix#enableDriftTracking(int, double)}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class RotationMatrixDriftTracker
+{
+   /** Default number of operations between two checks of the orthogonality error. */
+   public static final int DEFAULT_NUMBER_OF_OPERATIONS_PER_CHECK = 100;
+   /** Default orthogonality error above which the rotation matrix is normalized. */
+   public static final double DEFAULT_ORTHOGONALITY_TOLERANCE = 1.0e-12;
+
+   private final int numberOfOperationsPerCheck;
+   private final double orthogonalityTolerance;
+
+   private int numberOfOperationsSinceCheck = 0;
+   private int numberOfOperationsSinceNormalization = 0;
+   private long numberOfOperations = 0;
+   private long numberOfChecks = 0;
+   private long numberOfAutomaticNormalizations = 0;
+   private double maxOrthogonalityError = 0.0;
+
+   /**
+    * Creates a new tracker.
+    *
+    * @param numberOfOperationsPerCheck the number of operations between two checks of the
+    *           orthogonality error.
+    * @param orthogonalityTolerance the orthogonality error above which the matrix is normalized.
+    * @throws IllegalArgumentException if {@code numberOfOperationsPerCheck < 1} or
+    *            {@code orthogonalityTolerance < 0}.
+    */
+   RotationMatrixDriftTracker(int numberOfOperationsPerCheck, double orthogonalityTolerance)
+   {
+      if (numberOfOperationsPerCheck < 1)
+         throw new IllegalArgumentException("The number of operations per check has to be at least 1, was: " + numberOfOperationsPerCheck);
+      if (!(orthogonalityTolerance >= 0.0))
+         throw new IllegalArgumentException("The orthogonality tolerance cannot be negative, was: " + orthogonalityTolerance);
+
+      this.numberOfOperationsPerCheck = numberOfOperationsPerCheck;
+      this.orthogonalityTolerance = orthogonalityTolerance;
+   }
+
+   /**
+    * Registers an operation performed on the rotation matrix.
+    *
+    * @return whether the orthogonality error should now be checked.
+    */
+   boolean registerOperation()
+   {
+      numberOfOperations++;
+      numberOfOperationsSinceNormalization++;
+
+      if (++numberOfOperationsSinceCheck < numberOfOperationsPerCheck)
+         return false;
+
+      numberOfOperationsSinceCheck = 0;
+      return true;
+   }
+
+   /**
+    * Registers the result of a check of the orthogonality error.
+    *
+    * @param orthogonalityError the error of the rotation matrix.
+    * @return whether the rotation matrix should be normalized, in which case the normalization is
+    *         counted as automatic.
+    */
+   boolean registerCheck(double orthogonalityError)
+   {
+      numberOfChecks++;
+      maxOrthogonalityError = Math.max(maxOrthogonalityError, orthogonalityError);
+
+      if (!(orthogonalityError > orthogonalityTolerance))
+         return false;
+
+      numberOfAutomaticNormalizations++;
+      numberOfOperationsSinceNormalization = 0;
+      return true;
+   }
+
+   /**
+    * Registers that the rotation matrix has been normalized on the user request.
+    */
+   void registerNormalization()
+   {
+      numberOfOperationsSinceCheck = 0;
+      numberOfOperationsSinceNormalization = 0;
+   }
+
+   /**
+    * Resets the statistics of this tracker.
+    * <p>
+    * The number of operations since the last normalization is not affected.
+    * </p>
+    */
+   public void resetStatistics()
+   {
+      numberOfOperations = 0;
+      numberOfChecks = 0;
+      numberOfAutomaticNormalizations = 0;
+      maxOrthogonalityError = 0.0;
+   }
+
+   /**
+    * Gets the number of operations between two checks of the orthogonality error.
+    *
+    * @return the number of operations per check.
+    */
+   public int getNumberOfOperationsPerCheck()
+   {
+      return numberOfOperationsPerCheck;
+   }
+
+   /**
+    * Gets the orthogonality error above which the matrix is normalized.
+    *
+    * @return the orthogonality tolerance.
+    */
+   public double getOrthogonalityTolerance()
+   {
+      return orthogonalityTolerance;
+   }
+
+   /**
+    * Gets the number of operations performed on the rotation matrix since it was last normalized,
+    * either automatically or on the user request.
+    *
+    * @return the number of operations since the last normalization.
+    */
+   public int getNumberOfOperationsSinceNormalization()
+   {
+      return numberOfOperationsSinceNormalization;
+   }
+
+   /**
+    * Gets the number of operations performed on the rotation matrix since the statistics were
+    * reset.
+    *
+    * @return the number of operations.
+    */
+   public long getNumberOfOperations()
+   {
+      return numberOfOperations;
+   }
+
+   /**
+    * Gets the number of times the orthogonality error was checked since the statistics were reset.
+    *
+    * @return the number of checks.
+    */
+   public long getNumberOfChecks()
+   {
+      return numberOfChecks;
+   }
+
+   /**
+    * Gets the number of times the rotation matrix was normalized automatically since the
+    * statistics were reset.
+    *
+    * @return the number of automatic normalizations.
+    */
+   public long getNumberOfAutomaticNormalizations()
+   {
+      return numberOfAutomaticNormalizations;
+   }
+
+   /**
+    * Gets the largest orthogonality error observed during the checks since the statistics were
+    * reset.
+    *
+    * @return the largest orthogonality error.
+    */
+   public double getMaxOrthogonalityError()
+   {
+      return maxOrthogonalityError;
+   }
+
+   /**
+    * Provides a {@code String} representation of the statistics of this tracker.
+    *
+    * @return the {@code String} representing this tracker.
+    */
+   @Override
+   public String toString()
+   {
+      return "Operations: " + numberOfOperations + ", checks: " + numberOfChecks + ", automatic normalizations: " + numberOfAutomaticNormalizations
+            + ", max orthogonality error: " + maxOrthogonalityError;
+   }
+}
@@ -0,0 +1,304 @@
+package us.ihmc.euclid.memory;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Stack-style arena handing out temporary geometry objects without allocating.
+ * <p>
+ * Each thread has its own arena holding pre-allocated {@link Point3D}, {@link Vector3D},
+ * {@link Quaternion}, {@link RotationMatrix}, and {@link RigidBodyTransform} instances. A scope is
+ * opened with {@link #acquire()} and the objects it hands out are reclaimed when it is closed,
+ * which is meant to be done with a try-with-resources statement:
+ *
+ * <pre>
+ * try (EuclidScratch scratch = EuclidScratch.acquire())
+ * {
+ *    Vector3D axis = scratch.vector3D();
+ *    RotationMatrix rotation = scratch.rotationMatrix();
+ *    ...
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Scopes can be nested and are reclaimed in LIFO order: closing a scope reclaims all the objects
+ * handed out since it was acquired, including those of the nested scopes that have not been closed.
+ * The objects handed out are reset with {@link us.ihmc.euclid.interfaces.Clearable#setToZero()},
+ * i.e. tuples are zero, and orientations and transforms are identity. They must not be used once
+ * their scope is closed.
+ * </p>
+ * <p>
+ * The arena of a thread starts with {@value #DEFAULT_CAPACITY} objects of each type and grows
+ * when needed. In debug mode, see {@link #setDebugMode(boolean)}, the arena instead reports:
+ * <ul>
+ * <li>overflows: requesting more than {@value #DEFAULT_CAPACITY} objects of a type at once, which
+ * would otherwise cause an allocation.
+ * <li>leaks: closing a scope while a nested scope is still open. The exception thrown has for
+ * cause the stack trace of the acquisition of the leaked scope.
+ * <li>misuses: using or closing a scope that is closed, using a scope that is not the innermost
+ * open scope, or from another thread.
+ * </ul>
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public final class EuclidScratch implements AutoCloseable
+{
+   /** The number of objects of each type pre-allocated in the arena of each thread. */
+   public static final int DEFAULT_CAPACITY = 32;
+
+   private static volatile boolean debugMode = false;
+   private static final ThreadLocal<Arena> ARENA = ThreadLocal.withInitial(Arena::new);
+
+   /** The arena this scope belongs to. */
+   private final Arena arena;
+   /** Whether this scope is currently open. */
+   private boolean isOpen = false;
+   /** The size of each pool when this scope was acquired. */
+   private int point3DMark, vector3DMark, quaternionMark, rotationMatrixMark, rigidBodyTransformMark;
+   /** Where this scope was acquired, only recorded in debug mode. */
+   private Throwable acquisitionTrace;
+
+   private EuclidScratch(Arena arena)
+   {
+      this.arena = arena;
+   }
+
+   /**
+    * Opens a new scope in the arena of the current thread.
+    * <p>
+    * The returned scope has to be closed, preferably with a try-with-resources statement.
+    * </p>
+    *
+    * @return the new scope.
+    */
+   public static EuclidScratch acquire()
+   {
+      return ARENA.get().push();
+   }
+
+   /**
+    * Enables or disables the detection of leaks, overflows, and misuses for all the threads.
+    * <p>
+    * The debug mode is meant for testing: it records a stack trace every time a scope is acquired.
+    * Scopes are also recycled outside of debug mode only, such that a scope closed twice cannot be
+    * mistaken for a scope acquired since then.
+    * </p>
+    *
+    * @param enable whether the debug mode should be enabled.
+    */
+   public static void setDebugMode(boolean enable)
+   {
+      debugMode = enable;
+   }
+
+   /**
+    * Tests whether the debug mode is enabled.
+    *
+    * @return {@code true} if the debug mode is enabled, {@code false} otherwise.
+    */
+   public static boolean isDebugMode()
+   {
+      return debugMode;
+   }
+
+   /**
+    * Gets the number of scopes currently open in the arena of the current thread.
+    * <p>
+    * This is expected to be zero at the end of each iteration of a real-time loop, any other value
+    * means that a scope was not closed.
+    * </p>
+    *
+    * @return the number of open scopes.
+    */
+   public static int getNumberOfOpenScopes()
+   {
+      return ARENA.get().numberOfOpenScopes;
+   }
+
+   /**
+    * Gets a temporary point set to zero.
+    *
+    * @return the temporary point. Only valid until this scope is closed.
+    */
+   public Point3D point3D()
+   {
+      return next(arena.point3Ds);
+   }
+
+   /**
+    * Gets a temporary vector set to zero.
+    *
+    * @return the temporary vector. Only valid until this scope is closed.
+    */
+   public Vector3D vector3D()
+   {
+      return next(arena.vector3Ds);
+   }
+
+   /**
+    * Gets a temporary quaternion set to identity.
+    *
+    * @return the temporary quaternion. Only valid until this scope is closed.
+    */
+   public Quaternion quaternion()
+   {
+      return next(arena.quaternions);
+   }
+
+   /**
+    * Gets a temporary rotation matrix set to identity.
+    *
+    * @return the temporary rotation matrix. Only valid until this scope is closed.
+    */
+   public RotationMatrix rotationMatrix()
+   {
+      return next(arena.rotationMatrices);
+   }
+
+   /**
+    * Gets a temporary rigid-body transform set to identity.
+    *
+    * @return the temporary transform. Only valid until this scope is closed.
+    */
+   public RigidBodyTransform rigidBodyTransform()
+   {
+      return next(arena.rigidBodyTransforms);
+   }
+
+   private <T> T next(RecyclingArrayList<T> pool)
+   {
+      if (debugMode)
+      {
+         checkUsable();
+         if (pool.size() >= DEFAULT_CAPACITY)
+            throw new IllegalStateException("Scratch overflow: more than " + DEFAULT_CAPACITY + " objects of the same type are in use.");
+      }
+
+      return pool.add();
+   }
+
+   private void checkUsable()
+   {
+      if (Thread.currentThread() != arena.owner)
+         throw new IllegalStateException("This scope belongs to the thread: " + arena.owner.getName());
+      if (!isOpen)
+         throw new IllegalStateException("This scope has been closed.");
+      if (arena.scopes[arena.numberOfOpenScopes - 1] != this)
+         throw new IllegalStateException("This scope is not the innermost open scope.");
+   }
+
+   /**
+    * Closes this scope, reclaiming the objects it handed out as well as the ones handed out by the
+    * nested scopes that are still open.
+    *
+    * @throws IllegalStateException in debug mode, if this scope is already closed, is closed from
+    *            another thread, or if a nested scope was still open.
+    */
+   @Override
+   public void close()
+   {
+      if (debugMode && Thread.currentThread() != arena.owner)
+         throw new IllegalStateException("This scope belongs to the thread: " + arena.owner.getName());
+
+      if (!isOpen)
+      {
+         if (debugMode)
+            throw new IllegalStateException("This scope has already been closed.");
+         return;
+      }
+
+      boolean hasLeaked = false;
+      Throwable leakTrace = null;
+
+      while (true)
+      {
+         EuclidScratch scope = arena.pop();
+         if (scope != this)
+         {
+            hasLeaked = true;
+            leakTrace = scope.acquisitionTrace;
+         }
+         scope.release();
+         if (scope == this)
+            break;
+      }
+
+      if (debugMode && hasLeaked)
+         throw new IllegalStateException("Scratch leak: a nested scope was not closed.", leakTrace);
+   }
+
+   private void open()
+   {
+      isOpen = true;
+      point3DMark = arena.point3Ds.size();
+      vector3DMark = arena.vector3Ds.size();
+      quaternionMark = arena.quaternions.size();
+      rotationMatrixMark = arena.rotationMatrices.size();
+      rigidBodyTransformMark = arena.rigidBodyTransforms.size();
+      acquisitionTrace = debugMode ? new Throwable("Scratch scope acquired here") : null;
+   }
+
+   private void release()
+   {
+      isOpen = false;
+      truncate(arena.point3Ds, point3DMark);
+      truncate(arena.vector3Ds, vector3DMark);
+      truncate(arena.quaternions, quaternionMark);
+      truncate(arena.rotationMatrices, rotationMatrixMark);
+      truncate(arena.rigidBodyTransforms, rigidBodyTransformMark);
+      acquisitionTrace = null;
+   }
+
+   private static void truncate(RecyclingArrayList<?> pool, int size)
+   {
+      while (pool.size() > size)
+         pool.removeLast();
+   }
+
+   /**
+    * The objects and scopes of a single thread.
+    */
+   private static class Arena
+   {
+      private final Thread owner = Thread.currentThread();
+      private final RecyclingArrayList<Point3D> point3Ds = new RecyclingArrayList<>(DEFAULT_CAPACITY, Point3D::new);
+      private final RecyclingArrayList<Vector3D> vector3Ds = new RecyclingArrayList<>(DEFAULT_CAPACITY, Vector3D::new);
+      private final RecyclingArrayList<Quaternion> quaternions = new RecyclingArrayList<>(DEFAULT_CAPACITY, Quaternion::new);
+      private final RecyclingArrayList<RotationMatrix> rotationMatrices = new RecyclingArrayList<>(DEFAULT_CAPACITY, RotationMatrix::new);
+      private final RecyclingArrayList<RigidBodyTransform> rigidBodyTransforms = new RecyclingArrayList<>(DEFAULT_CAPACITY, RigidBodyTransform::new);
+      /** The open scopes, innermost last, followed by the closed scopes ready to be recycled. */
+      private EuclidScratch[] scopes = new EuclidScratch[RecyclingArrayList.DEFAULT_INITIAL_CAPACITY];
+      private int numberOfOpenScopes = 0;
+
+      private EuclidScratch push()
+      {
+         if (numberOfOpenScopes == scopes.length)
+            scopes = Arrays.copyOf(scopes, 2 * scopes.length);
+
+         EuclidScratch scope = scopes[numberOfOpenScopes];
+
+         if (scope == null || debugMode)
+         {
+            // In debug mode, a stale reference to a closed scope has to remain closed.
+            scope = new EuclidScratch(this);
+            scopes[numberOfOpenScopes] = scope;
+         }
+
+         numberOfOpenScopes++;
+         scope.open();
+         return scope;
+      }
+
+      private EuclidScratch pop()
+      {
+         numberOfOpenScopes--;
+         return scopes[numberOfOpenScopes];
+      }
+   }
+}
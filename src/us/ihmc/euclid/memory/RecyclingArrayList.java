@@ -0,0 +1,282 @@
+package us.ihmc.euclid.memory;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import us.ihmc.euclid.interfaces.Clearable;
+
+/**
+ * Growable list of objects that are recycled instead of being garbage collected.
+ * <p>
+ * This list never discards the objects it creates: {@link #clear()} and {@link #removeLast()} only
+ * decrease its size, and the next calls to {@link #add()} hand out the very same instances again.
+ * New instances are only created, using the supplier given at construction, when the list grows
+ * past the number of objects it has ever held. Once it has reached its working size, this list is
+ * garbage free.
+ * </p>
+ * <p>
+ * Typical use in a real-time loop:
+ *
+ * <pre>
+ * RecyclingArrayList&lt;Point3D&gt; points = new RecyclingArrayList&lt;&gt;(Point3D::new);
+ * ...
+ * points.clear();
+ * for (...)
+ *    points.add().set(x, y, z);
+ * </pre>
+ * </p>
+ * <p>
+ * When the elements implement {@link Clearable}, the recycled instances are reset with
+ * {@link Clearable#setToZero()} when handed out by {@link #add()} such that they are in the same
+ * state as a newly supplied instance would be. For the Euclid types, {@code setToZero()} sets
+ * tuples to zero and orientations and transforms to identity.
+ * </p>
+ * <p>
+ * The high-water mark, i.e. the maximum size reached by this list, is recorded to help choosing
+ * the capacity to pre-allocate with {@link #ensureCapacity(int)}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @param <T> the type of the elements of this list.
+ */
+public class RecyclingArrayList<T>
+{
+   /** Capacity used when none is specified at construction. */
+   public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The supplier used to create new elements. */
+   private final Supplier<? extends T> allocator;
+   /** The elements, only the first {@link #size} are in use. */
+   private Object[] elements;
+   /** The number of elements currently in use. */
+   private int size = 0;
+   /** The number of elements that have been created so far. */
+   private int numberOfAllocatedElements = 0;
+   /** The maximum size reached by this list, see {@link #getHighWaterMark()}. */
+   private int highWaterMark = 0;
+
+   /**
+    * Creates a new empty list and pre-allocates {@value #DEFAULT_INITIAL_CAPACITY} elements.
+    *
+    * @param allocator the supplier used to create new elements. Each call has to return a new
+    *           instance.
+    */
+   public RecyclingArrayList(Supplier<? extends T> allocator)
+   {
+      this(DEFAULT_INITIAL_CAPACITY, allocator);
+   }
+
+   /**
+    * Creates a new empty list and pre-allocates {@code initialCapacity} elements.
+    *
+    * @param initialCapacity the number of elements to create right away.
+    * @param allocator the supplier used to create new elements. Each call has to return a new
+    *           instance.
+    * @throws IllegalArgumentException if {@code initialCapacity < 0}.
+    */
+   public RecyclingArrayList(int initialCapacity, Supplier<? extends T> allocator)
+   {
+      if (initialCapacity < 0)
+         throw new IllegalArgumentException("The capacity cannot be negative: " + initialCapacity);
+
+      this.allocator = allocator;
+      elements = new Object[initialCapacity];
+      ensureCapacity(initialCapacity);
+   }
+
+   /**
+    * Gets the number of elements currently in use.
+    *
+    * @return the size of this list.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this list holds any element.
+    *
+    * @return {@code true} if this list is empty, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the number of elements that have been created so far, which is the number of elements
+    * this list can hold before having to create new ones.
+    *
+    * @return the number of allocated elements.
+    */
+   public int getNumberOfAllocatedElements()
+   {
+      return numberOfAllocatedElements;
+   }
+
+   /**
+    * Gets the maximum size this list has reached since its creation or the last call to
+    * {@link #resetHighWaterMark()}.
+    *
+    * @return the high-water mark of this list.
+    */
+   public int getHighWaterMark()
+   {
+      return highWaterMark;
+   }
+
+   /**
+    * Resets the high-water mark to the current size of this list.
+    */
+   public void resetHighWaterMark()
+   {
+      highWaterMark = size;
+   }
+
+   /**
+    * Ensures that at least {@code minimumCapacity} elements have been created, such that this list
+    * can grow up to this size without allocating.
+    *
+    * @param minimumCapacity the number of elements to have allocated.
+    */
+   public void ensureCapacity(int minimumCapacity)
+   {
+      if (minimumCapacity > elements.length)
+      {
+         int newCapacity = Math.max(minimumCapacity, elements.length + (elements.length >> 1) + 1);
+         elements = Arrays.copyOf(elements, newCapacity);
+      }
+
+      while (numberOfAllocatedElements < minimumCapacity)
+      {
+         elements[numberOfAllocatedElements] = allocator.get();
+         numberOfAllocatedElements++;
+      }
+   }
+
+   /**
+    * Puts all the elements back in the pool, the size of this list becomes zero.
+    * <p>
+    * The elements are kept and will be handed out again by {@link #add()}.
+    * </p>
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Hands out the next element and adds it at the end of this list.
+    * <p>
+    * A recycled element is reset with {@link Clearable#setToZero()} when it implements
+    * {@link Clearable}, otherwise it is returned as is. A new element is only created when all the
+    * elements already allocated are in use.
+    * </p>
+    *
+    * @return the element added at the end of this list.
+    */
+   public T add()
+   {
+      boolean isRecycled = size < numberOfAllocatedElements;
+      ensureCapacity(size + 1);
+      T element = getUnsafe(size);
+      size++;
+      if (size > highWaterMark)
+         highWaterMark = size;
+
+      if (isRecycled && element instanceof Clearable)
+         ((Clearable) element).setToZero();
+      return element;
+   }
+
+   /**
+    * Removes the last element of this list, the element is put back in the pool.
+    *
+    * @return the removed element. It will be handed out again by the next call to {@link #add()}.
+    * @throws IndexOutOfBoundsException if this list is empty.
+    */
+   public T removeLast()
+   {
+      if (size == 0)
+         throw new IndexOutOfBoundsException("The list is empty.");
+
+      size--;
+      return getUnsafe(size);
+   }
+
+   /**
+    * Removes the {@code index}<sup>th</sup> element of this list by swapping it with the last
+    * element, the removed element is put back in the pool.
+    * <p>
+    * This operation does not preserve the order of the elements.
+    * </p>
+    *
+    * @param index the index of the element to remove.
+    * @return the removed element.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public T fastRemove(int index)
+   {
+      checkIndex(index);
+      size--;
+      Object removed = elements[index];
+      elements[index] = elements[size];
+      elements[size] = removed;
+      return getUnsafe(size);
+   }
+
+   /**
+    * Gets the {@code index}<sup>th</sup> element of this list.
+    *
+    * @param index the index of the element to get.
+    * @return the element. Modifiable.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public T get(int index)
+   {
+      checkIndex(index);
+      return getUnsafe(index);
+   }
+
+   /**
+    * Gets the last element of this list.
+    *
+    * @return the last element. Modifiable.
+    * @throws IndexOutOfBoundsException if this list is empty.
+    */
+   public T getLast()
+   {
+      return get(size - 1);
+   }
+
+   @SuppressWarnings("unchecked")
+   private T getUnsafe(int index)
+   {
+      return (T) elements[index];
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+   }
+
+   /**
+    * Provides a representation of this list as a string, listing the elements in use.
+    *
+    * @return the {@code String} representing this list.
+    */
+   @Override
+   public String toString()
+   {
+      StringBuilder builder = new StringBuilder("[");
+      for (int i = 0; i < size; i++)
+      {
+         if (i > 0)
+            builder.append(", ");
+         builder.append(elements[i]);
+      }
+      return builder.append("]").toString();
+   }
+}
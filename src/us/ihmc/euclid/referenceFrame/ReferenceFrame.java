@@ -0,0 +1,355 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.ihmc.euclid.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * A {@code ReferenceFrame} is a node of a tree of coordinate systems, such as the links of a robot.
+ * <p>
+ * Each frame, except the root frame, holds its transform to its parent frame which can be updated
+ * at any time using {@link #setTransformToParent(RigidBodyTransform)}. The transform from a frame
+ * to the root frame is computed lazily and cached: it is only recomputed when requested after
+ * the transform to parent of the frame or of one of its ancestors has changed. Updating the
+ * transform to parent of a frame only invalidates the cached transforms of the frame and its
+ * descendants.
+ * </p>
+ * <p>
+ * No object is created when querying a transform, such that this class can be used in a control
+ * loop. This class is not thread-safe.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ReferenceFrame
+{
+   /** The name of this frame. */
+   private final String name;
+   /** The parent of this frame, {@code null} if this frame is a root frame. */
+   private final ReferenceFrame parentFrame;
+   /** The root of the tree this frame belongs to. */
+   private final ReferenceFrame rootFrame;
+   /** The number of frames between this frame and the root frame, 0 for the root frame. */
+   private final int depth;
+   /** The frames that have this frame as parent. */
+   private final List<ReferenceFrame> children = new ArrayList<>();
+
+   /** The transform from this frame to its parent frame. */
+   private final RigidBodyTransform transformToParent = new RigidBodyTransform();
+   /** The cached transform from this frame to the root frame. */
+   private final RigidBodyTransform transformToRoot = new RigidBodyTransform();
+   /**
+    * Whether {@link #transformToRoot} is up-to-date. When a frame is out-of-date, all its
+    * descendants are out-of-date as well.
+    */
+   private boolean isTransformToRootUpToDate;
+
+   /**
+    * Creates a new root frame.
+    *
+    * @param name the name of the new frame.
+    */
+   public ReferenceFrame(String name)
+   {
+      this.name = name;
+      parentFrame = null;
+      rootFrame = this;
+      depth = 0;
+      isTransformToRootUpToDate = true;
+   }
+
+   /**
+    * Creates a new frame attached to the given parent frame. Its transform to parent is
+    * initialized to identity.
+    *
+    * @param name the name of the new frame.
+    * @param parentFrame the parent of the new frame. Not modified.
+    * @throws IllegalArgumentException if {@code parentFrame} is {@code null}.
+    */
+   public ReferenceFrame(String name, ReferenceFrame parentFrame)
+   {
+      if (parentFrame == null)
+         throw new IllegalArgumentException("The parent frame of " + name + " cannot be null.");
+
+      this.name = name;
+      this.parentFrame = parentFrame;
+      rootFrame = parentFrame.rootFrame;
+      depth = parentFrame.depth + 1;
+      isTransformToRootUpToDate = false;
+      parentFrame.children.add(this);
+   }
+
+   /**
+    * Creates a new frame attached to the given parent frame.
+    *
+    * @param name the name of the new frame.
+    * @param parentFrame the parent of the new frame. Not modified.
+    * @param transformToParent the transform from the new frame to its parent. Not modified.
+    * @throws IllegalArgumentException if {@code parentFrame} is {@code null}.
+    */
+   public ReferenceFrame(String name, ReferenceFrame parentFrame, RigidBodyTransform transformToParent)
+   {
+      this(name, parentFrame);
+      this.transformToParent.set(transformToParent);
+   }
+
+   /**
+    * Sets the transform from this frame to its parent and invalidates the cached transform to root
+    * of this frame and all its descendants.
+    *
+    * @param transformToParent the new transform from this frame to its parent. Not modified.
+    * @throws RuntimeException if this frame is a root frame.
+    */
+   public void setTransformToParent(RigidBodyTransform transformToParent)
+   {
+      if (parentFrame == null)
+         throw new RuntimeException("Cannot set the transform to parent of the root frame: " + name);
+
+      this.transformToParent.set(transformToParent);
+      invalidateTransformToRoot();
+   }
+
+   /**
+    * Invalidates the cached transform to root of this frame and all its descendants.
+    * <p>
+    * As the descendants of an out-of-date frame are always out-of-date, the recursion stops at the
+    * frames already out-of-date.
+    * </p>
+    */
+   private void invalidateTransformToRoot()
+   {
+      if (!isTransformToRootUpToDate)
+         return;
+
+      isTransformToRootUpToDate = false;
+
+      for (int i = 0; i < children.size(); i++)
+         children.get(i).invalidateTransformToRoot();
+   }
+
+   /**
+    * Recomputes the transform from this frame to the root frame if it is out-of-date, updating the
+    * out-of-date ancestors first.
+    */
+   private void updateTransformToRoot()
+   {
+      if (isTransformToRootUpToDate)
+         return;
+
+      parentFrame.updateTransformToRoot();
+      transformToRoot.set(parentFrame.transformToRoot);
+      transformToRoot.multiply(transformToParent);
+      isTransformToRootUpToDate = true;
+   }
+
+   /**
+    * Packs the transform from this frame to its parent frame.
+    * <p>
+    * For a root frame, the transform is set to identity.
+    * </p>
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void getTransformToParent(RigidBodyTransform transformToPack)
+   {
+      transformToPack.set(transformToParent);
+   }
+
+   /**
+    * Packs the transform from this frame to the root frame, recomputing it if necessary.
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void getTransformToRoot(RigidBodyTransform transformToPack)
+   {
+      updateTransformToRoot();
+      transformToPack.set(transformToRoot);
+   }
+
+   /**
+    * Packs the transform from this frame to the {@code desiredFrame}, such that the transform can
+    * be used to express in {@code desiredFrame} a geometry expressed in this frame.
+    * <p>
+    * The transform is computed from the cached transforms to root of both frames. Any out-of-date
+    * cache is refreshed first, which costs one multiplication per out-of-date frame between the
+    * frame and its closest up-to-date ancestor. As long as no transform to parent changes, the
+    * following queries only cost one multiplication.
+    * </p>
+    *
+    * @param desiredFrame the frame to get the transform to. Not modified.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @throws ReferenceFrameMismatchException if the two frames do not belong to the same tree.
+    */
+   public void getTransformToDesiredFrame(ReferenceFrame desiredFrame, RigidBodyTransform transformToPack)
+   {
+      getTransformBetween(this, desiredFrame, transformToPack);
+   }
+
+   /**
+    * Packs the transform from {@code from} to {@code to}, such that the transform can be used to
+    * express in {@code to} a geometry expressed in {@code from}.
+    * <p>
+    * The transform is computed from the cached transforms to root of both frames. Any out-of-date
+    * cache is refreshed first, which costs one multiplication per out-of-date frame between the
+    * frame and its closest up-to-date ancestor. As long as no transform to parent changes, the
+    * following queries only cost one multiplication.
+    * </p>
+    *
+    * @param from the frame to get the transform from. Not modified.
+    * @param to the frame to get the transform to. Not modified.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @throws ReferenceFrameMismatchException if the two frames do not belong to the same tree.
+    */
+   public static void getTransformBetween(ReferenceFrame from, ReferenceFrame to, RigidBodyTransform transformToPack)
+   {
+      if (from == to)
+      {
+         transformToPack.setIdentity();
+         return;
+      }
+
+      checkSameTree(from, to);
+      from.updateTransformToRoot();
+      to.updateTransformToRoot();
+      transformToPack.set(from.transformToRoot);
+      transformToPack.preMultiplyInvertOther(to.transformToRoot);
+   }
+
+   /**
+    * Asserts that the two frames belong to the same tree.
+    *
+    * @throws ReferenceFrameMismatchException if the two frames do not belong to the same tree.
+    */
+   private static void checkSameTree(ReferenceFrame frame, ReferenceFrame other)
+   {
+      if (frame.rootFrame != other.rootFrame)
+         throw new ReferenceFrameMismatchException("The frames " + frame.name + " and " + other.name + " do not belong to the same tree.");
+   }
+
+   /**
+    * Finds the lowest common ancestor of this frame and {@code other}, i.e. the frame of maximum
+    * depth that is an ancestor of both frames. A frame is considered to be an ancestor of itself.
+    *
+    * @param other the other frame. Not modified.
+    * @return the lowest common ancestor.
+    * @throws ReferenceFrameMismatchException if the two frames do not belong to the same tree.
+    */
+   public ReferenceFrame getCommonAncestor(ReferenceFrame other)
+   {
+      checkSameTree(this, other);
+
+      ReferenceFrame ancestor = this;
+      ReferenceFrame otherAncestor = other;
+
+      while (ancestor.depth > otherAncestor.depth)
+         ancestor = ancestor.parentFrame;
+      while (otherAncestor.depth > ancestor.depth)
+         otherAncestor = otherAncestor.parentFrame;
+
+      while (ancestor != otherAncestor)
+      {
+         ancestor = ancestor.parentFrame;
+         otherAncestor = otherAncestor.parentFrame;
+      }
+
+      return ancestor;
+   }
+
+   /**
+    * Tests whether the cached transform from this frame to the root frame is up-to-date, i.e.
+    * neither the transform to parent of this frame nor of any of its ancestors has changed since
+    * it was last computed.
+    *
+    * @return {@code true} if the cached transform is up-to-date, {@code false} otherwise.
+    */
+   public boolean isTransformToRootUpToDate()
+   {
+      return isTransformToRootUpToDate;
+   }
+
+   /**
+    * Tests whether this frame is the root of its tree.
+    *
+    * @return {@code true} if this frame has no parent, {@code false} otherwise.
+    */
+   public boolean isRootFrame()
+   {
+      return parentFrame == null;
+   }
+
+   /**
+    * Gets the name of this frame.
+    *
+    * @return the name.
+    */
+   public String getName()
+   {
+      return name;
+   }
+
+   /**
+    * Gets the parent of this frame.
+    *
+    * @return the parent frame, {@code null} if this frame is a root frame.
+    */
+   public ReferenceFrame getParent()
+   {
+      return parentFrame;
+   }
+
+   /**
+    * Gets the root of the tree this frame belongs to.
+    *
+    * @return the root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the number of frames between this frame and the root frame.
+    *
+    * @return the depth of this frame, 0 for the root frame.
+    */
+   public int getDepth()
+   {
+      return depth;
+   }
+
+   /**
+    * Gets the number of frames attached to this frame.
+    *
+    * @return the number of children.
+    */
+   public int getNumberOfChildren()
+   {
+      return children.size();
+   }
+
+   /**
+    * Gets the child of this frame at the given index.
+    *
+    * @param index the index of the child.
+    * @return the child frame.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *            {@link #getNumberOfChildren()}[.
+    */
+   public ReferenceFrame getChild(int index)
+   {
+      return children.get(index);
+   }
+
+   /**
+    * Provides a {@code String} representation of this frame, i.e. its name.
+    *
+    * @return the {@code String} representing this frame.
+    */
+   @Override
+   public String toString()
+   {
+      return name;
+   }
+}
@@ -45,8 +45,8 @@ public abstract class RotationMatrixConversion
     */
    public static void computeYawMatrix(double yaw, RotationMatrix matrixToPack)
    {
-      double sinYaw = Math.sin(yaw);
-      double cosYaw = Math.cos(yaw);
+      double sinYaw = EuclidCoreTools.sin(yaw);
+      double cosYaw = EuclidCoreTools.cos(yaw);
       matrixToPack.setUnsafe(cosYaw, -sinYaw, 0.0, sinYaw, cosYaw, 0.0, 0.0, 0.0, 1.0);
    }
 
@@ -65,8 +65,8 @@ public abstract class RotationMatrixConversion
     */
    public static void computePitchMatrix(double pitch, RotationMatrix matrixToPack)
    {
-      double sinPitch = Math.sin(pitch);
-      double cosPitch = Math.cos(pitch);
+      double sinPitch = EuclidCoreTools.sin(pitch);
+      double cosPitch = EuclidCoreTools.cos(pitch);
       matrixToPack.setUnsafe(cosPitch, 0.0, sinPitch, 0.0, 1.0, 0.0, -sinPitch, 0.0, cosPitch);
    }
 
@@ -85,8 +85,8 @@ public abstract class RotationMatrixConversion
     */
    public static void computeRollMatrix(double roll, RotationMatrix matrixToPack)
    {
-      double sinRoll = Math.sin(roll);
-      double cosRoll = Math.cos(roll);
+      double sinRoll = EuclidCoreTools.sin(roll);
+      double cosRoll = EuclidCoreTools.cos(roll);
       matrixToPack.setUnsafe(1.0, 0.0, 0.0, 0.0, cosRoll, -sinRoll, 0.0, sinRoll, cosRoll);
    }
 
@@ -153,8 +153,8 @@ public abstract class RotationMatrixConversion
          double ay = uy * uNorm;
          double az = uz * uNorm;
 
-         double sinTheta = Math.sin(angle);
-         double cosTheta = Math.cos(angle);
+         double sinTheta = EuclidCoreTools.sin(angle);
+         double cosTheta = EuclidCoreTools.cos(angle);
          double t = 1.0 - cosTheta;
 
          double xz = ax * az;
@@ -377,14 +377,14 @@ public abstract class RotationMatrixConversion
     */
    public static void convertYawPitchRollToMatrix(double yaw, double pitch, double roll, RotationMatrix matrixToPack)
    {
-      double cosc = Math.cos(yaw);
-      double sinc = Math.sin(yaw);
+      double cosc = EuclidCoreTools.cos(yaw);
+      double sinc = EuclidCoreTools.sin(yaw);
 
-      double cosb = Math.cos(pitch);
-      double sinb = Math.sin(pitch);
+      double cosb = EuclidCoreTools.cos(pitch);
+      double sinb = EuclidCoreTools.sin(pitch);
 
-      double cosa = Math.cos(roll);
-      double sina = Math.sin(roll);
+      double cosa = EuclidCoreTools.cos(roll);
+      double sina = EuclidCoreTools.sin(roll);
 
       // Introduction to Robotics, 2.64
       double m00 = cosc * cosb;
@@ -466,8 +466,8 @@ public abstract class RotationMatrixConversion
       }
       else
       {
-         double sinTheta = Math.sin(norm);
-         double cosTheta = Math.cos(norm);
+         double sinTheta = EuclidCoreTools.sin(norm);
+         double cosTheta = EuclidCoreTools.cos(norm);
          double t = 1.0 - cosTheta;
 
          norm = 1.0 / norm;
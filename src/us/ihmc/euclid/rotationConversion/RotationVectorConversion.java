@@ -136,7 +136,7 @@ public abstract class RotationVectorConversion
 
       if (uNorm > EPS)
       {
-         double angle = 2.0 * Math.atan2(uNorm, qs) / uNorm;
+         double angle = 2.0 * EuclidCoreTools.atan2(uNorm, qs) / uNorm;
          rotationVectorToPack.setX(qx * angle);
          rotationVectorToPack.setY(qy * angle);
          rotationVectorToPack.setZ(qz * angle);
@@ -258,7 +258,7 @@ public abstract class RotationVectorConversion
       {
          double sin = 0.5 * s;
          double cos = 0.5 * (m00 + m11 + m22 - 1.0);
-         angle = Math.atan2(sin, cos);
+         angle = EuclidCoreTools.atan2(sin, cos);
          x /= s;
          y /= s;
          z /= s;
@@ -400,16 +400,16 @@ public abstract class RotationVectorConversion
       }
 
       double halfYaw = yaw / 2.0;
-      double cYaw = Math.cos(halfYaw);
-      double sYaw = Math.sin(halfYaw);
+      double cYaw = EuclidCoreTools.cos(halfYaw);
+      double sYaw = EuclidCoreTools.sin(halfYaw);
 
       double halfPitch = pitch / 2.0;
-      double cPitch = Math.cos(halfPitch);
-      double sPitch = Math.sin(halfPitch);
+      double cPitch = EuclidCoreTools.cos(halfPitch);
+      double sPitch = EuclidCoreTools.sin(halfPitch);
 
       double halfRoll = roll / 2.0;
-      double cRoll = Math.cos(halfRoll);
-      double sRoll = Math.sin(halfRoll);
+      double cRoll = EuclidCoreTools.cos(halfRoll);
+      double sRoll = EuclidCoreTools.sin(halfRoll);
 
       double qs = cYaw * cPitch * cRoll + sYaw * sPitch * sRoll;
       double qx = cYaw * cPitch * sRoll - sYaw * sPitch * cRoll;
@@ -420,7 +420,7 @@ public abstract class RotationVectorConversion
 
       if (uNorm > EPS)
       {
-         double angle = 2.0 * Math.atan2(uNorm, qs) / uNorm;
+         double angle = 2.0 * EuclidCoreTools.atan2(uNorm, qs) / uNorm;
          rotationVectorToPack.setX(qx * angle);
          rotationVectorToPack.setY(qy * angle);
          rotationVectorToPack.setZ(qz * angle);
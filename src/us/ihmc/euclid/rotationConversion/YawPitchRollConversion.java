@@ -95,7 +95,7 @@ public abstract class YawPitchRollConversion
       if (EuclidCoreTools.containsNaN(m00, m10))
          return Double.NaN;
 
-      return Math.atan2(m10, m00);
+      return EuclidCoreTools.atan2(m10, m00);
    }
 
    /**
@@ -125,7 +125,7 @@ public abstract class YawPitchRollConversion
       else if (m20 < -1.0)
          m20 = -1.0;
 
-      return Math.asin(-m20);
+      return EuclidCoreTools.asin(-m20);
    }
 
    /**
@@ -151,7 +151,7 @@ public abstract class YawPitchRollConversion
       if (EuclidCoreTools.containsNaN(m21, m22))
          return Double.NaN;
 
-      return Math.atan2(m21, m22);
+      return EuclidCoreTools.atan2(m21, m22);
    }
 
    /**
@@ -471,7 +471,7 @@ public abstract class YawPitchRollConversion
     */
    static double computeYawFromQuaternionImpl(double qx, double qy, double qz, double qs)
    {
-      return Math.atan2(2.0 * (qx * qy + qz * qs), 1.0 - 2.0 * (qy * qy + qz * qz));
+      return EuclidCoreTools.atan2(2.0 * (qx * qy + qz * qs), 1.0 - 2.0 * (qy * qy + qz * qz));
    }
 
    /**
@@ -495,7 +495,7 @@ public abstract class YawPitchRollConversion
       else if (pitchArgument < -1.0)
          pitchArgument = -1.0;
 
-      return Math.asin(pitchArgument);
+      return EuclidCoreTools.asin(pitchArgument);
    }
 
    /**
@@ -512,7 +512,7 @@ public abstract class YawPitchRollConversion
     */
    static double computeRollFromQuaternionImpl(double qx, double qy, double qz, double qs)
    {
-      return Math.atan2(2.0 * (qy * qz + qx * qs), 1.0 - 2.0 * (qx * qx + qy * qy));
+      return EuclidCoreTools.atan2(2.0 * (qy * qz + qx * qs), 1.0 - 2.0 * (qx * qx + qy * qy));
    }
 
    /**
@@ -811,8 +811,8 @@ public abstract class YawPitchRollConversion
     */
    static double computeYawFromAxisAngleImpl(double ux, double uy, double uz, double angle)
    {
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m10 = t * ux * uy + sinTheta * uz;
       double m00 = t * ux * ux + cosTheta;
@@ -833,7 +833,7 @@ public abstract class YawPitchRollConversion
     */
    static double computePitchFromAxisAngleImpl(double ux, double uy, double uz, double angle)
    {
-      double m20 = (1.0 - Math.cos(angle)) * ux * uz - Math.sin(angle) * uy;
+      double m20 = (1.0 - EuclidCoreTools.cos(angle)) * ux * uz - EuclidCoreTools.sin(angle) * uy;
       return computePitchImpl(m20);
    }
 
@@ -851,8 +851,8 @@ public abstract class YawPitchRollConversion
     */
    static double computeRollFromAxisAngleImpl(double ux, double uy, double uz, double angle)
    {
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m21 = t * uy * uz + sinTheta * ux;
       double m22 = t * uz * uz + cosTheta;
@@ -1034,8 +1034,8 @@ public abstract class YawPitchRollConversion
       ux *= uNorm;
       uy *= uNorm;
       uz *= uNorm;
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m20 = t * ux * uz - sinTheta * uy;
       double m10 = t * ux * uy + sinTheta * uz;
@@ -1165,8 +1165,8 @@ public abstract class YawPitchRollConversion
     */
    static void convertAxisAngleToYawPitchRollImpl(double ux, double uy, double uz, double angle, double[] yawPitchRollToPack)
    {
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m20 = t * ux * uz - sinTheta * uy;
       double m10 = t * ux * uy + sinTheta * uz;
@@ -1198,8 +1198,8 @@ public abstract class YawPitchRollConversion
     */
    static void convertAxisAngleToYawPitchRollImpl(double ux, double uy, double uz, double angle, Tuple3DBasics eulerAnglesToPack)
    {
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m20 = t * ux * uz - sinTheta * uy;
       double m10 = t * ux * uy + sinTheta * uz;
@@ -1381,8 +1381,8 @@ public abstract class YawPitchRollConversion
       double uy = ry * uNorm;
       double uz = rz * uNorm;
 
-      double sinTheta = Math.sin(angle);
-      double cosTheta = Math.cos(angle);
+      double sinTheta = EuclidCoreTools.sin(angle);
+      double cosTheta = EuclidCoreTools.cos(angle);
       double t = 1.0 - cosTheta;
       double m20 = t * ux * uz - sinTheta * uy;
       double m10 = t * ux * uy + sinTheta * uz;
@@ -864,10 +864,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm;
       double uz = axisAngleOriginal.getZ() * axisNorm;
 
-      double cosHalfAlpha = Math.cos(0.5 * yaw);
-      double sinHalfAlpha = Math.sin(0.5 * yaw);
-      double cosHalfBeta = Math.cos(0.5 * beta);
-      double sinHalfBeta = Math.sin(0.5 * beta);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * yaw);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * yaw);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * beta);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * beta);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -882,7 +882,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -918,10 +918,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm;
       double uz = axisAngleOriginal.getZ() * axisNorm;
 
-      double cosHalfAlpha = Math.cos(0.5 * alpha);
-      double sinHalfAlpha = Math.sin(0.5 * alpha);
-      double cosHalfBeta = Math.cos(0.5 * yaw);
-      double sinHalfBeta = Math.sin(0.5 * yaw);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * alpha);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * alpha);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * yaw);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * yaw);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -936,7 +936,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -972,10 +972,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm;
       double uz = axisAngleOriginal.getZ() * axisNorm;
 
-      double cosHalfAlpha = Math.cos(0.5 * pitch);
-      double sinHalfAlpha = Math.sin(0.5 * pitch);
-      double cosHalfBeta = Math.cos(0.5 * beta);
-      double sinHalfBeta = Math.sin(0.5 * beta);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * pitch);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * pitch);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * beta);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * beta);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -990,7 +990,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -1026,10 +1026,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm;
       double uz = axisAngleOriginal.getZ() * axisNorm;
 
-      double cosHalfAlpha = Math.cos(0.5 * alpha);
-      double sinHalfAlpha = Math.sin(0.5 * alpha);
-      double cosHalfBeta = Math.cos(0.5 * pitch);
-      double sinHalfBeta = Math.sin(0.5 * pitch);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * alpha);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * alpha);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * pitch);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * pitch);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -1044,7 +1044,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -1080,10 +1080,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm2;
       double uz = axisAngleOriginal.getZ() * axisNorm2;
 
-      double cosHalfAlpha = Math.cos(0.5 * roll);
-      double sinHalfAlpha = Math.sin(0.5 * roll);
-      double cosHalfBeta = Math.cos(0.5 * beta);
-      double sinHalfBeta = Math.sin(0.5 * beta);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * roll);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * roll);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * beta);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * beta);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -1098,7 +1098,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -1134,10 +1134,10 @@ public abstract class AxisAngleTools
       double uy = axisAngleOriginal.getY() * axisNorm1;
       double uz = axisAngleOriginal.getZ() * axisNorm1;
 
-      double cosHalfAlpha = Math.cos(0.5 * alpha);
-      double sinHalfAlpha = Math.sin(0.5 * alpha);
-      double cosHalfBeta = Math.cos(0.5 * roll);
-      double sinHalfBeta = Math.sin(0.5 * roll);
+      double cosHalfAlpha = EuclidCoreTools.cos(0.5 * alpha);
+      double sinHalfAlpha = EuclidCoreTools.sin(0.5 * alpha);
+      double cosHalfBeta = EuclidCoreTools.cos(0.5 * roll);
+      double sinHalfBeta = EuclidCoreTools.sin(0.5 * roll);
 
       double sinCos = sinHalfAlpha * cosHalfBeta;
       double cosSin = cosHalfAlpha * sinHalfBeta;
@@ -1152,7 +1152,7 @@ public abstract class AxisAngleTools
 
       double sinHalfGamma = Math.sqrt(EuclidCoreTools.normSquared(sinHalfGammaUx, sinHalfGammaUy, sinHalfGammaUz));
 
-      double gamma = 2.0 * Math.atan2(sinHalfGamma, cosHalfGamma);
+      double gamma = 2.0 * EuclidCoreTools.atan2(sinHalfGamma, cosHalfGamma);
       double sinHalfGammaInv = 1.0 / sinHalfGamma;
       axisAngleToPack.set(sinHalfGammaUx * sinHalfGammaInv, sinHalfGammaUy * sinHalfGammaInv, sinHalfGammaUz * sinHalfGammaInv, gamma);
    }
@@ -0,0 +1,1919 @@
+package us.ihmc.euclid.tools;
+
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * Tools for transforming large sets of 3D tuples stored as a structure of arrays, see
+ * {@link Tuple3DArray}.
+ * <p>
+ * The transformation is decomposed in two steps: first the coefficients of the transformation are
+ * extracted once for the entire batch, then a tight loop is performed directly on the primitive
+ * arrays. No object is created and no virtual call is performed inside the loop.
+ * </p>
+ * <p>
+ * The loops operating on a structure of arrays are kept free of branches, method calls, and
+ * dependencies between iterations such that the JIT compiler can vectorize them using the SIMD
+ * instructions available on the running processor. The loops operating on interleaved arrays are
+ * not as well suited for vectorization because of their stride.
+ * </p>
+ * <p>
+ * For all the methods, the original and transformed arrays can be the same object, and the
+ * transformed array is resized to match the size of the original array.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public abstract class BulkTransformTools
+{
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and stores
+    * the result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix * tuplesOriginal<sub>i</sub>
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void transform(Matrix3DReadOnly matrix, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(), tuplesOriginal.getZArray(),
+             tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix * tuplesOriginal<sub>i</sub> + translation
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void transform(Matrix3DReadOnly matrix, Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, translation.getX(), translation.getY(), translation.getZ(),
+                         tuplesOriginal.getXArray(), tuplesOriginal.getYArray(), tuplesOriginal.getZArray(), tuplesTransformed.getXArray(),
+                         tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given rotation
+    * {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix<sup>T</sup> * tuplesOriginal<sub>i</sub>
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(), tuplesOriginal.getZArray(),
+             tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation {@code matrix} and {@code translation} and stores the result
+    * in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix<sup>T</sup> * (tuplesOriginal<sub>i</sub> -
+    * translation)
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal,
+                                       Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(),
+                         tuplesOriginal.getZArray(), tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0,
+                         size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * rotation-scale {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix<sup>-1</sup> * tuplesOriginal<sub>i</sub>
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(), tuplesOriginal.getZArray(),
+             tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation-scale {@code matrix} and {@code translation} and stores the
+    * result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = matrix<sup>-1</sup> * (tuplesOriginal<sub>i</sub> -
+    * translation)
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal,
+                                       Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(),
+                         tuplesOriginal.getZArray(), tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0,
+                         size);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The quaternion is converted once to its equivalent rotation matrix before transforming the
+    * tuples. The quaternion does not need to be unitary.
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void transform(QuaternionReadOnly quaternion, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      transformImpl(quaternion, false, 0.0, 0.0, 0.0, false, tuplesOriginal, tuplesTransformed);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The quaternion is converted once to its equivalent rotation matrix before transforming the
+    * tuples. The quaternion does not need to be unitary.
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void transform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal,
+                                Tuple3DArray<?> tuplesTransformed)
+   {
+      transformImpl(quaternion, false, translation.getX(), translation.getY(), translation.getZ(), true, tuplesOriginal, tuplesTransformed);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * {@code quaternion} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The quaternion is converted once to its equivalent rotation matrix before transforming the
+    * tuples. The quaternion does not need to be unitary.
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      transformImpl(quaternion, true, 0.0, 0.0, 0.0, false, tuplesOriginal, tuplesTransformed);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given {@code quaternion} and {@code translation} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * The quaternion is converted once to its equivalent rotation matrix before transforming the
+    * tuples. The quaternion does not need to be unitary.
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal,
+                                       Tuple3DArray<?> tuplesTransformed)
+   {
+      transformImpl(quaternion, true, translation.getX(), translation.getY(), translation.getZ(), true, tuplesOriginal, tuplesTransformed);
+   }
+
+   private static void transformImpl(QuaternionReadOnly quaternion, boolean conjugateQuaternion, double tx, double ty, double tz, boolean hasTranslation,
+                                     Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+
+      double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+
+      double qx = quaternion.getX();
+      double qy = quaternion.getY();
+      double qz = quaternion.getZ();
+      double qs = quaternion.getS();
+
+      double norm = qx * qx + qy * qy + qz * qz + qs * qs;
+
+      if (norm < QuaternionTools.EPS)
+      {
+         m00 = m11 = m22 = 1.0;
+         m01 = m02 = m10 = m12 = m20 = m21 = 0.0;
+      }
+      else
+      {
+         norm = 1.0 / Math.sqrt(norm);
+         qx *= norm;
+         qy *= norm;
+         qz *= norm;
+         qs *= norm;
+
+         if (conjugateQuaternion)
+            qs = -qs;
+
+         double yy2 = 2.0 * qy * qy;
+         double zz2 = 2.0 * qz * qz;
+         double xx2 = 2.0 * qx * qx;
+         double xy2 = 2.0 * qx * qy;
+         double sz2 = 2.0 * qs * qz;
+         double xz2 = 2.0 * qx * qz;
+         double sy2 = 2.0 * qs * qy;
+         double yz2 = 2.0 * qy * qz;
+         double sx2 = 2.0 * qs * qx;
+
+         m00 = 1.0 - yy2 - zz2;
+         m01 = xy2 - sz2;
+         m02 = xz2 + sy2;
+         m10 = xy2 + sz2;
+         m11 = 1.0 - xx2 - zz2;
+         m12 = yz2 - sx2;
+         m20 = xz2 - sy2;
+         m21 = yz2 + sx2;
+         m22 = 1.0 - xx2 - yy2;
+      }
+
+      double[] xOriginal = tuplesOriginal.getXArray();
+      double[] yOriginal = tuplesOriginal.getYArray();
+      double[] zOriginal = tuplesOriginal.getZArray();
+      double[] xTransformed = tuplesTransformed.getXArray();
+      double[] yTransformed = tuplesTransformed.getYArray();
+      double[] zTransformed = tuplesTransformed.getZArray();
+
+      if (!hasTranslation)
+      {
+         rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed, 0, size);
+      }
+      else if (!conjugateQuaternion)
+      {
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed,
+                            zTransformed, 0, size);
+      }
+      else
+      {
+         double itx = -(m00 * tx + m01 * ty + m02 * tz);
+         double ity = -(m10 * tx + m11 * ty + m12 * tz);
+         double itz = -(m20 * tx + m21 * ty + m22 * tz);
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed,
+                            zTransformed, 0, size);
+      }
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = tuplesOriginal<sub>i</sub> + translation
+    * </p>
+    *
+    * @param translation the translation to add to the tuples. Not modified.
+    * @param tuplesOriginal the tuples to translate. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void translate(Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+      translate(translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal.getXArray(), tuplesOriginal.getYArray(),
+                tuplesOriginal.getZArray(), tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} by the opposite of the given
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed<sub>i</sub> = tuplesOriginal<sub>i</sub> - translation
+    * </p>
+    *
+    * @param translation the translation to subtract from the tuples. Not modified.
+    * @param tuplesOriginal the tuples to translate. Not modified.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    */
+   public static void inverseTranslate(Tuple3DReadOnly translation, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = prepareOutput(tuplesOriginal, tuplesTransformed);
+      translate(-translation.getX(), -translation.getY(), -translation.getZ(), tuplesOriginal.getXArray(), tuplesOriginal.getYArray(),
+                tuplesOriginal.getZArray(), tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each tuple in the range [{@code startIndex}, {@code endIndex}[.
+    * <p>
+    * The input and output arrays can be the same.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param xOriginal the x-components of the tuples to transform. Not modified.
+    * @param yOriginal the y-components of the tuples to transform. Not modified.
+    * @param zOriginal the z-components of the tuples to transform. Not modified.
+    * @param xTransformed the array in which the resulting x-components are stored. Modified.
+    * @param yTransformed the array in which the resulting y-components are stored. Modified.
+    * @param zTransformed the array in which the resulting z-components are stored. Modified.
+    * @param startIndex the index of the first tuple to transform, inclusive.
+    * @param endIndex the index of the last tuple to transform, exclusive.
+    */
+   public static void rotate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double[] xOriginal,
+                             double[] yOriginal, double[] zOriginal, double[] xTransformed, double[] yTransformed, double[] zTransformed, int startIndex,
+                             int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = xOriginal[i];
+         double y = yOriginal[i];
+         double z = zOriginal[i];
+         xTransformed[i] = m00 * x + m01 * y + m02 * z;
+         yTransformed[i] = m10 * x + m11 * y + m12 * z;
+         zTransformed[i] = m20 * x + m21 * y + m22 * z;
+      }
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each tuple in the range [{@code startIndex}, {@code endIndex}[ and then adds the given
+    * translation.
+    * <p>
+    * The input and output arrays can be the same.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param xOriginal the x-components of the tuples to transform. Not modified.
+    * @param yOriginal the y-components of the tuples to transform. Not modified.
+    * @param zOriginal the z-components of the tuples to transform. Not modified.
+    * @param xTransformed the array in which the resulting x-components are stored. Modified.
+    * @param yTransformed the array in which the resulting y-components are stored. Modified.
+    * @param zTransformed the array in which the resulting z-components are stored. Modified.
+    * @param startIndex the index of the first tuple to transform, inclusive.
+    * @param endIndex the index of the last tuple to transform, exclusive.
+    */
+   public static void rotateAndTranslate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                         double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                         double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = xOriginal[i];
+         double y = yOriginal[i];
+         double z = zOriginal[i];
+         xTransformed[i] = m00 * x + m01 * y + m02 * z + tx;
+         yTransformed[i] = m10 * x + m11 * y + m12 * z + ty;
+         zTransformed[i] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   /**
+    * Adds the given translation to each tuple in the range [{@code startIndex}, {@code endIndex}[.
+    * <p>
+    * The input and output arrays can be the same.
+    * </p>
+    *
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param xOriginal the x-components of the tuples to translate. Not modified.
+    * @param yOriginal the y-components of the tuples to translate. Not modified.
+    * @param zOriginal the z-components of the tuples to translate. Not modified.
+    * @param xTransformed the array in which the resulting x-components are stored. Modified.
+    * @param yTransformed the array in which the resulting y-components are stored. Modified.
+    * @param zTransformed the array in which the resulting z-components are stored. Modified.
+    * @param startIndex the index of the first tuple to translate, inclusive.
+    * @param endIndex the index of the last tuple to translate, exclusive.
+    */
+   public static void translate(double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         xTransformed[i] = xOriginal[i] + tx;
+         yTransformed[i] = yOriginal[i] + ty;
+         zTransformed[i] = zOriginal[i] + tz;
+      }
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and stores
+    * the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(Matrix3DReadOnly matrix, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed, int transformedOffset,
+                                int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(Matrix3DReadOnly matrix, Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset,
+                                double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal,
+                         originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given rotation
+    * {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation {@code matrix} and {@code translation} and stores the result
+    * in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset,
+                                       double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                         numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * rotation-scale {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation-scale {@code matrix} and {@code translation} and stores the
+    * result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset,
+                                       double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                         numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, false, 0.0, 0.0, 0.0, false, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset,
+                                double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transform(quaternion, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed,
+                transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * translation (tx, ty, tz) and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tx the x-component of the translation to add to the tuples once transformed.
+    * @param ty the y-component of the translation to add to the tuples once transformed.
+    * @param tz the z-component of the translation to add to the tuples once transformed.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, double tx, double ty, double tz, double[] tuplesOriginal, int originalOffset,
+                                double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, false, tx, ty, tz, true, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * {@code quaternion} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, true, 0.0, 0.0, 0.0, false, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given {@code quaternion} and {@code translation} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset,
+                                       double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      inverseTransform(quaternion, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed,
+                       transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given {@code quaternion} and translation (tx, ty, tz) and stores the result
+    * in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tx the x-component of the translation of the transform to invert.
+    * @param ty the y-component of the translation of the transform to invert.
+    * @param tz the z-component of the translation of the transform to invert.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, double tx, double ty, double tz, double[] tuplesOriginal, int originalOffset,
+                                       double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, true, tx, ty, tz, true, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   private static void transformImpl(QuaternionReadOnly quaternion, boolean conjugateQuaternion, double tx, double ty, double tz, boolean hasTranslation,
+                                     double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double qx = quaternion.getX();
+      double qy = quaternion.getY();
+      double qz = quaternion.getZ();
+      double qs = quaternion.getS();
+      double norm = qx * qx + qy * qy + qz * qz + qs * qs;
+
+      if (norm < QuaternionTools.EPS)
+      {
+         if (hasTranslation && conjugateQuaternion)
+            translate(-tx, -ty, -tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+         else if (hasTranslation)
+            translate(tx, ty, tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+         else
+            System.arraycopy(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, 3 * numberOfTuples);
+         return;
+      }
+
+      norm = 1.0 / Math.sqrt(norm);
+      qx *= norm;
+      qy *= norm;
+      qz *= norm;
+      qs *= conjugateQuaternion ? -norm : norm;
+
+      double yy2 = 2.0 * qy * qy;
+      double zz2 = 2.0 * qz * qz;
+      double xx2 = 2.0 * qx * qx;
+      double xy2 = 2.0 * qx * qy;
+      double sz2 = 2.0 * qs * qz;
+      double xz2 = 2.0 * qx * qz;
+      double sy2 = 2.0 * qs * qy;
+      double yz2 = 2.0 * qy * qz;
+      double sx2 = 2.0 * qs * qx;
+
+      double m00 = 1.0 - yy2 - zz2;
+      double m01 = xy2 - sz2;
+      double m02 = xz2 + sy2;
+      double m10 = xy2 + sz2;
+      double m11 = 1.0 - xx2 - zz2;
+      double m12 = yz2 - sx2;
+      double m20 = xz2 - sy2;
+      double m21 = yz2 + sx2;
+      double m22 = 1.0 - xx2 - yy2;
+
+      if (!hasTranslation)
+      {
+         rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+      }
+      else if (!conjugateQuaternion)
+      {
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                            numberOfTuples);
+      }
+      else
+      {
+         double itx = -(m00 * tx + m01 * ty + m02 * tz);
+         double ity = -(m10 * tx + m11 * ty + m12 * tz);
+         double itz = -(m20 * tx + m21 * ty + m22 * tz);
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed,
+                            transformedOffset, numberOfTuples);
+      }
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param translation the translation to add to the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void translate(Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                int transformedOffset, int numberOfTuples)
+   {
+      translate(translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                numberOfTuples);
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} by the opposite of the given
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param translation the translation to subtract from the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTranslate(Tuple3DReadOnly translation, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      translate(-translation.getX(), -translation.getY(), -translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                numberOfTuples);
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each of the {@code numberOfTuples} tuples.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void rotate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                             double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = m00 * x + m01 * y + m02 * z;
+         tuplesTransformed[transformedIndex++] = m10 * x + m11 * y + m12 * z;
+         tuplesTransformed[transformedIndex++] = m20 * x + m21 * y + m22 * z;
+      }
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each of the {@code numberOfTuples} tuples and then adds the given translation.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void rotateAndTranslate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                         double tx, double ty, double tz, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                         int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = m00 * x + m01 * y + m02 * z + tx;
+         tuplesTransformed[transformedIndex++] = m10 * x + m11 * y + m12 * z + ty;
+         tuplesTransformed[transformedIndex++] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   /**
+    * Adds the given translation to each of the {@code numberOfTuples} tuples.
+    * <p>
+    * The tuples are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void translate(double tx, double ty, double tz, double[] tuplesOriginal, int originalOffset, double[] tuplesTransformed,
+                                int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = x + tx;
+         tuplesTransformed[transformedIndex++] = y + ty;
+         tuplesTransformed[transformedIndex++] = z + tz;
+      }
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and stores
+    * the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(Matrix3DReadOnly matrix, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed, int transformedOffset,
+                                int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code matrix} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the matrix used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(Matrix3DReadOnly matrix, Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset,
+                                float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM01();
+      double m02 = matrix.getM02();
+      double m10 = matrix.getM10();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM12();
+      double m20 = matrix.getM20();
+      double m21 = matrix.getM21();
+      double m22 = matrix.getM22();
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal,
+                         originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given rotation
+    * {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation {@code matrix} and {@code translation} and stores the result
+    * in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationMatrixReadOnly matrix, Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset,
+                                       float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double m00 = matrix.getM00();
+      double m01 = matrix.getM10();
+      double m02 = matrix.getM20();
+      double m10 = matrix.getM01();
+      double m11 = matrix.getM11();
+      double m12 = matrix.getM21();
+      double m20 = matrix.getM02();
+      double m21 = matrix.getM12();
+      double m22 = matrix.getM22();
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                         numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * rotation-scale {@code matrix} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given rotation-scale {@code matrix} and {@code translation} and stores the
+    * result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param matrix the rotation-scale matrix used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(RotationScaleMatrixReadOnly matrix, Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset,
+                                       float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      RotationMatrixReadOnly rotationMatrix = matrix.getRotationMatrix();
+      double invScaleX = 1.0 / matrix.getScaleX();
+      double invScaleY = 1.0 / matrix.getScaleY();
+      double invScaleZ = 1.0 / matrix.getScaleZ();
+      double m00 = rotationMatrix.getM00() * invScaleX;
+      double m01 = rotationMatrix.getM10() * invScaleX;
+      double m02 = rotationMatrix.getM20() * invScaleX;
+      double m10 = rotationMatrix.getM01() * invScaleY;
+      double m11 = rotationMatrix.getM11() * invScaleY;
+      double m12 = rotationMatrix.getM21() * invScaleY;
+      double m20 = rotationMatrix.getM02() * invScaleZ;
+      double m21 = rotationMatrix.getM12() * invScaleZ;
+      double m22 = rotationMatrix.getM22() * invScaleZ;
+
+      double tx = translation.getX();
+      double ty = translation.getY();
+      double tz = translation.getZ();
+      double itx = -(m00 * tx + m01 * ty + m02 * tz);
+      double ity = -(m10 * tx + m11 * ty + m12 * tz);
+      double itz = -(m20 * tx + m21 * ty + m22 * tz);
+
+      rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                         numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, false, 0.0, 0.0, 0.0, false, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation to add to the tuples once transformed. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset,
+                                float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transform(quaternion, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed,
+                transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the given {@code quaternion} and
+    * translation (tx, ty, tz) and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tx the x-component of the translation to add to the tuples once transformed.
+    * @param ty the y-component of the translation to add to the tuples once transformed.
+    * @param tz the z-component of the translation to add to the tuples once transformed.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void transform(QuaternionReadOnly quaternion, double tx, double ty, double tz, float[] tuplesOriginal, int originalOffset,
+                                float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, false, tx, ty, tz, true, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the given
+    * {@code quaternion} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, true, 0.0, 0.0, 0.0, false, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given {@code quaternion} and {@code translation} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param translation the translation of the transform to invert. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset,
+                                       float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      inverseTransform(quaternion, translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed,
+                       transformedOffset, numberOfTuples);
+   }
+
+   /**
+    * Transforms the tuples held in {@code tuplesOriginal} by the inverse of the transform
+    * described by the given {@code quaternion} and translation (tx, ty, tz) and stores the result
+    * in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param quaternion the quaternion used to transform the tuples. Not modified.
+    * @param tx the x-component of the translation of the transform to invert.
+    * @param ty the y-component of the translation of the transform to invert.
+    * @param tz the z-component of the translation of the transform to invert.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion, double tx, double ty, double tz, float[] tuplesOriginal, int originalOffset,
+                                       float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      transformImpl(quaternion, true, tx, ty, tz, true, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+   }
+
+   private static void transformImpl(QuaternionReadOnly quaternion, boolean conjugateQuaternion, double tx, double ty, double tz, boolean hasTranslation,
+                                     float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      double qx = quaternion.getX();
+      double qy = quaternion.getY();
+      double qz = quaternion.getZ();
+      double qs = quaternion.getS();
+      double norm = qx * qx + qy * qy + qz * qz + qs * qs;
+
+      if (norm < QuaternionTools.EPS)
+      {
+         if (hasTranslation && conjugateQuaternion)
+            translate(-tx, -ty, -tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+         else if (hasTranslation)
+            translate(tx, ty, tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+         else
+            System.arraycopy(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, 3 * numberOfTuples);
+         return;
+      }
+
+      norm = 1.0 / Math.sqrt(norm);
+      qx *= norm;
+      qy *= norm;
+      qz *= norm;
+      qs *= conjugateQuaternion ? -norm : norm;
+
+      double yy2 = 2.0 * qy * qy;
+      double zz2 = 2.0 * qz * qz;
+      double xx2 = 2.0 * qx * qx;
+      double xy2 = 2.0 * qx * qy;
+      double sz2 = 2.0 * qs * qz;
+      double xz2 = 2.0 * qx * qz;
+      double sy2 = 2.0 * qs * qy;
+      double yz2 = 2.0 * qy * qz;
+      double sx2 = 2.0 * qs * qx;
+
+      double m00 = 1.0 - yy2 - zz2;
+      double m01 = xy2 - sz2;
+      double m02 = xz2 + sy2;
+      double m10 = xy2 + sz2;
+      double m11 = 1.0 - xx2 - zz2;
+      double m12 = yz2 - sx2;
+      double m20 = xz2 - sy2;
+      double m21 = yz2 + sx2;
+      double m22 = 1.0 - xx2 - yy2;
+
+      if (!hasTranslation)
+      {
+         rotate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+      }
+      else if (!conjugateQuaternion)
+      {
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                            numberOfTuples);
+      }
+      else
+      {
+         double itx = -(m00 * tx + m01 * ty + m02 * tz);
+         double ity = -(m10 * tx + m11 * ty + m12 * tz);
+         double itz = -(m20 * tx + m21 * ty + m22 * tz);
+         rotateAndTranslate(m00, m01, m02, m10, m11, m12, m20, m21, m22, itx, ity, itz, tuplesOriginal, originalOffset, tuplesTransformed,
+                            transformedOffset, numberOfTuples);
+      }
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param translation the translation to add to the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void translate(Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed, int transformedOffset,
+                                int numberOfTuples)
+   {
+      translate(translation.getX(), translation.getY(), translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                numberOfTuples);
+   }
+
+   /**
+    * Translates the tuples held in {@code tuplesOriginal} by the opposite of the given
+    * {@code translation} and stores the result in {@code tuplesTransformed}.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param translation the translation to subtract from the tuples. Not modified.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void inverseTranslate(Tuple3DReadOnly translation, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                       int transformedOffset, int numberOfTuples)
+   {
+      translate(-translation.getX(), -translation.getY(), -translation.getZ(), tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                numberOfTuples);
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each of the {@code numberOfTuples} tuples.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void rotate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                             float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed, int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = (float) (m00 * x + m01 * y + m02 * z);
+         tuplesTransformed[transformedIndex++] = (float) (m10 * x + m11 * y + m12 * z);
+         tuplesTransformed[transformedIndex++] = (float) (m20 * x + m21 * y + m22 * z);
+      }
+   }
+
+   /**
+    * Performs the multiplication of the 3-by-3 matrix described by the given coefficients with
+    * each of the {@code numberOfTuples} tuples and then adds the given translation.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void rotateAndTranslate(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                         double tx, double ty, double tz, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                         int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = (float) (m00 * x + m01 * y + m02 * z + tx);
+         tuplesTransformed[transformedIndex++] = (float) (m10 * x + m11 * y + m12 * z + ty);
+         tuplesTransformed[transformedIndex++] = (float) (m20 * x + m21 * y + m22 * z + tz);
+      }
+   }
+
+   /**
+    * Adds the given translation to each of the {@code numberOfTuples} tuples.
+    * <p>
+    * The tuples are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]. The input and output arrays
+    * can be the same as long as {@code transformedOffset <= originalOffset}.
+    * </p>
+    *
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param tuplesOriginal the array containing the tuples to transform. Not modified.
+    * @param originalOffset the index in {@code tuplesOriginal} of the x-component of the first
+    *           tuple.
+    * @param tuplesTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code tuplesTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfTuples the number of tuples to transform.
+    */
+   public static void translate(double tx, double ty, double tz, float[] tuplesOriginal, int originalOffset, float[] tuplesTransformed,
+                                int transformedOffset, int numberOfTuples)
+   {
+      int originalIndex = originalOffset;
+      int transformedIndex = transformedOffset;
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         double x = tuplesOriginal[originalIndex++];
+         double y = tuplesOriginal[originalIndex++];
+         double z = tuplesOriginal[originalIndex++];
+         tuplesTransformed[transformedIndex++] = (float) (x + tx);
+         tuplesTransformed[transformedIndex++] = (float) (y + ty);
+         tuplesTransformed[transformedIndex++] = (float) (z + tz);
+      }
+   }
+
+   /**
+    * Normalizes each vector in the range [{@code startIndex}, {@code endIndex}[ such that its
+    * length is equal to 1.
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a vector contains {@link Double#NaN}, it remains unchanged.
+    * <li>if a vector is zero, it is set to {@link Double#NaN} as done in
+    * {@link us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics#normalize()}.
+    * </ul>
+    * </p>
+    *
+    * @param x the x-components of the vectors to normalize. Modified.
+    * @param y the y-components of the vectors to normalize. Modified.
+    * @param z the z-components of the vectors to normalize. Modified.
+    * @param startIndex the index of the first vector to normalize, inclusive.
+    * @param endIndex the index of the last vector to normalize, exclusive.
+    */
+   public static void normalizeVectors(double[] x, double[] y, double[] z, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double vx = x[i];
+         double vy = y[i];
+         double vz = z[i];
+         double invNorm = 1.0 / Math.sqrt(vx * vx + vy * vy + vz * vz);
+         x[i] = vx * invNorm;
+         y[i] = vy * invNorm;
+         z[i] = vz * invNorm;
+      }
+   }
+
+   /**
+    * Normalizes each quaternion in the range [{@code startIndex}, {@code endIndex}[ such that its
+    * norm is equal to 1.
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains {@link Double#NaN}, it remains unchanged.
+    * <li>if a quaternion is zero, it is set to the neutral quaternion as done in
+    * {@link us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics#normalize()}.
+    * </ul>
+    * </p>
+    *
+    * @param qx the x-components of the quaternions to normalize. Modified.
+    * @param qy the y-components of the quaternions to normalize. Modified.
+    * @param qz the z-components of the quaternions to normalize. Modified.
+    * @param qs the s-components of the quaternions to normalize. Modified.
+    * @param startIndex the index of the first quaternion to normalize, inclusive.
+    * @param endIndex the index of the last quaternion to normalize, exclusive.
+    */
+   public static void normalizeQuaternions(double[] qx, double[] qy, double[] qz, double[] qs, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = qx[i];
+         double y = qy[i];
+         double z = qz[i];
+         double s = qs[i];
+         double norm = x * x + y * y + z * z + s * s;
+         // Selects instead of branches so the loop remains vectorizable.
+         boolean isZero = norm == 0.0;
+         double invNorm = isZero ? 0.0 : 1.0 / Math.sqrt(norm);
+         qx[i] = x * invNorm;
+         qy[i] = y * invNorm;
+         qz[i] = z * invNorm;
+         qs[i] = isZero ? 1.0 : s * invNorm;
+      }
+   }
+
+   /**
+    * Converts each quaternion in the range [{@code startIndex}, {@code endIndex}[ into its
+    * equivalent rotation matrix.
+    * <p>
+    * The i<sup>th</sup> matrix is stored in row-major order in {@code matricesToPack} starting at
+    * the index {@code 9 * i}, such that it can be retrieved with
+    * {@link us.ihmc.euclid.matrix.interfaces.CommonMatrix3DBasics#set(int, double[])}.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains {@link Double#NaN}, its matrix is set to {@link Double#NaN}.
+    * <li>if the norm of a quaternion is below {@link RotationMatrixConversion#EPS}, its matrix is
+    * set to identity.
+    * </ul>
+    * </p>
+    *
+    * @param qx the x-components of the quaternions to convert. Not modified.
+    * @param qy the y-components of the quaternions to convert. Not modified.
+    * @param qz the z-components of the quaternions to convert. Not modified.
+    * @param qs the s-components of the quaternions to convert. Not modified.
+    * @param matricesToPack the array in which the matrices are stored. Modified.
+    * @param startIndex the index of the first quaternion to convert, inclusive.
+    * @param endIndex the index of the last quaternion to convert, exclusive.
+    * @see RotationMatrixConversion#convertQuaternionToMatrix(double, double, double, double,
+    *      us.ihmc.euclid.matrix.RotationMatrix)
+    */
+   public static void convertQuaternionsToMatrices(double[] qx, double[] qy, double[] qz, double[] qs, double[] matricesToPack, int startIndex,
+                                                   int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = qx[i];
+         double y = qy[i];
+         double z = qz[i];
+         double s = qs[i];
+         double norm = Math.sqrt(x * x + y * y + z * z + s * s);
+         // Selects instead of branches so the loop remains vectorizable, NaNs are propagated by the arithmetic.
+         boolean isIdentity = norm < RotationMatrixConversion.EPS;
+         double invNorm = isIdentity ? 0.0 : 1.0 / norm;
+         x *= invNorm;
+         y *= invNorm;
+         z *= invNorm;
+         s = isIdentity ? 1.0 : s * invNorm;
+
+         double yy2 = 2.0 * y * y;
+         double zz2 = 2.0 * z * z;
+         double xx2 = 2.0 * x * x;
+         double xy2 = 2.0 * x * y;
+         double sz2 = 2.0 * s * z;
+         double xz2 = 2.0 * x * z;
+         double sy2 = 2.0 * s * y;
+         double yz2 = 2.0 * y * z;
+         double sx2 = 2.0 * s * x;
+
+         int index = 9 * i;
+         matricesToPack[index] = 1.0 - yy2 - zz2;
+         matricesToPack[index + 1] = xy2 - sz2;
+         matricesToPack[index + 2] = xz2 + sy2;
+         matricesToPack[index + 3] = xy2 + sz2;
+         matricesToPack[index + 4] = 1.0 - xx2 - zz2;
+         matricesToPack[index + 5] = yz2 - sx2;
+         matricesToPack[index + 6] = xz2 - sy2;
+         matricesToPack[index + 7] = yz2 + sx2;
+         matricesToPack[index + 8] = 1.0 - xx2 - yy2;
+      }
+   }
+
+   private static int prepareOutput(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = tuplesOriginal.size();
+      tuplesTransformed.setSize(size);
+      return size;
+   }
+}
@@ -1,10 +1,14 @@
 package us.ihmc.euclid.tools;
 
+import java.util.Locale;
+
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternionTransform;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform2D;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
@@ -18,6 +22,18 @@ import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollReadOnly;
  * At this time, only a few print tools are offered, additional features will come in future
  * releases.
  * </p>
+ * <p>
+ * Each {@code get...String} method has an {@code append...String} counterpart that writes the same
+ * representation into a given {@link StringBuilder}. When the format is of the form
+ * {@code %[width][.precision]f}, e.g. {@link #DEFAULT_FORMAT}, the numbers are written with
+ * {@link #appendDouble(StringBuilder, String, double)} which does not rely on
+ * {@link String#format(String, Object...)} and does not allocate. Reusing the same builder, e.g.
+ * when logging at high rate, is then garbage free.
+ * </p>
+ * <p>
+ * The numbers are formatted with {@link Locale#ROOT}, i.e. with a '.' as decimal separator,
+ * independently from the default locale.
+ * </p>
  *
  * @author Sylvain Bertrand
  */
@@ -25,6 +41,22 @@ public abstract class EuclidCoreIOTools
 {
    /** Default format used to print decimal numbers. */
    public static final String DEFAULT_FORMAT = getStringFormat(6, 3);
+   /**
+    * Largest precision for which {@link #appendDouble(StringBuilder, String, double)} formats the
+    * numbers without relying on {@link String#format(String, Object...)}.
+    */
+   public static final int MAX_FIXED_POINT_PRECISION = 15;
+
+   private static final double[] POWERS_OF_TEN = new double[MAX_FIXED_POINT_PRECISION + 1];
+   /** Scaled values above this cannot be rounded reliably with double arithmetic. */
+   private static final double MAX_FIXED_POINT_SCALED_VALUE = 1.0e15;
+
+   static
+   {
+      POWERS_OF_TEN[0] = 1.0;
+      for (int i = 1; i < POWERS_OF_TEN.length; i++)
+         POWERS_OF_TEN[i] = 10.0 * POWERS_OF_TEN[i - 1];
+   }
 
    /**
     * Gets a representative {@code String} of {@code rigidBodyTransform} as follows:
@@ -63,11 +95,38 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getRigidBodyTransformString(String format, RigidBodyTransform rigidBodyTransform)
+   {
+      return appendRigidBodyTransformString(new StringBuilder(), format, rigidBodyTransform).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code rigidBodyTransform} to {@code builder}, see
+    * {@link #getRigidBodyTransformString(RigidBodyTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param rigidBodyTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendRigidBodyTransformString(StringBuilder builder, RigidBodyTransform rigidBodyTransform)
+   {
+      return appendRigidBodyTransformString(builder, DEFAULT_FORMAT, rigidBodyTransform);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code rigidBodyTransform} given a specific format to
+    * use to {@code builder}, see {@link #getRigidBodyTransformString(String, RigidBodyTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param rigidBodyTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendRigidBodyTransformString(StringBuilder builder, String format, RigidBodyTransform rigidBodyTransform)
    {
       if (rigidBodyTransform == null)
-         return "null";
+         return builder.append("null");
       else
-         return getHomogeneousTransformString(format, rigidBodyTransform.getRotationMatrix(), rigidBodyTransform.getTranslationVector());
+         return appendHomogeneousTransformString(builder, format, rigidBodyTransform.getRotationMatrix(), rigidBodyTransform.getTranslationVector());
    }
 
    /**
@@ -106,27 +165,55 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getAffineTransformString(String format, AffineTransform affineTransform)
+   {
+      return appendAffineTransformString(new StringBuilder(), format, affineTransform).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code affineTransform} to {@code builder}, see
+    * {@link #getAffineTransformString(AffineTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param affineTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendAffineTransformString(StringBuilder builder, AffineTransform affineTransform)
+   {
+      return appendAffineTransformString(builder, DEFAULT_FORMAT, affineTransform);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code affineTransform} given a specific format to use
+    * to {@code builder}, see {@link #getAffineTransformString(String, AffineTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param affineTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendAffineTransformString(StringBuilder builder, String format, AffineTransform affineTransform)
    {
       if (affineTransform == null)
-         return "null";
+         return builder.append("null");
       else
-         return getHomogeneousTransformString(format, affineTransform.getRotationScaleMatrix(), affineTransform.getTranslationVector());
+         return appendHomogeneousTransformString(builder, format, affineTransform.getRotationScaleMatrix(), affineTransform.getTranslationVector());
    }
 
-   private static String getHomogeneousTransformString(String format, Matrix3DReadOnly matrix, Tuple3DReadOnly translation)
+   private static StringBuilder appendHomogeneousTransformString(StringBuilder builder, String format, Matrix3DReadOnly matrix,
+                                                                 Tuple3DReadOnly translation)
    {
-      String ret = "";
-
       for (int i = 0; i < 3; i++)
       {
-         ret += getStringOf(null, " ", " ", format, matrix.getElement(i, 0), matrix.getElement(i, 1), matrix.getElement(i, 2));
-         ret += "| " + String.format(format, translation.getElement(i)) + "\n";
+         appendDouble(builder, format, matrix.getElement(i, 0)).append(' ');
+         appendDouble(builder, format, matrix.getElement(i, 1)).append(' ');
+         appendDouble(builder, format, matrix.getElement(i, 2)).append(" | ");
+         appendDouble(builder, format, translation.getElement(i)).append('\n');
       }
 
-      ret += getStringOf(null, " ", " ", format, 0.0, 0.0, 0.0);
-      ret += "| " + String.format(format, 1.0);
-
-      return ret;
+      appendDouble(builder, format, 0.0).append(' ');
+      appendDouble(builder, format, 0.0).append(' ');
+      appendDouble(builder, format, 0.0).append(" | ");
+      return appendDouble(builder, format, 1.0);
    }
 
    /**
@@ -162,22 +249,188 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getQuaternionBasedTransformString(String format, QuaternionBasedTransform quaternionBasedTransform)
+   {
+      return appendQuaternionBasedTransformString(new StringBuilder(), format, quaternionBasedTransform).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code quaternionBasedTransform} to {@code builder},
+    * see {@link #getQuaternionBasedTransformString(QuaternionBasedTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param quaternionBasedTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendQuaternionBasedTransformString(StringBuilder builder, QuaternionBasedTransform quaternionBasedTransform)
+   {
+      return appendQuaternionBasedTransformString(builder, DEFAULT_FORMAT, quaternionBasedTransform);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code quaternionBasedTransform} given a specific
+    * format to use to {@code builder}, see
+    * {@link #getQuaternionBasedTransformString(String, QuaternionBasedTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param quaternionBasedTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendQuaternionBasedTransformString(StringBuilder builder, String format,
+                                                                    QuaternionBasedTransform quaternionBasedTransform)
    {
       if (quaternionBasedTransform == null)
-         return "null";
-      return getQuaternionBasedTransformString(format, quaternionBasedTransform.getQuaternion(), quaternionBasedTransform.getTranslationVector());
+         return builder.append("null");
+
+      QuaternionReadOnly quaternion = quaternionBasedTransform.getQuaternion();
+      Tuple3DReadOnly translation = quaternionBasedTransform.getTranslationVector();
+      builder.append("Quaternion:  (");
+      appendValues(builder, ", ", format, quaternion.getX(), quaternion.getY(), quaternion.getZ(), quaternion.getS()).append(" )\n");
+      builder.append("Translation: (");
+      return appendValues(builder, ", ", format, translation.getX(), translation.getY(), translation.getZ()).append(" )");
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code rigidBodyTransform2D} as follows:
+    *
+    * <pre>
+    * Yaw:          0.174
+    * Translation: (-0.558, -0.380 )
+    * </pre>
+    *
+    * @param rigidBodyTransform2D the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getRigidBodyTransform2DString(RigidBodyTransform2D rigidBodyTransform2D)
+   {
+      return getRigidBodyTransform2DString(DEFAULT_FORMAT, rigidBodyTransform2D);
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code rigidBodyTransform2D} given a specific format to
+    * use.
+    * <p>
+    * Using the default format {@link #DEFAULT_FORMAT}, this provides a {@code String} as follows:
+    *
+    * <pre>
+    * Yaw:          0.174
+    * Translation: (-0.558, -0.380 )
+    * </pre>
+    * </p>
+    *
+    * @param format the format to use for each number.
+    * @param rigidBodyTransform2D the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getRigidBodyTransform2DString(String format, RigidBodyTransform2D rigidBodyTransform2D)
+   {
+      return appendRigidBodyTransform2DString(new StringBuilder(), format, rigidBodyTransform2D).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code rigidBodyTransform2D} to {@code builder}, see
+    * {@link #getRigidBodyTransform2DString(RigidBodyTransform2D)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param rigidBodyTransform2D the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendRigidBodyTransform2DString(StringBuilder builder, RigidBodyTransform2D rigidBodyTransform2D)
+   {
+      return appendRigidBodyTransform2DString(builder, DEFAULT_FORMAT, rigidBodyTransform2D);
    }
 
-   private static String getQuaternionBasedTransformString(String format, QuaternionReadOnly quaternion, Tuple3DReadOnly translation)
+   /**
+    * Appends a representative {@code String} of {@code rigidBodyTransform2D} given a specific format
+    * to use to {@code builder}, see {@link #getRigidBodyTransform2DString(String, RigidBodyTransform2D)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param rigidBodyTransform2D the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendRigidBodyTransform2DString(StringBuilder builder, String format, RigidBodyTransform2D rigidBodyTransform2D)
    {
-      if (quaternion == null)
-         return "null";
+      if (rigidBodyTransform2D == null)
+         return builder.append("null");
 
-      String ret = "";
+      builder.append("Yaw:          ");
+      appendDouble(builder, format, rigidBodyTransform2D.getYaw()).append('\n');
+      builder.append("Translation: (");
+      return appendValues(builder, ", ", format, rigidBodyTransform2D.getTranslationX(), rigidBodyTransform2D.getTranslationY()).append(" )");
+   }
 
-      ret += getStringOf("Quaternion:  (", " )\n", ", ", format, quaternion.getX(), quaternion.getY(), quaternion.getZ(), quaternion.getS());
-      ret += getStringOf("Translation: (", " )", ", ", format, translation.getX(), translation.getY(), translation.getZ());
-      return ret;
+   /**
+    * Gets a representative {@code String} of {@code dualQuaternionTransform} as follows:
+    *
+    * <pre>
+    * Real part: ( 0.174,  0.732, -0.222,  0.620 )
+    * Dual part: (-0.558, -0.380,  0.130,  0.244 )
+    * </pre>
+    *
+    * @param dualQuaternionTransform the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getDualQuaternionTransformString(DualQuaternionTransform dualQuaternionTransform)
+   {
+      return getDualQuaternionTransformString(DEFAULT_FORMAT, dualQuaternionTransform);
+   }
+
+   /**
+    * Gets a representative {@code String} of {@code dualQuaternionTransform} given a specific format
+    * to use.
+    * <p>
+    * Using the default format {@link #DEFAULT_FORMAT}, this provides a {@code String} as follows:
+    *
+    * <pre>
+    * Real part: ( 0.174,  0.732, -0.222,  0.620 )
+    * Dual part: (-0.558, -0.380,  0.130,  0.244 )
+    * </pre>
+    * </p>
+    *
+    * @param format the format to use for each number.
+    * @param dualQuaternionTransform the object to get the {@code String} of. Not modified.
+    * @return the representative {@code String}.
+    */
+   public static String getDualQuaternionTransformString(String format, DualQuaternionTransform dualQuaternionTransform)
+   {
+      return appendDualQuaternionTransformString(new StringBuilder(), format, dualQuaternionTransform).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code dualQuaternionTransform} to {@code builder},
+    * see {@link #getDualQuaternionTransformString(DualQuaternionTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param dualQuaternionTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendDualQuaternionTransformString(StringBuilder builder, DualQuaternionTransform dualQuaternionTransform)
+   {
+      return appendDualQuaternionTransformString(builder, DEFAULT_FORMAT, dualQuaternionTransform);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code dualQuaternionTransform} given a specific
+    * format to use to {@code builder}, see
+    * {@link #getDualQuaternionTransformString(String, DualQuaternionTransform)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param dualQuaternionTransform the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendDualQuaternionTransformString(StringBuilder builder, String format, DualQuaternionTransform dualQuaternionTransform)
+   {
+      if (dualQuaternionTransform == null)
+         return builder.append("null");
+
+      Tuple4DReadOnly realPart = dualQuaternionTransform.getRealPart();
+      Tuple4DReadOnly dualPart = dualQuaternionTransform.getDualPart();
+      builder.append("Real part: (");
+      appendValues(builder, ", ", format, realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS()).append(" )\n");
+      builder.append("Dual part: (");
+      return appendValues(builder, ", ", format, dualPart.getX(), dualPart.getY(), dualPart.getZ(), dualPart.getS()).append(" )");
    }
 
    /**
@@ -210,11 +463,39 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getTuple2DString(String format, Tuple2DReadOnly tuple)
+   {
+      return appendTuple2DString(new StringBuilder(), format, tuple).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} to {@code builder}, see
+    * {@link #getTuple2DString(Tuple2DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple2DString(StringBuilder builder, Tuple2DReadOnly tuple)
+   {
+      return appendTuple2DString(builder, DEFAULT_FORMAT, tuple);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} given a specific format to use to
+    * {@code builder}, see {@link #getTuple2DString(String, Tuple2DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple2DString(StringBuilder builder, String format, Tuple2DReadOnly tuple)
    {
       if (tuple == null)
-         return "null";
-      else
-         return getStringOf("(", " )", ", ", format, tuple.getX(), tuple.getY());
+         return builder.append("null");
+
+      builder.append('(');
+      return appendValues(builder, ", ", format, tuple.getX(), tuple.getY()).append(" )");
    }
 
    /**
@@ -247,11 +528,39 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getTuple3DString(String format, Tuple3DReadOnly tuple)
+   {
+      return appendTuple3DString(new StringBuilder(), format, tuple).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} to {@code builder}, see
+    * {@link #getTuple3DString(Tuple3DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple3DString(StringBuilder builder, Tuple3DReadOnly tuple)
+   {
+      return appendTuple3DString(builder, DEFAULT_FORMAT, tuple);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} given a specific format to use to
+    * {@code builder}, see {@link #getTuple3DString(String, Tuple3DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple3DString(StringBuilder builder, String format, Tuple3DReadOnly tuple)
    {
       if (tuple == null)
-         return "null";
-      else
-         return getStringOf("(", " )", ", ", format, tuple.getX(), tuple.getY(), tuple.getZ());
+         return builder.append("null");
+
+      builder.append('(');
+      return appendValues(builder, ", ", format, tuple.getX(), tuple.getY(), tuple.getZ()).append(" )");
    }
 
    /**
@@ -284,11 +593,39 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getTuple4DString(String format, Tuple4DReadOnly tuple)
+   {
+      return appendTuple4DString(new StringBuilder(), format, tuple).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} to {@code builder}, see
+    * {@link #getTuple4DString(Tuple4DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple4DString(StringBuilder builder, Tuple4DReadOnly tuple)
+   {
+      return appendTuple4DString(builder, DEFAULT_FORMAT, tuple);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code tuple} given a specific format to use to
+    * {@code builder}, see {@link #getTuple4DString(String, Tuple4DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param tuple the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendTuple4DString(StringBuilder builder, String format, Tuple4DReadOnly tuple)
    {
       if (tuple == null)
-         return "null";
-      else
-         return getStringOf("(", " )", ", ", format, tuple.getX(), tuple.getY(), tuple.getZ(), tuple.getS());
+         return builder.append("null");
+
+      builder.append('(');
+      return appendValues(builder, ", ", format, tuple.getX(), tuple.getY(), tuple.getZ(), tuple.getS()).append(" )");
    }
 
    /**
@@ -321,11 +658,39 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getAxisAngleString(String format, AxisAngleReadOnly axisAngle)
+   {
+      return appendAxisAngleString(new StringBuilder(), format, axisAngle).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code axisAngle} to {@code builder}, see
+    * {@link #getAxisAngleString(AxisAngleReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param axisAngle the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendAxisAngleString(StringBuilder builder, AxisAngleReadOnly axisAngle)
+   {
+      return appendAxisAngleString(builder, DEFAULT_FORMAT, axisAngle);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code axisAngle} given a specific format to use to
+    * {@code builder}, see {@link #getAxisAngleString(String, AxisAngleReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param axisAngle the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendAxisAngleString(StringBuilder builder, String format, AxisAngleReadOnly axisAngle)
    {
       if (axisAngle == null)
-         return "null";
-      else
-         return getStringOf("(", " )", ", ", format, axisAngle.getX(), axisAngle.getY(), axisAngle.getZ(), axisAngle.getAngle());
+         return builder.append("null");
+
+      builder.append('(');
+      return appendValues(builder, ", ", format, axisAngle.getX(), axisAngle.getY(), axisAngle.getZ(), axisAngle.getAngle()).append(" )");
    }
 
    /**
@@ -362,12 +727,39 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getMatrixString(String format, Matrix3DReadOnly matrix)
+   {
+      return appendMatrixString(new StringBuilder(), format, matrix).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code matrix} to {@code builder}, see
+    * {@link #getMatrixString(Matrix3DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param matrix the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendMatrixString(StringBuilder builder, Matrix3DReadOnly matrix)
+   {
+      return appendMatrixString(builder, DEFAULT_FORMAT, matrix);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code matrix} given a specific format to use to
+    * {@code builder}, see {@link #getMatrixString(String, Matrix3DReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param matrix the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendMatrixString(StringBuilder builder, String format, Matrix3DReadOnly matrix)
    {
       if (matrix == null)
-         return "null";
+         return builder.append("null");
       else
-         return getMatrixString(format, matrix.getM00(), matrix.getM01(), matrix.getM02(), matrix.getM10(), matrix.getM11(), matrix.getM12(), matrix.getM20(),
-                                matrix.getM21(), matrix.getM22());
+         return appendMatrixString(builder, format, matrix.getM00(), matrix.getM01(), matrix.getM02(), matrix.getM10(), matrix.getM11(), matrix.getM12(),
+                                   matrix.getM20(), matrix.getM21(), matrix.getM22());
    }
 
    /**
@@ -423,10 +815,36 @@ public abstract class EuclidCoreIOTools
    public static String getMatrixString(String format, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21,
                                         double m22)
    {
-      String ret = getStringOf("/", " \\\n", ", ", format, m00, m01, m02);
-      ret += getStringOf("|", " |\n", ", ", format, m10, m11, m12);
-      ret += getStringOf("\\", " /", ", ", format, m20, m21, m22);
-      return ret;
+      return appendMatrixString(new StringBuilder(), format, m00, m01, m02, m10, m11, m12, m20, m21, m22).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of a matrix given a specific format to use to
+    * {@code builder}, see
+    * {@link #getMatrixString(String, double, double, double, double, double, double, double, double, double)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendMatrixString(StringBuilder builder, String format, double m00, double m01, double m02, double m10, double m11,
+                                                  double m12, double m20, double m21, double m22)
+   {
+      builder.append('/');
+      appendValues(builder, ", ", format, m00, m01, m02).append(" \\\n");
+      builder.append('|');
+      appendValues(builder, ", ", format, m10, m11, m12).append(" |\n");
+      builder.append('\\');
+      return appendValues(builder, ", ", format, m20, m21, m22).append(" /");
    }
 
    /**
@@ -459,11 +877,38 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getYawPitchRollString(String format, YawPitchRollReadOnly yawPitchRoll)
+   {
+      return appendYawPitchRollString(new StringBuilder(), format, yawPitchRoll).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code yawPitchRoll} to {@code builder}, see
+    * {@link #getYawPitchRollString(YawPitchRollReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param yawPitchRoll the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendYawPitchRollString(StringBuilder builder, YawPitchRollReadOnly yawPitchRoll)
+   {
+      return appendYawPitchRollString(builder, DEFAULT_FORMAT, yawPitchRoll);
+   }
+
+   /**
+    * Appends a representative {@code String} of {@code yawPitchRoll} given a specific format to use to
+    * {@code builder}, see {@link #getYawPitchRollString(String, YawPitchRollReadOnly)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param yawPitchRoll the object to get the {@code String} of. Not modified.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendYawPitchRollString(StringBuilder builder, String format, YawPitchRollReadOnly yawPitchRoll)
    {
       if (yawPitchRoll == null)
-         return "null";
+         return builder.append("null");
       else
-         return getYawPitchRollString(format, yawPitchRoll.getYaw(), yawPitchRoll.getPitch(), yawPitchRoll.getRoll());
+         return appendYawPitchRollString(builder, format, yawPitchRoll.getYaw(), yawPitchRoll.getPitch(), yawPitchRoll.getRoll());
    }
 
    /**
@@ -501,7 +946,24 @@ public abstract class EuclidCoreIOTools
     */
    public static String getYawPitchRollString(String format, double yaw, double pitch, double roll)
    {
-      return getStringOf("yaw-pitch-roll: (", ")", ", ", yaw, pitch, roll);
+      return appendYawPitchRollString(new StringBuilder(), format, yaw, pitch, roll).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of a yaw-pitch-roll given a specific format to use to
+    * {@code builder}, see {@link #getYawPitchRollString(String, double, double, double)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param format the format to use for each number.
+    * @param yaw the first angle representing the rotation around the z-axis.
+    * @param pitch the second angle representing the rotation around the y-axis.
+    * @param roll the third angle representing the rotation around the x-axis.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendYawPitchRollString(StringBuilder builder, String format, double yaw, double pitch, double roll)
+   {
+      builder.append("yaw-pitch-roll: (");
+      return appendValues(builder, ", ", format, yaw, pitch, roll).append(')');
    }
 
    /**
@@ -548,18 +1010,36 @@ public abstract class EuclidCoreIOTools
     */
    public static String getStringOf(String prefix, String suffix, String separator, String format, double... values)
    {
-      if (values == null)
-         return "null";
+      return appendStringOf(new StringBuilder(), prefix, suffix, separator, format, values).toString();
+   }
 
-      String ret = getStringOf(separator, format, values);
+   /**
+    * Appends a representative {@code String} of a series of doubles given specific prefix, suffix,
+    * separator, and format to use to {@code builder}, see
+    * {@link #getStringOf(String, String, String, String, double...)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param prefix the {@code String} to prepend to the result.
+    * @param suffix the {@code String} to append to the result.
+    * @param separator the {@code String} to insert between two values.
+    * @param format the format to use for each number.
+    * @param values the values to get the {@code String} of.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendStringOf(StringBuilder builder, String prefix, String suffix, String separator, String format, double... values)
+   {
+      if (values == null)
+         return builder.append("null");
 
       if (prefix != null)
-         ret = prefix + ret;
+         builder.append(prefix);
+
+      appendStringOf(builder, separator, format, values);
 
       if (suffix != null)
-         ret += suffix;
+         builder.append(suffix);
 
-      return ret;
+      return builder;
    }
 
    /**
@@ -580,16 +1060,223 @@ public abstract class EuclidCoreIOTools
     * @return the representative {@code String}.
     */
    public static String getStringOf(String separator, String format, double... values)
+   {
+      return appendStringOf(new StringBuilder(), separator, format, values).toString();
+   }
+
+   /**
+    * Appends a representative {@code String} of a series of doubles given specific separator and
+    * format to use to {@code builder}, see {@link #getStringOf(String, String, double...)}.
+    *
+    * @param builder the builder to append the {@code String} to. Modified.
+    * @param separator the {@code String} to insert between two values.
+    * @param format the format to use for each number.
+    * @param values the values to get the {@code String} of.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendStringOf(StringBuilder builder, String separator, String format, double... values)
    {
       if (values == null)
-         return "null";
-
-      if (values.length == 0)
-         return "";
-      String ret = String.format(format, values[0]);
-      for (int i = 1; i < values.length; i++)
-         ret += separator + String.format(format, values[i]);
-      return ret;
+         return builder.append("null");
+
+      for (int i = 0; i < values.length; i++)
+      {
+         if (i > 0)
+            builder.append(separator);
+         appendDouble(builder, format, values[i]);
+      }
+      return builder;
+   }
+
+   private static StringBuilder appendValues(StringBuilder builder, String separator, String format, double x, double y)
+   {
+      appendDouble(builder, format, x).append(separator);
+      return appendDouble(builder, format, y);
+   }
+
+   private static StringBuilder appendValues(StringBuilder builder, String separator, String format, double x, double y, double z)
+   {
+      appendValues(builder, separator, format, x, y).append(separator);
+      return appendDouble(builder, format, z);
+   }
+
+   private static StringBuilder appendValues(StringBuilder builder, String separator, String format, double x, double y, double z, double s)
+   {
+      appendValues(builder, separator, format, x, y, z).append(separator);
+      return appendDouble(builder, format, s);
+   }
+
+   /**
+    * Appends {@code value} formatted according to {@code format} to {@code builder}.
+    * <p>
+    * When {@code format} is of the form {@code %[width][.precision]f} with a precision of at most
+    * {@value #MAX_FIXED_POINT_PRECISION}, e.g. {@link #DEFAULT_FORMAT}, the digits are computed and
+    * written directly into {@code builder} without allocating any object: the value is rounded
+    * half-up to the given precision and left-padded with spaces to the given width.
+    * </p>
+    * <p>
+    * Any other format is delegated to {@link String#format(Locale, String, Object...)}, as are the
+    * rare values that are either too large or too close to a rounding tie to be rounded reliably
+    * from their binary representation. The output is always the same as
+    * {@code String.format(Locale.ROOT, format, value)}, whatever the default locale is.
+    * </p>
+    *
+    * @param builder the builder to append the formatted value to. Modified.
+    * @param format the format to use, see {@link java.util.Formatter}.
+    * @param value the value to format.
+    * @return {@code builder} for convenience.
+    */
+   public static StringBuilder appendDouble(StringBuilder builder, String format, double value)
+   {
+      int width = parseFixedPointWidth(format);
+
+      if (width < 0 || !appendFixedPoint(builder, value, width, parseFixedPointPrecision(format)))
+         builder.append(String.format(Locale.ROOT, format, value));
+
+      return builder;
+   }
+
+   /**
+    * Gets the width of a format of the form {@code %[width][.precision]f}.
+    *
+    * @return the width, 0 if not specified, or -1 if the format is not of the expected form.
+    */
+   private static int parseFixedPointWidth(String format)
+   {
+      int lastIndex = format.length() - 1;
+
+      if (lastIndex < 1 || format.charAt(0) != '%' || format.charAt(lastIndex) != 'f')
+         return -1;
+
+      int index = 1;
+      int width = 0;
+
+      if (format.charAt(index) == '0') // This is the zero-padding flag.
+         return -1;
+
+      while (index < lastIndex && isDigit(format.charAt(index)))
+      {
+         if (index > 3)
+            return -1;
+         width = 10 * width + format.charAt(index++) - '0';
+      }
+
+      if (index == lastIndex)
+         return width;
+      if (format.charAt(index++) != '.' || index == lastIndex || lastIndex - index > 2)
+         return -1;
+
+      while (index < lastIndex)
+      {
+         if (!isDigit(format.charAt(index++)))
+            return -1;
+      }
+
+      return width;
+   }
+
+   /**
+    * Gets the precision of a format of the form {@code %[width][.precision]f}.
+    *
+    * @return the precision, 6 if not specified as for {@link java.util.Formatter}.
+    */
+   private static int parseFixedPointPrecision(String format)
+   {
+      int dotIndex = format.indexOf('.');
+
+      if (dotIndex < 0)
+         return 6;
+
+      int precision = 0;
+      for (int index = dotIndex + 1; index < format.length() - 1; index++)
+         precision = 10 * precision + format.charAt(index) - '0';
+      return precision;
+   }
+
+   private static boolean isDigit(char c)
+   {
+      return c >= '0' && c <= '9';
+   }
+
+   private static boolean appendFixedPoint(StringBuilder builder, double value, int width, int precision)
+   {
+      if (precision > MAX_FIXED_POINT_PRECISION)
+         return false;
+
+      if (Double.isNaN(value))
+      {
+         appendPadding(builder, width - 3);
+         builder.append("NaN");
+         return true;
+      }
+
+      boolean negative = Double.doubleToRawLongBits(value) < 0L;
+
+      if (Double.isInfinite(value))
+      {
+         appendPadding(builder, width - (negative ? 9 : 8));
+         builder.append(negative ? "-Infinity" : "Infinity");
+         return true;
+      }
+
+      double scaled = Math.abs(value) * POWERS_OF_TEN[precision];
+
+      if (!(scaled < MAX_FIXED_POINT_SCALED_VALUE))
+         return false;
+
+      long units = (long) scaled;
+      double fraction = scaled - units;
+
+      /*
+       * String.format(...) rounds the shortest decimal representation of the value which cannot be
+       * recovered from the scaled value when it is this close to a tie.
+       */
+      if (Math.abs(fraction - 0.5) <= 2.0 * Math.ulp(scaled))
+         return false;
+      if (fraction > 0.5)
+         units++;
+
+      long powerOfTen = (long) POWERS_OF_TEN[precision];
+      long integerPart = units / powerOfTen;
+      long fractionalPart = units - integerPart * powerOfTen;
+
+      int length = numberOfDigits(integerPart) + (precision > 0 ? precision + 1 : 0);
+      if (negative)
+         length++;
+
+      appendPadding(builder, width - length);
+
+      if (negative)
+         builder.append('-');
+      builder.append(integerPart);
+
+      if (precision > 0)
+      {
+         builder.append('.');
+         for (int i = fractionalPart == 0L ? 0 : numberOfDigits(fractionalPart); i < precision; i++)
+            builder.append('0');
+         if (fractionalPart != 0L)
+            builder.append(fractionalPart);
+      }
+
+      return true;
+   }
+
+   private static int numberOfDigits(long value)
+   {
+      int numberOfDigits = 1;
+      while (value >= 10L)
+      {
+         value /= 10L;
+         numberOfDigits++;
+      }
+      return numberOfDigits;
+   }
+
+   private static void appendPadding(StringBuilder builder, int numberOfSpaces)
+   {
+      for (int i = 0; i < numberOfSpaces; i++)
+         builder.append(' ');
    }
 
    /**
@@ -10,6 +10,7 @@ import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
 import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternionTransform;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.tuple2D.Point2D;
@@ -539,6 +540,24 @@ public abstract class EuclidCoreRandomTools
       return new QuaternionBasedTransform(nextQuaternion(random), nextVector3D(random));
    }
 
+   /**
+    * Generates a random dual quaternion transform.
+    * <p>
+    * <ul>
+    * <li>The rotation part is uniformly distributed on the unit sphere and describes an rotation angle
+    * in [-<i>pi</i>; <i>pi</i>].
+    * <li>Each component of the translation part is in [-1.0; 1.0].
+    * </ul>
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @return the random dual quaternion transform.
+    */
+   public static DualQuaternionTransform nextDualQuaternionTransform(Random random)
+   {
+      return new DualQuaternionTransform(nextQuaternion(random), nextVector3D(random));
+   }
+
    /**
     * Generates a random affine transform.
     * <p>
@@ -0,0 +1,662 @@
+package us.ihmc.euclid.tools;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
+import us.ihmc.euclid.exceptions.EuclidParseException;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollBasics;
+import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollReadOnly;
+
+/**
+ * {@code EuclidCoreTextParser} reads back the text representations produced by
+ * {@link EuclidCoreIOTools}, and so by the {@code toString()} methods, into existing geometry
+ * objects.
+ * <p>
+ * The parser streams over its input, either a {@link CharSequence} or a {@link Reader}, and
+ * successive calls read successive objects. Whitespace, including line breaks, is ignored between
+ * tokens such that a log of {@code toString()} outputs can be parsed in a loop:
+ *
+ * <pre>
+ * EuclidCoreTextParser parser = new EuclidCoreTextParser(reader);
+ * while (parser.hasNext())
+ * {
+ *    parser.parseTuple3D(point);
+ *    ...
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * The numbers are parsed with a dedicated parser which does not create intermediate
+ * {@code String}s. Numbers with at most 15 significant digits and a decimal exponent within
+ * [-22, 22], which covers any output of {@link EuclidCoreIOTools#DEFAULT_FORMAT}, are converted
+ * exactly with a single floating-point operation. Other numbers are delegated to
+ * {@link Double#parseDouble(String)} which allocates. A parser can be reused on another input with
+ * {@link #setInput(CharSequence)} or {@link #setInput(Reader)}, it is then garbage free.
+ * </p>
+ * <p>
+ * When the input does not match the expected format, an {@link EuclidParseException} is thrown
+ * and the state of the object being parsed is undefined.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class EuclidCoreTextParser
+{
+   private static final int END_OF_INPUT = -1;
+   private static final int READER_BUFFER_SIZE = 8192;
+   /** Up to 18 digits, the mantissa can be accumulated in a {@code long} without overflow. */
+   private static final int MAX_MANTISSA_DIGITS = 18;
+   /** Largest integer such that all the integers below are exactly representable as doubles. */
+   private static final long MAX_EXACT_MANTISSA = 1L << 53;
+   /** Powers of ten that are exactly representable as doubles. */
+   private static final double[] EXACT_POWERS_OF_TEN = new double[23];
+
+   static
+   {
+      EXACT_POWERS_OF_TEN[0] = 1.0;
+      for (int i = 1; i < EXACT_POWERS_OF_TEN.length; i++)
+         EXACT_POWERS_OF_TEN[i] = 10.0 * EXACT_POWERS_OF_TEN[i - 1];
+   }
+
+   private CharSequence charSequence;
+   private Reader reader;
+   private char[] readerBuffer;
+   private int readerBufferIndex = 0;
+   private int readerBufferLength = 0;
+   private int sequenceIndex = 0;
+   private long position = 0;
+
+   /** Characters of the number being parsed, only used when the fast conversion is not possible. */
+   private char[] numberCharacters = new char[32];
+   private int numberLength = 0;
+   private final double[] values = new double[16];
+   /** Used to decompose the rotation-scale part of a parsed affine transform. */
+   private final double[] scales = new double[3];
+   private final double[] columns = new double[9];
+   private final RotationMatrix rotationMatrix = new RotationMatrix();
+
+   /**
+    * Creates a new parser with no input, {@link #setInput(CharSequence)} or
+    * {@link #setInput(Reader)} has to be called before parsing.
+    */
+   public EuclidCoreTextParser()
+   {
+      setInput("");
+   }
+
+   /**
+    * Creates a new parser reading from {@code input}.
+    *
+    * @param input the text to parse. Not modified.
+    */
+   public EuclidCoreTextParser(CharSequence input)
+   {
+      setInput(input);
+   }
+
+   /**
+    * Creates a new parser reading from {@code input}.
+    * <p>
+    * The parser buffers the characters read from {@code input} and does not close it.
+    * </p>
+    *
+    * @param input the reader to parse the text from.
+    */
+   public EuclidCoreTextParser(Reader input)
+   {
+      setInput(input);
+   }
+
+   /**
+    * Sets the input of this parser and resets its position.
+    *
+    * @param input the text to parse. Not modified.
+    */
+   public void setInput(CharSequence input)
+   {
+      charSequence = input;
+      reader = null;
+      sequenceIndex = 0;
+      position = 0;
+   }
+
+   /**
+    * Sets the input of this parser and resets its position.
+    * <p>
+    * The parser buffers the characters read from {@code input} and does not close it.
+    * </p>
+    *
+    * @param input the reader to parse the text from.
+    */
+   public void setInput(Reader input)
+   {
+      charSequence = null;
+      reader = input;
+      if (readerBuffer == null)
+         readerBuffer = new char[READER_BUFFER_SIZE];
+      readerBufferIndex = 0;
+      readerBufferLength = 0;
+      position = 0;
+   }
+
+   /**
+    * Gets the number of characters consumed by this parser since its input was set.
+    *
+    * @return the position of this parser in its input.
+    */
+   public long getPosition()
+   {
+      return position;
+   }
+
+   /**
+    * Tests whether there is anything left to parse other than whitespace.
+    *
+    * @return {@code true} if the input has more tokens, {@code false} otherwise.
+    */
+   public boolean hasNext()
+   {
+      skipWhitespace();
+      return peek() != END_OF_INPUT;
+   }
+
+   /**
+    * Parses a tuple in the format of {@link EuclidCoreIOTools#getTuple2DString(Tuple2DReadOnly)}.
+    *
+    * @param tupleToPack the tuple used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseTuple2D(Tuple2DBasics tupleToPack)
+   {
+      parseTupleValues(2);
+      tupleToPack.set(values[0], values[1]);
+   }
+
+   /**
+    * Parses a tuple in the format of {@link EuclidCoreIOTools#getTuple3DString(Tuple3DReadOnly)}.
+    *
+    * @param tupleToPack the tuple used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseTuple3D(Tuple3DBasics tupleToPack)
+   {
+      parseTupleValues(3);
+      tupleToPack.set(values[0], values[1], values[2]);
+   }
+
+   /**
+    * Parses a tuple in the format of {@link EuclidCoreIOTools#getTuple4DString(Tuple4DReadOnly)}.
+    * <p>
+    * This also applies to quaternions which are then normalized.
+    * </p>
+    *
+    * @param tupleToPack the tuple used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseTuple4D(Tuple4DBasics tupleToPack)
+   {
+      parseTupleValues(4);
+      tupleToPack.set(values[0], values[1], values[2], values[3]);
+   }
+
+   /**
+    * Parses an axis-angle in the format of
+    * {@link EuclidCoreIOTools#getAxisAngleString(AxisAngleReadOnly)}.
+    *
+    * @param axisAngleToPack the axis-angle used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseAxisAngle(AxisAngleBasics axisAngleToPack)
+   {
+      parseTupleValues(4);
+      axisAngleToPack.set(values[0], values[1], values[2], values[3]);
+   }
+
+   /**
+    * Parses a yaw-pitch-roll in the format of
+    * {@link EuclidCoreIOTools#getYawPitchRollString(YawPitchRollReadOnly)}.
+    *
+    * @param yawPitchRollToPack the yaw-pitch-roll used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseYawPitchRoll(YawPitchRollBasics yawPitchRollToPack)
+   {
+      expect("yaw-pitch-roll:");
+      parseTupleValues(3);
+      yawPitchRollToPack.set(values[0], values[1], values[2]);
+   }
+
+   /**
+    * Parses a matrix in the format of {@link EuclidCoreIOTools#getMatrixString(Matrix3DReadOnly)}.
+    *
+    * @param matrixToPack the matrix used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseMatrix3D(Matrix3DBasics matrixToPack)
+   {
+      parseMatrixValues();
+      matrixToPack.set(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8]);
+   }
+
+   /**
+    * Parses a rotation matrix in the format of
+    * {@link EuclidCoreIOTools#getMatrixString(Matrix3DReadOnly)}.
+    * <p>
+    * The printed coefficients being rounded, the matrix is normalized once parsed.
+    * </p>
+    *
+    * @param matrixToPack the matrix used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseRotationMatrix(RotationMatrix matrixToPack)
+   {
+      parseMatrixValues();
+      matrixToPack.setAndNormalize(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8]);
+   }
+
+   /**
+    * Parses a transform in the format of
+    * {@link EuclidCoreIOTools#getRigidBodyTransformString(RigidBodyTransform)}.
+    * <p>
+    * The printed coefficients being rounded, the rotation part is normalized once parsed.
+    * </p>
+    *
+    * @param transformToPack the transform used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseRigidBodyTransform(RigidBodyTransform transformToPack)
+   {
+      parseHomogeneousTransformValues();
+      transformToPack.setRotationUnsafe(values[0], values[1], values[2], values[4], values[5], values[6], values[8], values[9], values[10]);
+      transformToPack.normalizeRotationPart();
+      transformToPack.setTranslation(values[3], values[7], values[11]);
+   }
+
+   /**
+    * Parses a transform in the format of
+    * {@link EuclidCoreIOTools#getAffineTransformString(AffineTransform)}.
+    * <p>
+    * The printed coefficients being rounded, the 3-by-3 part is decomposed into scale factors, the
+    * norms of its columns, and a rotation part which is normalized once parsed.
+    * </p>
+    *
+    * @param transformToPack the transform used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format or if its 3-by-3
+    *            part cannot be decomposed into a rotation and positive scale factors.
+    */
+   public void parseAffineTransform(AffineTransform transformToPack)
+   {
+      parseHomogeneousTransformValues();
+
+      double m00 = values[0], m01 = values[1], m02 = values[2];
+      double m10 = values[4], m11 = values[5], m12 = values[6];
+      double m20 = values[8], m21 = values[9], m22 = values[10];
+
+      if (!(Matrix3DFeatures.determinant(m00, m01, m02, m10, m11, m12, m20, m21, m22) > 0.0))
+         throw new EuclidParseException("Not a rotation-scale matrix, ending at position " + position);
+
+      for (int column = 0; column < 3; column++)
+      {
+         double x = values[column], y = values[column + 4], z = values[column + 8];
+         double scale = Math.sqrt(x * x + y * y + z * z);
+         scales[column] = scale;
+         columns[3 * column] = x / scale;
+         columns[3 * column + 1] = y / scale;
+         columns[3 * column + 2] = z / scale;
+      }
+
+      /*
+       * The columns are orthonormalized from the largest to the smallest scale factor: the
+       * direction of a column with a small scale factor is the least accurate once rounded.
+       */
+      int first = scales[0] >= scales[1] ? (scales[0] >= scales[2] ? 0 : 2) : (scales[1] >= scales[2] ? 1 : 2);
+      int second = (first + 1) % 3;
+      int third = (first + 2) % 3;
+      boolean swapped = scales[third] > scales[second];
+      if (swapped)
+      {
+         int temp = second;
+         second = third;
+         third = temp;
+      }
+
+      int u = 3 * first, v = 3 * second, w = 3 * third;
+      double dot = columns[u] * columns[v] + columns[u + 1] * columns[v + 1] + columns[u + 2] * columns[v + 2];
+      columns[v] -= dot * columns[u];
+      columns[v + 1] -= dot * columns[u + 1];
+      columns[v + 2] -= dot * columns[u + 2];
+      double norm = Math.sqrt(columns[v] * columns[v] + columns[v + 1] * columns[v + 1] + columns[v + 2] * columns[v + 2]);
+      columns[v] /= norm;
+      columns[v + 1] /= norm;
+      columns[v + 2] /= norm;
+      // The third column completes a right-handed frame.
+      double sign = swapped ? -1.0 : 1.0;
+      columns[w] = sign * (columns[u + 1] * columns[v + 2] - columns[u + 2] * columns[v + 1]);
+      columns[w + 1] = sign * (columns[u + 2] * columns[v] - columns[u] * columns[v + 2]);
+      columns[w + 2] = sign * (columns[u] * columns[v + 1] - columns[u + 1] * columns[v]);
+
+      rotationMatrix.setUnsafe(columns[0], columns[3], columns[6], columns[1], columns[4], columns[7], columns[2], columns[5], columns[8]);
+      transformToPack.setRotation(rotationMatrix);
+      transformToPack.setScale(scales[0], scales[1], scales[2]);
+      transformToPack.setTranslation(values[3], values[7], values[11]);
+   }
+
+   /**
+    * Parses a transform in the format of
+    * {@link EuclidCoreIOTools#getQuaternionBasedTransformString(QuaternionBasedTransform)}.
+    *
+    * @param transformToPack the transform used to store the parsed values. Modified.
+    * @throws EuclidParseException if the input does not match the expected format.
+    */
+   public void parseQuaternionBasedTransform(QuaternionBasedTransform transformToPack)
+   {
+      expect("Quaternion:");
+      parseTupleValues(4);
+      double qx = values[0];
+      double qy = values[1];
+      double qz = values[2];
+      double qs = values[3];
+      expect("Translation:");
+      parseTupleValues(3);
+      transformToPack.set(qx, qy, qz, qs, values[0], values[1], values[2]);
+   }
+
+   /**
+    * Parses the next number.
+    * <p>
+    * The expected format is the one of {@link Double#toString(double)} and
+    * {@link java.util.Formatter}: an optional sign followed by either {@code NaN}, {@code Infinity},
+    * or decimal digits with an optional decimal point and an optional exponent.
+    * </p>
+    *
+    * @return the parsed value.
+    * @throws EuclidParseException if the input does not start with a number.
+    */
+   public double nextDouble()
+   {
+      skipWhitespace();
+      numberLength = 0;
+
+      boolean negative = false;
+      int c = peek();
+
+      if (c == '-' || c == '+')
+      {
+         negative = c == '-';
+         consumeNumberCharacter();
+         c = peek();
+      }
+
+      if (c == 'N')
+      {
+         expect("NaN");
+         return Double.NaN;
+      }
+
+      if (c == 'I')
+      {
+         expect("Infinity");
+         return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+      }
+
+      long mantissa = 0L;
+      int numberOfMantissaDigits = 0;
+      int exponent = 0;
+      boolean hasDigits = false;
+      boolean isExact = true;
+
+      while (isDigit(c))
+      {
+         hasDigits = true;
+         int digit = consumeNumberCharacter() - '0';
+
+         if (numberOfMantissaDigits < MAX_MANTISSA_DIGITS)
+         {
+            mantissa = 10L * mantissa + digit;
+            if (mantissa != 0L)
+               numberOfMantissaDigits++;
+         }
+         else
+         {
+            exponent++;
+            isExact &= digit == 0;
+         }
+         c = peek();
+      }
+
+      if (c == '.')
+      {
+         consumeNumberCharacter();
+         c = peek();
+
+         while (isDigit(c))
+         {
+            hasDigits = true;
+            int digit = consumeNumberCharacter() - '0';
+
+            if (numberOfMantissaDigits < MAX_MANTISSA_DIGITS)
+            {
+               mantissa = 10L * mantissa + digit;
+               if (mantissa != 0L)
+                  numberOfMantissaDigits++;
+               exponent--;
+            }
+            else
+            {
+               isExact &= digit == 0;
+            }
+            c = peek();
+         }
+      }
+
+      if (!hasDigits)
+         throw newParseException("a number");
+
+      if (c == 'e' || c == 'E')
+      {
+         consumeNumberCharacter();
+         c = peek();
+         boolean negativeExponent = false;
+
+         if (c == '-' || c == '+')
+         {
+            negativeExponent = c == '-';
+            consumeNumberCharacter();
+            c = peek();
+         }
+
+         if (!isDigit(c))
+            throw newParseException("an exponent");
+
+         int exponentValue = 0;
+
+         while (isDigit(c))
+         {
+            int digit = consumeNumberCharacter() - '0';
+            if (exponentValue < 100000)
+               exponentValue = 10 * exponentValue + digit;
+            c = peek();
+         }
+
+         exponent += negativeExponent ? -exponentValue : exponentValue;
+      }
+
+      if (mantissa == 0L)
+         return negative ? -0.0 : 0.0;
+
+      double value;
+
+      if (isExact && mantissa < MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22)
+      { // Both the mantissa and the power of ten are exact, the result is correctly rounded.
+         if (exponent >= 0)
+            value = mantissa * EXACT_POWERS_OF_TEN[exponent];
+         else
+            value = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+      }
+      else
+      {
+         value = Math.abs(Double.parseDouble(new String(numberCharacters, 0, numberLength)));
+      }
+
+      return negative ? -value : value;
+   }
+
+   private void parseTupleValues(int numberOfValues)
+   {
+      expect('(');
+      parseValues(0, numberOfValues, ',');
+      expect(')');
+   }
+
+   private void parseMatrixValues()
+   {
+      expect('/');
+      parseValues(0, 3, ',');
+      expect('\\');
+      expect('|');
+      parseValues(3, 3, ',');
+      expect('|');
+      expect('\\');
+      parseValues(6, 3, ',');
+      expect('/');
+   }
+
+   private void parseHomogeneousTransformValues()
+   {
+      for (int row = 0; row < 3; row++)
+      {
+         parseValues(4 * row, 3, ' ');
+         expect('|');
+         values[4 * row + 3] = nextDouble();
+      }
+
+      // The last row is constant: 0 0 0 | 1
+      parseValues(12, 3, ' ');
+      expect('|');
+      nextDouble();
+   }
+
+   /**
+    * Parses {@code numberOfValues} numbers separated by {@code separator}, a space being a
+    * whitespace, and stores them in {@link #values} from {@code startIndex}.
+    */
+   private void parseValues(int startIndex, int numberOfValues, char separator)
+   {
+      for (int i = 0; i < numberOfValues; i++)
+      {
+         if (i > 0 && separator != ' ')
+            expect(separator);
+         values[startIndex + i] = nextDouble();
+      }
+   }
+
+   private void expect(char expected)
+   {
+      skipWhitespace();
+
+      if (peek() != expected)
+         throw newParseException("'" + expected + "'");
+      next();
+   }
+
+   private void expect(String expected)
+   {
+      skipWhitespace();
+
+      for (int i = 0; i < expected.length(); i++)
+      {
+         if (peek() != expected.charAt(i))
+            throw newParseException("\"" + expected + "\"");
+         next();
+      }
+   }
+
+   private void skipWhitespace()
+   {
+      while (Character.isWhitespace(peek()))
+         next();
+   }
+
+   private static boolean isDigit(int c)
+   {
+      return c >= '0' && c <= '9';
+   }
+
+   private int consumeNumberCharacter()
+   {
+      int c = next();
+
+      if (numberLength == numberCharacters.length)
+      {
+         char[] newNumberCharacters = new char[2 * numberCharacters.length];
+         System.arraycopy(numberCharacters, 0, newNumberCharacters, 0, numberLength);
+         numberCharacters = newNumberCharacters;
+      }
+
+      numberCharacters[numberLength++] = (char) c;
+      return c;
+   }
+
+   private int peek()
+   {
+      if (charSequence != null)
+         return sequenceIndex < charSequence.length() ? charSequence.charAt(sequenceIndex) : END_OF_INPUT;
+
+      if (readerBufferIndex == readerBufferLength && !fillReaderBuffer())
+         return END_OF_INPUT;
+      return readerBuffer[readerBufferIndex];
+   }
+
+   private int next()
+   {
+      int c = peek();
+
+      if (c != END_OF_INPUT)
+      {
+         if (charSequence != null)
+            sequenceIndex++;
+         else
+            readerBufferIndex++;
+         position++;
+      }
+
+      return c;
+   }
+
+   private boolean fillReaderBuffer()
+   {
+      try
+      {
+         int length = reader.read(readerBuffer, 0, readerBuffer.length);
+         readerBufferIndex = 0;
+         readerBufferLength = Math.max(length, 0);
+         return length > 0;
+      }
+      catch (IOException e)
+      {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private EuclidParseException newParseException(String expected)
+   {
+      int c = peek();
+      String found = c == END_OF_INPUT ? "end of input" : "'" + (char) c + "'";
+      return new EuclidParseException("Expected " + expected + " at position " + position + " but found " + found);
+   }
+}
@@ -19,6 +19,11 @@ public class EuclidCoreTools
     * Magic number used as a tolerance for switching to the fast square-root formula.
     */
    public static final double EPS_NORM_FAST_SQRT = 2.107342e-08;
+   /**
+    * Tolerance used for switching to the first-order approximation of the inverse square-root in
+    * {@link #fastInverseSquareRoot(double)}.
+    */
+   public static final double EPS_NORM_FAST_INVERSE_SQRT = 1.0e-6;
    /**
     * An epsilon that is just slightly bigger than numerical inaccuracies used in
     * {@link #shiftAngleInRange(double, double)}.
@@ -29,6 +34,105 @@ public class EuclidCoreTools
     */
    public static final double CLAMP_EPS = 1.0e-10;
 
+   /**
+    * The provider of the trigonometric functions used in the orientation conversions and the
+    * yaw-pitch-roll tools.
+    */
+   private static volatile TrigonometryProvider trigonometryProvider = new StrictTrigonometryProvider();
+
+   /**
+    * Selects the provider of the trigonometric functions used by {@link #sin(double)},
+    * {@link #cos(double)}, {@link #asin(double)}, {@link #acos(double)}, and
+    * {@link #atan2(double, double)}, which are used in the orientation conversions and the
+    * yaw-pitch-roll tools.
+    * <p>
+    * The default provider is a {@link StrictTrigonometryProvider}. This setting is global and is
+    * meant to be set once when starting the application, for instance to a
+    * {@link FastTrigonometryProvider} when speed matters more than accuracy.
+    * </p>
+    *
+    * @param provider the new trigonometry provider. Not {@code null}.
+    */
+   public static void setTrigonometryProvider(TrigonometryProvider provider)
+   {
+      if (provider == null)
+         throw new IllegalArgumentException("The trigonometry provider cannot be null.");
+      trigonometryProvider = provider;
+   }
+
+   /**
+    * Gets the provider of the trigonometric functions currently in use.
+    *
+    * @return the current trigonometry provider.
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static TrigonometryProvider getTrigonometryProvider()
+   {
+      return trigonometryProvider;
+   }
+
+   /**
+    * Computes the sine of the given angle using the current trigonometry provider.
+    *
+    * @param angle the angle in radians.
+    * @return the sine of the angle.
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static double sin(double angle)
+   {
+      return trigonometryProvider.sin(angle);
+   }
+
+   /**
+    * Computes the cosine of the given angle using the current trigonometry provider.
+    *
+    * @param angle the angle in radians.
+    * @return the cosine of the angle.
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static double cos(double angle)
+   {
+      return trigonometryProvider.cos(angle);
+   }
+
+   /**
+    * Computes the arc sine of the given value using the current trigonometry provider.
+    *
+    * @param value the value, expected to be in [-1, 1].
+    * @return the angle in [-<i>pi</i>/2, <i>pi</i>/2].
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static double asin(double value)
+   {
+      return trigonometryProvider.asin(value);
+   }
+
+   /**
+    * Computes the arc cosine of the given value using the current trigonometry provider.
+    *
+    * @param value the value, expected to be in [-1, 1].
+    * @return the angle in [0, <i>pi</i>].
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static double acos(double value)
+   {
+      return trigonometryProvider.acos(value);
+   }
+
+   /**
+    * Computes the angle of the point ({@code x}, {@code y}) using the current trigonometry
+    * provider.
+    *
+    * @param y the ordinate coordinate.
+    * @param x the abscissa coordinate.
+    * @return the angle in [-<i>pi</i>, <i>pi</i>].
+    * @see #setTrigonometryProvider(TrigonometryProvider)
+    */
+   public static double atan2(double y, double x)
+   {
+      return trigonometryProvider.atan2(y, x);
+   }
+
    /**
     * Calculates and returns the square root of the given value.
     * <p>
@@ -48,6 +152,29 @@ public class EuclidCoreTools
       return squaredValueClosedToOne;
    }
 
+   /**
+    * Calculates and returns the inverse of the square root of the given value.
+    * <p>
+    * This method is optimized when {@code squaredValueClosedToOne} is equal to
+    * 1+/-{@value #EPS_NORM_FAST_INVERSE_SQRT} by performing a single Newton-Raphson iteration
+    * starting from 1, i.e. computing (3 - {@code squaredValueClosedToOne}) / 2, which avoids both
+    * the square root and the division. In this range, the relative error is less than 4.0e-13 and
+    * it decreases quadratically as {@code squaredValueClosedToOne} approaches 1, such that
+    * renormalizing a tuple repeatedly does not accumulate error. Outside this range, the exact
+    * value is computed.
+    * </p>
+    *
+    * @param squaredValueClosedToOne the value to calculates the inverse square root of.
+    * @return the value of the inverse square root.
+    */
+   public static double fastInverseSquareRoot(double squaredValueClosedToOne)
+   {
+      if (Math.abs(1.0 - squaredValueClosedToOne) < EPS_NORM_FAST_INVERSE_SQRT)
+         return 0.5 * (3.0 - squaredValueClosedToOne);
+      else
+         return 1.0 / Math.sqrt(squaredValueClosedToOne);
+   }
+
    /**
     * Tests if at least one of the two given elements is equal to {@linkplain Double#NaN}.
     *
@@ -0,0 +1,166 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Trigonometry provider approximating the trigonometric functions with polynomials.
+ * <p>
+ * The inverse functions are several times faster than their {@link Math} counterparts, while the
+ * gain on the sine and cosine is smaller as the JIT compiler usually relies on intrinsics for
+ * these. The speed comes at the cost of a small loss of accuracy:
+ * <ul>
+ * <li>{@link #sin(double)} and {@link #cos(double)}: the angle is reduced to [-<i>pi</i>/4,
+ * <i>pi</i>/4] and the result is computed with a polynomial of degree 11 or 12. The absolute error
+ * is less than {@value #MAX_SIN_COS_ERROR} for angles in [-{@value #MAX_REDUCIBLE_ANGLE},
+ * {@value #MAX_REDUCIBLE_ANGLE}], the computation falls back to {@link Math} outside this range.
+ * <li>{@link #atan2(double, double)}, {@link #asin(double)}, and {@link #acos(double)}: the
+ * argument is reduced to [-tan(<i>pi</i>/12), tan(<i>pi</i>/12)] and the arc tangent is computed
+ * with a polynomial of degree 13. The absolute error is less than
+ * {@value #MAX_INVERSE_FUNCTION_ERROR}.
+ * </ul>
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class FastTrigonometryProvider implements TrigonometryProvider
+{
+   /** Upper bound of the absolute error of {@link #sin(double)} and {@link #cos(double)}. */
+   public static final double MAX_SIN_COS_ERROR = 1.0e-11;
+   /**
+    * Upper bound of the absolute error of {@link #atan2(double, double)}, {@link #asin(double)}, and
+    * {@link #acos(double)}.
+    */
+   public static final double MAX_INVERSE_FUNCTION_ERROR = 5.0e-10;
+   /** Beyond this magnitude, the angle reduction is not accurate anymore and {@link Math} is used. */
+   public static final double MAX_REDUCIBLE_ANGLE = 1.0e5;
+
+   private static final double TWO_OVER_PI = 2.0 / Math.PI;
+   /** First 33 bits of <i>pi</i>/2, such that k * PI_OVER_TWO_HIGH is exact for small k. */
+   private static final double PI_OVER_TWO_HIGH = 1.57079632673412561417e+00;
+   /** <i>pi</i>/2 - PI_OVER_TWO_HIGH. */
+   private static final double PI_OVER_TWO_LOW = 6.07710050650619224932e-11;
+
+   private static final double S3 = -1.0 / 6.0;
+   private static final double S5 = 1.0 / 120.0;
+   private static final double S7 = -1.0 / 5040.0;
+   private static final double S9 = 1.0 / 362880.0;
+   private static final double S11 = -1.0 / 39916800.0;
+
+   private static final double C2 = -1.0 / 2.0;
+   private static final double C4 = 1.0 / 24.0;
+   private static final double C6 = -1.0 / 720.0;
+   private static final double C8 = 1.0 / 40320.0;
+   private static final double C10 = -1.0 / 3628800.0;
+   private static final double C12 = 1.0 / 479001600.0;
+
+   private static final double SQRT_3 = Math.sqrt(3.0);
+   private static final double TAN_PI_OVER_12 = 2.0 - SQRT_3;
+   private static final double PI_OVER_6 = Math.PI / 6.0;
+   private static final double PI_OVER_2 = Math.PI / 2.0;
+
+   /** {@inheritDoc} */
+   @Override
+   public double sin(double angle)
+   {
+      if (!(Math.abs(angle) <= MAX_REDUCIBLE_ANGLE))
+         return Math.sin(angle);
+
+      double quadrant = Math.rint(angle * TWO_OVER_PI);
+      double reduced = angle - quadrant * PI_OVER_TWO_HIGH - quadrant * PI_OVER_TWO_LOW;
+
+      switch ((int) quadrant & 3)
+      {
+      case 0:
+         return sinPolynomial(reduced);
+      case 1:
+         return cosPolynomial(reduced);
+      case 2:
+         return -sinPolynomial(reduced);
+      default:
+         return -cosPolynomial(reduced);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double cos(double angle)
+   {
+      if (!(Math.abs(angle) <= MAX_REDUCIBLE_ANGLE))
+         return Math.cos(angle);
+
+      double quadrant = Math.rint(angle * TWO_OVER_PI);
+      double reduced = angle - quadrant * PI_OVER_TWO_HIGH - quadrant * PI_OVER_TWO_LOW;
+
+      switch ((int) quadrant & 3)
+      {
+      case 0:
+         return cosPolynomial(reduced);
+      case 1:
+         return -sinPolynomial(reduced);
+      case 2:
+         return -cosPolynomial(reduced);
+      default:
+         return sinPolynomial(reduced);
+      }
+   }
+
+   private static double sinPolynomial(double x)
+   {
+      double x2 = x * x;
+      return x + x * x2 * (S3 + x2 * (S5 + x2 * (S7 + x2 * (S9 + x2 * S11))));
+   }
+
+   private static double cosPolynomial(double x)
+   {
+      double x2 = x * x;
+      return 1.0 + x2 * (C2 + x2 * (C4 + x2 * (C6 + x2 * (C8 + x2 * (C10 + x2 * C12)))));
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double asin(double value)
+   {
+      return atan2(value, Math.sqrt((1.0 - value) * (1.0 + value)));
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double acos(double value)
+   {
+      return atan2(Math.sqrt((1.0 - value) * (1.0 + value)), value);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double atan2(double y, double x)
+   {
+      double absX = Math.abs(x);
+      double absY = Math.abs(y);
+
+      // Handles zeros, infinities, and NaNs.
+      if (!(absX < Double.POSITIVE_INFINITY && absY < Double.POSITIVE_INFINITY) || (absX == 0.0 && absY == 0.0))
+         return Math.atan2(y, x);
+
+      boolean swap = absY > absX;
+      double ratio = swap ? absX / absY : absY / absX;
+      double offset = 0.0;
+
+      if (ratio > TAN_PI_OVER_12)
+      { // atan(r) = pi/6 + atan((sqrt(3) * r - 1) / (sqrt(3) + r))
+         ratio = (SQRT_3 * ratio - 1.0) / (SQRT_3 + ratio);
+         offset = PI_OVER_6;
+      }
+
+      double angle = offset + atanPolynomial(ratio);
+
+      if (swap)
+         angle = PI_OVER_2 - angle;
+      if (x < 0.0)
+         angle = Math.PI - angle;
+      return Math.copySign(angle, y);
+   }
+
+   private static double atanPolynomial(double x)
+   {
+      double x2 = x * x;
+      return x + x * x2 * (-1.0 / 3.0 + x2 * (1.0 / 5.0 + x2 * (-1.0 / 7.0 + x2 * (1.0 / 9.0 + x2 * (-1.0 / 11.0 + x2 * (1.0 / 13.0))))));
+   }
+}
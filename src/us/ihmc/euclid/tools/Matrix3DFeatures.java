@@ -333,6 +333,46 @@ public abstract class Matrix3DFeatures
       return false;
    }
 
+   /**
+    * Computes the orthogonality error of the matrix described by the 9 given coefficients.
+    * <p>
+    * The error is defined as the largest absolute value of the coefficients of <i>M M<sup>T</sup> -
+    * I</i>, i.e. the largest deviation of the rows from being unitary and pairwise orthogonal. It is
+    * zero for a perfect rotation matrix and is typically used to monitor the drift of a rotation
+    * matrix due to the accumulation of round-off errors.
+    * </p>
+    * <p>
+    * The error is {@link Double#NaN} if any of the coefficients is {@link Double#NaN}.
+    * </p>
+    *
+    * @param m00 first matrix element in the first row.
+    * @param m01 second matrix element in the first row.
+    * @param m02 third matrix element in the first row.
+    * @param m10 first matrix element in the second row.
+    * @param m11 second matrix element in the second row.
+    * @param m12 third matrix element in the second row.
+    * @param m20 first matrix element in the third row.
+    * @param m21 second matrix element in the third row.
+    * @param m22 third matrix element in the third row.
+    * @return the orthogonality error.
+    */
+   public static double computeOrthogonalityError(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21,
+                                                  double m22)
+   {
+      double xyDot = m00 * m10 + m01 * m11 + m02 * m12;
+      double xzDot = m00 * m20 + m01 * m21 + m02 * m22;
+      double yzDot = m10 * m20 + m11 * m21 + m12 * m22;
+      double xNormSquared = m00 * m00 + m01 * m01 + m02 * m02;
+      double yNormSquared = m10 * m10 + m11 * m11 + m12 * m12;
+      double zNormSquared = m20 * m20 + m21 * m21 + m22 * m22;
+
+      double error = Math.max(Math.abs(xyDot), Math.max(Math.abs(xzDot), Math.abs(yzDot)));
+      error = Math.max(error, Math.abs(xNormSquared - 1.0));
+      error = Math.max(error, Math.abs(yNormSquared - 1.0));
+      error = Math.max(error, Math.abs(zNormSquared - 1.0));
+      return error;
+   }
+
    /**
     * Verify the matrix described by the 9 given coefficients is a transformation in the XY plane.
     * <p>
@@ -11,6 +11,7 @@ import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
@@ -25,6 +26,33 @@ import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
 public abstract class QuaternionTools
 {
    static final double EPS = 1.0e-12;
+   /**
+    * Angle below which the integration of an angular velocity relies on series expansions instead of
+    * trigonometric functions.
+    */
+   public static final double SMALL_INTEGRATION_ANGLE = 1.0e-2;
+
+   /**
+    * Coefficients of the series used in
+    * {@link #fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}, the last
+    * pair being scaled by {@link #FAST_SLERP_CORRECTION} to compensate for the truncation.
+    */
+   private static final double[] FAST_SLERP_U = new double[8];
+   private static final double[] FAST_SLERP_V = new double[8];
+   /** Correction applied to the last term of the truncated series used for the fast SLERP. */
+   private static final double FAST_SLERP_CORRECTION = 1.85298109240830;
+
+   static
+   {
+      for (int i = 0; i < FAST_SLERP_U.length; i++)
+      {
+         FAST_SLERP_U[i] = 1.0 / ((i + 1.0) * (2.0 * i + 3.0));
+         FAST_SLERP_V[i] = (i + 1.0) / (2.0 * i + 3.0);
+      }
+
+      FAST_SLERP_U[FAST_SLERP_U.length - 1] *= FAST_SLERP_CORRECTION;
+      FAST_SLERP_V[FAST_SLERP_V.length - 1] *= FAST_SLERP_CORRECTION;
+   }
 
    /**
     * Performs the multiplication of {@code q1} and {@code q2} and stores the result in
@@ -1185,8 +1213,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfYaw = 0.5 * yaw;
-      double cYaw = Math.cos(halfYaw);
-      double sYaw = Math.sin(halfYaw);
+      double cYaw = EuclidCoreTools.cos(halfYaw);
+      double sYaw = EuclidCoreTools.sin(halfYaw);
 
       double x = cYaw * qx - sYaw * qy;
       double y = cYaw * qy + sYaw * qx;
@@ -1221,8 +1249,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfYaw = 0.5 * yaw;
-      double cYaw = Math.cos(halfYaw);
-      double sYaw = Math.sin(halfYaw);
+      double cYaw = EuclidCoreTools.cos(halfYaw);
+      double sYaw = EuclidCoreTools.sin(halfYaw);
 
       double x = qx * cYaw + qy * sYaw;
       double y = -qx * sYaw + qy * cYaw;
@@ -1257,8 +1285,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfPitch = 0.5 * pitch;
-      double cPitch = Math.cos(halfPitch);
-      double sPitch = Math.sin(halfPitch);
+      double cPitch = EuclidCoreTools.cos(halfPitch);
+      double sPitch = EuclidCoreTools.sin(halfPitch);
 
       double x = cPitch * qx + sPitch * qz;
       double y = cPitch * qy + sPitch * qs;
@@ -1293,8 +1321,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfPitch = 0.5 * pitch;
-      double cPitch = Math.cos(halfPitch);
-      double sPitch = Math.sin(halfPitch);
+      double cPitch = EuclidCoreTools.cos(halfPitch);
+      double sPitch = EuclidCoreTools.sin(halfPitch);
 
       double x = qx * cPitch - qz * sPitch;
       double y = qs * sPitch + qy * cPitch;
@@ -1329,8 +1357,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfRoll = 0.5 * roll;
-      double cRoll = Math.cos(halfRoll);
-      double sRoll = Math.sin(halfRoll);
+      double cRoll = EuclidCoreTools.cos(halfRoll);
+      double sRoll = EuclidCoreTools.sin(halfRoll);
 
       double x = cRoll * qx + sRoll * qs;
       double y = cRoll * qy - sRoll * qz;
@@ -1365,8 +1393,8 @@ public abstract class QuaternionTools
       double qs = quaternionOriginal.getS();
 
       double halfRoll = 0.5 * roll;
-      double cRoll = Math.cos(halfRoll);
-      double sRoll = Math.sin(halfRoll);
+      double cRoll = EuclidCoreTools.cos(halfRoll);
+      double sRoll = EuclidCoreTools.sin(halfRoll);
 
       double x = qs * sRoll + qx * cRoll;
       double y = qy * cRoll + qz * sRoll;
@@ -1375,6 +1403,239 @@ public abstract class QuaternionTools
       quaternionToPack.setUnsafe(x, y, z, s);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the local frame of
+    * {@code quaternionOriginal} over the duration {@code dt} and stores the result in
+    * {@code quaternionToPack}.
+    * <p>
+    * All the quaternions can be the same object.
+    * </p>
+    * <p>
+    * The rotation vector <i>r</i> = {@code angularVelocity} * {@code dt} is converted to the
+    * quaternion <i>dq</i> using the exponential map and appended to {@code quaternionOriginal}:
+    *
+    * <pre>
+    * quaternionToPack = quaternionOriginal * dq
+    * </pre>
+    * </p>
+    * <p>
+    * This is equivalent to converting the rotation vector to a quaternion and then multiplying it,
+    * but it is performed in a single pass and without creating intermediate objects. When the angle
+    * |<i>r</i>| is less than {@value #SMALL_INTEGRATION_ANGLE}, the trigonometric functions are
+    * replaced with their series expansion which is exact to machine precision in this range.
+    * </p>
+    *
+    * @param quaternionOriginal the quaternion to integrate the angular velocity into. Not modified.
+    * @param angularVelocity the angular velocity expressed in the local frame of
+    *           {@code quaternionOriginal}. Not modified.
+    * @param dt the integration time step.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void integrateInBodyFrame(QuaternionReadOnly quaternionOriginal, Vector3DReadOnly angularVelocity, double dt,
+                                           QuaternionBasics quaternionToPack)
+   {
+      double rx = angularVelocity.getX() * dt;
+      double ry = angularVelocity.getY() * dt;
+      double rz = angularVelocity.getZ() * dt;
+      double angleSquared = rx * rx + ry * ry + rz * rz;
+      double sinHalfAngleOverAngle = computeSinHalfAngleOverAngle(angleSquared);
+      double ds = computeCosHalfAngle(angleSquared);
+      double dx = sinHalfAngleOverAngle * rx;
+      double dy = sinHalfAngleOverAngle * ry;
+      double dz = sinHalfAngleOverAngle * rz;
+
+      double qx = quaternionOriginal.getX();
+      double qy = quaternionOriginal.getY();
+      double qz = quaternionOriginal.getZ();
+      double qs = quaternionOriginal.getS();
+
+      double x = qs * dx + qx * ds + qy * dz - qz * dy;
+      double y = qs * dy - qx * dz + qy * ds + qz * dx;
+      double z = qs * dz + qx * dy - qy * dx + qz * ds;
+      double s = qs * ds - qx * dx - qy * dy - qz * dz;
+      quaternionToPack.setUnsafe(x, y, z, s);
+   }
+
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the world frame over the
+    * duration {@code dt} and prepends the resulting rotation to {@code quaternionOriginal}, the
+    * result is stored in {@code quaternionToPack}.
+    * <p>
+    * All the quaternions can be the same object.
+    * </p>
+    * <p>
+    * The rotation vector <i>r</i> = {@code angularVelocity} * {@code dt} is converted to the
+    * quaternion <i>dq</i> using the exponential map and prepended to {@code quaternionOriginal}:
+    *
+    * <pre>
+    * quaternionToPack = dq * quaternionOriginal
+    * </pre>
+    * </p>
+    * <p>
+    * This is equivalent to converting the rotation vector to a quaternion and then multiplying it,
+    * but it is performed in a single pass and without creating intermediate objects. When the angle
+    * |<i>r</i>| is less than {@value #SMALL_INTEGRATION_ANGLE}, the trigonometric functions are
+    * replaced with their series expansion which is exact to machine precision in this range.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the world frame. Not modified.
+    * @param dt the integration time step.
+    * @param quaternionOriginal the quaternion to integrate the angular velocity into. Not modified.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void integrateInWorldFrame(Vector3DReadOnly angularVelocity, double dt, QuaternionReadOnly quaternionOriginal,
+                                            QuaternionBasics quaternionToPack)
+   {
+      double rx = angularVelocity.getX() * dt;
+      double ry = angularVelocity.getY() * dt;
+      double rz = angularVelocity.getZ() * dt;
+      double angleSquared = rx * rx + ry * ry + rz * rz;
+      double sinHalfAngleOverAngle = computeSinHalfAngleOverAngle(angleSquared);
+      double ds = computeCosHalfAngle(angleSquared);
+      double dx = sinHalfAngleOverAngle * rx;
+      double dy = sinHalfAngleOverAngle * ry;
+      double dz = sinHalfAngleOverAngle * rz;
+
+      double qx = quaternionOriginal.getX();
+      double qy = quaternionOriginal.getY();
+      double qz = quaternionOriginal.getZ();
+      double qs = quaternionOriginal.getS();
+
+      double x = ds * qx + dx * qs + dy * qz - dz * qy;
+      double y = ds * qy - dx * qz + dy * qs + dz * qx;
+      double z = ds * qz + dx * qy - dy * qx + dz * qs;
+      double s = ds * qs - dx * qx - dy * qy - dz * qz;
+      quaternionToPack.setUnsafe(x, y, z, s);
+   }
+
+   /**
+    * Computes sin(<i>&theta;</i>/2) / <i>&theta;</i> given <i>&theta;</i><sup>2</sup>.
+    */
+   private static double computeSinHalfAngleOverAngle(double angleSquared)
+   {
+      if (angleSquared < SMALL_INTEGRATION_ANGLE * SMALL_INTEGRATION_ANGLE)
+         return 0.5 + angleSquared * (-1.0 / 48.0 + angleSquared / 3840.0);
+
+      double angle = Math.sqrt(angleSquared);
+      return EuclidCoreTools.sin(0.5 * angle) / angle;
+   }
+
+   /**
+    * Computes cos(<i>&theta;</i>/2) given <i>&theta;</i><sup>2</sup>.
+    */
+   private static double computeCosHalfAngle(double angleSquared)
+   {
+      if (angleSquared < SMALL_INTEGRATION_ANGLE * SMALL_INTEGRATION_ANGLE)
+         return 1.0 + angleSquared * (-1.0 / 8.0 + angleSquared / 384.0);
+
+      return EuclidCoreTools.cos(0.5 * Math.sqrt(angleSquared));
+   }
+
+   /**
+    * Performs a <i>Normalized Linear Interpolation</i>, or NLERP, from {@code q0} to {@code qf}
+    * given the percentage {@code alpha}.
+    * <p>
+    * The two quaternions are linearly interpolated along the shortest path and the result is
+    * normalized. This is much cheaper than the <i>Spherical Linear Interpolation</i>, see
+    * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)}, as no
+    * trigonometric function is evaluated, but the interpolated rotation does not progress at a
+    * constant angular rate. The angular error with respect to the SLERP grows with the angle
+    * between {@code q0} and {@code qf}, its maximum is about:
+    * <ul>
+    * <li>2.2e-5 radian for rotations that are 10 degrees apart.
+    * <li>5.8e-4 radian for rotations that are 30 degrees apart.
+    * <li>1.6e-2 radian for rotations that are 90 degrees apart.
+    * <li>0.143 radian for rotations that are 180 degrees apart.
+    * </ul>
+    * This is typically acceptable when the two quaternions are close to each other, e.g. when
+    * interpolating between consecutive frames of an animation.
+    * </p>
+    * <p>
+    * All the arguments can be the same object for in place operations.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to {@code q0}, while a value of 1 is equivalent to setting
+    *           {@code quaternionToPack} to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void nlerp(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = 1.0 - alpha;
+      double alphaf = q0.dot(qf) < 0.0 ? -alpha : alpha;
+
+      double qx = alpha0 * q0.getX() + alphaf * qf.getX();
+      double qy = alpha0 * q0.getY() + alphaf * qf.getY();
+      double qz = alpha0 * q0.getZ() + alphaf * qf.getZ();
+      double qs = alpha0 * q0.getS() + alphaf * qf.getS();
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Performs an approximation of the <i>Spherical Linear Interpolation</i>, or SLERP, from
+    * {@code q0} to {@code qf} given the percentage {@code alpha}.
+    * <p>
+    * The SLERP weights, sin((1 - alpha) * halfTheta) / sin(halfTheta) and sin(alpha * halfTheta) /
+    * sin(halfTheta), are approximated with a polynomial in cos(halfTheta), i.e. the dot product of
+    * the two quaternions, obtained by truncating its series expansion to 8 terms and correcting the
+    * last term, and the result is normalized. No trigonometric function nor division is evaluated.
+    * The maximum angular error with respect to the SLERP is about:
+    * <ul>
+    * <li>1.1e-11 radian for rotations that are up to 60 degrees apart.
+    * <li>7.0e-9 radian for rotations that are up to 90 degrees apart.
+    * <li>4.9e-7 radian for rotations that are up to 120 degrees apart.
+    * <li>1.7e-5 radian for rotations that are up to 180 degrees apart.
+    * </ul>
+    * </p>
+    * <p>
+    * All the arguments can be the same object for in place operations.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to {@code q0}, while a value of 1 is equivalent to setting
+    *           {@code quaternionToPack} to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void fastSlerp(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha, QuaternionBasics quaternionToPack)
+   {
+      double cosHalfTheta = q0.dot(qf);
+      double sign = 1.0;
+
+      if (cosHalfTheta < 0.0)
+      {
+         sign = -1.0;
+         cosHalfTheta = -cosHalfTheta;
+      }
+
+      double alpha0 = fastSlerpWeight(1.0 - alpha, cosHalfTheta - 1.0);
+      double alphaf = sign * fastSlerpWeight(alpha, cosHalfTheta - 1.0);
+
+      double qx = alpha0 * q0.getX() + alphaf * qf.getX();
+      double qy = alpha0 * q0.getY() + alphaf * qf.getY();
+      double qz = alpha0 * q0.getZ() + alphaf * qf.getZ();
+      double qs = alpha0 * q0.getS() + alphaf * qf.getS();
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Approximates sin(t * halfTheta) / sin(halfTheta) using the truncated series in
+    * (cos(halfTheta) - 1).
+    */
+   private static double fastSlerpWeight(double t, double cosHalfThetaMinusOne)
+   {
+      double tSquared = t * t;
+      double weight = 1.0;
+
+      for (int i = FAST_SLERP_U.length - 1; i >= 0; i--)
+         weight = 1.0 + (FAST_SLERP_U[i] * tSquared - FAST_SLERP_V[i]) * cosHalfThetaMinusOne * weight;
+
+      return t * weight;
+   }
+
    /**
     * Computes the distance between the two given quaternions.
     *
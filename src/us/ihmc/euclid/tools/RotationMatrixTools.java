@@ -8,6 +8,7 @@ import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
 
@@ -18,6 +19,12 @@ import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
  */
 public abstract class RotationMatrixTools
 {
+   /**
+    * Angle below which the integration of an angular velocity relies on series expansions instead of
+    * trigonometric functions.
+    */
+   public static final double SMALL_INTEGRATION_ANGLE = 1.0e-2;
+
    /**
     * Performs the multiplication: {@code m1} * {@code m2} and stores the result in
     * {@code matrixToPack}.
@@ -339,8 +346,8 @@ public abstract class RotationMatrixTools
     */
    public static void prependYawRotation(double yaw, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
-      double cYaw = Math.cos(yaw);
-      double sYaw = Math.sin(yaw);
+      double cYaw = EuclidCoreTools.cos(yaw);
+      double sYaw = EuclidCoreTools.sin(yaw);
 
       double m00 = cYaw * matrixOriginal.getM00() - sYaw * matrixOriginal.getM10();
       double m01 = cYaw * matrixOriginal.getM01() - sYaw * matrixOriginal.getM11();
@@ -373,8 +380,8 @@ public abstract class RotationMatrixTools
     */
    public static void appendYawRotation(RotationMatrixReadOnly matrixOriginal, double yaw, RotationMatrix matrixToPack)
    {
-      double cYaw = Math.cos(yaw);
-      double sYaw = Math.sin(yaw);
+      double cYaw = EuclidCoreTools.cos(yaw);
+      double sYaw = EuclidCoreTools.sin(yaw);
 
       double m00 = cYaw * matrixOriginal.getM00() + sYaw * matrixOriginal.getM01();
       double m01 = -sYaw * matrixOriginal.getM00() + cYaw * matrixOriginal.getM01();
@@ -407,8 +414,8 @@ public abstract class RotationMatrixTools
     */
    public static void prependPitchRotation(double pitch, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
-      double cPitch = Math.cos(pitch);
-      double sPitch = Math.sin(pitch);
+      double cPitch = EuclidCoreTools.cos(pitch);
+      double sPitch = EuclidCoreTools.sin(pitch);
 
       double m00 = cPitch * matrixOriginal.getM00() + sPitch * matrixOriginal.getM20();
       double m01 = cPitch * matrixOriginal.getM01() + sPitch * matrixOriginal.getM21();
@@ -441,8 +448,8 @@ public abstract class RotationMatrixTools
     */
    public static void appendPitchRotation(RotationMatrixReadOnly matrixOriginal, double pitch, RotationMatrix matrixToPack)
    {
-      double cPitch = Math.cos(pitch);
-      double sPitch = Math.sin(pitch);
+      double cPitch = EuclidCoreTools.cos(pitch);
+      double sPitch = EuclidCoreTools.sin(pitch);
 
       double m00 = cPitch * matrixOriginal.getM00() - sPitch * matrixOriginal.getM02();
       double m01 = matrixOriginal.getM01();
@@ -475,8 +482,8 @@ public abstract class RotationMatrixTools
     */
    public static void prependRollRotation(double roll, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
-      double cRoll = Math.cos(roll);
-      double sRoll = Math.sin(roll);
+      double cRoll = EuclidCoreTools.cos(roll);
+      double sRoll = EuclidCoreTools.sin(roll);
 
       double m00 = matrixOriginal.getM00();
       double m01 = matrixOriginal.getM01();
@@ -509,8 +516,8 @@ public abstract class RotationMatrixTools
     */
    public static void appendRollRotation(RotationMatrixReadOnly matrixOriginal, double roll, RotationMatrix matrixToPack)
    {
-      double cRoll = Math.cos(roll);
-      double sRoll = Math.sin(roll);
+      double cRoll = EuclidCoreTools.cos(roll);
+      double sRoll = EuclidCoreTools.sin(roll);
 
       double m00 = matrixOriginal.getM00();
       double m01 = cRoll * matrixOriginal.getM01() + sRoll * matrixOriginal.getM02();
@@ -524,6 +531,149 @@ public abstract class RotationMatrixTools
       matrixToPack.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the local frame of
+    * {@code matrixOriginal} over the duration {@code dt} and stores the result in
+    * {@code matrixToPack}.
+    * <p>
+    * All the matrices can be the same object.
+    * </p>
+    * <p>
+    * The rotation vector <i>r</i> = {@code angularVelocity} * {@code dt} is converted to the rotation
+    * matrix <i>dR</i> using the Rodrigues' formula and appended to {@code matrixOriginal}:
+    *
+    * <pre>
+    * matrixToPack = matrixOriginal * dR
+    * </pre>
+    * </p>
+    * <p>
+    * This is equivalent to converting the rotation vector to a rotation matrix and then multiplying
+    * it, but it is performed in a single pass and without creating intermediate objects. When the
+    * angle |<i>r</i>| is less than {@value #SMALL_INTEGRATION_ANGLE}, the trigonometric functions
+    * are replaced with their series expansion which is exact to machine precision in this range.
+    * </p>
+    *
+    * @param matrixOriginal the matrix to integrate the angular velocity into. Not modified.
+    * @param angularVelocity the angular velocity expressed in the local frame of
+    *           {@code matrixOriginal}. Not modified.
+    * @param dt the integration time step.
+    * @param matrixToPack the matrix in which the result is stored. Modified.
+    */
+   public static void integrateInBodyFrame(RotationMatrixReadOnly matrixOriginal, Vector3DReadOnly angularVelocity, double dt, RotationMatrix matrixToPack)
+   {
+      integrateImpl(matrixOriginal, angularVelocity, dt, false, matrixToPack);
+   }
+
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the world frame over the
+    * duration {@code dt} and prepends the resulting rotation to {@code matrixOriginal}, the result
+    * is stored in {@code matrixToPack}.
+    * <p>
+    * All the matrices can be the same object.
+    * </p>
+    * <p>
+    * The rotation vector <i>r</i> = {@code angularVelocity} * {@code dt} is converted to the rotation
+    * matrix <i>dR</i> using the Rodrigues' formula and prepended to {@code matrixOriginal}:
+    *
+    * <pre>
+    * matrixToPack = dR * matrixOriginal
+    * </pre>
+    * </p>
+    * <p>
+    * This is equivalent to converting the rotation vector to a rotation matrix and then multiplying
+    * it, but it is performed in a single pass and without creating intermediate objects. When the
+    * angle |<i>r</i>| is less than {@value #SMALL_INTEGRATION_ANGLE}, the trigonometric functions
+    * are replaced with their series expansion which is exact to machine precision in this range.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the world frame. Not modified.
+    * @param dt the integration time step.
+    * @param matrixOriginal the matrix to integrate the angular velocity into. Not modified.
+    * @param matrixToPack the matrix in which the result is stored. Modified.
+    */
+   public static void integrateInWorldFrame(Vector3DReadOnly angularVelocity, double dt, RotationMatrixReadOnly matrixOriginal,
+                                            RotationMatrix matrixToPack)
+   {
+      integrateImpl(matrixOriginal, angularVelocity, dt, true, matrixToPack);
+   }
+
+   private static void integrateImpl(RotationMatrixReadOnly matrixOriginal, Vector3DReadOnly angularVelocity, double dt, boolean prepend,
+                                     RotationMatrix matrixToPack)
+   {
+      double rx = angularVelocity.getX() * dt;
+      double ry = angularVelocity.getY() * dt;
+      double rz = angularVelocity.getZ() * dt;
+      double rxSquared = rx * rx;
+      double rySquared = ry * ry;
+      double rzSquared = rz * rz;
+      double angleSquared = rxSquared + rySquared + rzSquared;
+
+      // dR = I + a * [r]x + b * [r]x^2 with a = sin(angle) / angle and b = (1 - cos(angle)) / angle^2
+      double a, b;
+
+      if (angleSquared < SMALL_INTEGRATION_ANGLE * SMALL_INTEGRATION_ANGLE)
+      {
+         a = 1.0 + angleSquared * (-1.0 / 6.0 + angleSquared / 120.0);
+         b = 0.5 + angleSquared * (-1.0 / 24.0 + angleSquared / 720.0);
+      }
+      else
+      {
+         double angle = Math.sqrt(angleSquared);
+         a = EuclidCoreTools.sin(angle) / angle;
+         b = (1.0 - EuclidCoreTools.cos(angle)) / angleSquared;
+      }
+
+      double d00 = 1.0 - b * (rySquared + rzSquared);
+      double d11 = 1.0 - b * (rxSquared + rzSquared);
+      double d22 = 1.0 - b * (rxSquared + rySquared);
+      double bxy = b * rx * ry;
+      double bxz = b * rx * rz;
+      double byz = b * ry * rz;
+      double d01 = bxy - a * rz;
+      double d10 = bxy + a * rz;
+      double d02 = bxz + a * ry;
+      double d20 = bxz - a * ry;
+      double d12 = byz - a * rx;
+      double d21 = byz + a * rx;
+
+      double m00 = matrixOriginal.getM00();
+      double m01 = matrixOriginal.getM01();
+      double m02 = matrixOriginal.getM02();
+      double m10 = matrixOriginal.getM10();
+      double m11 = matrixOriginal.getM11();
+      double m12 = matrixOriginal.getM12();
+      double m20 = matrixOriginal.getM20();
+      double m21 = matrixOriginal.getM21();
+      double m22 = matrixOriginal.getM22();
+
+      if (prepend)
+      {
+         double c00 = d00 * m00 + d01 * m10 + d02 * m20;
+         double c01 = d00 * m01 + d01 * m11 + d02 * m21;
+         double c02 = d00 * m02 + d01 * m12 + d02 * m22;
+         double c10 = d10 * m00 + d11 * m10 + d12 * m20;
+         double c11 = d10 * m01 + d11 * m11 + d12 * m21;
+         double c12 = d10 * m02 + d11 * m12 + d12 * m22;
+         double c20 = d20 * m00 + d21 * m10 + d22 * m20;
+         double c21 = d20 * m01 + d21 * m11 + d22 * m21;
+         double c22 = d20 * m02 + d21 * m12 + d22 * m22;
+         matrixToPack.set(c00, c01, c02, c10, c11, c12, c20, c21, c22);
+      }
+      else
+      {
+         double c00 = m00 * d00 + m01 * d10 + m02 * d20;
+         double c01 = m00 * d01 + m01 * d11 + m02 * d21;
+         double c02 = m00 * d02 + m01 * d12 + m02 * d22;
+         double c10 = m10 * d00 + m11 * d10 + m12 * d20;
+         double c11 = m10 * d01 + m11 * d11 + m12 * d21;
+         double c12 = m10 * d02 + m11 * d12 + m12 * d22;
+         double c20 = m20 * d00 + m21 * d10 + m22 * d20;
+         double c21 = m20 * d01 + m21 * d11 + m22 * d21;
+         double c22 = m20 * d02 + m21 * d12 + m22 * d22;
+         matrixToPack.set(c00, c01, c02, c10, c11, c12, c20, c21, c22);
+      }
+   }
+
    /**
     * Rotates the given {@code tupleOriginal} by a rotation about the z-axis and stores the result
     * in {@code tupleTransformed}.
@@ -543,8 +693,8 @@ public abstract class RotationMatrixTools
     */
    public static void applyYawRotation(double yaw, Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
    {
-      double cYaw = Math.cos(yaw);
-      double sYaw = Math.sin(yaw);
+      double cYaw = EuclidCoreTools.cos(yaw);
+      double sYaw = EuclidCoreTools.sin(yaw);
 
       double x = tupleOriginal.getX() * cYaw - tupleOriginal.getY() * sYaw;
       double y = tupleOriginal.getX() * sYaw + tupleOriginal.getY() * cYaw;
@@ -570,8 +720,8 @@ public abstract class RotationMatrixTools
     */
    public static void applyYawRotation(double yaw, Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed)
    {
-      double cYaw = Math.cos(yaw);
-      double sYaw = Math.sin(yaw);
+      double cYaw = EuclidCoreTools.cos(yaw);
+      double sYaw = EuclidCoreTools.sin(yaw);
 
       double x = tupleOriginal.getX() * cYaw - tupleOriginal.getY() * sYaw;
       double y = tupleOriginal.getX() * sYaw + tupleOriginal.getY() * cYaw;
@@ -597,8 +747,8 @@ public abstract class RotationMatrixTools
     */
    public static void applyPitchRotation(double pitch, Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
    {
-      double cPitch = Math.cos(pitch);
-      double sPitch = Math.sin(pitch);
+      double cPitch = EuclidCoreTools.cos(pitch);
+      double sPitch = EuclidCoreTools.sin(pitch);
 
       double x = tupleOriginal.getX() * cPitch + tupleOriginal.getZ() * sPitch;
       double y = tupleOriginal.getY();
@@ -625,8 +775,8 @@ public abstract class RotationMatrixTools
     */
    public static void applyRollRotation(double roll, Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
    {
-      double cRoll = Math.cos(roll);
-      double sRoll = Math.sin(roll);
+      double cRoll = EuclidCoreTools.cos(roll);
+      double sRoll = EuclidCoreTools.sin(roll);
 
       double x = tupleOriginal.getX();
       double y = tupleOriginal.getY() * cRoll - tupleOriginal.getZ() * sRoll;
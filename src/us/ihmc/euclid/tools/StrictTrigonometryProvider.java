@@ -0,0 +1,48 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Trigonometry provider that simply relies on {@link Math}.
+ * <p>
+ * This is the default provider, see
+ * {@link EuclidCoreTools#setTrigonometryProvider(TrigonometryProvider)}.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class StrictTrigonometryProvider implements TrigonometryProvider
+{
+   /** {@inheritDoc} */
+   @Override
+   public double sin(double angle)
+   {
+      return Math.sin(angle);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double cos(double angle)
+   {
+      return Math.cos(angle);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double asin(double value)
+   {
+      return Math.asin(value);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double acos(double value)
+   {
+      return Math.acos(value);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double atan2(double y, double x)
+   {
+      return Math.atan2(y, x);
+   }
+}
@@ -0,0 +1,60 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Provides the trigonometric functions used by the orientation conversions and the
+ * yaw-pitch-roll tools.
+ * <p>
+ * The provider in use is selected with
+ * {@link EuclidCoreTools#setTrigonometryProvider(TrigonometryProvider)}. The default is
+ * {@link StrictTrigonometryProvider}, which relies on {@link Math}. The
+ * {@link FastTrigonometryProvider} trades a bounded loss of accuracy for speed.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public interface TrigonometryProvider
+{
+   /**
+    * Computes the sine of the given angle.
+    *
+    * @param angle the angle in radians.
+    * @return the sine of the angle.
+    */
+   double sin(double angle);
+
+   /**
+    * Computes the cosine of the given angle.
+    *
+    * @param angle the angle in radians.
+    * @return the cosine of the angle.
+    */
+   double cos(double angle);
+
+   /**
+    * Computes the arc sine of the given value.
+    *
+    * @param value the value, expected to be in [-1, 1].
+    * @return the angle in [-<i>pi</i>/2, <i>pi</i>/2], or {@link Double#NaN} if {@code value} is
+    *         outside [-1, 1].
+    */
+   double asin(double value);
+
+   /**
+    * Computes the arc cosine of the given value.
+    *
+    * @param value the value, expected to be in [-1, 1].
+    * @return the angle in [0, <i>pi</i>], or {@link Double#NaN} if {@code value} is outside [-1,
+    *         1].
+    */
+   double acos(double value);
+
+   /**
+    * Computes the angle <i>theta</i> from the conversion of rectangular coordinates ({@code x},
+    * {@code y}) to polar coordinates (r, <i>theta</i>).
+    *
+    * @param y the ordinate coordinate.
+    * @param x the abscissa coordinate.
+    * @return the angle in [-<i>pi</i>, <i>pi</i>].
+    */
+   double atan2(double y, double x);
+}
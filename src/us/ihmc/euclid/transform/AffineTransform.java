@@ -17,6 +17,7 @@ import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.Matrix3DTools;
@@ -26,7 +27,9 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -75,10 +78,19 @@ import us.ihmc.euclid.yawPitchRoll.interfaces.YawPitchRollReadOnly;
 public class AffineTransform
       implements Transform, EpsilonComparable<AffineTransform>, GeometricallyComparable<AffineTransform>, Settable<AffineTransform>, Clearable
 {
+   private static final double EPS_CHECK_IDENTITY = 1.0e-10;
+
    /** The rotation plus scaling part of this transform. */
    private final RotationScaleMatrix rotationScaleMatrix = new RotationScaleMatrix();
    /** The translation part of this transform. */
    private final Vector3D translationVector = new Vector3D();
+   /** Incremented every time this transform is modified, see {@link #getVersion()}. */
+   private long version = 0;
+   /** Flags used to pick the cheapest way to transform, updated by every setter. */
+   private boolean hasRotation = false;
+   private boolean hasTranslation = false;
+   private boolean hasScale = false;
+   private boolean isScaleUniform = true;
 
    /**
     * Creates a new affine transform set to identity.
@@ -125,6 +137,100 @@ public class AffineTransform
       set(rotationScaleMatrix, translation);
    }
 
+   /**
+    * Notifies that this transform is about to be modified by incrementing its version.
+    */
+   private void markModified()
+   {
+      version++;
+   }
+
+   /**
+    * Updates the flags indicating whether this transform has a rotation, a translation, a non-unit
+    * scale, and whether the scale is uniform.
+    * <p>
+    * As for {@link RigidBodyTransform}, the flags are updated at the end of every setter such that
+    * reading this transform has no side effect and is thread-safe.
+    * </p>
+    */
+   private void updateFlags()
+   {
+      double scaleX = rotationScaleMatrix.getScaleX();
+      double scaleY = rotationScaleMatrix.getScaleY();
+      double scaleZ = rotationScaleMatrix.getScaleZ();
+
+      hasRotation = !rotationScaleMatrix.getRotationMatrix().isIdentity(EPS_CHECK_IDENTITY);
+      hasTranslation = !isZero(translationVector.getX()) || !isZero(translationVector.getY()) || !isZero(translationVector.getZ());
+      hasScale = !isZero(scaleX - 1.0) || !isZero(scaleY - 1.0) || !isZero(scaleZ - 1.0);
+      isScaleUniform = isZero(scaleX - scaleY) && isZero(scaleX - scaleZ);
+   }
+
+   private static boolean isZero(double value)
+   {
+      return Math.abs(value) <= EPS_CHECK_IDENTITY;
+   }
+
+   /**
+    * Requests whether this transform has a non-zero rotation or not.
+    *
+    * @return {@code true} if the rotation part is not zero, {@code false} if the rotation part is zero
+    *         and can be ignore when transforming an object.
+    */
+   public boolean hasRotation()
+   {
+      return hasRotation;
+   }
+
+   /**
+    * Requests whether this transform has a non-zero translation or not.
+    *
+    * @return {@code true} if the translation part is not zero, {@code false} if the translation part
+    *         is zero and can be ignore when transforming an object.
+    */
+   public boolean hasTranslation()
+   {
+      return hasTranslation;
+   }
+
+   /**
+    * Requests whether this transform has a scale different from 1.0 or not.
+    *
+    * @return {@code true} if at least one of the scale factors is not equal to 1.0, {@code false} if
+    *         the scale is unitary and can be ignored when transforming an object.
+    */
+   public boolean hasScale()
+   {
+      return hasScale;
+   }
+
+   /**
+    * Requests whether the scale of this transform is uniform, i.e. the three scale factors are equal.
+    * <p>
+    * Note that a unit scale is uniform.
+    * </p>
+    *
+    * @return {@code true} if the scale is uniform, {@code false} otherwise.
+    */
+   public boolean isScaleUniform()
+   {
+      return isScaleUniform;
+   }
+
+   /**
+    * Gets the version of this transform, which is incremented every time this transform is
+    * modified.
+    * <p>
+    * Comparing the version with a previously recorded one is a cheap way to detect whether this
+    * transform has changed.
+    * </p>
+    *
+    * @return the current version of this transform.
+    */
+   public long getVersion()
+   {
+      return version;
+   }
+
    /**
     * Resets this affine transform to identity.
     * <p>
@@ -133,8 +239,10 @@ public class AffineTransform
     */
    public void setIdentity()
    {
+      markModified();
       rotationScaleMatrix.setIdentity();
       translationVector.setToZero();
+      updateFlags();
    }
 
    /**
@@ -157,7 +265,9 @@ public class AffineTransform
     */
    public void setRotationToZero()
    {
+      markModified();
       rotationScaleMatrix.setRotationToZero();
+      updateFlags();
    }
 
    /**
@@ -165,7 +275,9 @@ public class AffineTransform
     */
    public void resetScale()
    {
+      markModified();
       rotationScaleMatrix.resetScale();
+      updateFlags();
    }
 
    /**
@@ -173,7 +285,9 @@ public class AffineTransform
     */
    public void setTranslationToZero()
    {
+      markModified();
       translationVector.setToZero();
+      updateFlags();
    }
 
    /**
@@ -194,7 +308,9 @@ public class AffineTransform
     */
    public void setRotationToNaN()
    {
+      markModified();
       rotationScaleMatrix.setToNaN();
+      updateFlags();
    }
 
    /**
@@ -205,7 +321,9 @@ public class AffineTransform
     */
    public void setTranslationToNaN()
    {
+      markModified();
       translationVector.setToNaN();
+      updateFlags();
    }
 
    /**
@@ -230,7 +348,9 @@ public class AffineTransform
     */
    public void normalizeRotationPart()
    {
+      markModified();
       rotationScaleMatrix.normalizeRotationMatrix();
+      updateFlags();
    }
 
    /**
@@ -254,8 +374,10 @@ public class AffineTransform
    public void set(double m00, double m01, double m02, double m03, double m10, double m11, double m12, double m13, double m20, double m21, double m22,
                    double m23)
    {
+      markModified();
       rotationScaleMatrix.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       translationVector.set(m03, m13, m23);
+      updateFlags();
    }
 
    /**
@@ -266,8 +388,13 @@ public class AffineTransform
    @Override
    public void set(AffineTransform other)
    {
+      markModified();
       rotationScaleMatrix.set(other.rotationScaleMatrix);
       translationVector.set(other.translationVector);
+      hasRotation = other.hasRotation;
+      hasTranslation = other.hasTranslation;
+      hasScale = other.hasScale;
+      isScaleUniform = other.isScaleUniform;
    }
 
    /**
@@ -280,7 +407,9 @@ public class AffineTransform
     */
    public void set(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       rigidBodyTransform.get(rotationScaleMatrix, translationVector);
+      updateFlags();
    }
 
    /**
@@ -309,8 +438,10 @@ public class AffineTransform
     */
    public void set(DenseMatrix64F matrix)
    {
+      markModified();
       rotationScaleMatrix.set(matrix);
       translationVector.set(0, 3, matrix);
+      updateFlags();
    }
 
    /**
@@ -341,8 +472,10 @@ public class AffineTransform
     */
    public void set(DenseMatrix64F matrix, int startRow, int startColumn)
    {
+      markModified();
       rotationScaleMatrix.set(startRow, startColumn, matrix);
       translationVector.set(startRow, startColumn + 3, matrix);
+      updateFlags();
    }
 
    /**
@@ -372,6 +505,7 @@ public class AffineTransform
     */
    public void set(double[] transformArray)
    {
+      markModified();
       double m00 = transformArray[0];
       double m01 = transformArray[1];
       double m02 = transformArray[2];
@@ -387,6 +521,7 @@ public class AffineTransform
 
       rotationScaleMatrix.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       translationVector.set(m03, m13, m23);
+      updateFlags();
    }
 
    /**
@@ -400,8 +535,10 @@ public class AffineTransform
     */
    public void set(Matrix3DReadOnly rotationScaleMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       this.rotationScaleMatrix.set(rotationScaleMatrix);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -413,8 +550,10 @@ public class AffineTransform
     */
    public void set(RotationScaleMatrixReadOnly rotationScaleMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       this.rotationScaleMatrix.set(rotationScaleMatrix);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -428,8 +567,10 @@ public class AffineTransform
     */
    public void set(Matrix3DReadOnly rotationMatrix, double scale, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scale);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -445,8 +586,10 @@ public class AffineTransform
     */
    public void set(Matrix3DReadOnly rotationMatrix, double scaleX, double scaleY, double scaleZ, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scaleX, scaleY, scaleZ);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -460,8 +603,10 @@ public class AffineTransform
     */
    public void set(Matrix3DReadOnly rotationMatrix, Tuple3DReadOnly scales, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scales);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -474,8 +619,10 @@ public class AffineTransform
     */
    public void set(RotationMatrixReadOnly rotationMatrix, double scale, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scale);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -490,8 +637,10 @@ public class AffineTransform
     */
    public void set(RotationMatrixReadOnly rotationMatrix, double scaleX, double scaleY, double scaleZ, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scaleX, scaleY, scaleZ);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -504,8 +653,10 @@ public class AffineTransform
     */
    public void set(RotationMatrixReadOnly rotationMatrix, Tuple3DReadOnly scales, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(rotationMatrix, scales);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -518,8 +669,10 @@ public class AffineTransform
     */
    public void set(Orientation3DReadOnly orientation, double scale, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(orientation, scale);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -534,8 +687,10 @@ public class AffineTransform
     */
    public void set(Orientation3DReadOnly orientation, double scaleX, double scaleY, double scaleZ, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(orientation, scaleX, scaleY, scaleZ);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -548,8 +703,10 @@ public class AffineTransform
     */
    public void set(Orientation3DReadOnly orientation, Tuple3DReadOnly scales, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationScaleMatrix.set(orientation, scales);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -562,7 +719,9 @@ public class AffineTransform
     */
    public void setRotation(Orientation3DReadOnly orientation)
    {
+      markModified();
       rotationScaleMatrix.setRotation(orientation);
+      updateFlags();
    }
 
    /**
@@ -581,7 +740,9 @@ public class AffineTransform
     */
    public void setRotation(Vector3DReadOnly rotationVector)
    {
+      markModified();
       rotationScaleMatrix.setRotation(rotationVector);
+      updateFlags();
    }
 
    /**
@@ -595,7 +756,9 @@ public class AffineTransform
     */
    public void setRotation(DenseMatrix64F rotationMatrix)
    {
+      markModified();
       rotationScaleMatrix.setRotation(rotationMatrix);
+      updateFlags();
    }
 
    /**
@@ -609,7 +772,9 @@ public class AffineTransform
     */
    public void setRotation(Matrix3DReadOnly rotationMatrix)
    {
+      markModified();
       rotationScaleMatrix.setRotation(rotationMatrix);
+      updateFlags();
    }
 
    /**
@@ -622,7 +787,9 @@ public class AffineTransform
     */
    public void setRotation(RotationMatrixReadOnly rotationMatrix)
    {
+      markModified();
       rotationScaleMatrix.setRotation(rotationMatrix);
+      updateFlags();
    }
 
    /**
@@ -642,7 +809,9 @@ public class AffineTransform
     */
    public void setRotationYaw(double yaw)
    {
+      markModified();
       rotationScaleMatrix.setRotationYaw(yaw);
+      updateFlags();
    }
 
    /**
@@ -662,7 +831,9 @@ public class AffineTransform
     */
    public void setRotationPitch(double pitch)
    {
+      markModified();
       rotationScaleMatrix.setRotationPitch(pitch);
+      updateFlags();
    }
 
    /**
@@ -682,7 +853,9 @@ public class AffineTransform
     */
    public void setRotationRoll(double roll)
    {
+      markModified();
       rotationScaleMatrix.setRotationRoll(roll);
+      updateFlags();
    }
 
    /**
@@ -704,7 +877,9 @@ public class AffineTransform
     */
    public void setRotationYawPitchRoll(double[] yawPitchRoll)
    {
+      markModified();
       rotationScaleMatrix.setRotationYawPitchRoll(yawPitchRoll);
+      updateFlags();
    }
 
    /**
@@ -728,7 +903,9 @@ public class AffineTransform
     */
    public void setRotationYawPitchRoll(double yaw, double pitch, double roll)
    {
+      markModified();
       rotationScaleMatrix.setRotationYawPitchRoll(yaw, pitch, roll);
+      updateFlags();
    }
 
    /**
@@ -752,7 +929,9 @@ public class AffineTransform
     */
    public void setRotationEuler(Vector3DReadOnly eulerAngles)
    {
+      markModified();
       rotationScaleMatrix.setRotationEuler(eulerAngles);
+      updateFlags();
    }
 
    /**
@@ -777,7 +956,9 @@ public class AffineTransform
     */
    public void setRotationEuler(double rotX, double rotY, double rotZ)
    {
+      markModified();
       rotationScaleMatrix.setRotationEuler(rotX, rotY, rotZ);
+      updateFlags();
    }
 
    /**
@@ -791,7 +972,9 @@ public class AffineTransform
     */
    public void setScale(double scale)
    {
+      markModified();
       rotationScaleMatrix.setScale(scale);
+      updateFlags();
    }
 
    /**
@@ -807,7 +990,9 @@ public class AffineTransform
     */
    public void setScale(double scaleX, double scaleY, double scaleZ)
    {
+      markModified();
       rotationScaleMatrix.setScale(scaleX, scaleY, scaleZ);
+      updateFlags();
    }
 
    /**
@@ -821,7 +1006,9 @@ public class AffineTransform
     */
    public void setScale(Tuple3DReadOnly scales)
    {
+      markModified();
       rotationScaleMatrix.setScale(scales);
+      updateFlags();
    }
 
    /**
@@ -834,7 +1021,9 @@ public class AffineTransform
     */
    public void setTranslationX(double x)
    {
+      markModified();
       translationVector.setX(x);
+      updateFlags();
    }
 
    /**
@@ -847,7 +1036,9 @@ public class AffineTransform
     */
    public void setTranslationY(double y)
    {
+      markModified();
       translationVector.setY(y);
+      updateFlags();
    }
 
    /**
@@ -860,7 +1051,9 @@ public class AffineTransform
     */
    public void setTranslationZ(double z)
    {
+      markModified();
       translationVector.setZ(z);
+      updateFlags();
    }
 
    /**
@@ -875,7 +1068,9 @@ public class AffineTransform
     */
    public void setTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.set(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -888,7 +1083,9 @@ public class AffineTransform
     */
    public void setTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -901,7 +1098,49 @@ public class AffineTransform
     */
    public void addTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.add(translation);
+      updateFlags();
+   }
+
+   /**
+    * Inverts this affine transform.
+    * <p>
+    * The inverse of an affine transform can only be represented by another affine transform when
+    * the scale is uniform, in which case the rotation is transposed, the scale is inverted, and the
+    * translation becomes: t' = -1/s * R<sup>T</sup> * t.
+    * </p>
+    *
+    * @throws NotARotationScaleMatrixException if the scale of this transform is not uniform.
+    */
+   public void invert()
+   {
+      if (!isScaleUniform)
+         throw new NotARotationScaleMatrixException("Cannot invert an affine transform with a non-uniform scale: " + getScale());
+
+      boolean hasRotation = this.hasRotation;
+      boolean hasScale = this.hasScale;
+      boolean hasTranslation = this.hasTranslation;
+      markModified();
+
+      if (hasRotation)
+      {
+         rotationScaleMatrix.getRotationMatrix().invert();
+         if (hasTranslation)
+            rotationScaleMatrix.getRotationMatrix().transform(translationVector);
+      }
+
+      if (hasScale)
+      {
+         double invScale = 1.0 / rotationScaleMatrix.getScaleX();
+         rotationScaleMatrix.setScale(invScale);
+         translationVector.scale(-invScale);
+      }
+      else
+      {
+         translationVector.negate();
+      }
+      updateFlags();
    }
 
    /**
@@ -918,8 +1157,22 @@ public class AffineTransform
     */
    public void multiply(AffineTransform other)
    {
-      Matrix3DTools.addTransform(getRotationMatrix(), other.getTranslationVector(), translationVector);
-      rotationScaleMatrix.append(other.getRotationMatrix());
+      // The flags are queried before modifying this transform in case other is this.
+      boolean hasRotation = hasRotation();
+      boolean otherHasRotation = other.hasRotation();
+      boolean otherHasTranslation = other.hasTranslation();
+      markModified();
+
+      if (otherHasTranslation)
+      {
+         if (hasRotation)
+            Matrix3DTools.addTransform(getRotationMatrix(), other.getTranslationVector(), translationVector);
+         else
+            translationVector.add(other.getTranslationVector());
+      }
+      if (otherHasRotation)
+         rotationScaleMatrix.append(other.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -936,8 +1189,21 @@ public class AffineTransform
     */
    public void multiply(RigidBodyTransform rigidBodyTransform)
    {
-      Matrix3DTools.addTransform(getRotationMatrix(), rigidBodyTransform.getTranslationVector(), translationVector);
-      rotationScaleMatrix.append(rigidBodyTransform.getRotationMatrix());
+      boolean hasRotation = hasRotation();
+      boolean otherHasRotation = rigidBodyTransform.hasRotation();
+      boolean otherHasTranslation = rigidBodyTransform.hasTranslation();
+      markModified();
+
+      if (otherHasTranslation)
+      {
+         if (hasRotation)
+            Matrix3DTools.addTransform(getRotationMatrix(), rigidBodyTransform.getTranslationVector(), translationVector);
+         else
+            translationVector.add(rigidBodyTransform.getTranslationVector());
+      }
+      if (otherHasRotation)
+         rotationScaleMatrix.append(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -957,8 +1223,21 @@ public class AffineTransform
     */
    public void multiply(QuaternionBasedTransform quaternionBasedTransform)
    {
-      Matrix3DTools.addTransform(getRotationMatrix(), quaternionBasedTransform.getTranslationVector(), translationVector);
-      rotationScaleMatrix.append(quaternionBasedTransform.getQuaternion());
+      boolean hasRotation = hasRotation();
+      boolean otherHasRotation = quaternionBasedTransform.hasRotation();
+      boolean otherHasTranslation = quaternionBasedTransform.hasTranslation();
+      markModified();
+
+      if (otherHasTranslation)
+      {
+         if (hasRotation)
+            Matrix3DTools.addTransform(getRotationMatrix(), quaternionBasedTransform.getTranslationVector(), translationVector);
+         else
+            translationVector.add(quaternionBasedTransform.getTranslationVector());
+      }
+      if (otherHasRotation)
+         rotationScaleMatrix.append(quaternionBasedTransform.getQuaternion());
+      updateFlags();
    }
 
    /**
@@ -975,9 +1254,11 @@ public class AffineTransform
     */
    public void multiplyInvertThis(AffineTransform other)
    {
+      markModified();
       translationVector.sub(other.getTranslationVector(), translationVector);
       getRotationMatrix().inverseTransform(translationVector, translationVector);
       rotationScaleMatrix.appendInvertThis(other.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -994,8 +1275,10 @@ public class AffineTransform
     */
    public void multiplyInvertOther(AffineTransform other)
    {
+      markModified();
       rotationScaleMatrix.appendInvertOther(other.getRotationMatrix());
       Matrix3DTools.subTransform(getRotationMatrix(), other.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1012,9 +1295,11 @@ public class AffineTransform
     */
    public void multiplyInvertThis(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       translationVector.sub(rigidBodyTransform.getTranslationVector(), translationVector);
       getRotationMatrix().inverseTransform(translationVector, translationVector);
       rotationScaleMatrix.appendInvertThis(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1031,8 +1316,10 @@ public class AffineTransform
     */
    public void multiplyInvertOther(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       rotationScaleMatrix.appendInvertOther(rigidBodyTransform.getRotationMatrix());
       Matrix3DTools.subTransform(getRotationMatrix(), rigidBodyTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1053,9 +1340,11 @@ public class AffineTransform
     */
    public void multiplyInvertThis(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       translationVector.sub(quaternionBasedTransform.getTranslationVector(), translationVector);
       getRotationMatrix().inverseTransform(translationVector, translationVector);
       rotationScaleMatrix.appendInvertThis(quaternionBasedTransform.getQuaternion());
+      updateFlags();
    }
 
    /**
@@ -1076,8 +1365,10 @@ public class AffineTransform
     */
    public void multiplyInvertOther(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       rotationScaleMatrix.appendInvertOther(quaternionBasedTransform.getQuaternion());
       Matrix3DTools.subTransform(getRotationMatrix(), quaternionBasedTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1100,7 +1391,9 @@ public class AffineTransform
     */
    public void appendTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       getRotationMatrix().addTransform(translation, translationVector);
+      updateFlags();
    }
 
    /**
@@ -1125,6 +1418,7 @@ public class AffineTransform
     */
    public void appendTranslation(double x, double y, double z)
    {
+      markModified();
       double thisX = translationVector.getX();
       double thisY = translationVector.getY();
       double thisZ = translationVector.getZ();
@@ -1132,6 +1426,7 @@ public class AffineTransform
       translationVector.set(x, y, z);
       getRotationMatrix().transform(translationVector);
       translationVector.add(thisX, thisY, thisZ);
+      updateFlags();
    }
 
    /**
@@ -1150,7 +1445,9 @@ public class AffineTransform
     */
    public void appendYawRotation(double yaw)
    {
+      markModified();
       rotationScaleMatrix.appendYawRotation(yaw);
+      updateFlags();
    }
 
    /**
@@ -1169,7 +1466,9 @@ public class AffineTransform
     */
    public void appendPitchRotation(double pitch)
    {
+      markModified();
       rotationScaleMatrix.appendPitchRotation(pitch);
+      updateFlags();
    }
 
    /**
@@ -1188,7 +1487,9 @@ public class AffineTransform
     */
    public void appendRollRotation(double roll)
    {
+      markModified();
       rotationScaleMatrix.appendRollRotation(roll);
+      updateFlags();
    }
 
    /**
@@ -1205,9 +1506,18 @@ public class AffineTransform
     */
    public void preMultiply(AffineTransform other)
    {
-      other.getRotationMatrix().transform(translationVector);
-      translationVector.add(other.getTranslationVector());
-      rotationScaleMatrix.prepend(other.getRotationMatrix());
+      boolean otherHasRotation = other.hasRotation();
+      boolean otherHasTranslation = other.hasTranslation();
+      markModified();
+
+      if (otherHasRotation)
+      {
+         other.getRotationMatrix().transform(translationVector);
+         rotationScaleMatrix.prepend(other.getRotationMatrix());
+      }
+      if (otherHasTranslation)
+         translationVector.add(other.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -1223,9 +1533,16 @@ public class AffineTransform
     */
    public void preMultiply(RigidBodyTransform rigidBodyTransform)
    {
-      rigidBodyTransform.transform(translationVector);
-      translationVector.add(rigidBodyTransform.getTranslationVector());
-      rotationScaleMatrix.prepend(rigidBodyTransform.getRotationMatrix());
+      markModified();
+
+      if (rigidBodyTransform.hasRotation())
+      {
+         rigidBodyTransform.getRotationMatrix().transform(translationVector);
+         rotationScaleMatrix.prepend(rigidBodyTransform.getRotationMatrix());
+      }
+      if (rigidBodyTransform.hasTranslation())
+         translationVector.add(rigidBodyTransform.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -1244,9 +1561,16 @@ public class AffineTransform
     */
    public void preMultiply(QuaternionBasedTransform quaternionBasedTransform)
    {
-      quaternionBasedTransform.transform(translationVector);
-      translationVector.add(quaternionBasedTransform.getTranslationVector());
-      rotationScaleMatrix.prepend(quaternionBasedTransform.getQuaternion());
+      markModified();
+
+      if (quaternionBasedTransform.hasRotation())
+      {
+         quaternionBasedTransform.getQuaternion().transform(translationVector);
+         rotationScaleMatrix.prepend(quaternionBasedTransform.getQuaternion());
+      }
+      if (quaternionBasedTransform.hasTranslation())
+         translationVector.add(quaternionBasedTransform.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -1263,9 +1587,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertThis(AffineTransform other)
    {
+      markModified();
       rotationScaleMatrix.prependInvertThis(other.getRotationMatrix());
       getRotationMatrix().transform(translationVector);
       translationVector.sub(other.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1282,9 +1608,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertOther(AffineTransform other)
    {
+      markModified();
       translationVector.sub(other.getTranslationVector());
       other.getRotationMatrix().inverseTransform(translationVector);
       rotationScaleMatrix.prependInvertOther(other.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1301,9 +1629,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertThis(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       rotationScaleMatrix.prependInvertThis(rigidBodyTransform.getRotationMatrix());
       getRotationMatrix().transform(translationVector);
       translationVector.sub(rigidBodyTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1319,9 +1649,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertOther(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       translationVector.sub(rigidBodyTransform.getTranslationVector());
       rigidBodyTransform.getRotationMatrix().inverseTransform(translationVector);
       rotationScaleMatrix.prependInvertOther(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1342,9 +1674,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertThis(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       rotationScaleMatrix.prependInvertThis(quaternionBasedTransform.getQuaternion());
       getRotationMatrix().transform(translationVector);
       translationVector.sub(quaternionBasedTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1364,9 +1698,11 @@ public class AffineTransform
     */
    public void preMultiplyInvertOther(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       translationVector.sub(quaternionBasedTransform.getTranslationVector());
       quaternionBasedTransform.getQuaternion().inverseTransform(translationVector);
       rotationScaleMatrix.prependInvertOther(quaternionBasedTransform.getQuaternion());
+      updateFlags();
    }
 
    /**
@@ -1386,7 +1722,9 @@ public class AffineTransform
     */
    public void prependTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.add(translation);
+      updateFlags();
    }
 
    /**
@@ -1408,7 +1746,9 @@ public class AffineTransform
     */
    public void prependTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.add(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -1432,8 +1772,10 @@ public class AffineTransform
     */
    public void prependYawRotation(double yaw)
    {
+      markModified();
       RotationMatrixTools.applyYawRotation(yaw, translationVector, translationVector);
       rotationScaleMatrix.prependYawRotation(yaw);
+      updateFlags();
    }
 
    /**
@@ -1457,8 +1799,10 @@ public class AffineTransform
     */
    public void prependPitchRotation(double pitch)
    {
+      markModified();
       RotationMatrixTools.applyPitchRotation(pitch, translationVector, translationVector);
       rotationScaleMatrix.prependPitchRotation(pitch);
+      updateFlags();
    }
 
    /**
@@ -1482,29 +1826,95 @@ public class AffineTransform
     */
    public void prependRollRotation(double roll)
    {
+      markModified();
       RotationMatrixTools.applyRollRotation(roll, translationVector, translationVector);
       rotationScaleMatrix.prependRollRotation(roll);
+      updateFlags();
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      rotationScaleMatrix.transform(pointOriginal, pointTransformed);
-      pointTransformed.add(translationVector);
+      transformRotationScale(pointOriginal, pointTransformed);
+
+      if (hasTranslation)
+         pointTransformed.add(translationVector);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationScaleMatrix.transform(vectorOriginal, vectorTransformed);
+      transformRotationScale(vectorOriginal, vectorTransformed);
+   }
+
+   /**
+    * Applies the scale and then the rotation of this transform to the given tuple, skipping the
+    * parts that have no effect.
+    * <p>
+    * This method also updates the flags of this transform.
+    * </p>
+    */
+   private void transformRotationScale(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      if (!hasScale)
+      {
+         if (hasRotation)
+            getRotationMatrix().transform(tupleOriginal, tupleTransformed);
+         else
+            tupleTransformed.set(tupleOriginal);
+      }
+      else if (hasRotation)
+      {
+         rotationScaleMatrix.transform(tupleOriginal, tupleTransformed);
+      }
+      else
+      {
+         tupleTransformed.set(tupleOriginal);
+         tupleTransformed.scale(rotationScaleMatrix.getScaleX(), rotationScaleMatrix.getScaleY(), rotationScaleMatrix.getScaleZ());
+      }
+   }
+
+   /**
+    * Applies the inverse of the rotation and then the inverse of the scale of this transform to the
+    * given tuple, skipping the parts that have no effect.
+    * <p>
+    * This method also updates the flags of this transform.
+    * </p>
+    */
+   private void inverseTransformRotationScale(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      if (hasRotation)
+         getRotationMatrix().inverseTransform(tupleOriginal, tupleTransformed);
+      else
+         tupleTransformed.set(tupleOriginal);
+
+      if (!hasScale)
+         return;
+
+      if (isScaleUniform)
+      {
+         tupleTransformed.scale(1.0 / rotationScaleMatrix.getScaleX());
+      }
+      else
+      {
+         tupleTransformed.setX(tupleTransformed.getX() / rotationScaleMatrix.getScaleX());
+         tupleTransformed.setY(tupleTransformed.getY() / rotationScaleMatrix.getScaleY());
+         tupleTransformed.setZ(tupleTransformed.getZ() / rotationScaleMatrix.getScaleZ());
+      }
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
    {
+      if (!hasRotation())
+      {
+         orientationTransformed.set(orientationOriginal);
+         return;
+      }
+
       rotationScaleMatrix.transform(orientationOriginal, orientationTransformed);
    }
 
@@ -1512,7 +1922,14 @@ public class AffineTransform
    @Override
    public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
    {
-      rotationScaleMatrix.transform(vectorOriginal, vectorTransformed);
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.transform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
+
+      if (!hasTranslation)
+         return;
+
       vectorTransformed.addX(vectorTransformed.getS() * translationVector.getX());
       vectorTransformed.addY(vectorTransformed.getS() * translationVector.getY());
       vectorTransformed.addZ(vectorTransformed.getS() * translationVector.getZ());
@@ -1522,22 +1939,35 @@ public class AffineTransform
    @Override
    public void transform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
    {
-      rotationScaleMatrix.transform(matrixOriginal, matrixTransformed);
+      if (hasScale && !isScaleUniform)
+         rotationScaleMatrix.transform(matrixOriginal, matrixTransformed);
+      else if (hasRotation) // A uniform scale cancels out: S * M * S^-1 = M
+         getRotationMatrix().transform(matrixOriginal, matrixTransformed);
+      else
+         matrixTransformed.set(matrixOriginal);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
    {
-      rotationScaleMatrix.transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
-      pointTransformed.add(translationVector.getX(), translationVector.getY());
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+      else
+         pointTransformed.set(pointOriginal);
+
+      if (hasTranslation)
+         pointTransformed.add(translationVector.getX(), translationVector.getY());
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
    {
-      rotationScaleMatrix.transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1568,22 +1998,34 @@ public class AffineTransform
    @Override
    public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      pointTransformed.set(pointOriginal);
-      pointTransformed.sub(translationVector);
-      rotationScaleMatrix.inverseTransform(pointTransformed);
+      if (hasTranslation)
+      {
+         pointTransformed.sub(pointOriginal, translationVector);
+         inverseTransformRotationScale(pointTransformed, pointTransformed);
+      }
+      else
+      {
+         inverseTransformRotationScale(pointOriginal, pointTransformed);
+      }
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationScaleMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+      inverseTransformRotationScale(vectorOriginal, vectorTransformed);
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
    {
+      if (!hasRotation())
+      {
+         orientationTransformed.set(orientationOriginal);
+         return;
+      }
+
       rotationScaleMatrix.inverseTransform(orientationOriginal, orientationTransformed);
    }
 
@@ -1592,17 +2034,28 @@ public class AffineTransform
    public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
    {
       vectorTransformed.set(vectorOriginal);
-      vectorTransformed.subX(vectorTransformed.getS() * translationVector.getX());
-      vectorTransformed.subY(vectorTransformed.getS() * translationVector.getY());
-      vectorTransformed.subZ(vectorTransformed.getS() * translationVector.getZ());
-      rotationScaleMatrix.inverseTransform(vectorTransformed, vectorTransformed);
+
+      if (hasTranslation)
+      {
+         vectorTransformed.subX(vectorTransformed.getS() * translationVector.getX());
+         vectorTransformed.subY(vectorTransformed.getS() * translationVector.getY());
+         vectorTransformed.subZ(vectorTransformed.getS() * translationVector.getZ());
+      }
+
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.inverseTransform(vectorTransformed, vectorTransformed);
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
    {
-      rotationScaleMatrix.inverseTransform(matrixOriginal, matrixTransformed);
+      if (hasScale && !isScaleUniform)
+         rotationScaleMatrix.inverseTransform(matrixOriginal, matrixTransformed);
+      else if (hasRotation) // A uniform scale cancels out: S^-1 * M * S = M
+         getRotationMatrix().inverseTransform(matrixOriginal, matrixTransformed);
+      else
+         matrixTransformed.set(matrixOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1610,15 +2063,22 @@ public class AffineTransform
    public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
    {
       pointTransformed.set(pointOriginal);
-      pointTransformed.sub(translationVector.getX(), translationVector.getY());
-      rotationScaleMatrix.inverseTransform(pointTransformed, checkIfTransformInXYPlane);
+
+      if (hasTranslation)
+         pointTransformed.sub(translationVector.getX(), translationVector.getY());
+
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.inverseTransform(pointTransformed, checkIfTransformInXYPlane);
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
    {
-      rotationScaleMatrix.inverseTransform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+      if (hasRotation || hasScale)
+         rotationScaleMatrix.inverseTransform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1645,6 +2105,197 @@ public class AffineTransform
       transformed.preMultiplyInvertOther(this);
    }
 
+   /**
+    * Transforms all the points held in {@code pointsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code pointsToTransform}, see
+    * {@link #transform(Point3DArray, Point3DArray)}.
+    * </p>
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points held in {@code pointsOriginal} by this transform and stores the
+    * result in {@code pointsTransformed}.
+    * <p>
+    * This transform scales, rotates, then translates each point. The coefficients of this
+    * transform are read once for the entire batch such that the transformation of each point is a
+    * tight loop over primitive arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, translationVector, pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code vectorsToTransform}, see
+    * {@link #transform(Vector3DArray, Vector3DArray)}.
+    * </p>
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsOriginal} by this transform and stores the
+    * result in {@code vectorsTransformed}.
+    * <p>
+    * Note: transforming a vector differs from transforming a point in the way that the vector is not
+    * affected by the translation part of this transform.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, vectorsOriginal, vectorsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsToTransform}.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Point3DArray, Point3DArray)} with the inverse
+    * of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, translationVector, pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in
+    * {@code vectorsToTransform}.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in {@code vectorsOriginal} and
+    * stores the result in {@code vectorsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Vector3DArray, Vector3DArray)} with the
+    * inverse of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, vectorsOriginal, vectorsTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                   numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                          numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                       int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                   numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(rotationScaleMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                          numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(rotationScaleMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
    /**
     * Packs the rotation and translation parts of this transform in the given rigid-body transform.
     *
@@ -0,0 +1,1042 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code DualQuaternionTransform} represents a rigid-body transform, i.e. a rotation and a
+ * translation, as a unit dual quaternion.
+ * <p>
+ * A dual quaternion is composed of a real part <i>q<sub>r</sub></i> and a dual part
+ * <i>q<sub>d</sub></i>. For the transform that rotates by the quaternion <i>q</i> and then
+ * translates by <i>t</i>:
+ *
+ * <pre>
+ * q<sub>r</sub> = q
+ * q<sub>d</sub> = 0.5 * t * q
+ * </pre>
+ *
+ * where <i>t</i> is considered as a pure quaternion, i.e. a quaternion with a zero scalar part.
+ * </p>
+ * <p>
+ * The main interest of this representation is that the rotation and the translation are handled
+ * together: composing two transforms is a single dual quaternion multiplication, the
+ * <i>screw-linear interpolation</i> (ScLERP) interpolates along the screw motion between two
+ * transforms, and a weighted average of several transforms can be obtained by blending linearly
+ * their dual quaternions and normalizing the result. These operations do not create any object.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point3DBasics} or {@link Point2DBasics}, this object
+ * is rotated, then translated.
+ * <li>when applying this transform on a {@link Vector3DBasics} or {@link Vector2DBasics}, this
+ * object is only rotated. It is NOT translated.
+ * </ul>
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class DualQuaternionTransform implements Transform, EpsilonComparable<DualQuaternionTransform>, GeometricallyComparable<DualQuaternionTransform>,
+      Settable<DualQuaternionTransform>, Clearable
+{
+   /**
+    * Threshold on the norm of the vector part of the relative rotation below which the ScLERP
+    * considers the relative motion to be a pure translation.
+    */
+   private static final double EPS = 1.0e-12;
+
+   /** The real part of this dual quaternion which is also the rotation part of this transform. */
+   private final Quaternion realPart = new Quaternion();
+   /** The dual part of this dual quaternion which encodes the translation of this transform. */
+   private final Vector4D dualPart = new Vector4D();
+   /** Transform used to apply this transform on other transforms. */
+   private final QuaternionBasedTransform quaternionBasedTransform = new QuaternionBasedTransform();
+
+   /**
+    * Creates a new dual quaternion transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public DualQuaternionTransform()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it to {@code other}.
+    *
+    * @param other the other dual quaternion transform to copy. Not modified.
+    */
+   public DualQuaternionTransform(DualQuaternionTransform other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public DualQuaternionTransform(RigidBodyTransform rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it to the given quaternion-based
+    * transform.
+    *
+    * @param quaternionBasedTransform the quaternion-based transform to copy. Not modified.
+    */
+   public DualQuaternionTransform(QuaternionBasedTransform quaternionBasedTransform)
+   {
+      set(quaternionBasedTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion transform and initializes it from the given rotation and
+    * translation.
+    *
+    * @param orientation the orientation used to initialize the rotation part. Not modified.
+    * @param translation the tuple used to initialize the translation part. Not modified.
+    */
+   public DualQuaternionTransform(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      set(orientation, translation);
+   }
+
+   /**
+    * Resets this transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      realPart.setToZero();
+      dualPart.setToZero();
+   }
+
+   /**
+    * Resets this transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to zero, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   @Override
+   public void setToZero()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Sets all the components of this transform to {@link Double#NaN}.
+    */
+   @Override
+   public void setToNaN()
+   {
+      realPart.setToNaN();
+      dualPart.setToNaN();
+   }
+
+   /**
+    * Tests if at least one element of this transform is equal to {@linkplain Double#NaN}.
+    *
+    * @return {@code true} if at least one element of this transform is equal to
+    *         {@linkplain Double#NaN}, {@code false} otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      return realPart.containsNaN() || dualPart.containsNaN();
+   }
+
+   /**
+    * Sets the 8 components of this dual quaternion without normalizing it.
+    * <p>
+    * The given components are expected to describe a unit dual quaternion, i.e. the real part has
+    * a unit norm and is orthogonal to the dual part. {@link #normalize()} can be called afterwards
+    * otherwise.
+    * </p>
+    *
+    * @param rx the x-component of the real part.
+    * @param ry the y-component of the real part.
+    * @param rz the z-component of the real part.
+    * @param rs the s-component of the real part.
+    * @param dx the x-component of the dual part.
+    * @param dy the y-component of the dual part.
+    * @param dz the z-component of the dual part.
+    * @param ds the s-component of the dual part.
+    */
+   public void setUnsafe(double rx, double ry, double rz, double rs, double dx, double dy, double dz, double ds)
+   {
+      realPart.setUnsafe(rx, ry, rz, rs);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Sets this transform to {@code other}.
+    *
+    * @param other the other dual quaternion transform. Not modified.
+    */
+   @Override
+   public void set(DualQuaternionTransform other)
+   {
+      realPart.set(other.realPart);
+      dualPart.set(other.dualPart);
+   }
+
+   /**
+    * Sets this transform to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy the values from. Not modified.
+    */
+   public void set(RigidBodyTransform rigidBodyTransform)
+   {
+      set(rigidBodyTransform.getRotationMatrix(), rigidBodyTransform.getTranslationVector());
+   }
+
+   /**
+    * Sets this transform to the given quaternion-based transform.
+    *
+    * @param quaternionBasedTransform the quaternion-based transform to copy the values from. Not
+    *           modified.
+    */
+   public void set(QuaternionBasedTransform quaternionBasedTransform)
+   {
+      set(quaternionBasedTransform.getQuaternion(), quaternionBasedTransform.getTranslationVector());
+   }
+
+   /**
+    * Sets this transform from the given rotation and translation.
+    *
+    * @param orientation the orientation used to set the rotation part. Not modified.
+    * @param translation the tuple used to set the translation part. Not modified.
+    */
+   public void set(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
+   {
+      realPart.set(orientation);
+      setDualPartFromTranslation(translation.getX(), translation.getY(), translation.getZ());
+   }
+
+   /**
+    * Sets the translation part of this transform while preserving its rotation part.
+    *
+    * @param translation the tuple used to set the translation part. Not modified.
+    */
+   public void setTranslation(Tuple3DReadOnly translation)
+   {
+      setDualPartFromTranslation(translation.getX(), translation.getY(), translation.getZ());
+   }
+
+   /**
+    * Sets the translation part of this transform while preserving its rotation part.
+    *
+    * @param x the x-component of the translation part.
+    * @param y the y-component of the translation part.
+    * @param z the z-component of the translation part.
+    */
+   public void setTranslation(double x, double y, double z)
+   {
+      setDualPartFromTranslation(x, y, z);
+   }
+
+   /**
+    * Computes the dual part from the current real part and the given translation:
+    * <i>q<sub>d</sub></i> = 0.5 * <i>t</i> * <i>q<sub>r</sub></i>.
+    */
+   private void setDualPartFromTranslation(double x, double y, double z)
+   {
+      double rx = realPart.getX();
+      double ry = realPart.getY();
+      double rz = realPart.getZ();
+      double rs = realPart.getS();
+
+      double dx = 0.5 * (x * rs + y * rz - z * ry);
+      double dy = 0.5 * (y * rs + z * rx - x * rz);
+      double dz = 0.5 * (z * rs + x * ry - y * rx);
+      double ds = -0.5 * (x * rx + y * ry + z * rz);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Normalizes this dual quaternion such that it represents a rigid-body transform.
+    * <p>
+    * The real part is normalized and the dual part is scaled accordingly, then the component of the
+    * dual part that is parallel to the real part is removed.
+    * </p>
+    * <p>
+    * This is typically needed after a blend or after many successive multiplications to remove the
+    * accumulated round-off errors.
+    * </p>
+    */
+   public void normalize()
+   {
+      normalize(1.0 / Math.sqrt(realPart.normSquared()));
+   }
+
+   /**
+    * Normalizes this dual quaternion such that it represents a rigid-body transform, using an
+    * approximation of the norm of the real part when it is already close to unitary.
+    * <p>
+    * This is meant to be called repeatedly to remove the drift accumulated by successive
+    * multiplications, see {@link EuclidCoreTools#fastInverseSquareRoot(double)}. Otherwise, this
+    * method is equivalent to {@link #normalize()}.
+    * </p>
+    */
+   public void fastNormalize()
+   {
+      normalize(EuclidCoreTools.fastInverseSquareRoot(realPart.normSquared()));
+   }
+
+   private void normalize(double invNorm)
+   {
+      double rx = realPart.getX() * invNorm;
+      double ry = realPart.getY() * invNorm;
+      double rz = realPart.getZ() * invNorm;
+      double rs = realPart.getS() * invNorm;
+
+      double dx = dualPart.getX() * invNorm;
+      double dy = dualPart.getY() * invNorm;
+      double dz = dualPart.getZ() * invNorm;
+      double ds = dualPart.getS() * invNorm;
+      double dot = rx * dx + ry * dy + rz * dz + rs * ds;
+      dx -= dot * rx;
+      dy -= dot * ry;
+      dz -= dot * rz;
+      ds -= dot * rs;
+
+      setUnsafe(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   /**
+    * Inverts this transform.
+    * <p>
+    * For a unit dual quaternion, the inverse is obtained by conjugating both the real and dual
+    * parts.
+    * </p>
+    */
+   public void invert()
+   {
+      realPart.conjugate();
+      dualPart.set(-dualPart.getX(), -dualPart.getY(), -dualPart.getZ(), dualPart.getS());
+   }
+
+   /**
+    * Performs the multiplication of this transform with {@code other}.
+    * <p>
+    * this = this * other
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void multiply(DualQuaternionTransform other)
+   {
+      multiply(this, other);
+   }
+
+   /**
+    * Performs the multiplication of {@code other} with this transform.
+    * <p>
+    * this = other * this
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternionTransform other)
+   {
+      multiply(other, this);
+   }
+
+   /**
+    * Sets this transform to the product of the two given transforms.
+    * <p>
+    * this = first * second
+    * </p>
+    *
+    * @param first the first transform of the product. Not modified.
+    * @param second the second transform of the product. Not modified.
+    */
+   public void multiply(DualQuaternionTransform first, DualQuaternionTransform second)
+   {
+      QuaternionReadOnly ar = first.realPart;
+      Vector4DReadOnly ad = first.dualPart;
+      QuaternionReadOnly br = second.realPart;
+      Vector4DReadOnly bd = second.dualPart;
+      multiply(ar.getX(), ar.getY(), ar.getZ(), ar.getS(), ad.getX(), ad.getY(), ad.getZ(), ad.getS(), br.getX(), br.getY(), br.getZ(), br.getS(),
+               bd.getX(), bd.getY(), bd.getZ(), bd.getS());
+   }
+
+   /**
+    * Sets this dual quaternion to the product a * b:
+    *
+    * <pre>
+    * r = a<sub>r</sub> * b<sub>r</sub>
+    * d = a<sub>r</sub> * b<sub>d</sub> + a<sub>d</sub> * b<sub>r</sub>
+    * </pre>
+    */
+   private void multiply(double arx, double ary, double arz, double ars, double adx, double ady, double adz, double ads, double brx, double bry,
+                         double brz, double brs, double bdx, double bdy, double bdz, double bds)
+   {
+      double rx = ars * brx + arx * brs + ary * brz - arz * bry;
+      double ry = ars * bry - arx * brz + ary * brs + arz * brx;
+      double rz = ars * brz + arx * bry - ary * brx + arz * brs;
+      double rs = ars * brs - arx * brx - ary * bry - arz * brz;
+
+      double dx = ars * bdx + arx * bds + ary * bdz - arz * bdy;
+      double dy = ars * bdy - arx * bdz + ary * bds + arz * bdx;
+      double dz = ars * bdz + arx * bdy - ary * bdx + arz * bds;
+      double ds = ars * bds - arx * bdx - ary * bdy - arz * bdz;
+
+      dx += ads * brx + adx * brs + ady * brz - adz * bry;
+      dy += ads * bry - adx * brz + ady * brs + adz * brx;
+      dz += ads * brz + adx * bry - ady * brx + adz * brs;
+      ds += ads * brs - adx * brx - ady * bry - adz * brz;
+
+      setUnsafe(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   /**
+    * Performs a screw-linear interpolation (ScLERP) from this transform to {@code other} given the
+    * percentage {@code alpha}.
+    *
+    * @param other the other transform used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not
+    *           modifying this transform, while a value of 1 is equivalent to setting this transform
+    *           to {@code other}.
+    * @see #interpolate(DualQuaternionTransform, DualQuaternionTransform, double)
+    */
+   public void interpolate(DualQuaternionTransform other, double alpha)
+   {
+      interpolate(this, other, alpha);
+   }
+
+   /**
+    * Performs a screw-linear interpolation (ScLERP) from {@code firstTransform} to
+    * {@code secondTransform} given the percentage {@code alpha}.
+    * <p>
+    * The relative transform between the two transforms is a screw motion, i.e. a rotation about an
+    * axis combined with a translation along the same axis. The interpolated transform is obtained
+    * by applying the fraction {@code alpha} of this screw motion to {@code firstTransform}:
+    *
+    * <pre>
+    * this = firstTransform * (firstTransform<sup>-1</sup> * secondTransform)<sup>alpha</sup>
+    * </pre>
+    *
+    * As for the SLERP, the interpolation follows the shortest path. The rotation part is
+    * identical to the SLERP of the two rotations, while the translation follows a helix instead of
+    * a straight line.
+    * </p>
+    *
+    * @param firstTransform the first transform used in the interpolation. Not modified.
+    * @param secondTransform the second transform used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this transform to {@code firstTransform}, while a value of 1 is equivalent to setting
+    *           this transform to {@code secondTransform}.
+    */
+   public void interpolate(DualQuaternionTransform firstTransform, DualQuaternionTransform secondTransform, double alpha)
+   {
+      double r0x = firstTransform.realPart.getX();
+      double r0y = firstTransform.realPart.getY();
+      double r0z = firstTransform.realPart.getZ();
+      double r0s = firstTransform.realPart.getS();
+      double d0x = firstTransform.dualPart.getX();
+      double d0y = firstTransform.dualPart.getY();
+      double d0z = firstTransform.dualPart.getZ();
+      double d0s = firstTransform.dualPart.getS();
+
+      double r1x = secondTransform.realPart.getX();
+      double r1y = secondTransform.realPart.getY();
+      double r1z = secondTransform.realPart.getZ();
+      double r1s = secondTransform.realPart.getS();
+      double d1x = secondTransform.dualPart.getX();
+      double d1y = secondTransform.dualPart.getY();
+      double d1z = secondTransform.dualPart.getZ();
+      double d1s = secondTransform.dualPart.getS();
+
+      if (r0x * r1x + r0y * r1y + r0z * r1z + r0s * r1s < 0.0)
+      { // Interpolating along the shortest path
+         r1x = -r1x;
+         r1y = -r1y;
+         r1z = -r1z;
+         r1s = -r1s;
+         d1x = -d1x;
+         d1y = -d1y;
+         d1z = -d1z;
+         d1s = -d1s;
+      }
+
+      // Relative transform: conj(first) * second
+      multiply(-r0x, -r0y, -r0z, r0s, -d0x, -d0y, -d0z, d0s, r1x, r1y, r1z, r1s, d1x, d1y, d1z, d1s);
+
+      double rx = realPart.getX();
+      double ry = realPart.getY();
+      double rz = realPart.getZ();
+      double rs = realPart.getS();
+      double dx = dualPart.getX();
+      double dy = dualPart.getY();
+      double dz = dualPart.getZ();
+      double ds = dualPart.getS();
+
+      double sinHalfAngle = Math.sqrt(rx * rx + ry * ry + rz * rz);
+
+      if (sinHalfAngle < EPS)
+      { // Pure translation, the dual part is 0.5 * t
+         rx = 0.0;
+         ry = 0.0;
+         rz = 0.0;
+         rs = 1.0;
+         dx *= alpha;
+         dy *= alpha;
+         dz *= alpha;
+         ds = 0.0;
+      }
+      else
+      {
+         // Screw parameters: axis l, moment m, half angle, and half displacement along the axis.
+         double invSinHalfAngle = 1.0 / sinHalfAngle;
+         double lx = rx * invSinHalfAngle;
+         double ly = ry * invSinHalfAngle;
+         double lz = rz * invSinHalfAngle;
+         double halfAngle = Math.atan2(sinHalfAngle, rs);
+         double halfDisplacement = -ds * invSinHalfAngle;
+         double mx = (dx - lx * halfDisplacement * rs) * invSinHalfAngle;
+         double my = (dy - ly * halfDisplacement * rs) * invSinHalfAngle;
+         double mz = (dz - lz * halfDisplacement * rs) * invSinHalfAngle;
+
+         halfAngle *= alpha;
+         halfDisplacement *= alpha;
+         double sin = Math.sin(halfAngle);
+         double cos = Math.cos(halfAngle);
+
+         rx = lx * sin;
+         ry = ly * sin;
+         rz = lz * sin;
+         rs = cos;
+         dx = mx * sin + lx * halfDisplacement * cos;
+         dy = my * sin + ly * halfDisplacement * cos;
+         dz = mz * sin + lz * halfDisplacement * cos;
+         ds = -halfDisplacement * sin;
+      }
+
+      multiply(r0x, r0y, r0z, r0s, d0x, d0y, d0z, d0s, rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   /**
+    * Sets this transform to the weighted average of the given transforms using the dual quaternion
+    * linear blending.
+    * <p>
+    * The dual quaternions are summed up with their respective weight and the result is normalized.
+    * Each dual quaternion is negated if necessary such that its real part is in the same hemisphere
+    * as the real part of the first transform. While being an approximation of the weighted
+    * average, the result is always a rigid-body transform and is exact for two transforms
+    * interpolated with a constant screw motion, which makes it well suited for skinning and
+    * pose-averaging applications.
+    * </p>
+    *
+    * @param transforms the transforms to blend. Not modified.
+    * @param weights the weight of each transform. Not modified.
+    * @throws IllegalArgumentException if {@code transforms} is empty or if {@code transforms} and
+    *            {@code weights} have different lengths.
+    */
+   public void blend(DualQuaternionTransform[] transforms, double[] weights)
+   {
+      if (transforms.length == 0)
+         throw new IllegalArgumentException("There must be at least one transform to blend.");
+      if (transforms.length != weights.length)
+         throw new IllegalArgumentException("The number of weights (" + weights.length + ") differs from the number of transforms (" + transforms.length
+               + ").");
+
+      QuaternionReadOnly reference = transforms[0].realPart;
+      double rx = 0.0, ry = 0.0, rz = 0.0, rs = 0.0;
+      double dx = 0.0, dy = 0.0, dz = 0.0, ds = 0.0;
+
+      for (int i = 0; i < transforms.length; i++)
+      {
+         QuaternionReadOnly real = transforms[i].realPart;
+         Vector4DReadOnly dual = transforms[i].dualPart;
+         double weight = weights[i];
+
+         if (reference.dot(real) < 0.0)
+            weight = -weight;
+
+         rx += weight * real.getX();
+         ry += weight * real.getY();
+         rz += weight * real.getZ();
+         rs += weight * real.getS();
+         dx += weight * dual.getX();
+         dy += weight * dual.getY();
+         dz += weight * dual.getZ();
+         ds += weight * dual.getS();
+      }
+
+      setUnsafe(rx, ry, rz, rs, dx, dy, dz, ds);
+      normalize();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      realPart.transform(pointOriginal, pointTransformed);
+      pointTransformed.add(x, y, z);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      realPart.transform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
+   {
+      realPart.transform(orientationOriginal, orientationTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      realPart.transform(vectorOriginal, vectorTransformed);
+      vectorTransformed.addX(vectorTransformed.getS() * x);
+      vectorTransformed.addY(vectorTransformed.getS() * y);
+      vectorTransformed.addZ(vectorTransformed.getS() * z);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
+   {
+      realPart.transform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      realPart.transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+      pointTransformed.add(x, y);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      realPart.transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiply(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiply(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(AffineTransform original, AffineTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiply(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      pointTransformed.set(pointOriginal);
+      pointTransformed.sub(x, y, z);
+      realPart.inverseTransform(pointTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      realPart.inverseTransform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
+   {
+      realPart.inverseTransform(orientationOriginal, orientationTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      vectorTransformed.set(vectorOriginal);
+      vectorTransformed.subX(vectorTransformed.getS() * x);
+      vectorTransformed.subY(vectorTransformed.getS() * y);
+      vectorTransformed.subZ(vectorTransformed.getS() * z);
+      realPart.inverseTransform(vectorTransformed, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
+   {
+      realPart.inverseTransform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      pointTransformed.set(pointOriginal);
+      pointTransformed.sub(x, y);
+      realPart.inverseTransform(pointTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      realPart.inverseTransform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(AffineTransform original, AffineTransform transformed)
+   {
+      get(quaternionBasedTransform);
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(quaternionBasedTransform);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      BulkTransformTools.transform(realPart, x, y, z, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(realPart, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      BulkTransformTools.inverseTransform(realPart, x, y, z, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                       int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(realPart, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      BulkTransformTools.transform(realPart, x, y, z, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(realPart, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      BulkTransformTools.inverseTransform(realPart, x, y, z, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(realPart, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /**
+    * Packs this transform into the given rigid-body transform.
+    *
+    * @param rigidBodyTransformToPack the rigid-body transform in which this transform is stored.
+    *           Modified.
+    */
+   public void get(RigidBodyTransform rigidBodyTransformToPack)
+   {
+      rigidBodyTransformToPack.setRotation(realPart);
+      rigidBodyTransformToPack.setTranslation(getTranslationX(), getTranslationY(), getTranslationZ());
+   }
+
+   /**
+    * Packs this transform into the given quaternion-based transform.
+    *
+    * @param quaternionBasedTransformToPack the quaternion-based transform in which this transform is
+    *           stored. Modified.
+    */
+   public void get(QuaternionBasedTransform quaternionBasedTransformToPack)
+   {
+      quaternionBasedTransformToPack.set(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), getTranslationX(), getTranslationY(),
+                                         getTranslationZ());
+   }
+
+   /**
+    * Packs the rotation and translation parts of this transform separately.
+    *
+    * @param orientationToPack the orientation in which the rotation part is stored. Modified.
+    * @param translationToPack the tuple in which the translation part is stored. Modified.
+    */
+   public void get(Orientation3DBasics orientationToPack, Tuple3DBasics translationToPack)
+   {
+      orientationToPack.set(realPart);
+      getTranslation(translationToPack);
+   }
+
+   /**
+    * Gets the read-only reference to the real part of this dual quaternion, which is also the
+    * rotation part of this transform.
+    *
+    * @return the real part of this dual quaternion.
+    */
+   public QuaternionReadOnly getRealPart()
+   {
+      return realPart;
+   }
+
+   /**
+    * Gets the read-only reference to the dual part of this dual quaternion.
+    *
+    * @return the dual part of this dual quaternion.
+    */
+   public Vector4DReadOnly getDualPart()
+   {
+      return dualPart;
+   }
+
+   /**
+    * Packs the translation part of this transform.
+    *
+    * @param translationToPack the tuple in which the translation part is stored. Modified.
+    */
+   public void getTranslation(Tuple3DBasics translationToPack)
+   {
+      translationToPack.set(getTranslationX(), getTranslationY(), getTranslationZ());
+   }
+
+   /**
+    * Computes the x-component of the translation part of this transform:
+    * <i>t</i> = 2 * <i>q<sub>d</sub></i> * conj(<i>q<sub>r</sub></i>).
+    *
+    * @return the x-component of the translation part.
+    */
+   public double getTranslationX()
+   {
+      return 2.0 * (realPart.getS() * dualPart.getX() - dualPart.getS() * realPart.getX() + realPart.getY() * dualPart.getZ()
+            - realPart.getZ() * dualPart.getY());
+   }
+
+   /**
+    * Computes the y-component of the translation part of this transform:
+    * <i>t</i> = 2 * <i>q<sub>d</sub></i> * conj(<i>q<sub>r</sub></i>).
+    *
+    * @return the y-component of the translation part.
+    */
+   public double getTranslationY()
+   {
+      return 2.0 * (realPart.getS() * dualPart.getY() - dualPart.getS() * realPart.getY() + realPart.getZ() * dualPart.getX()
+            - realPart.getX() * dualPart.getZ());
+   }
+
+   /**
+    * Computes the z-component of the translation part of this transform:
+    * <i>t</i> = 2 * <i>q<sub>d</sub></i> * conj(<i>q<sub>r</sub></i>).
+    *
+    * @return the z-component of the translation part.
+    */
+   public double getTranslationZ()
+   {
+      return 2.0 * (realPart.getS() * dualPart.getZ() - dualPart.getS() * realPart.getZ() + realPart.getX() * dualPart.getY()
+            - realPart.getY() * dualPart.getX());
+   }
+
+   /**
+    * Tests on a per component basis if the real and dual parts of this transform and {@code other}
+    * are equal to an {@code epsilon}.
+    *
+    * @param other the other dual quaternion transform to compare against this. Not modified.
+    */
+   @Override
+   public boolean epsilonEquals(DualQuaternionTransform other, double epsilon)
+   {
+      return realPart.epsilonEquals(other.realPart, epsilon) && dualPart.epsilonEquals(other.dualPart, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(DualQuaternionTransform)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof DualQuaternionTransform)
+         return equals((DualQuaternionTransform) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if the real and dual parts of this transform and {@code other}
+    * are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(DualQuaternionTransform other)
+   {
+      if (other == null)
+         return false;
+      else
+         return realPart.equals(other.realPart) && dualPart.equals(other.dualPart);
+   }
+
+   /**
+    * Two dual quaternion transforms are considered geometrically equal if they represent the same
+    * rotation and translation, i.e. their dual quaternions are equal up to a sign.
+    *
+    * @param other the other dual quaternion transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(DualQuaternionTransform other, double epsilon)
+   {
+      if (!realPart.geometricallyEquals(other.realPart, epsilon))
+         return false;
+
+      return Math.abs(getTranslationX() - other.getTranslationX()) <= epsilon && Math.abs(getTranslationY() - other.getTranslationY()) <= epsilon
+            && Math.abs(getTranslationZ() - other.getTranslationZ()) <= epsilon;
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Real part: (rx, ry, rz, rs) <br>
+    * Dual part: (dx, dy, dz, ds)
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getDualQuaternionTransformString(this);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(realPart.hashCode(), dualPart.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
@@ -0,0 +1,399 @@
+package us.ihmc.euclid.transform;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import us.ihmc.euclid.transform.interfaces.Transform;
+
+/**
+ * This class can be used to transform very large sets of points or vectors stored in primitive
+ * arrays using several threads.
+ * <p>
+ * The tuples are stored as follows: [x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>,
+ * y<sub>1</sub>, z<sub>1</sub>, ...]. The work is recursively split into contiguous chunks that
+ * are processed in parallel by a caller supplied {@link ForkJoinPool}. Each chunk is transformed
+ * using the batch methods of {@link Transform}, such as
+ * {@link Transform#transformPoints(double[], int, double[], int, int)}, such that no garbage is
+ * generated per tuple.
+ * </p>
+ * <p>
+ * When the number of tuples to transform is below the sequential threshold, the transformation is
+ * performed directly on the calling thread as the cost of forking would outweigh the gain.
+ * </p>
+ * <p>
+ * The transform must not be modified while an operation is in progress. The arrays holding the
+ * original and transformed tuples can be the same only if the offsets are equal.
+ * </p>
+ * <p>
+ * The transform is read from several threads at once, such that it must not update itself lazily
+ * when read. A {@link TransformChain}, for instance, recomputes its flattened transform when read
+ * after one of its stages has changed. Instead of the chain, pass its flattened transform which
+ * brings the chain up-to-date before the operation:
+ * </p>
+ *
+ * <pre>
+ * transformer.transformPoints(chain.getFlattenedTransform(), points, 0, points, 0, numberOfPoints);
+ * </pre>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ParallelBulkTransformer
+{
+   /** Default number of tuples below which the transformation is performed sequentially. */
+   public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 32768;
+   /**
+    * Default number of tuples per chunk: small enough for a chunk to fit in the L2 cache of most
+    * processors and large enough to amortize the scheduling cost.
+    */
+   public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+   /** The pool used to execute the parallel tasks. */
+   private final ForkJoinPool pool;
+   /** The number of tuples below which the transformation is performed sequentially. */
+   private int sequentialThreshold = DEFAULT_SEQUENTIAL_THRESHOLD;
+   /** The maximum number of tuples transformed by a single task. */
+   private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+   /**
+    * Creates a new transformer that will execute its tasks in the given pool.
+    *
+    * @param pool the pool to use for executing the parallel tasks. Not modified.
+    */
+   public ParallelBulkTransformer(ForkJoinPool pool)
+   {
+      if (pool == null)
+         throw new IllegalArgumentException("The pool cannot be null.");
+      this.pool = pool;
+   }
+
+   /**
+    * Sets the number of tuples below which the transformation is performed sequentially on the
+    * calling thread.
+    *
+    * @param sequentialThreshold the new threshold.
+    */
+   public void setSequentialThreshold(int sequentialThreshold)
+   {
+      this.sequentialThreshold = sequentialThreshold;
+   }
+
+   /**
+    * Sets the maximum number of tuples to be transformed by a single task.
+    *
+    * @param chunkSize the new chunk size.
+    * @throws IllegalArgumentException if {@code chunkSize} is not strictly positive.
+    */
+   public void setChunkSize(int chunkSize)
+   {
+      if (chunkSize <= 0)
+         throw new IllegalArgumentException("The chunk size has to be strictly positive, was: " + chunkSize);
+      this.chunkSize = chunkSize;
+   }
+
+   /**
+    * Gets the number of tuples below which the transformation is performed sequentially.
+    *
+    * @return the sequential threshold.
+    */
+   public int getSequentialThreshold()
+   {
+      return sequentialThreshold;
+   }
+
+   /**
+    * Gets the maximum number of tuples to be transformed by a single task.
+    *
+    * @return the chunk size.
+    */
+   public int getChunkSize()
+   {
+      return chunkSize;
+   }
+
+   /**
+    * Gets the pool used to execute the parallel tasks.
+    *
+    * @return the pool.
+    */
+   public ForkJoinPool getPool()
+   {
+      return pool;
+   }
+
+   /**
+    * Transforms the points held in {@code pointsOriginal} by the given {@code transform} and stores
+    * the results in {@code pointsTransformed}.
+    *
+    * @param transform the transform to apply. Not modified.
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    * @see Transform#transformPoints(double[], int, double[], int, int)
+    */
+   public void transformPoints(Transform transform, double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset,
+                               int numberOfPoints)
+   {
+      execute(transform, true, false, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, null, null, numberOfPoints);
+   }
+
+   /**
+    * Transforms the vectors held in {@code vectorsOriginal} by the given {@code transform} and
+    * stores the results in {@code vectorsTransformed}.
+    *
+    * @param transform the transform to apply. Not modified.
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    * @see Transform#transformVectors(double[], int, double[], int, int)
+    */
+   public void transformVectors(Transform transform, double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                int numberOfVectors)
+   {
+      execute(transform, false, false, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, null, null, numberOfVectors);
+   }
+
+   /**
+    * Performs the inverse of the given {@code transform} on the points held in
+    * {@code pointsOriginal} and stores the results in {@code pointsTransformed}.
+    *
+    * @param transform the transform to apply the inverse of. Not modified.
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    * @see Transform#inverseTransformPoints(double[], int, double[], int, int)
+    */
+   public void inverseTransformPoints(Transform transform, double[] pointsOriginal, int originalOffset, double[] pointsTransformed,
+                                      int transformedOffset, int numberOfPoints)
+   {
+      execute(transform, true, true, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, null, null, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the given {@code transform} on the vectors held in
+    * {@code vectorsOriginal} and stores the results in {@code vectorsTransformed}.
+    *
+    * @param transform the transform to apply the inverse of. Not modified.
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    * @see Transform#inverseTransformVectors(double[], int, double[], int, int)
+    */
+   public void inverseTransformVectors(Transform transform, double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed,
+                                       int transformedOffset, int numberOfVectors)
+   {
+      execute(transform, false, true, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, null, null, numberOfVectors);
+   }
+
+   /**
+    * Transforms the points held in {@code pointsOriginal} by the given {@code transform} and stores
+    * the results in {@code pointsTransformed}.
+    *
+    * @param transform the transform to apply. Not modified.
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    * @see Transform#transformPoints(float[], int, float[], int, int)
+    */
+   public void transformPoints(Transform transform, float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset,
+                               int numberOfPoints)
+   {
+      execute(transform, true, false, null, originalOffset, null, transformedOffset, pointsOriginal, pointsTransformed, numberOfPoints);
+   }
+
+   /**
+    * Transforms the vectors held in {@code vectorsOriginal} by the given {@code transform} and
+    * stores the results in {@code vectorsTransformed}.
+    *
+    * @param transform the transform to apply. Not modified.
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    * @see Transform#transformVectors(float[], int, float[], int, int)
+    */
+   public void transformVectors(Transform transform, float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset,
+                                int numberOfVectors)
+   {
+      execute(transform, false, false, null, originalOffset, null, transformedOffset, vectorsOriginal, vectorsTransformed, numberOfVectors);
+   }
+
+   /**
+    * Performs the inverse of the given {@code transform} on the points held in
+    * {@code pointsOriginal} and stores the results in {@code pointsTransformed}.
+    *
+    * @param transform the transform to apply the inverse of. Not modified.
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    * @see Transform#inverseTransformPoints(float[], int, float[], int, int)
+    */
+   public void inverseTransformPoints(Transform transform, float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset,
+                                      int numberOfPoints)
+   {
+      execute(transform, true, true, null, originalOffset, null, transformedOffset, pointsOriginal, pointsTransformed, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the given {@code transform} on the vectors held in
+    * {@code vectorsOriginal} and stores the results in {@code vectorsTransformed}.
+    *
+    * @param transform the transform to apply the inverse of. Not modified.
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    * @see Transform#inverseTransformVectors(float[], int, float[], int, int)
+    */
+   public void inverseTransformVectors(Transform transform, float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed,
+                                       int transformedOffset, int numberOfVectors)
+   {
+      execute(transform, false, true, null, originalOffset, null, transformedOffset, vectorsOriginal, vectorsTransformed, numberOfVectors);
+   }
+
+   private void execute(Transform transform, boolean points, boolean inverse, double[] doublesOriginal, int originalOffset, double[] doublesTransformed,
+                        int transformedOffset, float[] floatsOriginal, float[] floatsTransformed, int numberOfTuples)
+   {
+      TransformTask task = new TransformTask(transform, points, inverse, doublesOriginal, doublesTransformed, floatsOriginal, floatsTransformed,
+                                             originalOffset, transformedOffset, 0, numberOfTuples, chunkSize);
+
+      if (numberOfTuples < sequentialThreshold)
+         task.transformRange();
+      else
+         pool.invoke(task);
+   }
+
+   /**
+    * Task transforming the tuples in the range [{@code startIndex}, {@code endIndex}[, splitting
+    * itself in two halves while the range is larger than the chunk size.
+    */
+   @SuppressWarnings("serial")
+   private static class TransformTask extends RecursiveAction
+   {
+      private final Transform transform;
+      private final boolean points;
+      private final boolean inverse;
+      private final double[] doublesOriginal;
+      private final double[] doublesTransformed;
+      private final float[] floatsOriginal;
+      private final float[] floatsTransformed;
+      private final int originalOffset;
+      private final int transformedOffset;
+      private final int startIndex;
+      private final int endIndex;
+      private final int chunkSize;
+
+      private TransformTask(Transform transform, boolean points, boolean inverse, double[] doublesOriginal, double[] doublesTransformed,
+                            float[] floatsOriginal, float[] floatsTransformed, int originalOffset, int transformedOffset, int startIndex, int endIndex,
+                            int chunkSize)
+      {
+         this.transform = transform;
+         this.points = points;
+         this.inverse = inverse;
+         this.doublesOriginal = doublesOriginal;
+         this.doublesTransformed = doublesTransformed;
+         this.floatsOriginal = floatsOriginal;
+         this.floatsTransformed = floatsTransformed;
+         this.originalOffset = originalOffset;
+         this.transformedOffset = transformedOffset;
+         this.startIndex = startIndex;
+         this.endIndex = endIndex;
+         this.chunkSize = chunkSize;
+      }
+
+      @Override
+      protected void compute()
+      {
+         int numberOfTuples = endIndex - startIndex;
+
+         if (numberOfTuples <= chunkSize)
+         {
+            transformRange();
+         }
+         else
+         {
+            // Splitting on a chunk boundary so the leaves are all full chunks except the last one.
+            int numberOfChunks = (numberOfTuples + chunkSize - 1) / chunkSize;
+            int middleIndex = startIndex + (numberOfChunks / 2) * chunkSize;
+            invokeAll(subTask(startIndex, middleIndex), subTask(middleIndex, endIndex));
+         }
+      }
+
+      private TransformTask subTask(int startIndex, int endIndex)
+      {
+         return new TransformTask(transform, points, inverse, doublesOriginal, doublesTransformed, floatsOriginal, floatsTransformed, originalOffset,
+                                  transformedOffset, startIndex, endIndex, chunkSize);
+      }
+
+      private void transformRange()
+      {
+         int original = originalOffset + 3 * startIndex;
+         int transformed = transformedOffset + 3 * startIndex;
+         int numberOfTuples = endIndex - startIndex;
+
+         if (doublesOriginal != null)
+         {
+            if (points)
+            {
+               if (inverse)
+                  transform.inverseTransformPoints(doublesOriginal, original, doublesTransformed, transformed, numberOfTuples);
+               else
+                  transform.transformPoints(doublesOriginal, original, doublesTransformed, transformed, numberOfTuples);
+            }
+            else
+            {
+               if (inverse)
+                  transform.inverseTransformVectors(doublesOriginal, original, doublesTransformed, transformed, numberOfTuples);
+               else
+                  transform.transformVectors(doublesOriginal, original, doublesTransformed, transformed, numberOfTuples);
+            }
+         }
+         else
+         {
+            if (points)
+            {
+               if (inverse)
+                  transform.inverseTransformPoints(floatsOriginal, original, floatsTransformed, transformed, numberOfTuples);
+               else
+                  transform.transformPoints(floatsOriginal, original, floatsTransformed, transformed, numberOfTuples);
+            }
+            else
+            {
+               if (inverse)
+                  transform.inverseTransformVectors(floatsOriginal, original, floatsTransformed, transformed, numberOfTuples);
+               else
+                  transform.transformVectors(floatsOriginal, original, floatsTransformed, transformed, numberOfTuples);
+            }
+         }
+      }
+   }
+}
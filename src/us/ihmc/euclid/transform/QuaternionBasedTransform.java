@@ -13,6 +13,7 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.QuaternionTools;
@@ -22,7 +23,9 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -30,6 +33,7 @@ import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
 import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
@@ -60,10 +64,26 @@ import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
 public class QuaternionBasedTransform implements Transform, EpsilonComparable<QuaternionBasedTransform>, GeometricallyComparable<QuaternionBasedTransform>,
       Settable<QuaternionBasedTransform>, Clearable
 {
+   private static final double EPS_CHECK_IDENTITY = 1.0e-10;
+
    /** The rotation part of this transform. */
    private final Quaternion quaternion = new Quaternion();
    /** The translation part of this transform. */
    private final Vector3D translationVector = new Vector3D();
+   /** Incremented every time this transform is modified, see {@link #getVersion()}. */
+   private long version = 0;
+   /**
+    * Whether the inverse of this transform is cached, see
+    * {@link #setInverseCacheEnabled(boolean)}.
+    */
+   private boolean isInverseCacheEnabled = false;
+   /** Whether {@link #inverse} is up-to-date with this transform. */
+   private boolean isInverseUpToDate = false;
+   /** The cached inverse of this transform, only created once the cache has been enabled. */
+   private RigidBodyTransform inverse;
+   /** Flags used to pick the cheapest way to transform, updated by every setter. */
+   private boolean hasRotation = false;
+   private boolean hasTranslation = false;
 
    /**
     * Creates a new quaternion-based transform set to identity.
@@ -183,6 +203,127 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       set(orientation, translation);
    }
 
+   /**
+    * Enables or disables the caching of the inverse of this transform.
+    * <p>
+    * When enabled, the inverse of this transform is computed the first time it is needed and
+    * reused by the following inverse transformations until this transform is modified. This is
+    * beneficial when many tuples are to be inverse transformed by the same transform.
+    * </p>
+    * <p>
+    * The inverse is cached as a {@link RigidBodyTransform} such that transforming points and
+    * vectors with it only requires a matrix multiplication instead of the more expensive
+    * quaternion transformation.
+    * </p>
+    * <p>
+    * Computing the cached inverse modifies the internal state of this transform. As a result, a
+    * transform with the cache enabled must not be read from several threads at once.
+    * </p>
+    * <p>
+    * The cache is disabled by default.
+    * </p>
+    *
+    * @param enable whether the inverse of this transform should be cached.
+    */
+   public void setInverseCacheEnabled(boolean enable)
+   {
+      if (enable && inverse == null)
+         inverse = new RigidBodyTransform();
+      isInverseCacheEnabled = enable;
+      isInverseUpToDate = false;
+   }
+
+   /**
+    * Tests whether the inverse of this transform is cached.
+    *
+    * @return {@code true} if the inverse is cached, {@code false} otherwise.
+    * @see #setInverseCacheEnabled(boolean)
+    */
+   public boolean isInverseCacheEnabled()
+   {
+      return isInverseCacheEnabled;
+   }
+
+   /**
+    * Notifies that this transform is about to be modified: its version is incremented and the
+    * cached inverse, if any, is recomputed the next time it is needed.
+    */
+   private void markModified()
+   {
+      version++;
+      isInverseUpToDate = false;
+   }
+
+   /**
+    * Updates the flags indicating whether this transform has a rotation and a translation.
+    * <p>
+    * As for {@link RigidBodyTransform}, the flags are updated at the end of every setter such that
+    * reading this transform has no side effect and is thread-safe, unless the inverse cache is
+    * enabled, see {@link #setInverseCacheEnabled(boolean)}.
+    * </p>
+    */
+   private void updateFlags()
+   {
+      hasRotation = !isRotationZero(quaternion);
+      hasTranslation = !isTupleZero(translationVector);
+   }
+
+   /**
+    * Requests whether this transform has a non-zero rotation or not.
+    *
+    * @return {@code true} if the rotation part is not zero, {@code false} if the rotation part is zero
+    *         and can be ignore when transforming an object.
+    */
+   public boolean hasRotation()
+   {
+      return hasRotation;
+   }
+
+   /**
+    * Requests whether this transform has a non-zero translation or not.
+    *
+    * @return {@code true} if the translation part is not zero, {@code false} if the translation part
+    *         is zero and can be ignore when transforming an object.
+    */
+   public boolean hasTranslation()
+   {
+      return hasTranslation;
+   }
+
+   /**
+    * Gets the version of this transform, which is incremented every time this transform is
+    * modified.
+    * <p>
+    * Comparing the version with a previously recorded one is a cheap way to detect whether this
+    * transform has changed.
+    * </p>
+    *
+    * @return the current version of this transform.
+    */
+   public long getVersion()
+   {
+      return version;
+   }
+
+   /**
+    * Gets the cached inverse of this transform, updating it if necessary.
+    * <p>
+    * This method should only be called when the cache is enabled.
+    * </p>
+    *
+    * @return the inverse of this transform. Not to be modified.
+    */
+   RigidBodyTransform getCachedInverse()
+   {
+      if (!isInverseUpToDate)
+      {
+         inverse.set(this);
+         inverse.invert();
+         isInverseUpToDate = true;
+      }
+      return inverse;
+   }
+
    /**
     * Resets this quaternion-based transform to represent a zero rotation and zero translation.
     * <p>
@@ -191,8 +332,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setIdentity()
    {
+      markModified();
       quaternion.setToZero();
       translationVector.setToZero();
+      updateFlags();
    }
 
    /**
@@ -212,7 +355,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationToZero()
    {
+      markModified();
       quaternion.setToZero();
+      updateFlags();
    }
 
    /**
@@ -220,7 +365,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslationToZero()
    {
+      markModified();
       translationVector.setToZero();
+      updateFlags();
    }
 
    /**
@@ -229,8 +376,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void setToNaN()
    {
+      markModified();
       quaternion.setToNaN();
       translationVector.setToNaN();
+      updateFlags();
    }
 
    /**
@@ -241,7 +390,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationToNaN()
    {
+      markModified();
       quaternion.setToNaN();
+      updateFlags();
    }
 
    /**
@@ -252,7 +403,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslationToNaN()
    {
+      markModified();
       translationVector.setToNaN();
+      updateFlags();
    }
 
    /**
@@ -283,8 +436,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(double qx, double qy, double qz, double qs, double x, double y, double z)
    {
+      markModified();
       quaternion.set(qx, qy, qz, qs);
       translationVector.set(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -304,8 +459,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setUnsafe(double qx, double qy, double qz, double qs, double x, double y, double z)
    {
+      markModified();
       quaternion.setUnsafe(qx, qy, qz, qs);
       translationVector.set(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -316,8 +473,22 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void set(QuaternionBasedTransform other)
    {
+      markModified();
       quaternion.set(other.quaternion);
       translationVector.set(other.translationVector);
+      hasRotation = other.hasRotation;
+      hasTranslation = other.hasTranslation;
+   }
+
+   /**
+    * Sets this quaternion-based transform to the given {@code dualQuaternionTransform}.
+    *
+    * @param dualQuaternionTransform the dual quaternion transform to copy the values from. Not
+    *           modified.
+    */
+   public void set(DualQuaternionTransform dualQuaternionTransform)
+   {
+      dualQuaternionTransform.get(this);
    }
 
    /**
@@ -327,8 +498,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       quaternion.set(rigidBodyTransform.getRotationMatrix());
       translationVector.set(rigidBodyTransform.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -357,8 +530,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(DenseMatrix64F matrix)
    {
+      markModified();
       quaternion.set(matrix);
       translationVector.set(4, matrix);
+      updateFlags();
    }
 
    /**
@@ -386,8 +561,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(double[] array)
    {
+      markModified();
       quaternion.set(array);
       translationVector.set(4, array);
+      updateFlags();
    }
 
    /**
@@ -399,8 +576,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(RotationMatrixReadOnly rotationMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       quaternion.set(rotationMatrix);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -411,8 +590,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void set(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
    {
+      markModified();
       quaternion.set(orientation);
       translationVector.set(translation);
+      updateFlags();
    }
 
    /**
@@ -425,7 +606,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotation(Orientation3DReadOnly orientation)
    {
+      markModified();
       quaternion.set(orientation);
+      updateFlags();
    }
 
    /**
@@ -439,7 +622,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotation(RotationMatrixReadOnly rotationMatrix)
    {
+      markModified();
       quaternion.set(rotationMatrix);
+      updateFlags();
    }
 
    /**
@@ -458,7 +643,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotation(Vector3DReadOnly rotationVector)
    {
+      markModified();
       quaternion.setRotationVector(rotationVector);
+      updateFlags();
    }
 
    /**
@@ -479,7 +666,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationYaw(double yaw)
    {
+      markModified();
       quaternion.setToYawQuaternion(yaw);
+      updateFlags();
    }
 
    /**
@@ -500,7 +689,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationPitch(double pitch)
    {
+      markModified();
       quaternion.setToPitchQuaternion(pitch);
+      updateFlags();
    }
 
    /**
@@ -521,7 +712,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationRoll(double roll)
    {
+      markModified();
       quaternion.setToRollQuaternion(roll);
+      updateFlags();
    }
 
    /**
@@ -543,7 +736,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationYawPitchRoll(double[] yawPitchRoll)
    {
+      markModified();
       quaternion.setYawPitchRoll(yawPitchRoll);
+      updateFlags();
    }
 
    /**
@@ -566,7 +761,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationYawPitchRoll(double yaw, double pitch, double roll)
    {
+      markModified();
       quaternion.setYawPitchRoll(yaw, pitch, roll);
+      updateFlags();
    }
 
    /**
@@ -591,7 +788,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationEuler(Vector3DReadOnly eulerAngles)
    {
+      markModified();
       quaternion.setEuler(eulerAngles);
+      updateFlags();
    }
 
    /**
@@ -617,7 +816,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setRotationEuler(double rotX, double rotY, double rotZ)
    {
+      markModified();
       quaternion.setEuler(rotX, rotY, rotZ);
+      updateFlags();
    }
 
    /**
@@ -630,7 +831,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslationX(double x)
    {
+      markModified();
       translationVector.setX(x);
+      updateFlags();
    }
 
    /**
@@ -643,7 +846,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslationY(double y)
    {
+      markModified();
       translationVector.setY(y);
+      updateFlags();
    }
 
    /**
@@ -656,7 +861,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslationZ(double z)
    {
+      markModified();
       translationVector.setZ(z);
+      updateFlags();
    }
 
    /**
@@ -671,7 +878,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.set(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -684,7 +893,34 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void setTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.set(translation);
+      updateFlags();
+   }
+
+   /**
+    * Normalizes the quaternion part of this transform.
+    */
+   public void normalizeRotationPart()
+   {
+      markModified();
+      quaternion.normalize();
+      updateFlags();
+   }
+
+   /**
+    * Normalizes the quaternion part of this transform using an approximation when it is already
+    * close to unitary.
+    * <p>
+    * This is meant to be called repeatedly to remove the drift accumulated by successive operations,
+    * see {@link Quaternion#fastNormalize()}.
+    * </p>
+    */
+   public void fastNormalizeRotationPart()
+   {
+      markModified();
+      quaternion.fastNormalize();
+      updateFlags();
    }
 
    /**
@@ -692,9 +928,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void invert()
    {
-      quaternion.conjugate();
-      quaternion.transform(translationVector);
+      boolean hasRotation = hasRotation();
+      boolean hasTranslation = hasTranslation();
+      markModified();
+
+      if (hasRotation)
+      {
+         quaternion.conjugate();
+         if (hasTranslation)
+            quaternion.transform(translationVector);
+      }
       translationVector.negate();
+      updateFlags();
    }
 
    /**
@@ -702,7 +947,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void invertRotation()
    {
+      markModified();
       quaternion.conjugate();
+      updateFlags();
    }
 
    /**
@@ -743,8 +990,101 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void interpolate(QuaternionBasedTransform firstTransform, QuaternionBasedTransform secondTransform, double alpha)
    {
+      markModified();
       quaternion.interpolate(firstTransform.getQuaternion(), secondTransform.getQuaternion(), alpha);
       translationVector.interpolate(firstTransform.getTranslationVector(), secondTransform.getTranslationVector(), alpha);
+      updateFlags();
+   }
+
+   /**
+    * Performs a linear interpolation from this transform to {@code other} given the percentage
+    * {@code alpha}, using a <i>Normalized Linear Interpolation</i> for the rotation part.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(QuaternionBasedTransform, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param other the other transform used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this transform, while a value of 1 is equivalent to setting this transform to
+    *           {@code other}.
+    */
+   public void nlerp(QuaternionBasedTransform other, double alpha)
+   {
+      nlerp(this, other, alpha);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code firstTransform} to {@code secondTransform} given the
+    * percentage {@code alpha}, using a <i>Normalized Linear Interpolation</i> for the rotation part.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(QuaternionBasedTransform, QuaternionBasedTransform, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param firstTransform the first transform used in the interpolation. Not modified.
+    * @param secondTransform the second transform used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this transform to {@code firstTransform}, while a value of 1 is equivalent to setting
+    *           this transform to {@code secondTransform}.
+    */
+   public void nlerp(QuaternionBasedTransform firstTransform, QuaternionBasedTransform secondTransform, double alpha)
+   {
+      markModified();
+      quaternion.nlerp(firstTransform.getQuaternion(), secondTransform.getQuaternion(), alpha);
+      translationVector.interpolate(firstTransform.getTranslationVector(), secondTransform.getTranslationVector(), alpha);
+      updateFlags();
+   }
+
+   /**
+    * Performs a linear interpolation from this transform to {@code other} given the percentage
+    * {@code alpha}, using an approximation of the <i>Spherical Linear Interpolation</i> for the
+    * rotation part.
+    * <p>
+    * This is a cheaper alternative to {@link #interpolate(QuaternionBasedTransform, double)} with a
+    * small loss of accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param other the other transform used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this transform, while a value of 1 is equivalent to setting this transform to
+    *           {@code other}.
+    */
+   public void fastSlerp(QuaternionBasedTransform other, double alpha)
+   {
+      fastSlerp(this, other, alpha);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code firstTransform} to {@code secondTransform} given the
+    * percentage {@code alpha}, using an approximation of the <i>Spherical Linear Interpolation</i>
+    * for the rotation part.
+    * <p>
+    * This is a cheaper alternative to
+    * {@link #interpolate(QuaternionBasedTransform, QuaternionBasedTransform, double)} with a small
+    * loss of accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param firstTransform the first transform used in the interpolation. Not modified.
+    * @param secondTransform the second transform used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this transform to {@code firstTransform}, while a value of 1 is equivalent to setting
+    *           this transform to {@code secondTransform}.
+    */
+   public void fastSlerp(QuaternionBasedTransform firstTransform, QuaternionBasedTransform secondTransform, double alpha)
+   {
+      markModified();
+      quaternion.fastSlerp(firstTransform.getQuaternion(), secondTransform.getQuaternion(), alpha);
+      translationVector.interpolate(firstTransform.getTranslationVector(), secondTransform.getTranslationVector(), alpha);
+      updateFlags();
    }
 
    /**
@@ -757,8 +1097,22 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiply(QuaternionBasedTransform other)
    {
-      QuaternionTools.addTransform(quaternion, other.getTranslationVector(), translationVector);
-      quaternion.multiply(other.getQuaternion());
+      // The flags are queried before modifying this transform in case other is this.
+      boolean hasRotation = hasRotation();
+      boolean otherHasRotation = other.hasRotation();
+      boolean otherHasTranslation = other.hasTranslation();
+      markModified();
+
+      if (otherHasTranslation)
+      {
+         if (hasRotation)
+            QuaternionTools.addTransform(quaternion, other.getTranslationVector(), translationVector);
+         else
+            translationVector.add(other.getTranslationVector());
+      }
+      if (otherHasRotation)
+         quaternion.multiply(other.getQuaternion());
+      updateFlags();
    }
 
    /**
@@ -773,8 +1127,21 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiply(RigidBodyTransform rigidBodyTransform)
    {
-      QuaternionTools.addTransform(quaternion, rigidBodyTransform.getTranslationVector(), translationVector);
-      quaternion.append(rigidBodyTransform.getRotationMatrix());
+      boolean hasRotation = hasRotation();
+      boolean otherHasRotation = rigidBodyTransform.hasRotation();
+      boolean otherHasTranslation = rigidBodyTransform.hasTranslation();
+      markModified();
+
+      if (otherHasTranslation)
+      {
+         if (hasRotation)
+            QuaternionTools.addTransform(quaternion, rigidBodyTransform.getTranslationVector(), translationVector);
+         else
+            translationVector.add(rigidBodyTransform.getTranslationVector());
+      }
+      if (otherHasRotation)
+         quaternion.append(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -793,8 +1160,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiply(AffineTransform affineTransform)
    {
+      markModified();
       QuaternionTools.addTransform(quaternion, affineTransform.getTranslationVector(), translationVector);
       quaternion.append(affineTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -807,9 +1176,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertThis(QuaternionBasedTransform other)
    {
+      markModified();
       translationVector.sub(other.getTranslationVector(), translationVector);
       quaternion.inverseTransform(translationVector, translationVector);
       quaternion.multiplyConjugateThis(other.quaternion);
+      updateFlags();
    }
 
    /**
@@ -822,8 +1193,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertOther(QuaternionBasedTransform other)
    {
+      markModified();
       quaternion.multiplyConjugateOther(other.getQuaternion());
       QuaternionTools.subTransform(quaternion, other.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -838,9 +1211,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertThis(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       translationVector.sub(rigidBodyTransform.getTranslationVector(), translationVector);
       quaternion.inverseTransform(translationVector, translationVector);
       quaternion.appendInvertThis(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -855,8 +1230,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertOther(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       quaternion.appendInvertOther(rigidBodyTransform.getRotationMatrix());
       QuaternionTools.subTransform(quaternion, rigidBodyTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -875,9 +1252,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertThis(AffineTransform affineTransform)
    {
+      markModified();
       translationVector.sub(affineTransform.getTranslationVector(), translationVector);
       quaternion.inverseTransform(translationVector, translationVector);
       quaternion.appendInvertThis(affineTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -896,8 +1275,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiplyInvertOther(AffineTransform affineTransform)
    {
+      markModified();
       quaternion.appendInvertOther(affineTransform.getRotationMatrix());
       QuaternionTools.subTransform(quaternion, affineTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -917,7 +1298,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void appendTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       QuaternionTools.addTransform(quaternion, translation, translationVector);
+      updateFlags();
    }
 
    /**
@@ -939,6 +1322,7 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void appendTranslation(double x, double y, double z)
    {
+      markModified();
       double thisX = translationVector.getX();
       double thisY = translationVector.getY();
       double thisZ = translationVector.getZ();
@@ -946,6 +1330,7 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       translationVector.set(x, y, z);
       quaternion.transform(translationVector);
       translationVector.add(thisX, thisY, thisZ);
+      updateFlags();
    }
 
    /**
@@ -962,7 +1347,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void appendYawRotation(double yaw)
    {
+      markModified();
       quaternion.appendYawRotation(yaw);
+      updateFlags();
    }
 
    /**
@@ -979,7 +1366,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void appendPitchRotation(double pitch)
    {
+      markModified();
       quaternion.appendPitchRotation(pitch);
+      updateFlags();
    }
 
    /**
@@ -996,7 +1385,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void appendRollRotation(double roll)
    {
+      markModified();
       quaternion.appendRollRotation(roll);
+      updateFlags();
    }
 
    /**
@@ -1009,9 +1400,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiply(QuaternionBasedTransform other)
    {
-      QuaternionTools.transform(other.getQuaternion(), translationVector, translationVector);
-      translationVector.add(other.getTranslationVector());
-      quaternion.preMultiply(other.getQuaternion());
+      boolean otherHasRotation = other.hasRotation();
+      boolean otherHasTranslation = other.hasTranslation();
+      markModified();
+
+      if (otherHasRotation)
+      {
+         QuaternionTools.transform(other.getQuaternion(), translationVector, translationVector);
+         quaternion.preMultiply(other.getQuaternion());
+      }
+      if (otherHasTranslation)
+         translationVector.add(other.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -1026,9 +1426,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiply(RigidBodyTransform rigidBodyTransform)
    {
-      rigidBodyTransform.transform(translationVector);
-      translationVector.add(rigidBodyTransform.getTranslationVector());
-      quaternion.prepend(rigidBodyTransform.getRotationMatrix());
+      boolean otherHasRotation = rigidBodyTransform.hasRotation();
+      boolean otherHasTranslation = rigidBodyTransform.hasTranslation();
+      markModified();
+
+      if (otherHasRotation)
+      {
+         rigidBodyTransform.getRotationMatrix().transform(translationVector);
+         quaternion.prepend(rigidBodyTransform.getRotationMatrix());
+      }
+      if (otherHasTranslation)
+         translationVector.add(rigidBodyTransform.getTranslationVector());
+      updateFlags();
    }
 
    /**
@@ -1047,9 +1456,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiply(AffineTransform affineTransform)
    {
+      markModified();
       affineTransform.getRotationMatrix().transform(translationVector);
       translationVector.add(affineTransform.getTranslationVector());
       quaternion.prepend(affineTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1062,9 +1473,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertThis(QuaternionBasedTransform other)
    {
+      markModified();
       quaternion.preMultiplyConjugateThis(other.getQuaternion());
       quaternion.transform(translationVector);
       translationVector.sub(other.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1077,9 +1490,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertOther(QuaternionBasedTransform other)
    {
+      markModified();
       translationVector.sub(other.getTranslationVector());
       other.getQuaternion().inverseTransform(translationVector);
       quaternion.preMultiplyConjugateOther(other.getQuaternion());
+      updateFlags();
    }
 
    /**
@@ -1094,9 +1509,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertThis(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       quaternion.prependInvertThis(rigidBodyTransform.getRotationMatrix());
       quaternion.transform(translationVector);
       translationVector.sub(rigidBodyTransform.getTranslationVector(), translationVector);
+      updateFlags();
    }
 
    /**
@@ -1111,9 +1528,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertOther(RigidBodyTransform rigidBodyTransform)
    {
+      markModified();
       translationVector.sub(rigidBodyTransform.getTranslationVector());
       rigidBodyTransform.getRotationMatrix().inverseTransform(translationVector);
       quaternion.prependInvertOther(rigidBodyTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1132,10 +1551,12 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertThis(AffineTransform affineTransform)
    {
+      markModified();
       quaternion.prependInvertThis(affineTransform.getRotationMatrix());
       quaternion.transform(translationVector);
       translationVector.sub(affineTransform.getTranslationVector(), translationVector);
 
+      updateFlags();
    }
 
    /**
@@ -1154,9 +1575,11 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiplyInvertOther(AffineTransform affineTransform)
    {
+      markModified();
       translationVector.sub(affineTransform.getTranslationVector());
       affineTransform.getRotationMatrix().inverseTransform(translationVector);
       quaternion.prependInvertOther(affineTransform.getRotationMatrix());
+      updateFlags();
    }
 
    /**
@@ -1176,7 +1599,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void prependTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.add(translation);
+      updateFlags();
    }
 
    /**
@@ -1198,7 +1623,9 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void prependTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.add(x, y, z);
+      updateFlags();
    }
 
    /**
@@ -1226,8 +1653,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void prependYawRotation(double yaw)
    {
+      markModified();
       RotationMatrixTools.applyYawRotation(yaw, translationVector, translationVector);
       quaternion.prependYawRotation(yaw);
+      updateFlags();
    }
 
    /**
@@ -1255,8 +1684,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void prependPitchRotation(double pitch)
    {
+      markModified();
       RotationMatrixTools.applyPitchRotation(pitch, translationVector, translationVector);
       quaternion.prependPitchRotation(pitch);
+      updateFlags();
    }
 
    /**
@@ -1284,22 +1715,35 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void prependRollRotation(double roll)
    {
+      markModified();
       RotationMatrixTools.applyRollRotation(roll, translationVector, translationVector);
       quaternion.prependRollRotation(roll);
+      updateFlags();
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      quaternion.transform(pointOriginal, pointTransformed);
-      pointTransformed.add(translationVector);
+      if (hasRotation)
+         quaternion.transform(pointOriginal, pointTransformed);
+      else
+         pointTransformed.set(pointOriginal);
+
+      if (hasTranslation)
+         pointTransformed.add(translationVector);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
+      if (!hasRotation())
+      {
+         vectorTransformed.set(vectorOriginal);
+         return;
+      }
+
       quaternion.transform(vectorOriginal, vectorTransformed);
    }
 
@@ -1307,6 +1751,12 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void transform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
    {
+      if (!hasRotation())
+      {
+         orientationTransformed.set(orientationOriginal);
+         return;
+      }
+
       quaternion.transform(orientationOriginal, orientationTransformed);
    }
 
@@ -1314,7 +1764,14 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
    {
-      quaternion.transform(vectorOriginal, vectorTransformed);
+      if (hasRotation)
+         quaternion.transform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
+
+      if (!hasTranslation)
+         return;
+
       vectorTransformed.addX(vectorTransformed.getS() * translationVector.getX());
       vectorTransformed.addY(vectorTransformed.getS() * translationVector.getY());
       vectorTransformed.addZ(vectorTransformed.getS() * translationVector.getZ());
@@ -1324,6 +1781,12 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void transform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
    {
+      if (!hasRotation())
+      {
+         matrixTransformed.set(matrixOriginal);
+         return;
+      }
+
       quaternion.transform(matrixOriginal, matrixTransformed);
    }
 
@@ -1331,14 +1794,25 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
    {
-      quaternion.transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
-      pointTransformed.add(translationVector.getX(), translationVector.getY());
+      if (hasRotation)
+         quaternion.transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+      else
+         pointTransformed.set(pointOriginal);
+
+      if (hasTranslation)
+         pointTransformed.add(translationVector.getX(), translationVector.getY());
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
    {
+      if (!hasRotation())
+      {
+         vectorTransformed.set(vectorOriginal);
+         return;
+      }
+
       quaternion.transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
    }
 
@@ -1370,6 +1844,21 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
+      if (!hasRotation)
+      {
+         if (hasTranslation)
+            pointTransformed.sub(pointOriginal, translationVector);
+         else
+            pointTransformed.set(pointOriginal);
+         return;
+      }
+
+      if (isInverseCacheEnabled)
+      {
+         getCachedInverse().transform(pointOriginal, pointTransformed);
+         return;
+      }
+
       pointTransformed.set(pointOriginal);
       pointTransformed.sub(translationVector);
       quaternion.inverseTransform(pointTransformed);
@@ -1379,6 +1868,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
+      if (!hasRotation())
+      {
+         vectorTransformed.set(vectorOriginal);
+         return;
+      }
+
+      if (isInverseCacheEnabled)
+      {
+         getCachedInverse().transform(vectorOriginal, vectorTransformed);
+         return;
+      }
+
       quaternion.inverseTransform(vectorOriginal, vectorTransformed);
    }
 
@@ -1386,6 +1887,12 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
    {
+      if (!hasRotation())
+      {
+         orientationTransformed.set(orientationOriginal);
+         return;
+      }
+
       quaternion.inverseTransform(orientationOriginal, orientationTransformed);
    }
 
@@ -1393,6 +1900,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
    {
+      if (!hasRotation && !hasTranslation)
+      {
+         vectorTransformed.set(vectorOriginal);
+         return;
+      }
+
+      if (isInverseCacheEnabled)
+      {
+         getCachedInverse().transform(vectorOriginal, vectorTransformed);
+         return;
+      }
+
       vectorTransformed.set(vectorOriginal);
       vectorTransformed.subX(vectorTransformed.getS() * translationVector.getX());
       vectorTransformed.subY(vectorTransformed.getS() * translationVector.getY());
@@ -1404,6 +1923,12 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
    {
+      if (!hasRotation())
+      {
+         matrixTransformed.set(matrixOriginal);
+         return;
+      }
+
       quaternion.inverseTransform(matrixOriginal, matrixTransformed);
    }
 
@@ -1411,6 +1936,20 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
    {
+      if (!hasRotation)
+      {
+         pointTransformed.set(pointOriginal);
+         if (hasTranslation)
+            pointTransformed.sub(translationVector.getX(), translationVector.getY());
+         return;
+      }
+
+      if (isInverseCacheEnabled)
+      {
+         getCachedInverse().transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+         return;
+      }
+
       pointTransformed.set(pointOriginal);
       pointTransformed.sub(translationVector.getX(), translationVector.getY());
       quaternion.inverseTransform(pointTransformed, checkIfTransformInXYPlane);
@@ -1420,6 +1959,18 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
    {
+      if (!hasRotation())
+      {
+         vectorTransformed.set(vectorOriginal);
+         return;
+      }
+
+      if (isInverseCacheEnabled)
+      {
+         getCachedInverse().transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+         return;
+      }
+
       quaternion.inverseTransform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
    }
 
@@ -1447,6 +1998,195 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       transformed.preMultiplyInvertOther(this);
    }
 
+   /**
+    * Transforms all the points held in {@code pointsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code pointsToTransform}, see
+    * {@link #transform(Point3DArray, Point3DArray)}.
+    * </p>
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points held in {@code pointsOriginal} by this transform and stores the
+    * result in {@code pointsTransformed}.
+    * <p>
+    * This transform rotates then translates each point. The coefficients of this transform are read
+    * once for the entire batch such that the transformation of each point is a tight loop over
+    * primitive arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      BulkTransformTools.transform(quaternion, translationVector, pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code vectorsToTransform}, see
+    * {@link #transform(Vector3DArray, Vector3DArray)}.
+    * </p>
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsOriginal} by this transform and stores the
+    * result in {@code vectorsTransformed}.
+    * <p>
+    * Note: transforming a vector differs from transforming a point in the way that the vector is not
+    * affected by the translation part of this transform.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      BulkTransformTools.transform(quaternion, vectorsOriginal, vectorsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsToTransform}.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Point3DArray, Point3DArray)} with the inverse
+    * of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      BulkTransformTools.inverseTransform(quaternion, translationVector, pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in
+    * {@code vectorsToTransform}.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in {@code vectorsOriginal} and
+    * stores the result in {@code vectorsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Vector3DArray, Vector3DArray)} with the
+    * inverse of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      BulkTransformTools.inverseTransform(quaternion, vectorsOriginal, vectorsTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.transform(quaternion, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(quaternion, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransform(quaternion, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                          numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                       int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(quaternion, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.transform(quaternion, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.transform(quaternion, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransform(quaternion, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                          numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      BulkTransformTools.inverseTransform(quaternion, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
    /**
     * Packs this quaternion-based transform in a column vector.
     *
@@ -1687,6 +2427,21 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       return translationVector.getZ();
    }
 
+   private static boolean isRotationZero(QuaternionReadOnly quaternionToTest)
+   {
+      return isZero(quaternionToTest.getX()) && isZero(quaternionToTest.getY()) && isZero(quaternionToTest.getZ());
+   }
+
+   private static boolean isTupleZero(Tuple3DReadOnly tupleToTest)
+   {
+      return isZero(tupleToTest.getX()) && isZero(tupleToTest.getY()) && isZero(tupleToTest.getZ());
+   }
+
+   private static boolean isZero(double value)
+   {
+      return Math.abs(value) <= EPS_CHECK_IDENTITY;
+   }
+
    /**
     * Tests separately and on a per component basis if the rotation part and the translation part of
     * this transform and {@code other} are equal to an {@code epsilon}.
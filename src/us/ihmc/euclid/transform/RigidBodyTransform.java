@@ -11,6 +11,7 @@ import us.ihmc.euclid.interfaces.EpsilonComparable;
 import us.ihmc.euclid.interfaces.GeometricallyComparable;
 import us.ihmc.euclid.interfaces.Settable;
 import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.memory.EuclidScratch;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.matrix.interfaces.CommonMatrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
@@ -19,24 +20,30 @@ import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.Matrix3DFeatures;
 import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tools.QuaternionTools;
 import us.ihmc.euclid.tools.RotationMatrixTools;
 import us.ihmc.euclid.transform.interfaces.Transform;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
 import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
 import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
 import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
@@ -79,6 +86,17 @@ public class RigidBodyTransform
    private final RotationMatrix rotationMatrix = new RotationMatrix();
    /** The translation part of this transform. */
    private final Vector3D translationVector = new Vector3D();
+   /** Incremented every time this transform is modified, see {@link #getVersion()}. */
+   private long version = 0;
+   /**
+    * Whether the inverse of this transform is cached, see
+    * {@link #setInverseCacheEnabled(boolean)}.
+    */
+   private boolean isInverseCacheEnabled = false;
+   /** Whether {@link #inverse} is up-to-date with this transform. */
+   private boolean isInverseUpToDate = false;
+   /** The cached inverse of this transform, only created once the cache has been enabled. */
+   private RigidBodyTransform inverse;
 
    /**
     * Creates a new rigid-body transform set to identity.
@@ -205,6 +223,88 @@ public class RigidBodyTransform
       set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23);
    }
 
+   /**
+    * Enables or disables the caching of the inverse of this transform.
+    * <p>
+    * When enabled, the inverse of this transform is computed the first time it is needed and
+    * reused until this transform is modified. It is used when this transform is the operand of
+    * {@link #multiplyInvertOther(RigidBodyTransform)} or
+    * {@link #preMultiplyInvertOther(RigidBodyTransform)}, which is beneficial when the same
+    * transform is inverted against many others. Inverse transforming a geometry does not use the
+    * cache as it would not be cheaper than using the rotation and translation directly.
+    * </p>
+    * <p>
+    * Computing the cached inverse modifies the internal state of this transform. As a result, a
+    * transform with the cache enabled must not be read from several threads at once.
+    * </p>
+    * <p>
+    * The cache is disabled by default.
+    * </p>
+    *
+    * @param enable whether the inverse of this transform should be cached.
+    */
+   public void setInverseCacheEnabled(boolean enable)
+   {
+      if (enable && inverse == null)
+         inverse = new RigidBodyTransform();
+      isInverseCacheEnabled = enable;
+      isInverseUpToDate = false;
+   }
+
+   /**
+    * Tests whether the inverse of this transform is cached.
+    *
+    * @return {@code true} if the inverse is cached, {@code false} otherwise.
+    * @see #setInverseCacheEnabled(boolean)
+    */
+   public boolean isInverseCacheEnabled()
+   {
+      return isInverseCacheEnabled;
+   }
+
+   /**
+    * Notifies that this transform is about to be modified: its version is incremented and the
+    * cached inverse, if any, is recomputed the next time it is needed.
+    */
+   private void markModified()
+   {
+      version++;
+      isInverseUpToDate = false;
+   }
+
+   /**
+    * Gets the version of this transform, which is incremented every time this transform is
+    * modified.
+    * <p>
+    * Comparing the version with a previously recorded one is a cheap way to detect whether this
+    * transform has changed.
+    * </p>
+    *
+    * @return the current version of this transform.
+    */
+   public long getVersion()
+   {
+      return version;
+   }
+
+   /**
+    * Gets the cached inverse of this transform, updating it if necessary.
+    * <p>
+    * This method should only be called when the cache is enabled.
+    * </p>
+    *
+    * @return the inverse of this transform. Not to be modified.
+    */
+   RigidBodyTransform getCachedInverse()
+   {
+      if (!isInverseUpToDate)
+      {
+         inverse.setAndInvert(this);
+         isInverseUpToDate = true;
+      }
+      return inverse;
+   }
+
    /**
     * Resets this rigid-body transform to identity.
     * <p>
@@ -213,6 +313,7 @@ public class RigidBodyTransform
     */
    public void setIdentity()
    {
+      markModified();
       rotationMatrix.setIdentity();
       translationVector.setToZero();
       hasRotation = false;
@@ -236,6 +337,7 @@ public class RigidBodyTransform
     */
    public void setRotationToZero()
    {
+      markModified();
       rotationMatrix.setIdentity();
       hasRotation = false;
    }
@@ -245,6 +347,7 @@ public class RigidBodyTransform
     */
    public void setTranslationToZero()
    {
+      markModified();
       translationVector.setToZero();
       hasTranslation = false;
    }
@@ -255,6 +358,7 @@ public class RigidBodyTransform
    @Override
    public void setToNaN()
    {
+      markModified();
       rotationMatrix.setToNaN();
       translationVector.setToNaN();
       hasRotation = true;
@@ -269,6 +373,7 @@ public class RigidBodyTransform
     */
    public void setRotationToNaN()
    {
+      markModified();
       rotationMatrix.setToNaN();
       hasRotation = true;
    }
@@ -281,6 +386,7 @@ public class RigidBodyTransform
     */
    public void setTranslationToNaN()
    {
+      markModified();
       translationVector.setToNaN();
       hasTranslation = true;
    }
@@ -362,6 +468,7 @@ public class RigidBodyTransform
     */
    public void normalizeRotationPart()
    {
+      markModified();
       if (hasRotation)
          rotationMatrix.normalize();
       else
@@ -399,6 +506,7 @@ public class RigidBodyTransform
    public void set(double m00, double m01, double m02, double m03, double m10, double m11, double m12, double m13, double m20, double m21, double m22,
                    double m23)
    {
+      markModified();
       rotationMatrix.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       translationVector.set(m03, m13, m23);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -429,6 +537,7 @@ public class RigidBodyTransform
    public void setUnsafe(double m00, double m01, double m02, double m03, double m10, double m11, double m12, double m13, double m20, double m21, double m22,
                          double m23)
    {
+      markModified();
       rotationMatrix.setUnsafe(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       translationVector.set(m03, m13, m23);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -443,6 +552,7 @@ public class RigidBodyTransform
    @Override
    public void set(RigidBodyTransform other)
    {
+      markModified();
       rotationMatrix.set(other.rotationMatrix);
       translationVector.set(other.translationVector);
       hasRotation = other.hasRotation;
@@ -468,12 +578,34 @@ public class RigidBodyTransform
     */
    public void set(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       rotationMatrix.set(quaternionBasedTransform.getQuaternion());
       translationVector.set(quaternionBasedTransform.getTranslationVector());
       hasRotation = !isRotationZero(rotationMatrix);
       hasTranslation = !isTupleZero(translationVector);
    }
 
+   /**
+    * Sets this rigid-body transform to the given 2D transform.
+    *
+    * @param rigidBodyTransform2D the 2D transform to copy the values from. Not modified.
+    */
+   public void set(RigidBodyTransform2D rigidBodyTransform2D)
+   {
+      rigidBodyTransform2D.get(this);
+   }
+
+   /**
+    * Sets this rigid-body transform to the given {@code dualQuaternionTransform}.
+    *
+    * @param dualQuaternionTransform the dual quaternion transform to copy the values from. Not
+    *           modified.
+    */
+   public void set(DualQuaternionTransform dualQuaternionTransform)
+   {
+      dualQuaternionTransform.get(this);
+   }
+
    /**
     * Sets the raw components of this rigid-body transform from the given {@code matrix}.
     * <p>
@@ -500,6 +632,7 @@ public class RigidBodyTransform
     */
    public void set(DenseMatrix64F matrix)
    {
+      markModified();
       rotationMatrix.set(matrix);
       translationVector.set(0, 3, matrix);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -534,6 +667,7 @@ public class RigidBodyTransform
     */
    public void set(DenseMatrix64F matrix, int startRow, int startColumn)
    {
+      markModified();
       rotationMatrix.set(startRow, startColumn, matrix);
       translationVector.set(startRow, startColumn + 3, matrix);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -567,6 +701,7 @@ public class RigidBodyTransform
     */
    public void set(double[] transformArray)
    {
+      markModified();
       double m00 = transformArray[0];
       double m01 = transformArray[1];
       double m02 = transformArray[2];
@@ -613,6 +748,7 @@ public class RigidBodyTransform
     */
    public void setAsTranspose(double[] transformArray)
    {
+      markModified();
       double m00 = transformArray[0];
       double m01 = transformArray[4];
       double m02 = transformArray[8];
@@ -659,6 +795,7 @@ public class RigidBodyTransform
     */
    public void set(float[] transformArray)
    {
+      markModified();
       double m00 = transformArray[0];
       double m01 = transformArray[1];
       double m02 = transformArray[2];
@@ -705,6 +842,7 @@ public class RigidBodyTransform
     */
    public void setAsTranspose(float[] transformArray)
    {
+      markModified();
       double m00 = transformArray[0];
       double m01 = transformArray[4];
       double m02 = transformArray[8];
@@ -733,6 +871,7 @@ public class RigidBodyTransform
     */
    public void set(Matrix3DReadOnly rotationMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       this.rotationMatrix.set(rotationMatrix);
       translationVector.set(translation);
       hasRotation = !isRotationZero(this.rotationMatrix);
@@ -747,6 +886,7 @@ public class RigidBodyTransform
     */
    public void set(RotationMatrixReadOnly rotationMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       this.rotationMatrix.set(rotationMatrix);
       translationVector.set(translation);
       hasRotation = !isRotationZero(this.rotationMatrix);
@@ -766,6 +906,7 @@ public class RigidBodyTransform
     */
    public void set(RotationScaleMatrixReadOnly rotationScaleMatrix, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationMatrix.set(rotationScaleMatrix.getRotationMatrix());
       translationVector.set(translation);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -780,6 +921,7 @@ public class RigidBodyTransform
     */
    public void set(Orientation3DReadOnly orientation, Tuple3DReadOnly translation)
    {
+      markModified();
       rotationMatrix.set(orientation);
       translationVector.set(translation);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -802,6 +944,7 @@ public class RigidBodyTransform
     */
    public void setRotation(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
    {
+      markModified();
       rotationMatrix.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       hasRotation = !isRotationZero(rotationMatrix);
    }
@@ -826,6 +969,7 @@ public class RigidBodyTransform
     */
    public void setRotationUnsafe(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
    {
+      markModified();
       rotationMatrix.setUnsafe(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       hasRotation = !isRotationZero(rotationMatrix);
    }
@@ -840,6 +984,7 @@ public class RigidBodyTransform
     */
    public void setRotation(Orientation3DReadOnly orientation)
    {
+      markModified();
       rotationMatrix.set(orientation);
       hasRotation = !isRotationZero(rotationMatrix);
    }
@@ -860,6 +1005,7 @@ public class RigidBodyTransform
     */
    public void setRotation(Vector3DReadOnly rotationVector)
    {
+      markModified();
       rotationMatrix.setRotationVector(rotationVector);
       hasRotation = !isTupleZero(rotationVector);
    }
@@ -875,6 +1021,7 @@ public class RigidBodyTransform
     */
    public void setRotation(DenseMatrix64F rotationMatrix)
    {
+      markModified();
       this.rotationMatrix.set(rotationMatrix);
       hasRotation = !isRotationZero(this.rotationMatrix);
    }
@@ -890,6 +1037,7 @@ public class RigidBodyTransform
     */
    public void setRotation(Matrix3DReadOnly rotationMatrix)
    {
+      markModified();
       this.rotationMatrix.set(rotationMatrix);
       hasRotation = !isRotationZero(this.rotationMatrix);
    }
@@ -905,6 +1053,7 @@ public class RigidBodyTransform
     */
    public void setRotation(RotationMatrixReadOnly rotationMatrix)
    {
+      markModified();
       this.rotationMatrix.set(rotationMatrix);
       hasRotation = !isRotationZero(this.rotationMatrix);
    }
@@ -926,6 +1075,7 @@ public class RigidBodyTransform
     */
    public void setRotationYaw(double yaw)
    {
+      markModified();
       rotationMatrix.setToYawMatrix(yaw);
       hasRotation = !isZero(yaw);
    }
@@ -947,6 +1097,7 @@ public class RigidBodyTransform
     */
    public void setRotationPitch(double pitch)
    {
+      markModified();
       rotationMatrix.setToPitchMatrix(pitch);
       hasRotation = !isZero(pitch);
    }
@@ -968,6 +1119,7 @@ public class RigidBodyTransform
     */
    public void setRotationRoll(double roll)
    {
+      markModified();
       rotationMatrix.setToRollMatrix(roll);
       hasRotation = !isZero(roll);
    }
@@ -1012,6 +1164,7 @@ public class RigidBodyTransform
     */
    public void setRotationYawPitchRoll(double yaw, double pitch, double roll)
    {
+      markModified();
       rotationMatrix.setYawPitchRoll(yaw, pitch, roll);
       hasRotation = !areComponentsAllZero(yaw, pitch, roll);
    }
@@ -1062,6 +1215,7 @@ public class RigidBodyTransform
     */
    public void setRotationEuler(double rotX, double rotY, double rotZ)
    {
+      markModified();
       rotationMatrix.setEuler(rotX, rotY, rotZ);
       hasRotation = !areComponentsAllZero(rotX, rotY, rotZ);
    }
@@ -1087,6 +1241,7 @@ public class RigidBodyTransform
     */
    public void setRotationAndZeroTranslation(RotationMatrixReadOnly rotationMatrix)
    {
+      markModified();
       setRotation(rotationMatrix);
       setTranslationToZero();
    }
@@ -1118,6 +1273,7 @@ public class RigidBodyTransform
     */
    public void setRotationAndZeroTranslation(DenseMatrix64F rotationMatrix)
    {
+      markModified();
       setRotation(rotationMatrix);
       setTranslationToZero();
    }
@@ -1131,6 +1287,7 @@ public class RigidBodyTransform
     */
    public void setRotationAndZeroTranslation(Matrix3DReadOnly rotationMatrix)
    {
+      markModified();
       setRotation(rotationMatrix);
       setTranslationToZero();
    }
@@ -1285,6 +1442,7 @@ public class RigidBodyTransform
     */
    public void setTranslationX(double x)
    {
+      markModified();
       translationVector.setX(x);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1299,6 +1457,7 @@ public class RigidBodyTransform
     */
    public void setTranslationY(double y)
    {
+      markModified();
       translationVector.setY(y);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1313,6 +1472,7 @@ public class RigidBodyTransform
     */
    public void setTranslationZ(double z)
    {
+      markModified();
       translationVector.setZ(z);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1329,6 +1489,7 @@ public class RigidBodyTransform
     */
    public void setTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.set(x, y, z);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1343,6 +1504,7 @@ public class RigidBodyTransform
     */
    public void setTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.set(translation);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1376,6 +1538,7 @@ public class RigidBodyTransform
     */
    public void invert()
    {
+      markModified();
       if (hasRotation)
       {
          rotationMatrix.invert();
@@ -1390,6 +1553,7 @@ public class RigidBodyTransform
     */
    public void invertRotation()
    {
+      markModified();
       rotationMatrix.invert();
    }
 
@@ -1403,6 +1567,7 @@ public class RigidBodyTransform
     */
    public void multiply(RigidBodyTransform other)
    {
+      markModified();
       if (other.hasTranslation)
       {
          if (hasRotation)
@@ -1441,6 +1606,7 @@ public class RigidBodyTransform
     */
    public void multiply(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       Matrix3DTools.addTransform(rotationMatrix, quaternionBasedTransform.getTranslationVector(), translationVector);
       rotationMatrix.append(quaternionBasedTransform.getQuaternion());
       hasRotation = !isRotationZero(rotationMatrix);
@@ -1463,6 +1629,7 @@ public class RigidBodyTransform
     */
    public void multiply(AffineTransform affineTransform)
    {
+      markModified();
       Matrix3DTools.addTransform(rotationMatrix, affineTransform.getTranslationVector(), translationVector);
       rotationMatrix.multiply(affineTransform.getRotationMatrix());
       hasRotation = !isRotationZero(rotationMatrix);
@@ -1479,6 +1646,7 @@ public class RigidBodyTransform
     */
    public void multiplyInvertThis(RigidBodyTransform other)
    {
+      markModified();
       translationVector.sub(other.translationVector, translationVector);
 
       if (hasRotation)
@@ -1510,6 +1678,13 @@ public class RigidBodyTransform
     */
    public void multiplyInvertOther(RigidBodyTransform other)
    {
+      if (other.isInverseCacheEnabled && other != this)
+      {
+         multiply(other.getCachedInverse());
+         return;
+      }
+
+      markModified();
       if (hasRotation)
       {
          if (other.hasRotation)
@@ -1548,6 +1723,7 @@ public class RigidBodyTransform
     */
    public void multiplyInvertThis(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       translationVector.sub(quaternionBasedTransform.getTranslationVector(), translationVector);
       rotationMatrix.inverseTransform(translationVector, translationVector);
       rotationMatrix.appendInvertThis(quaternionBasedTransform.getQuaternion());
@@ -1569,6 +1745,13 @@ public class RigidBodyTransform
     */
    public void multiplyInvertOther(QuaternionBasedTransform quaternionBasedTransform)
    {
+      if (quaternionBasedTransform.isInverseCacheEnabled())
+      {
+         multiply(quaternionBasedTransform.getCachedInverse());
+         return;
+      }
+
+      markModified();
       rotationMatrix.appendInvertOther(quaternionBasedTransform.getQuaternion());
       Matrix3DTools.subTransform(rotationMatrix, quaternionBasedTransform.getTranslationVector(), translationVector);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -1591,6 +1774,7 @@ public class RigidBodyTransform
     */
    public void multiplyInvertThis(AffineTransform affineTransform)
    {
+      markModified();
       translationVector.sub(affineTransform.getTranslationVector(), translationVector);
       rotationMatrix.inverseTransform(translationVector, translationVector);
       rotationMatrix.inverseTransform(affineTransform.getRotationMatrix(), rotationMatrix);
@@ -1614,6 +1798,7 @@ public class RigidBodyTransform
     */
    public void multiplyInvertOther(AffineTransform affineTransform)
    {
+      markModified();
       rotationMatrix.multiplyTransposeOther(affineTransform.getRotationMatrix());
       Matrix3DTools.subTransform(rotationMatrix, affineTransform.getTranslationVector(), translationVector);
       hasRotation = !isRotationZero(rotationMatrix);
@@ -1637,6 +1822,7 @@ public class RigidBodyTransform
     */
    public void appendTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       rotationMatrix.addTransform(translation, translationVector);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -1660,6 +1846,7 @@ public class RigidBodyTransform
     */
    public void appendTranslation(double x, double y, double z)
    {
+      markModified();
       double thisX = translationVector.getX();
       double thisY = translationVector.getY();
       double thisZ = translationVector.getZ();
@@ -1686,6 +1873,7 @@ public class RigidBodyTransform
     */
    public void appendYawRotation(double yaw)
    {
+      markModified();
       rotationMatrix.appendYawRotation(yaw);
       hasRotation = (hasRotation ^ !isZero(yaw)) || !isRotationZero(rotationMatrix);
    }
@@ -1706,6 +1894,7 @@ public class RigidBodyTransform
     */
    public void appendPitchRotation(double pitch)
    {
+      markModified();
       rotationMatrix.appendPitchRotation(pitch);
       hasRotation = (hasRotation ^ !isZero(pitch)) || !isRotationZero(rotationMatrix);
    }
@@ -1726,10 +1915,33 @@ public class RigidBodyTransform
     */
    public void appendRollRotation(double roll)
    {
+      markModified();
       rotationMatrix.appendRollRotation(roll);
       hasRotation = (hasRotation ^ !isZero(roll)) || !isRotationZero(rotationMatrix);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the local frame of this
+    * transform over the duration {@code dt} into the rotation part of this transform.
+    * <p>
+    * R = R * exp(angularVelocity * dt)
+    * </p>
+    * <p>
+    * This method does not affect the translation part of this transform.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the local frame of this transform. Not
+    *           modified.
+    * @param dt the integration time step.
+    * @see RotationMatrix#integrateInBodyFrame(Vector3DReadOnly, double)
+    */
+   public void integrateInBodyFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      markModified();
+      rotationMatrix.integrateInBodyFrame(angularVelocity, dt);
+      hasRotation = !isRotationZero(rotationMatrix);
+   }
+
    /**
     * Performs the multiplication of {@code other} with this transform.
     * <p>
@@ -1740,6 +1952,7 @@ public class RigidBodyTransform
     */
    public void preMultiply(RigidBodyTransform other)
    {
+      markModified();
       if (hasTranslation)
       {
          if (other.hasRotation)
@@ -1784,6 +1997,7 @@ public class RigidBodyTransform
     */
    public void preMultiply(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       quaternionBasedTransform.getQuaternion().transform(translationVector);
       translationVector.add(quaternionBasedTransform.getTranslationVector());
       rotationMatrix.prepend(quaternionBasedTransform.getQuaternion());
@@ -1807,6 +2021,7 @@ public class RigidBodyTransform
     */
    public void preMultiply(AffineTransform affineTransform)
    {
+      markModified();
       affineTransform.getRotationMatrix().transform(translationVector);
       translationVector.add(affineTransform.getTranslationVector());
       rotationMatrix.preMultiply(affineTransform.getRotationMatrix());
@@ -1824,6 +2039,7 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertThis(RigidBodyTransform other)
    {
+      markModified();
       if (hasRotation)
       {
          rotationMatrix.invert();
@@ -1855,6 +2071,13 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertOther(RigidBodyTransform other)
    {
+      if (other.isInverseCacheEnabled && other != this)
+      {
+         preMultiply(other.getCachedInverse());
+         return;
+      }
+
+      markModified();
       if (other.hasTranslation)
       {
          translationVector.sub(other.translationVector);
@@ -1896,6 +2119,7 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertThis(QuaternionBasedTransform quaternionBasedTransform)
    {
+      markModified();
       rotationMatrix.prependInvertThis(quaternionBasedTransform.getQuaternion());
       rotationMatrix.transform(translationVector);
       translationVector.sub(quaternionBasedTransform.getTranslationVector(), translationVector);
@@ -1917,6 +2141,13 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertOther(QuaternionBasedTransform quaternionBasedTransform)
    {
+      if (quaternionBasedTransform.isInverseCacheEnabled())
+      {
+         preMultiply(quaternionBasedTransform.getCachedInverse());
+         return;
+      }
+
+      markModified();
       translationVector.sub(quaternionBasedTransform.getTranslationVector());
       quaternionBasedTransform.getQuaternion().inverseTransform(translationVector);
       rotationMatrix.prependInvertOther(quaternionBasedTransform.getQuaternion());
@@ -1940,6 +2171,7 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertThis(AffineTransform affineTransform)
    {
+      markModified();
       rotationMatrix.preMultiplyTransposeThis(affineTransform.getRotationMatrix());
       rotationMatrix.transform(translationVector);
       translationVector.sub(affineTransform.getTranslationVector(), translationVector);
@@ -1963,6 +2195,7 @@ public class RigidBodyTransform
     */
    public void preMultiplyInvertOther(AffineTransform affineTransform)
    {
+      markModified();
       translationVector.sub(affineTransform.getTranslationVector());
       affineTransform.getRotationMatrix().inverseTransform(translationVector);
       rotationMatrix.preMultiplyTransposeOther(affineTransform.getRotationMatrix());
@@ -1987,6 +2220,7 @@ public class RigidBodyTransform
     */
    public void prependTranslation(Tuple3DReadOnly translation)
    {
+      markModified();
       translationVector.add(translation);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -2010,6 +2244,7 @@ public class RigidBodyTransform
     */
    public void prependTranslation(double x, double y, double z)
    {
+      markModified();
       translationVector.add(x, y, z);
       hasTranslation = !isTupleZero(translationVector);
    }
@@ -2032,6 +2267,7 @@ public class RigidBodyTransform
     */
    public void prependYawRotation(double yaw)
    {
+      markModified();
       RotationMatrixTools.applyYawRotation(yaw, translationVector, translationVector);
       rotationMatrix.prependYawRotation(yaw);
       hasRotation = (hasRotation ^ !isZero(yaw)) || !isRotationZero(rotationMatrix);
@@ -2055,6 +2291,7 @@ public class RigidBodyTransform
     */
    public void prependPitchRotation(double pitch)
    {
+      markModified();
       RotationMatrixTools.applyPitchRotation(pitch, translationVector, translationVector);
       rotationMatrix.prependPitchRotation(pitch);
       hasRotation = (hasRotation ^ !isZero(pitch)) || !isRotationZero(rotationMatrix);
@@ -2078,11 +2315,35 @@ public class RigidBodyTransform
     */
    public void prependRollRotation(double roll)
    {
+      markModified();
       RotationMatrixTools.applyRollRotation(roll, translationVector, translationVector);
       rotationMatrix.prependRollRotation(roll);
       hasRotation = (hasRotation ^ !isZero(roll)) || !isRotationZero(rotationMatrix);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the world frame over the
+    * duration {@code dt} into the rotation part of this transform.
+    * <p>
+    * R = exp(angularVelocity * dt) * R
+    * </p>
+    * <p>
+    * Unlike the {@code prepend} methods, this method does not affect the translation part of this
+    * transform: the angular velocity only changes the orientation of the body the transform
+    * describes.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the world frame. Not modified.
+    * @param dt the integration time step.
+    * @see RotationMatrix#integrateInWorldFrame(Vector3DReadOnly, double)
+    */
+   public void integrateInWorldFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      markModified();
+      rotationMatrix.integrateInWorldFrame(angularVelocity, dt);
+      hasRotation = !isRotationZero(rotationMatrix);
+   }
+
    /**
     * Performs a linear interpolation from {@code this} to {@code other} given the percentage
     * {@code alpha}.
@@ -2121,6 +2382,7 @@ public class RigidBodyTransform
     */
    public void interpolate(RigidBodyTransform transform1, RigidBodyTransform transform2, double alpha)
    {
+      markModified();
       if (transform1.hasRotation || transform2.hasRotation)
          rotationMatrix.interpolate(transform1.rotationMatrix, transform2.rotationMatrix, alpha);
       else
@@ -2129,6 +2391,129 @@ public class RigidBodyTransform
          translationVector.interpolate(transform1.translationVector, transform2.translationVector, alpha);
       else
          translationVector.setToZero();
+      hasRotation = !isRotationZero(rotationMatrix);
+      hasTranslation = !isTupleZero(translationVector);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code this} to {@code other} given the percentage
+    * {@code alpha}, using a <i>Normalized Linear Interpolation</i> of the quaternions equivalent to
+    * the rotation parts.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(RigidBodyTransform, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param other the other transform used in the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           {@code this}, while a value of 1 is equivalent to setting {@code this} to
+    *           {@code other}.
+    */
+   public void nlerp(RigidBodyTransform other, double alpha)
+   {
+      nlerp(this, other, alpha);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code transform1} to {@code transform2} given the
+    * percentage {@code alpha}, using a <i>Normalized Linear Interpolation</i> of the quaternions
+    * equivalent to the rotation parts.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(RigidBodyTransform, RigidBodyTransform, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param transform1 the first transform used in the interpolation. Not modified.
+    * @param transform2 the second transform used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code this} to {@code transform1}, while a value of 1 is equivalent to setting
+    *           {@code this} to {@code transform2}.
+    */
+   public void nlerp(RigidBodyTransform transform1, RigidBodyTransform transform2, double alpha)
+   {
+      interpolateWithQuaternions(transform1, transform2, alpha, false);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code this} to {@code other} given the percentage
+    * {@code alpha}, using an approximation of the <i>Spherical Linear Interpolation</i> of the
+    * quaternions equivalent to the rotation parts.
+    * <p>
+    * This is a cheaper alternative to {@link #interpolate(RigidBodyTransform, double)} with a small
+    * loss of accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param other the other transform used in the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           {@code this}, while a value of 1 is equivalent to setting {@code this} to
+    *           {@code other}.
+    */
+   public void fastSlerp(RigidBodyTransform other, double alpha)
+   {
+      fastSlerp(this, other, alpha);
+   }
+
+   /**
+    * Performs a linear interpolation from {@code transform1} to {@code transform2} given the
+    * percentage {@code alpha}, using an approximation of the <i>Spherical Linear Interpolation</i> of
+    * the quaternions equivalent to the rotation parts.
+    * <p>
+    * This is a cheaper alternative to
+    * {@link #interpolate(RigidBodyTransform, RigidBodyTransform, double)} with a small loss of
+    * accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param transform1 the first transform used in the interpolation. Not modified.
+    * @param transform2 the second transform used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code this} to {@code transform1}, while a value of 1 is equivalent to setting
+    *           {@code this} to {@code transform2}.
+    */
+   public void fastSlerp(RigidBodyTransform transform1, RigidBodyTransform transform2, double alpha)
+   {
+      interpolateWithQuaternions(transform1, transform2, alpha, true);
+   }
+
+   private void interpolateWithQuaternions(RigidBodyTransform transform1, RigidBodyTransform transform2, double alpha, boolean useFastSlerp)
+   {
+      markModified();
+
+      if (transform1.hasRotation || transform2.hasRotation)
+      {
+         try (EuclidScratch scratch = EuclidScratch.acquire())
+         {
+            Quaternion q0 = scratch.quaternion();
+            Quaternion qf = scratch.quaternion();
+            q0.set(transform1.rotationMatrix);
+            qf.set(transform2.rotationMatrix);
+
+            if (useFastSlerp)
+               QuaternionTools.fastSlerp(q0, qf, alpha, q0);
+            else
+               QuaternionTools.nlerp(q0, qf, alpha, q0);
+            rotationMatrix.set(q0);
+         }
+      }
+      else
+      {
+         rotationMatrix.setToZero();
+      }
+
+      if (transform1.hasTranslation || transform2.hasTranslation)
+         translationVector.interpolate(transform1.translationVector, transform2.translationVector, alpha);
+      else
+         translationVector.setToZero();
+
+      hasRotation = !isRotationZero(rotationMatrix);
+      hasTranslation = !isTupleZero(translationVector);
    }
 
    /** {@inheritDoc} */
@@ -2338,6 +2723,299 @@ public class RigidBodyTransform
       transformed.preMultiplyInvertOther(this);
    }
 
+   /**
+    * Transforms all the points held in {@code pointsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code pointsToTransform}, see
+    * {@link #transform(Point3DArray, Point3DArray)}.
+    * </p>
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points held in {@code pointsOriginal} by this transform and stores the
+    * result in {@code pointsTransformed}.
+    * <p>
+    * This transform rotates then translates each point. The coefficients of this transform are read
+    * once for the entire batch such that the transformation of each point is a tight loop over
+    * primitive arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.transform(rotationMatrix, translationVector, pointsOriginal, pointsTransformed);
+         else
+            BulkTransformTools.transform(rotationMatrix, pointsOriginal, pointsTransformed);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.translate(translationVector, pointsOriginal, pointsTransformed);
+      }
+      else
+      {
+         pointsTransformed.set(pointsOriginal);
+      }
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsToTransform} by this transform.
+    * <p>
+    * The transformation is performed on the backing arrays of {@code vectorsToTransform}, see
+    * {@link #transform(Vector3DArray, Vector3DArray)}.
+    * </p>
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors held in {@code vectorsOriginal} by this transform and stores the
+    * result in {@code vectorsTransformed}.
+    * <p>
+    * Note: transforming a vector differs from transforming a point in the way that the vector is not
+    * affected by the translation part of this transform.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      if (hasRotation)
+         BulkTransformTools.transform(rotationMatrix, vectorsOriginal, vectorsTransformed);
+      else
+         vectorsTransformed.set(vectorsOriginal);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsToTransform}.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points held in {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Point3DArray, Point3DArray)} with the inverse
+    * of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.inverseTransform(rotationMatrix, translationVector, pointsOriginal, pointsTransformed);
+         else
+            BulkTransformTools.inverseTransform(rotationMatrix, pointsOriginal, pointsTransformed);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.inverseTranslate(translationVector, pointsOriginal, pointsTransformed);
+      }
+      else
+      {
+         pointsTransformed.set(pointsOriginal);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in
+    * {@code vectorsToTransform}.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the vectors held in {@code vectorsOriginal} and
+    * stores the result in {@code vectorsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transform(Vector3DArray, Vector3DArray)} with the
+    * inverse of this transform, but without computing the inverse.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}, both
+    * arguments can be the same object.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      if (hasRotation)
+         BulkTransformTools.inverseTransform(rotationMatrix, vectorsOriginal, vectorsTransformed);
+      else
+         vectorsTransformed.set(vectorsOriginal);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.transform(rotationMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                         numberOfPoints);
+         else
+            BulkTransformTools.transform(rotationMatrix, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.translate(translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else
+      {
+         System.arraycopy(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, 3 * numberOfPoints);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      if (hasRotation)
+         BulkTransformTools.transform(rotationMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+      else
+         System.arraycopy(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, 3 * numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.inverseTransform(rotationMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                                numberOfPoints);
+         else
+            BulkTransformTools.inverseTransform(rotationMatrix, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.inverseTranslate(translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else
+      {
+         System.arraycopy(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, 3 * numberOfPoints);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                       int numberOfVectors)
+   {
+      if (hasRotation)
+         BulkTransformTools.inverseTransform(rotationMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+      else
+         System.arraycopy(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, 3 * numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.transform(rotationMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                         numberOfPoints);
+         else
+            BulkTransformTools.transform(rotationMatrix, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.translate(translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else
+      {
+         System.arraycopy(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, 3 * numberOfPoints);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      if (hasRotation)
+         BulkTransformTools.transform(rotationMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+      else
+         System.arraycopy(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, 3 * numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      if (hasRotation)
+      {
+         if (hasTranslation)
+            BulkTransformTools.inverseTransform(rotationMatrix, translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset,
+                                                numberOfPoints);
+         else
+            BulkTransformTools.inverseTransform(rotationMatrix, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else if (hasTranslation)
+      {
+         BulkTransformTools.inverseTranslate(translationVector, pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+      }
+      else
+      {
+         System.arraycopy(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, 3 * numberOfPoints);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      if (hasRotation)
+         BulkTransformTools.inverseTransform(rotationMatrix, vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+      else
+         System.arraycopy(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, 3 * numberOfVectors);
+   }
+
    /**
     * Packs this transform as a 4-by-4 matrix.
     *
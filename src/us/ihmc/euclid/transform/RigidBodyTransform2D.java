@@ -0,0 +1,678 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.exceptions.NotAMatrix2DException;
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+
+/**
+ * A {@code RigidBodyTransform2D} represents a rigid-body transform in the XY plane, i.e. a rotation
+ * about the z-axis, the yaw, followed by a translation in the XY plane.
+ * <p>
+ * It is meant to be used in place of {@link RigidBodyTransform} when only planar transforms are
+ * involved, for instance for a ground robot. The cosine and sine of the yaw angle are computed when
+ * the rotation is set such that transforming a point only costs 4 multiplications and no
+ * verification that the transform is planar is needed.
+ * </p>
+ * <p>
+ * A {@code RigidBodyTransform2D} can be converted to and from a {@link RigidBodyTransform} without
+ * loss as long as the rotation part of the {@code RigidBodyTransform} is a rotation in the XY
+ * plane, see {@link RigidBodyTransform#isRotation2D()}. The z-component of the translation of the
+ * {@code RigidBodyTransform} is ignored.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point2DBasics}, this object is rotated, then
+ * translated.
+ * <li>when applying this transform on a {@link Vector2DBasics}, this object is only rotated. It is
+ * NOT translated.
+ * </ul>
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class RigidBodyTransform2D
+      implements EpsilonComparable<RigidBodyTransform2D>, GeometricallyComparable<RigidBodyTransform2D>, Settable<RigidBodyTransform2D>, Clearable
+{
+   /** The rotation angle about the z-axis in [-<i>pi</i>, <i>pi</i>]. */
+   private double yaw;
+   /** The cosine of {@link #yaw}. */
+   private double cosYaw;
+   /** The sine of {@link #yaw}. */
+   private double sinYaw;
+   /** The x-component of the translation part. */
+   private double x;
+   /** The y-component of the translation part. */
+   private double y;
+
+   /**
+    * Creates a new 2D transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public RigidBodyTransform2D()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new 2D transform and initializes it to {@code other}.
+    *
+    * @param other the other 2D transform to copy. Not modified.
+    */
+   public RigidBodyTransform2D(RigidBodyTransform2D other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new 2D transform and initializes it from the given yaw angle and translation.
+    *
+    * @param yaw the rotation angle about the z-axis.
+    * @param x the x-component of the translation part.
+    * @param y the y-component of the translation part.
+    */
+   public RigidBodyTransform2D(double yaw, double x, double y)
+   {
+      set(yaw, x, y);
+   }
+
+   /**
+    * Creates a new 2D transform and initializes it to the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    * @throws NotAMatrix2DException if the rotation part of {@code rigidBodyTransform} is not a
+    *            rotation in the XY plane.
+    * @throws IllegalArgumentException if the z-component of the translation part of
+    *            {@code rigidBodyTransform} is not zero.
+    * @see #setAndProjectToXYPlane(RigidBodyTransform)
+    */
+   public RigidBodyTransform2D(RigidBodyTransform rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Resets this transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      setRotationYaw(0.0);
+      setTranslation(0.0, 0.0);
+   }
+
+   /**
+    * Resets this transform to represent a zero rotation and zero translation.
+    * <p>
+    * When set to zero, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   @Override
+   public void setToZero()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Sets all the components of this transform to {@link Double#NaN}.
+    */
+   @Override
+   public void setToNaN()
+   {
+      yaw = Double.NaN;
+      cosYaw = Double.NaN;
+      sinYaw = Double.NaN;
+      x = Double.NaN;
+      y = Double.NaN;
+   }
+
+   /**
+    * Tests if at least one element of this transform is equal to {@linkplain Double#NaN}.
+    *
+    * @return {@code true} if at least one element of this transform is equal to
+    *         {@linkplain Double#NaN}, {@code false} otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      return Double.isNaN(yaw) || Double.isNaN(x) || Double.isNaN(y);
+   }
+
+   /**
+    * Sets the rotation and translation parts of this transform.
+    *
+    * @param yaw the rotation angle about the z-axis.
+    * @param x the x-component of the translation part.
+    * @param y the y-component of the translation part.
+    */
+   public void set(double yaw, double x, double y)
+   {
+      setRotationYaw(yaw);
+      setTranslation(x, y);
+   }
+
+   /**
+    * Sets this transform to {@code other}.
+    *
+    * @param other the other 2D transform. Not modified.
+    */
+   @Override
+   public void set(RigidBodyTransform2D other)
+   {
+      yaw = other.yaw;
+      cosYaw = other.cosYaw;
+      sinYaw = other.sinYaw;
+      x = other.x;
+      y = other.y;
+   }
+
+   /**
+    * Sets this transform to the given rigid-body transform.
+    * <p>
+    * The cosine and sine of the yaw angle are directly obtained from the rotation matrix such that
+    * no precision is lost. The given transform has to be in the XY plane for the conversion to be
+    * lossless, see {@link #setAndProjectToXYPlane(RigidBodyTransform)} to discard the z-component of
+    * the translation part instead.
+    * </p>
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy the values from. Not modified.
+    * @throws NotAMatrix2DException if the rotation part of {@code rigidBodyTransform} is not a
+    *            rotation in the XY plane.
+    * @throws IllegalArgumentException if the z-component of the translation part of
+    *            {@code rigidBodyTransform} is not zero.
+    */
+   public void set(RigidBodyTransform rigidBodyTransform)
+   {
+      if (rigidBodyTransform.getTranslationZ() != 0.0)
+         throw new IllegalArgumentException("The translation is not in the XY plane, z: " + rigidBodyTransform.getTranslationZ());
+
+      setAndProjectToXYPlane(rigidBodyTransform);
+   }
+
+   /**
+    * Sets this transform to the projection onto the XY plane of the given rigid-body transform.
+    * <p>
+    * The rotation part of the given transform has to be a rotation about the z-axis, while the
+    * z-component of its translation part is discarded.
+    * </p>
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy the values from. Not modified.
+    * @throws NotAMatrix2DException if the rotation part of {@code rigidBodyTransform} is not a
+    *            rotation in the XY plane.
+    */
+   public void setAndProjectToXYPlane(RigidBodyTransform rigidBodyTransform)
+   {
+      rigidBodyTransform.checkIfRotation2D();
+
+      RotationMatrixReadOnly rotationMatrix = rigidBodyTransform.getRotationMatrix();
+      cosYaw = rotationMatrix.getM00();
+      sinYaw = rotationMatrix.getM10();
+      yaw = Math.atan2(sinYaw, cosYaw);
+      x = rigidBodyTransform.getTranslationX();
+      y = rigidBodyTransform.getTranslationY();
+   }
+
+   /**
+    * Sets the rotation part of this transform and updates the cosine and sine of the yaw angle.
+    *
+    * @param yaw the rotation angle about the z-axis.
+    */
+   public void setRotationYaw(double yaw)
+   {
+      this.yaw = EuclidCoreTools.trimAngleMinusPiToPi(yaw);
+      cosYaw = Math.cos(yaw);
+      sinYaw = Math.sin(yaw);
+   }
+
+   /**
+    * Sets the translation part of this transform.
+    *
+    * @param x the x-component of the translation part.
+    * @param y the y-component of the translation part.
+    */
+   public void setTranslation(double x, double y)
+   {
+      this.x = x;
+      this.y = y;
+   }
+
+   /**
+    * Sets the translation part of this transform.
+    *
+    * @param translation the tuple used to set the translation part. Not modified.
+    */
+   public void setTranslation(Tuple2DReadOnly translation)
+   {
+      setTranslation(translation.getX(), translation.getY());
+   }
+
+   /**
+    * Inverts this transform.
+    */
+   public void invert()
+   {
+      double invX = -cosYaw * x - sinYaw * y;
+      double invY = sinYaw * x - cosYaw * y;
+      yaw = -yaw;
+      sinYaw = -sinYaw;
+      x = invX;
+      y = invY;
+   }
+
+   /**
+    * Performs the multiplication of this transform with {@code other}.
+    * <p>
+    * this = this * other
+    * </p>
+    * <p>
+    * The cosine and sine of the resulting yaw angle are computed with the angle sum identities
+    * such that no trigonometric function is called.
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void multiply(RigidBodyTransform2D other)
+   {
+      double newX = cosYaw * other.x - sinYaw * other.y + x;
+      double newY = sinYaw * other.x + cosYaw * other.y + y;
+      double newCos = cosYaw * other.cosYaw - sinYaw * other.sinYaw;
+      double newSin = sinYaw * other.cosYaw + cosYaw * other.sinYaw;
+      yaw = EuclidCoreTools.trimAngleMinusPiToPi(yaw + other.yaw);
+      cosYaw = newCos;
+      sinYaw = newSin;
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Performs the multiplication of {@code other} with this transform.
+    * <p>
+    * this = other * this
+    * </p>
+    * <p>
+    * The cosine and sine of the resulting yaw angle are computed with the angle sum identities
+    * such that no trigonometric function is called.
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void preMultiply(RigidBodyTransform2D other)
+   {
+      double newX = other.cosYaw * x - other.sinYaw * y + other.x;
+      double newY = other.sinYaw * x + other.cosYaw * y + other.y;
+      double newCos = other.cosYaw * cosYaw - other.sinYaw * sinYaw;
+      double newSin = other.sinYaw * cosYaw + other.cosYaw * sinYaw;
+      yaw = EuclidCoreTools.trimAngleMinusPiToPi(other.yaw + yaw);
+      cosYaw = newCos;
+      sinYaw = newSin;
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Transforms the given point by this transform.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void transform(Point2DBasics pointToTransform)
+   {
+      transform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Transforms the point {@code pointOriginal} by this transform and stores the result in
+    * {@code pointTransformed}.
+    *
+    * @param pointOriginal the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed)
+   {
+      double px = pointOriginal.getX();
+      double py = pointOriginal.getY();
+      pointTransformed.set(cosYaw * px - sinYaw * py + x, sinYaw * px + cosYaw * py + y);
+   }
+
+   /**
+    * Transforms the given vector by this transform.
+    * <p>
+    * The vector is only rotated.
+    * </p>
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void transform(Vector2DBasics vectorToTransform)
+   {
+      transform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Transforms the vector {@code vectorOriginal} by this transform and stores the result in
+    * {@code vectorTransformed}.
+    * <p>
+    * The vector is only rotated.
+    * </p>
+    *
+    * @param vectorOriginal the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed)
+   {
+      double vx = vectorOriginal.getX();
+      double vy = vectorOriginal.getY();
+      vectorTransformed.set(cosYaw * vx - sinYaw * vy, sinYaw * vx + cosYaw * vy);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given point.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void inverseTransform(Point2DBasics pointToTransform)
+   {
+      inverseTransform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on the point {@code pointOriginal} and stores the result
+    * in {@code pointTransformed}.
+    *
+    * @param pointOriginal the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed)
+   {
+      double px = pointOriginal.getX() - x;
+      double py = pointOriginal.getY() - y;
+      pointTransformed.set(cosYaw * px + sinYaw * py, -sinYaw * px + cosYaw * py);
+   }
+
+   /**
+    * Performs the inverse of the transform on the given vector.
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void inverseTransform(Vector2DBasics vectorToTransform)
+   {
+      inverseTransform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on the vector {@code vectorOriginal} and stores the
+    * result in {@code vectorTransformed}.
+    *
+    * @param vectorOriginal the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed)
+   {
+      double vx = vectorOriginal.getX();
+      double vy = vectorOriginal.getY();
+      vectorTransformed.set(cosYaw * vx + sinYaw * vy, -sinYaw * vx + cosYaw * vy);
+   }
+
+   /**
+    * Transforms {@code numberOfPoints} 2D points stored in the array {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * The points are stored as interleaved coordinates: {@code (x0, y0, x1, y1, ...)}. The two arrays
+    * can be the same, in which case the points are transformed in place.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index of the x-coordinate of the first point in
+    *           {@code pointsOriginal}.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param transformedOffset the index of the x-coordinate of the first point in
+    *           {@code pointsTransformed}.
+    * @param numberOfPoints the number of points to transform.
+    */
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int originalIndex = originalOffset + 2 * i;
+         int transformedIndex = transformedOffset + 2 * i;
+         double px = pointsOriginal[originalIndex];
+         double py = pointsOriginal[originalIndex + 1];
+         pointsTransformed[transformedIndex] = cosYaw * px - sinYaw * py + x;
+         pointsTransformed[transformedIndex + 1] = sinYaw * px + cosYaw * py + y;
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on {@code numberOfPoints} 2D points stored in the array
+    * {@code pointsOriginal} and stores the result in {@code pointsTransformed}.
+    * <p>
+    * The points are stored as interleaved coordinates: {@code (x0, y0, x1, y1, ...)}. The two arrays
+    * can be the same, in which case the points are transformed in place.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index of the x-coordinate of the first point in
+    *           {@code pointsOriginal}.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param transformedOffset the index of the x-coordinate of the first point in
+    *           {@code pointsTransformed}.
+    * @param numberOfPoints the number of points to transform.
+    */
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int originalIndex = originalOffset + 2 * i;
+         int transformedIndex = transformedOffset + 2 * i;
+         double px = pointsOriginal[originalIndex] - x;
+         double py = pointsOriginal[originalIndex + 1] - y;
+         pointsTransformed[transformedIndex] = cosYaw * px + sinYaw * py;
+         pointsTransformed[transformedIndex + 1] = -sinYaw * px + cosYaw * py;
+      }
+   }
+
+   /**
+    * Transforms {@code numberOfPoints} 2D points stored in the array {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * The points are stored as interleaved coordinates: {@code (x0, y0, x1, y1, ...)}. The two arrays
+    * can be the same, in which case the points are transformed in place. The computation is
+    * performed in double precision.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index of the x-coordinate of the first point in
+    *           {@code pointsOriginal}.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param transformedOffset the index of the x-coordinate of the first point in
+    *           {@code pointsTransformed}.
+    * @param numberOfPoints the number of points to transform.
+    */
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int originalIndex = originalOffset + 2 * i;
+         int transformedIndex = transformedOffset + 2 * i;
+         double px = pointsOriginal[originalIndex];
+         double py = pointsOriginal[originalIndex + 1];
+         pointsTransformed[transformedIndex] = (float) (cosYaw * px - sinYaw * py + x);
+         pointsTransformed[transformedIndex + 1] = (float) (sinYaw * px + cosYaw * py + y);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on {@code numberOfPoints} 2D points stored in the array
+    * {@code pointsOriginal} and stores the result in {@code pointsTransformed}.
+    * <p>
+    * The points are stored as interleaved coordinates: {@code (x0, y0, x1, y1, ...)}. The two arrays
+    * can be the same, in which case the points are transformed in place. The computation is
+    * performed in double precision.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index of the x-coordinate of the first point in
+    *           {@code pointsOriginal}.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param transformedOffset the index of the x-coordinate of the first point in
+    *           {@code pointsTransformed}.
+    * @param numberOfPoints the number of points to transform.
+    */
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int originalIndex = originalOffset + 2 * i;
+         int transformedIndex = transformedOffset + 2 * i;
+         double px = pointsOriginal[originalIndex] - x;
+         double py = pointsOriginal[originalIndex + 1] - y;
+         pointsTransformed[transformedIndex] = (float) (cosYaw * px + sinYaw * py);
+         pointsTransformed[transformedIndex + 1] = (float) (-sinYaw * px + cosYaw * py);
+      }
+   }
+
+   /**
+    * Packs this transform into the given rigid-body transform.
+    * <p>
+    * The rotation matrix is directly built from the cosine and sine of the yaw angle such that no
+    * precision is lost, and the z-component of the translation part is set to zero.
+    * </p>
+    *
+    * @param rigidBodyTransformToPack the rigid-body transform in which this transform is stored.
+    *           Modified.
+    */
+   public void get(RigidBodyTransform rigidBodyTransformToPack)
+   {
+      rigidBodyTransformToPack.setUnsafe(cosYaw, -sinYaw, 0.0, x, sinYaw, cosYaw, 0.0, y, 0.0, 0.0, 1.0, 0.0);
+   }
+
+   /**
+    * Gets the rotation angle about the z-axis.
+    *
+    * @return the yaw angle in [-<i>pi</i>, <i>pi</i>].
+    */
+   public double getYaw()
+   {
+      return yaw;
+   }
+
+   /**
+    * Gets the x-component of the translation part.
+    *
+    * @return the x-component of the translation.
+    */
+   public double getTranslationX()
+   {
+      return x;
+   }
+
+   /**
+    * Gets the y-component of the translation part.
+    *
+    * @return the y-component of the translation.
+    */
+   public double getTranslationY()
+   {
+      return y;
+   }
+
+   /**
+    * Tests on a per component basis if the yaw angles and translation parts of this transform and
+    * {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other the other transform to compare against this. Not modified.
+    */
+   @Override
+   public boolean epsilonEquals(RigidBodyTransform2D other, double epsilon)
+   {
+      return EuclidCoreTools.epsilonEquals(yaw, other.yaw, epsilon) && EuclidCoreTools.epsilonEquals(x, other.x, epsilon)
+            && EuclidCoreTools.epsilonEquals(y, other.y, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(RigidBodyTransform2D)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof RigidBodyTransform2D)
+         return equals((RigidBodyTransform2D) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if the yaw angles and translation parts of this transform and
+    * {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(RigidBodyTransform2D other)
+   {
+      if (other == null)
+         return false;
+      else
+         return yaw == other.yaw && x == other.x && y == other.y;
+   }
+
+   /**
+    * Two 2D transforms are considered geometrically equal if the difference between their yaw
+    * angles, in [-<i>pi</i>, <i>pi</i>], and their translation parts are equal to an
+    * {@code epsilon}.
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(RigidBodyTransform2D other, double epsilon)
+   {
+      return Math.abs(EuclidCoreTools.trimAngleMinusPiToPi(yaw - other.yaw)) <= epsilon && Math.abs(x - other.x) <= epsilon
+            && Math.abs(y - other.y) <= epsilon;
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Yaw: yaw <br>
+    * Translation: ( x, y)
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getRigidBodyTransform2DString(this);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, yaw);
+      bits = EuclidHashCodeTools.addToHashCode(bits, x);
+      bits = EuclidHashCodeTools.addToHashCode(bits, y);
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
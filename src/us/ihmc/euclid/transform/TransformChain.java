@@ -0,0 +1,641 @@
+package us.ihmc.euclid.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code TransformChain} represents a sequence of transforms, or stages, to be applied one after
+ * the other, for instance to express a geometry measured in a sensor frame in the world frame
+ * going through the head and pelvis frames.
+ * <p>
+ * Instead of applying each stage one at a time, the stages are multiplied together into a single
+ * flattened transform which is then used for all the transformations. The flattened transform is
+ * cached and only recomputed when one of the stages has been modified since it was last computed,
+ * which is detected by comparing the version of each stage, see
+ * {@link RigidBodyTransform#getVersion()}. As a result, transforming a geometry with a chain of
+ * any number of stages costs the same as transforming it with a single transform plus the
+ * verification of the stage versions.
+ * </p>
+ * <p>
+ * The stages are applied in the order they were added: when transforming a point <i>p</i> with
+ * the chain composed of the stages <i>S<sub>0</sub></i>, <i>S<sub>1</sub></i>, ...,
+ * <i>S<sub>n</sub></i>, the result is: <i>S<sub>n</sub></i> * ... * <i>S<sub>1</sub></i> *
+ * <i>S<sub>0</sub></i> * <i>p</i>.
+ * </p>
+ * <p>
+ * As long as all the stages are either {@link RigidBodyTransform}s or
+ * {@link QuaternionBasedTransform}s, the flattened transform is a {@link RigidBodyTransform}. As
+ * soon as an {@link AffineTransform} stage is added, the flattened transform becomes an
+ * {@link AffineTransform}. Note that an {@link AffineTransform} can only represent a rotation
+ * followed by a scale along its local axes: a non-uniform scale followed by a rotation and another
+ * non-uniform scale would result in a shear. For this reason, only the first stage of a chain can
+ * have a non-uniform scale, the following {@link AffineTransform} stages have to be uniformly
+ * scaled.
+ * </p>
+ * <p>
+ * This class is not thread-safe: the flattened transform is recomputed lazily when the chain is
+ * read, such that any query, including the transform methods, may write to the chain. Before
+ * sharing a chain between threads, for instance to transform a large set of points with a
+ * {@link ParallelBulkTransformer}, bring it up-to-date by calling {@link #getFlattenedTransform()}
+ * once and share the returned transform instead of the chain. The stages must not be modified
+ * while the returned transform is in use.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class TransformChain implements Transform
+{
+   /** The stages of this chain in the order they are applied. */
+   private final List<Transform> stages = new ArrayList<>();
+   /** The version of each stage at the moment the flattened transform was last computed. */
+   private long[] stageVersions = new long[4];
+   /** Whether a stage has been added or removed since the last time the chain was flattened. */
+   private boolean isFlattenedTransformUpToDate = false;
+   /** Relative tolerance used to verify that the scale of an {@link AffineTransform} is uniform. */
+   private static final double UNIFORM_SCALE_EPSILON = 1.0e-12;
+
+   /** Whether at least one stage is an {@link AffineTransform}. */
+   private boolean hasAffineStage = false;
+
+   /** The flattened transform used when there is no {@link AffineTransform} stage. */
+   private final RigidBodyTransform rigidBodyFlattenedTransform = new RigidBodyTransform();
+   /** The flattened transform used when there is at least one {@link AffineTransform} stage. */
+   private final AffineTransform affineFlattenedTransform = new AffineTransform();
+   /** The product of the rotation-scale parts of the stages, used to flatten the affine chains. */
+   private final Matrix3D rotationScaleProduct = new Matrix3D();
+   /** The translation part of the product of the stages, used to flatten the affine chains. */
+   private final Vector3D translationProduct = new Vector3D();
+   /** The rotation part of a {@link QuaternionBasedTransform} stage as a matrix. */
+   private final RotationMatrix stageRotationMatrix = new RotationMatrix();
+
+   /**
+    * Creates a new empty chain which is equivalent to the identity transform.
+    */
+   public TransformChain()
+   {
+   }
+
+   /**
+    * Adds a new stage at the end of this chain.
+    * <p>
+    * The chain keeps a reference to the given transform such that any later modification of it is
+    * accounted for.
+    * </p>
+    *
+    * @param stage the transform to append to this chain. Not modified.
+    */
+   public void addStage(RigidBodyTransform stage)
+   {
+      addStageInternal(stage);
+   }
+
+   /**
+    * Adds a new stage at the end of this chain.
+    * <p>
+    * The chain keeps a reference to the given transform such that any later modification of it is
+    * accounted for.
+    * </p>
+    *
+    * @param stage the transform to append to this chain. Not modified.
+    */
+   public void addStage(QuaternionBasedTransform stage)
+   {
+      addStageInternal(stage);
+   }
+
+   /**
+    * Adds a new stage at the end of this chain.
+    * <p>
+    * The chain keeps a reference to the given transform such that any later modification of it is
+    * accounted for. From now on, the flattened transform of this chain is an
+    * {@link AffineTransform}.
+    * </p>
+    * <p>
+    * Unless this chain is empty, the given transform has to have a uniform scale and has to keep
+    * a uniform scale for as long as it is part of this chain.
+    * </p>
+    *
+    * @param stage the transform to append to this chain. Not modified.
+    * @throws IllegalArgumentException if this chain is not empty and {@code stage} has a
+    *            non-uniform scale.
+    */
+   public void addStage(AffineTransform stage)
+   {
+      if (stage != null && !stages.isEmpty() && !hasUniformScale(stage))
+         throw new IllegalArgumentException("Only the first stage of a chain can have a non-uniform scale, scale: " + stage.getScale());
+
+      addStageInternal(stage);
+      hasAffineStage = true;
+   }
+
+   private void addStageInternal(Transform stage)
+   {
+      if (stage == null)
+         throw new IllegalArgumentException("A stage cannot be null.");
+
+      stages.add(stage);
+      if (stages.size() > stageVersions.length)
+         stageVersions = Arrays.copyOf(stageVersions, 2 * stages.size());
+      isFlattenedTransformUpToDate = false;
+   }
+
+   /**
+    * Removes the stage of this chain at the given index. The stages after it are shifted towards
+    * the beginning of this chain.
+    *
+    * @param index the index of the stage to remove.
+    * @return the removed stage.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *            {@link #getNumberOfStages()}[.
+    */
+   public Transform removeStage(int index)
+   {
+      Transform removedStage = stages.remove(index);
+
+      hasAffineStage = false;
+      for (int i = 0; i < stages.size(); i++)
+      {
+         if (stages.get(i) instanceof AffineTransform)
+         {
+            hasAffineStage = true;
+            break;
+         }
+      }
+
+      isFlattenedTransformUpToDate = false;
+      return removedStage;
+   }
+
+   /**
+    * Removes all the stages of this chain making it equivalent to the identity transform.
+    */
+   public void clear()
+   {
+      stages.clear();
+      hasAffineStage = false;
+      isFlattenedTransformUpToDate = false;
+   }
+
+   /**
+    * Gets the number of stages in this chain.
+    *
+    * @return the number of stages.
+    */
+   public int getNumberOfStages()
+   {
+      return stages.size();
+   }
+
+   /**
+    * Gets the stage of this chain at the given index.
+    *
+    * @param index the index of the stage.
+    * @return the stage.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *            {@link #getNumberOfStages()}[.
+    */
+   public Transform getStage(int index)
+   {
+      return stages.get(index);
+   }
+
+   /**
+    * Gets the transform equivalent to this chain, recomputing it first if any of the stages has
+    * been modified.
+    * <p>
+    * The returned transform is either a {@link RigidBodyTransform} or an {@link AffineTransform}
+    * depending on the stages of this chain. It should not be modified.
+    * </p>
+    * <p>
+    * Unlike this chain, the returned transform can be read from several threads at once, as long as
+    * neither the stages nor the chain are modified and this method is not called again meanwhile.
+    * </p>
+    *
+    * @return the flattened transform.
+    * @throws IllegalStateException if a stage other than the first one has a non-uniform scale.
+    */
+   public Transform getFlattenedTransform()
+   {
+      update();
+      return hasAffineStage ? affineFlattenedTransform : rigidBodyFlattenedTransform;
+   }
+
+   /**
+    * Packs the transform equivalent to this chain, recomputing it first if any of the stages has
+    * been modified.
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @throws IllegalStateException if a stage other than the first one has a non-uniform scale.
+    */
+   public void get(AffineTransform transformToPack)
+   {
+      update();
+      if (hasAffineStage)
+         transformToPack.set(affineFlattenedTransform);
+      else
+         transformToPack.set(rigidBodyFlattenedTransform);
+   }
+
+   /**
+    * Tests whether the flattened transform has to be recomputed because a stage has been added,
+    * removed, or modified.
+    *
+    * @return {@code true} if the flattened transform is up-to-date, {@code false} otherwise.
+    */
+   public boolean isFlattenedTransformUpToDate()
+   {
+      if (!isFlattenedTransformUpToDate)
+         return false;
+
+      for (int i = 0; i < stages.size(); i++)
+      {
+         if (stageVersions[i] != getVersion(stages.get(i)))
+            return false;
+      }
+
+      return true;
+   }
+
+   /**
+    * Recomputes the flattened transform if it is not up-to-date.
+    */
+   private void update()
+   {
+      if (isFlattenedTransformUpToDate())
+         return;
+
+      if (hasAffineStage)
+      {
+         rotationScaleProduct.setIdentity();
+         translationProduct.setToZero();
+      }
+      else
+      {
+         rigidBodyFlattenedTransform.setIdentity();
+      }
+
+      for (int i = 0; i < stages.size(); i++)
+      {
+         Transform stage = stages.get(i);
+         stageVersions[i] = getVersion(stage);
+
+         if (hasAffineStage)
+         {
+            Matrix3DReadOnly stageMatrix;
+            Tuple3DReadOnly stageTranslation;
+
+            if (stage instanceof RigidBodyTransform)
+            {
+               stageMatrix = ((RigidBodyTransform) stage).getRotationMatrix();
+               stageTranslation = ((RigidBodyTransform) stage).getTranslationVector();
+            }
+            else if (stage instanceof QuaternionBasedTransform)
+            {
+               stageRotationMatrix.set(((QuaternionBasedTransform) stage).getQuaternion());
+               stageMatrix = stageRotationMatrix;
+               stageTranslation = ((QuaternionBasedTransform) stage).getTranslationVector();
+            }
+            else
+            {
+               if (i > 0 && !hasUniformScale((AffineTransform) stage))
+               {
+                  isFlattenedTransformUpToDate = false;
+                  throw new IllegalStateException("The stage " + i + " has a non-uniform scale: " + ((AffineTransform) stage).getScale()
+                        + ", only the first stage of a chain can have a non-uniform scale.");
+               }
+
+               stageMatrix = ((AffineTransform) stage).getRotationScaleMatrix();
+               stageTranslation = ((AffineTransform) stage).getTranslationVector();
+            }
+
+            stageMatrix.transform(translationProduct);
+            translationProduct.add(stageTranslation);
+            rotationScaleProduct.preMultiply(stageMatrix);
+         }
+         else
+         {
+            if (stage instanceof RigidBodyTransform)
+               rigidBodyFlattenedTransform.preMultiply((RigidBodyTransform) stage);
+            else
+               rigidBodyFlattenedTransform.preMultiply((QuaternionBasedTransform) stage);
+         }
+      }
+
+      if (hasAffineStage)
+         affineFlattenedTransform.set(rotationScaleProduct, translationProduct);
+
+      isFlattenedTransformUpToDate = true;
+   }
+
+   private static boolean hasUniformScale(AffineTransform stage)
+   {
+      Tuple3DReadOnly scale = stage.getScale();
+      double epsilon = UNIFORM_SCALE_EPSILON * Math.max(Math.abs(scale.getX()), Math.max(Math.abs(scale.getY()), Math.abs(scale.getZ())));
+      return Math.abs(scale.getX() - scale.getY()) <= epsilon && Math.abs(scale.getX() - scale.getZ()) <= epsilon;
+   }
+
+   private static long getVersion(Transform stage)
+   {
+      if (stage instanceof RigidBodyTransform)
+         return ((RigidBodyTransform) stage).getVersion();
+      else if (stage instanceof QuaternionBasedTransform)
+         return ((QuaternionBasedTransform) stage).getVersion();
+      else
+         return ((AffineTransform) stage).getVersion();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      getFlattenedTransform().transform(pointOriginal, pointTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      getFlattenedTransform().transform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
+   {
+      getFlattenedTransform().transform(orientationOriginal, orientationTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      getFlattenedTransform().transform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      getFlattenedTransform().transform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      getFlattenedTransform().transform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
+   {
+      getFlattenedTransform().transform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      getFlattenedTransform().transform(original, transformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      getFlattenedTransform().transform(original, transformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(AffineTransform original, AffineTransform transformed)
+   {
+      getFlattenedTransform().transform(original, transformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      getFlattenedTransform().inverseTransform(pointOriginal, pointTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      getFlattenedTransform().inverseTransform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Orientation3DReadOnly orientationOriginal, Orientation3DBasics orientationTransformed)
+   {
+      getFlattenedTransform().inverseTransform(orientationOriginal, orientationTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      getFlattenedTransform().inverseTransform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      getFlattenedTransform().inverseTransform(pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      getFlattenedTransform().inverseTransform(vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3DBasics matrixTransformed)
+   {
+      getFlattenedTransform().inverseTransform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      getFlattenedTransform().inverseTransform(original, transformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      getFlattenedTransform().inverseTransform(original, transformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(AffineTransform original, AffineTransform transformed)
+   {
+      getFlattenedTransform().inverseTransform(original, transformed);
+   }
+
+   /**
+    * Transforms the points held in {@code pointsOriginal} by this chain and stores the results in
+    * {@code pointsTransformed}.
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      update();
+      if (hasAffineStage)
+         affineFlattenedTransform.transform(pointsOriginal, pointsTransformed);
+      else
+         rigidBodyFlattenedTransform.transform(pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Transforms the vectors held in {@code vectorsOriginal} by this chain and stores the results in
+    * {@code vectorsTransformed}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      update();
+      if (hasAffineStage)
+         affineFlattenedTransform.transform(vectorsOriginal, vectorsTransformed);
+      else
+         rigidBodyFlattenedTransform.transform(vectorsOriginal, vectorsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this chain on the points held in {@code pointsOriginal} and stores the
+    * results in {@code pointsTransformed}.
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      update();
+      if (hasAffineStage)
+         affineFlattenedTransform.inverseTransform(pointsOriginal, pointsTransformed);
+      else
+         rigidBodyFlattenedTransform.inverseTransform(pointsOriginal, pointsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this chain on the vectors held in {@code vectorsOriginal} and stores
+    * the results in {@code vectorsTransformed}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      update();
+      if (hasAffineStage)
+         affineFlattenedTransform.inverseTransform(vectorsOriginal, vectorsTransformed);
+      else
+         rigidBodyFlattenedTransform.inverseTransform(vectorsOriginal, vectorsTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      getFlattenedTransform().transformPoints(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      getFlattenedTransform().transformVectors(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      getFlattenedTransform().inverseTransformPoints(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                       int numberOfVectors)
+   {
+      getFlattenedTransform().inverseTransformVectors(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      getFlattenedTransform().transformPoints(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      getFlattenedTransform().transformVectors(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      getFlattenedTransform().inverseTransformPoints(pointsOriginal, originalOffset, pointsTransformed, transformedOffset, numberOfPoints);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      getFlattenedTransform().inverseTransformVectors(vectorsOriginal, originalOffset, vectorsTransformed, transformedOffset, numberOfVectors);
+   }
+
+   /**
+    * Provides a {@code String} representation of the flattened transform of this chain.
+    *
+    * @return the {@code String} representing this chain.
+    */
+   @Override
+   public String toString()
+   {
+      return getFlattenedTransform().toString();
+   }
+}
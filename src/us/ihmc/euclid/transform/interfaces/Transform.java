@@ -15,6 +15,7 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
@@ -943,4 +944,264 @@ public interface Transform
     * @param transformed the affine transform in which the result is stored. Modified.
     */
    void inverseTransform(AffineTransform original, AffineTransform transformed);
+
+   /**
+    * Transforms the points held in {@code pointsOriginal} by this transform and stores the results
+    * in {@code pointsTransformed}.
+    * <p>
+    * The points are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    * <p>
+    * This is equivalent to calling {@link #transform(Point3DBasics)} on each point, but
+    * implementations are expected to override this method with an allocation-free loop that only
+    * reads the transform coefficients once.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    */
+   default void transformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      Point3D point = new Point3D();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         point.set(originalOffset + 3 * i, pointsOriginal);
+         transform(point);
+         point.get(transformedOffset + 3 * i, pointsTransformed);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on the points held in {@code pointsOriginal} and
+    * stores the results in {@code pointsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transformPoints(double[], int, double[], int, int)} with
+    * the inverse of this transform.
+    * </p>
+    * <p>
+    * The points are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    */
+   default void inverseTransformPoints(double[] pointsOriginal, int originalOffset, double[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      Point3D point = new Point3D();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         point.set(originalOffset + 3 * i, pointsOriginal);
+         inverseTransform(point);
+         point.get(transformedOffset + 3 * i, pointsTransformed);
+      }
+   }
+
+   /**
+    * Transforms the vectors held in {@code vectorsOriginal} by this transform and stores the results
+    * in {@code vectorsTransformed}.
+    * <p>
+    * The vectors are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    * <p>
+    * Note: transforming a vector differs from transforming a point in the way that the vector is not
+    * affected by the translation part of this transform.
+    * </p>
+    *
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    */
+   default void transformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      Vector3D vector = new Vector3D();
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         vector.set(originalOffset + 3 * i, vectorsOriginal);
+         transform(vector);
+         vector.get(transformedOffset + 3 * i, vectorsTransformed);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on the vectors held in {@code vectorsOriginal} and
+    * stores the results in {@code vectorsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transformVectors(double[], int, double[], int, int)} with
+    * the inverse of this transform.
+    * </p>
+    * <p>
+    * The vectors are stored in {@code double[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    */
+   default void inverseTransformVectors(double[] vectorsOriginal, int originalOffset, double[] vectorsTransformed, int transformedOffset,
+                                        int numberOfVectors)
+   {
+      Vector3D vector = new Vector3D();
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         vector.set(originalOffset + 3 * i, vectorsOriginal);
+         inverseTransform(vector);
+         vector.get(transformedOffset + 3 * i, vectorsTransformed);
+      }
+   }
+
+   /**
+    * Transforms the points held in {@code pointsOriginal} by this transform and stores the results
+    * in {@code pointsTransformed}.
+    * <p>
+    * The points are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    * <p>
+    * This is equivalent to calling {@link #transform(Point3DBasics)} on each point, but
+    * implementations are expected to override this method with an allocation-free loop that only
+    * reads the transform coefficients once.
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    */
+   default void transformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      Point3D point = new Point3D();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         point.set(originalOffset + 3 * i, pointsOriginal);
+         transform(point);
+         point.get(transformedOffset + 3 * i, pointsTransformed);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on the points held in {@code pointsOriginal} and
+    * stores the results in {@code pointsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transformPoints(float[], int, float[], int, int)} with
+    * the inverse of this transform.
+    * </p>
+    * <p>
+    * The points are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param pointsOriginal the array containing the points to transform. Not modified.
+    * @param originalOffset the index in {@code pointsOriginal} of the x-component of the first
+    *           point.
+    * @param pointsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code pointsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfPoints the number of points to transform.
+    */
+   default void inverseTransformPoints(float[] pointsOriginal, int originalOffset, float[] pointsTransformed, int transformedOffset, int numberOfPoints)
+   {
+      Point3D point = new Point3D();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         point.set(originalOffset + 3 * i, pointsOriginal);
+         inverseTransform(point);
+         point.get(transformedOffset + 3 * i, pointsTransformed);
+      }
+   }
+
+   /**
+    * Transforms the vectors held in {@code vectorsOriginal} by this transform and stores the results
+    * in {@code vectorsTransformed}.
+    * <p>
+    * The vectors are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    * <p>
+    * Note: transforming a vector differs from transforming a point in the way that the vector is not
+    * affected by the translation part of this transform.
+    * </p>
+    *
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    */
+   default void transformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset, int numberOfVectors)
+   {
+      Vector3D vector = new Vector3D();
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         vector.set(originalOffset + 3 * i, vectorsOriginal);
+         transform(vector);
+         vector.get(transformedOffset + 3 * i, vectorsTransformed);
+      }
+   }
+
+   /**
+    * Performs the inverse of this transform on the vectors held in {@code vectorsOriginal} and
+    * stores the results in {@code vectorsTransformed}.
+    * <p>
+    * This is equivalent to calling {@link #transformVectors(float[], int, float[], int, int)} with
+    * the inverse of this transform.
+    * </p>
+    * <p>
+    * The vectors are stored in {@code float[]} as follows: [x<sub>0</sub>, y<sub>0</sub>,
+    * z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...].
+    * </p>
+    *
+    * @param vectorsOriginal the array containing the vectors to transform. Not modified.
+    * @param originalOffset the index in {@code vectorsOriginal} of the x-component of the first
+    *           vector.
+    * @param vectorsTransformed the array in which the results are stored. Modified.
+    * @param transformedOffset the index in {@code vectorsTransformed} where the x-component of the
+    *           first result is stored.
+    * @param numberOfVectors the number of vectors to transform.
+    */
+   default void inverseTransformVectors(float[] vectorsOriginal, int originalOffset, float[] vectorsTransformed, int transformedOffset,
+                                        int numberOfVectors)
+   {
+      Vector3D vector = new Vector3D();
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         vector.set(originalOffset + 3 * i, vectorsOriginal);
+         inverseTransform(vector);
+         vector.get(transformedOffset + 3 * i, vectorsTransformed);
+      }
+   }
 }
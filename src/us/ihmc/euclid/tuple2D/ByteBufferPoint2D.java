@@ -0,0 +1,290 @@
+package us.ihmc.euclid.tuple2D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+
+/**
+ * A point 2D which components are not stored in fields but in a {@link ByteBuffer}.
+ * <p>
+ * This class is a flyweight: it does not own any data and only provides a view on a section of the
+ * buffer starting at a movable offset. The same instance can be moved through a large set of
+ * points stored contiguously in the buffer, for instance a point cloud held in a direct or
+ * memory-mapped buffer, and passed to any method accepting a {@code Point2DBasics} without copying
+ * the data into the heap and without creating garbage.
+ * </p>
+ * <p>
+ * The components are stored in the order x, y, either in double precision or in single
+ * precision as chosen at construction, using the byte order of the buffer, see
+ * {@link ByteBuffer#order()}. Only absolute accessors of the buffer are used such that its position
+ * and limit are never modified.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ByteBufferPoint2D implements Point2DBasics, GeometryObject<ByteBufferPoint2D>
+{
+   /** The buffer this point is a view of. */
+   private ByteBuffer buffer;
+   /** The index in bytes in the buffer of the first component of this point. */
+   private int offset;
+   /** Whether the components are stored as {@code float}s or as {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one component. */
+   private final int componentSize;
+
+   /**
+    * Creates a new point viewing the first 16 bytes of the given buffer in which the components
+    * are stored in double precision.
+    *
+    * @param buffer the buffer to view. Not modified.
+    */
+   public ByteBufferPoint2D(ByteBuffer buffer)
+   {
+      this(buffer, 0, false);
+   }
+
+   /**
+    * Creates a new point viewing the given buffer starting at {@code offset}.
+    *
+    * @param buffer the buffer to view. Not modified.
+    * @param offset the index in bytes in the buffer of the first component.
+    * @param singlePrecision whether the components are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public ByteBufferPoint2D(ByteBuffer buffer, int offset, boolean singlePrecision)
+   {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.singlePrecision = singlePrecision;
+      componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+   }
+
+   /**
+    * Changes the buffer this point is a view of.
+    * <p>
+    * The offset remains unchanged.
+    * </p>
+    *
+    * @param buffer the new buffer to view. Not modified.
+    */
+   public void setBuffer(ByteBuffer buffer)
+   {
+      this.buffer = buffer;
+   }
+
+   /**
+    * Moves this view to the given {@code offset}.
+    *
+    * @param offset the index in bytes in the buffer of the first component.
+    */
+   public void setOffset(int offset)
+   {
+      this.offset = offset;
+   }
+
+   /**
+    * Moves this view to the {@code index}<sup>th</sup> point assuming that the points are
+    * stored contiguously from the beginning of the buffer.
+    * <p>
+    * This is equivalent to {@code setOffset(index * getSizeInBytes())}.
+    * </p>
+    *
+    * @param index the index of the point to view.
+    */
+   public void setIndex(int index)
+   {
+      offset = index * getSizeInBytes();
+   }
+
+   /**
+    * Gets the buffer this point is a view of.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the first component of this point.
+    *
+    * @return the current offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Whether the components are stored as {@code float}s or as {@code double}s.
+    *
+    * @return {@code true} if the components are stored in single precision, {@code false} if they
+    *         are stored in double precision.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes used to store one point: 16 in double precision and 8 in single
+    * precision.
+    *
+    * @return the size in bytes of one point.
+    */
+   public int getSizeInBytes()
+   {
+      return 2 * componentSize;
+   }
+
+   /**
+    * Sets this point to {@code other}.
+    *
+    * @param other the other point to copy the values from. Not modified.
+    */
+   @Override
+   public void set(ByteBufferPoint2D other)
+   {
+      Point2DBasics.super.set(other);
+   }
+
+   /**
+    * Sets the x-coordinate of this point.
+    *
+    * @param x the x-coordinate.
+    */
+   @Override
+   public void setX(double x)
+   {
+      setComponent(0, x);
+   }
+
+   /**
+    * Sets the y-coordinate of this point.
+    *
+    * @param y the y-coordinate.
+    */
+   @Override
+   public void setY(double y)
+   {
+      setComponent(1, y);
+   }
+
+   /**
+    * Returns the value of the x-coordinate of this point.
+    *
+    * @return the x-coordinate's value.
+    */
+   @Override
+   public double getX()
+   {
+      return getComponent(0);
+   }
+
+   /**
+    * Returns the value of the y-coordinate of this point.
+    *
+    * @return the y-coordinate's value.
+    */
+   @Override
+   public double getY()
+   {
+      return getComponent(1);
+   }
+
+   private double getComponent(int index)
+   {
+      int position = offset + index * componentSize;
+      return singlePrecision ? buffer.getFloat(position) : buffer.getDouble(position);
+   }
+
+   private void setComponent(int index, double value)
+   {
+      int position = offset + index * componentSize;
+      if (singlePrecision)
+         buffer.putFloat(position, (float) value);
+      else
+         buffer.putDouble(position, value);
+   }
+
+   /**
+    * Tests if the given {@code object} is an instance of {@code Tuple2DReadOnly}, in which case the
+    * method returns {@link #equals(Tuple2DReadOnly)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple2DReadOnly)
+         return equals((Tuple2DReadOnly) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if this point is equal to the given {@code other} to an
+    * {@code epsilon}.
+    *
+    * @param other the other point to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two tuples are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(ByteBufferPoint2D other, double epsilon)
+   {
+      return Point2DBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same point 2D to an {@code epsilon}.
+    * <p>
+    * Two points are considered geometrically equal if they are at a distance of less than or equal
+    * to {@code epsilon}.
+    * </p>
+    *
+    * @param other the other point to compare against this. Not modified.
+    * @param epsilon the maximum distance that the two points can be spaced and still considered
+    *           equal.
+    * @return {@code true} if the two points represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(ByteBufferPoint2D other, double epsilon)
+   {
+      return Point2DBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this point 2D as follows: (x, y).
+    *
+    * @return the {@code String} representing this point 2D.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple2DString(this);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this
+    * point 2D.
+    *
+    * @return the hash code value for this point 2D.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, getX());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getY());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
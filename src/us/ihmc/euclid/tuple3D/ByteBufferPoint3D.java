@@ -0,0 +1,313 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A point 3D which components are not stored in fields but in a {@link ByteBuffer}.
+ * <p>
+ * This class is a flyweight: it does not own any data and only provides a view on a section of the
+ * buffer starting at a movable offset. The same instance can be moved through a large set of
+ * points stored contiguously in the buffer, for instance a point cloud held in a direct or
+ * memory-mapped buffer, and passed to any method accepting a {@code Point3DBasics} without copying
+ * the data into the heap and without creating garbage.
+ * </p>
+ * <p>
+ * The components are stored in the order x, y, z, either in double precision or in single
+ * precision as chosen at construction, using the byte order of the buffer, see
+ * {@link ByteBuffer#order()}. Only absolute accessors of the buffer are used such that its position
+ * and limit are never modified.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ByteBufferPoint3D implements Point3DBasics, GeometryObject<ByteBufferPoint3D>
+{
+   /** The buffer this point is a view of. */
+   private ByteBuffer buffer;
+   /** The index in bytes in the buffer of the first component of this point. */
+   private int offset;
+   /** Whether the components are stored as {@code float}s or as {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one component. */
+   private final int componentSize;
+
+   /**
+    * Creates a new point viewing the first 24 bytes of the given buffer in which the components
+    * are stored in double precision.
+    *
+    * @param buffer the buffer to view. Not modified.
+    */
+   public ByteBufferPoint3D(ByteBuffer buffer)
+   {
+      this(buffer, 0, false);
+   }
+
+   /**
+    * Creates a new point viewing the given buffer starting at {@code offset}.
+    *
+    * @param buffer the buffer to view. Not modified.
+    * @param offset the index in bytes in the buffer of the first component.
+    * @param singlePrecision whether the components are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public ByteBufferPoint3D(ByteBuffer buffer, int offset, boolean singlePrecision)
+   {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.singlePrecision = singlePrecision;
+      componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+   }
+
+   /**
+    * Changes the buffer this point is a view of.
+    * <p>
+    * The offset remains unchanged.
+    * </p>
+    *
+    * @param buffer the new buffer to view. Not modified.
+    */
+   public void setBuffer(ByteBuffer buffer)
+   {
+      this.buffer = buffer;
+   }
+
+   /**
+    * Moves this view to the given {@code offset}.
+    *
+    * @param offset the index in bytes in the buffer of the first component.
+    */
+   public void setOffset(int offset)
+   {
+      this.offset = offset;
+   }
+
+   /**
+    * Moves this view to the {@code index}<sup>th</sup> point assuming that the points are
+    * stored contiguously from the beginning of the buffer.
+    * <p>
+    * This is equivalent to {@code setOffset(index * getSizeInBytes())}.
+    * </p>
+    *
+    * @param index the index of the point to view.
+    */
+   public void setIndex(int index)
+   {
+      offset = index * getSizeInBytes();
+   }
+
+   /**
+    * Gets the buffer this point is a view of.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the first component of this point.
+    *
+    * @return the current offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Whether the components are stored as {@code float}s or as {@code double}s.
+    *
+    * @return {@code true} if the components are stored in single precision, {@code false} if they
+    *         are stored in double precision.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes used to store one point: 24 in double precision and 12 in single
+    * precision.
+    *
+    * @return the size in bytes of one point.
+    */
+   public int getSizeInBytes()
+   {
+      return 3 * componentSize;
+   }
+
+   /**
+    * Sets this point to {@code other}.
+    *
+    * @param other the other point to copy the values from. Not modified.
+    */
+   @Override
+   public void set(ByteBufferPoint3D other)
+   {
+      Point3DBasics.super.set(other);
+   }
+
+   /**
+    * Sets the x-coordinate of this point.
+    *
+    * @param x the x-coordinate.
+    */
+   @Override
+   public void setX(double x)
+   {
+      setComponent(0, x);
+   }
+
+   /**
+    * Sets the y-coordinate of this point.
+    *
+    * @param y the y-coordinate.
+    */
+   @Override
+   public void setY(double y)
+   {
+      setComponent(1, y);
+   }
+
+   /**
+    * Sets the z-coordinate of this point.
+    *
+    * @param z the z-coordinate.
+    */
+   @Override
+   public void setZ(double z)
+   {
+      setComponent(2, z);
+   }
+
+   /**
+    * Returns the value of the x-coordinate of this point.
+    *
+    * @return the x-coordinate's value.
+    */
+   @Override
+   public double getX()
+   {
+      return getComponent(0);
+   }
+
+   /**
+    * Returns the value of the y-coordinate of this point.
+    *
+    * @return the y-coordinate's value.
+    */
+   @Override
+   public double getY()
+   {
+      return getComponent(1);
+   }
+
+   /**
+    * Returns the value of the z-coordinate of this point.
+    *
+    * @return the z-coordinate's value.
+    */
+   @Override
+   public double getZ()
+   {
+      return getComponent(2);
+   }
+
+   private double getComponent(int index)
+   {
+      int position = offset + index * componentSize;
+      return singlePrecision ? buffer.getFloat(position) : buffer.getDouble(position);
+   }
+
+   private void setComponent(int index, double value)
+   {
+      int position = offset + index * componentSize;
+      if (singlePrecision)
+         buffer.putFloat(position, (float) value);
+      else
+         buffer.putDouble(position, value);
+   }
+
+   /**
+    * Tests if the given {@code object} is an instance of {@code Tuple3DReadOnly}, in which case the
+    * method returns {@link #equals(Tuple3DReadOnly)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple3DReadOnly)
+         return equals((Tuple3DReadOnly) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if this point is equal to the given {@code other} to an
+    * {@code epsilon}.
+    *
+    * @param other the other point to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two tuples are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(ByteBufferPoint3D other, double epsilon)
+   {
+      return Point3DBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same point 3D to an {@code epsilon}.
+    * <p>
+    * Two points are considered geometrically equal if they are at a distance of less than or equal
+    * to {@code epsilon}.
+    * </p>
+    *
+    * @param other the other point to compare against this. Not modified.
+    * @param epsilon the maximum distance that the two points can be spaced and still considered
+    *           equal.
+    * @return {@code true} if the two points represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(ByteBufferPoint3D other, double epsilon)
+   {
+      return Point3DBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this point 3D as follows: (x, y, z).
+    *
+    * @return the {@code String} representing this point 3D.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple3DString(this);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this
+    * point 3D.
+    *
+    * @return the hash code value for this point 3D.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, getX());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getY());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getZ());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
@@ -0,0 +1,313 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A vector 3D which components are not stored in fields but in a {@link ByteBuffer}.
+ * <p>
+ * This class is a flyweight: it does not own any data and only provides a view on a section of the
+ * buffer starting at a movable offset. The same instance can be moved through a large set of
+ * vectors stored contiguously in the buffer, for instance the normals of a point cloud held in a
+ * direct or memory-mapped buffer, and passed to any method accepting a {@code Vector3DBasics} without copying
+ * the data into the heap and without creating garbage.
+ * </p>
+ * <p>
+ * The components are stored in the order x, y, z, either in double precision or in single
+ * precision as chosen at construction, using the byte order of the buffer, see
+ * {@link ByteBuffer#order()}. Only absolute accessors of the buffer are used such that its position
+ * and limit are never modified.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ByteBufferVector3D implements Vector3DBasics, GeometryObject<ByteBufferVector3D>
+{
+   /** The buffer this vector is a view of. */
+   private ByteBuffer buffer;
+   /** The index in bytes in the buffer of the first component of this vector. */
+   private int offset;
+   /** Whether the components are stored as {@code float}s or as {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one component. */
+   private final int componentSize;
+
+   /**
+    * Creates a new vector viewing the first 24 bytes of the given buffer in which the components
+    * are stored in double precision.
+    *
+    * @param buffer the buffer to view. Not modified.
+    */
+   public ByteBufferVector3D(ByteBuffer buffer)
+   {
+      this(buffer, 0, false);
+   }
+
+   /**
+    * Creates a new vector viewing the given buffer starting at {@code offset}.
+    *
+    * @param buffer the buffer to view. Not modified.
+    * @param offset the index in bytes in the buffer of the first component.
+    * @param singlePrecision whether the components are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public ByteBufferVector3D(ByteBuffer buffer, int offset, boolean singlePrecision)
+   {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.singlePrecision = singlePrecision;
+      componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+   }
+
+   /**
+    * Changes the buffer this vector is a view of.
+    * <p>
+    * The offset remains unchanged.
+    * </p>
+    *
+    * @param buffer the new buffer to view. Not modified.
+    */
+   public void setBuffer(ByteBuffer buffer)
+   {
+      this.buffer = buffer;
+   }
+
+   /**
+    * Moves this view to the given {@code offset}.
+    *
+    * @param offset the index in bytes in the buffer of the first component.
+    */
+   public void setOffset(int offset)
+   {
+      this.offset = offset;
+   }
+
+   /**
+    * Moves this view to the {@code index}<sup>th</sup> vector assuming that the vectors are
+    * stored contiguously from the beginning of the buffer.
+    * <p>
+    * This is equivalent to {@code setOffset(index * getSizeInBytes())}.
+    * </p>
+    *
+    * @param index the index of the vector to view.
+    */
+   public void setIndex(int index)
+   {
+      offset = index * getSizeInBytes();
+   }
+
+   /**
+    * Gets the buffer this vector is a view of.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the first component of this vector.
+    *
+    * @return the current offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Whether the components are stored as {@code float}s or as {@code double}s.
+    *
+    * @return {@code true} if the components are stored in single precision, {@code false} if they
+    *         are stored in double precision.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes used to store one vector: 24 in double precision and 12 in single
+    * precision.
+    *
+    * @return the size in bytes of one vector.
+    */
+   public int getSizeInBytes()
+   {
+      return 3 * componentSize;
+   }
+
+   /**
+    * Sets this vector to {@code other}.
+    *
+    * @param other the other vector to copy the values from. Not modified.
+    */
+   @Override
+   public void set(ByteBufferVector3D other)
+   {
+      Vector3DBasics.super.set(other);
+   }
+
+   /**
+    * Sets the x-component of this vector.
+    *
+    * @param x the x-component.
+    */
+   @Override
+   public void setX(double x)
+   {
+      setComponent(0, x);
+   }
+
+   /**
+    * Sets the y-component of this vector.
+    *
+    * @param y the y-component.
+    */
+   @Override
+   public void setY(double y)
+   {
+      setComponent(1, y);
+   }
+
+   /**
+    * Sets the z-component of this vector.
+    *
+    * @param z the z-component.
+    */
+   @Override
+   public void setZ(double z)
+   {
+      setComponent(2, z);
+   }
+
+   /**
+    * Returns the value of the x-component of this vector.
+    *
+    * @return the x-component's value.
+    */
+   @Override
+   public double getX()
+   {
+      return getComponent(0);
+   }
+
+   /**
+    * Returns the value of the y-component of this vector.
+    *
+    * @return the y-component's value.
+    */
+   @Override
+   public double getY()
+   {
+      return getComponent(1);
+   }
+
+   /**
+    * Returns the value of the z-component of this vector.
+    *
+    * @return the z-component's value.
+    */
+   @Override
+   public double getZ()
+   {
+      return getComponent(2);
+   }
+
+   private double getComponent(int index)
+   {
+      int position = offset + index * componentSize;
+      return singlePrecision ? buffer.getFloat(position) : buffer.getDouble(position);
+   }
+
+   private void setComponent(int index, double value)
+   {
+      int position = offset + index * componentSize;
+      if (singlePrecision)
+         buffer.putFloat(position, (float) value);
+      else
+         buffer.putDouble(position, value);
+   }
+
+   /**
+    * Tests if the given {@code object} is an instance of {@code Tuple3DReadOnly}, in which case the
+    * method returns {@link #equals(Tuple3DReadOnly)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple3DReadOnly)
+         return equals((Tuple3DReadOnly) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if this vector is equal to the given {@code other} to an
+    * {@code epsilon}.
+    *
+    * @param other the other vector to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two tuples are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(ByteBufferVector3D other, double epsilon)
+   {
+      return Vector3DBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same vector 3D to an {@code epsilon}.
+    * <p>
+    * Two vectors are considered geometrically equal if the length of their difference is less than
+    * or equal to {@code epsilon}.
+    * </p>
+    *
+    * @param other the other vector to compare against this. Not modified.
+    * @param epsilon the maximum length of the difference vector can be for the two vectors to be
+    *           considered equal.
+    * @return {@code true} if the two vectors represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(ByteBufferVector3D other, double epsilon)
+   {
+      return Vector3DBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this vector 3D as follows: (x, y, z).
+    *
+    * @return the {@code String} representing this vector 3D.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple3DString(this);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this
+    * vector 3D.
+    *
+    * @return the hash code value for this vector 3D.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, getX());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getY());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getZ());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
@@ -0,0 +1,44 @@
+package us.ihmc.euclid.tuple3D;
+
+/**
+ * A {@code Point3DArray} is a growable list of 3D points, such as a point cloud, stored as a
+ * structure of arrays.
+ * <p>
+ * See {@link Tuple3DArray} for details on the storage. When transformed, a point is rotated and
+ * translated.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class Point3DArray extends Tuple3DArray<Point3DArray>
+{
+   /**
+    * Creates a new empty array of points with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   public Point3DArray()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty array of points with the given initial capacity.
+    *
+    * @param initialCapacity the number of points this array can hold before needing to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity < 0}.
+    */
+   public Point3DArray(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /**
+    * Creates a new array of points and initializes it to {@code other}.
+    *
+    * @param other the other array to copy. Not modified.
+    */
+   public Point3DArray(Point3DArray other)
+   {
+      super(other.size());
+      set(other);
+   }
+}
@@ -0,0 +1,504 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * Base class for a growable list of 3D tuples stored as a structure of arrays.
+ * <p>
+ * Instead of holding onto one object per tuple, the x, y, and z components of all the tuples are
+ * stored in three separate {@code double[]}. This layout is meant for processing large sets of
+ * tuples, such as point clouds, where the per-object overhead of {@link Point3D} or
+ * {@link Vector3D} becomes significant. The bulk operations, such as
+ * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(Point3DArray, Point3DArray)}, work
+ * directly on the backing arrays.
+ * </p>
+ * <p>
+ * The arrays are only reallocated when the capacity has to grow, making this class garbage free
+ * once it has reached its working size.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ * @param <T> the final type of the implementation of this class.
+ */
+public abstract class Tuple3DArray<T extends Tuple3DArray<T>> implements Settable<T>, EpsilonComparable<T>, Clearable
+{
+   /** Capacity used when none is specified at construction. */
+   public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The x-components of the tuples. */
+   private double[] xArray;
+   /** The y-components of the tuples. */
+   private double[] yArray;
+   /** The z-components of the tuples. */
+   private double[] zArray;
+   /** The number of tuples currently held. */
+   private int size = 0;
+
+   /**
+    * Creates a new empty array with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   public Tuple3DArray()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty array with the given initial capacity.
+    *
+    * @param initialCapacity the number of tuples this array can hold before needing to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity < 0}.
+    */
+   public Tuple3DArray(int initialCapacity)
+   {
+      if (initialCapacity < 0)
+         throw new IllegalArgumentException("The capacity cannot be negative: " + initialCapacity);
+
+      xArray = new double[initialCapacity];
+      yArray = new double[initialCapacity];
+      zArray = new double[initialCapacity];
+   }
+
+   /**
+    * Gets the number of tuples held in this array.
+    *
+    * @return the number of tuples.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this array holds any tuple.
+    *
+    * @return {@code true} if this array is empty, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the number of tuples this array can hold before its backing arrays have to be
+    * reallocated.
+    *
+    * @return the current capacity.
+    */
+   public int capacity()
+   {
+      return xArray.length;
+   }
+
+   /**
+    * Removes all the tuples of this array.
+    * <p>
+    * The backing arrays are kept such that this array can be refilled without generating garbage.
+    * </p>
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Ensures that this array can hold at least {@code minimumCapacity} tuples without having to
+    * reallocate its backing arrays.
+    *
+    * @param minimumCapacity the desired minimum capacity.
+    */
+   public void ensureCapacity(int minimumCapacity)
+   {
+      if (minimumCapacity <= xArray.length)
+         return;
+
+      int newCapacity = Math.max(minimumCapacity, xArray.length + (xArray.length >> 1) + 1);
+      xArray = Arrays.copyOf(xArray, newCapacity);
+      yArray = Arrays.copyOf(yArray, newCapacity);
+      zArray = Arrays.copyOf(zArray, newCapacity);
+   }
+
+   /**
+    * Sets the number of tuples held in this array, growing the backing arrays if necessary.
+    * <p>
+    * When growing, the new tuples are not initialized: they hold whatever values were previously
+    * stored at these indices, or zero if these indices were never used.
+    * </p>
+    *
+    * @param newSize the new number of tuples.
+    * @throws IllegalArgumentException if {@code newSize < 0}.
+    */
+   public void setSize(int newSize)
+   {
+      if (newSize < 0)
+         throw new IllegalArgumentException("The size cannot be negative: " + newSize);
+
+      ensureCapacity(newSize);
+      size = newSize;
+   }
+
+   /**
+    * Adds a new tuple at the end of this array.
+    *
+    * @param x the x-component of the new tuple.
+    * @param y the y-component of the new tuple.
+    * @param z the z-component of the new tuple.
+    */
+   public void add(double x, double y, double z)
+   {
+      ensureCapacity(size + 1);
+      xArray[size] = x;
+      yArray[size] = y;
+      zArray[size] = z;
+      size++;
+   }
+
+   /**
+    * Adds a new tuple at the end of this array.
+    *
+    * @param tuple the tuple to copy the components of. Not modified.
+    */
+   public void add(Tuple3DReadOnly tuple)
+   {
+      add(tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Sets the components of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param x the new x-component.
+    * @param y the new y-component.
+    * @param z the new z-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndex(index);
+      xArray[index] = x;
+      yArray[index] = y;
+      zArray[index] = z;
+   }
+
+   /**
+    * Sets the {@code index}<sup>th</sup> tuple to the given {@code tuple}.
+    *
+    * @param index the index of the tuple to set.
+    * @param tuple the tuple to copy the components of. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, Tuple3DReadOnly tuple)
+   {
+      set(index, tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Sets the x-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param x the new x-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void setX(int index, double x)
+   {
+      checkIndex(index);
+      xArray[index] = x;
+   }
+
+   /**
+    * Sets the y-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param y the new y-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void setY(int index, double y)
+   {
+      checkIndex(index);
+      yArray[index] = y;
+   }
+
+   /**
+    * Sets the z-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param z the new z-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void setZ(int index, double z)
+   {
+      checkIndex(index);
+      zArray[index] = z;
+   }
+
+   /**
+    * Packs the {@code index}<sup>th</sup> tuple into {@code tupleToPack}.
+    *
+    * @param index the index of the tuple to get.
+    * @param tupleToPack the tuple in which the components are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, Tuple3DBasics tupleToPack)
+   {
+      checkIndex(index);
+      tupleToPack.set(xArray[index], yArray[index], zArray[index]);
+   }
+
+   /**
+    * Gets the x-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the x-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getX(int index)
+   {
+      checkIndex(index);
+      return xArray[index];
+   }
+
+   /**
+    * Gets the y-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the y-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getY(int index)
+   {
+      checkIndex(index);
+      return yArray[index];
+   }
+
+   /**
+    * Gets the z-component of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the z-component.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getZ(int index)
+   {
+      checkIndex(index);
+      return zArray[index];
+   }
+
+   /**
+    * Gets the backing array holding the x-components of the tuples.
+    * <p>
+    * WARNING: only the first {@link #size()} elements are meaningful and the returned array is
+    * replaced whenever this array has to grow.
+    * </p>
+    *
+    * @return the backing array of the x-components.
+    */
+   public double[] getXArray()
+   {
+      return xArray;
+   }
+
+   /**
+    * Gets the backing array holding the y-components of the tuples.
+    * <p>
+    * WARNING: only the first {@link #size()} elements are meaningful and the returned array is
+    * replaced whenever this array has to grow.
+    * </p>
+    *
+    * @return the backing array of the y-components.
+    */
+   public double[] getYArray()
+   {
+      return yArray;
+   }
+
+   /**
+    * Gets the backing array holding the z-components of the tuples.
+    * <p>
+    * WARNING: only the first {@link #size()} elements are meaningful and the returned array is
+    * replaced whenever this array has to grow.
+    * </p>
+    *
+    * @return the backing array of the z-components.
+    */
+   public double[] getZArray()
+   {
+      return zArray;
+   }
+
+   /**
+    * Sets this array to {@code other}.
+    * <p>
+    * After calling this method, this array has the same size as {@code other}.
+    * </p>
+    *
+    * @param other the other array to copy. Not modified.
+    */
+   @Override
+   public void set(T other)
+   {
+      if (other == this)
+         return;
+
+      int otherSize = other.size();
+      setSize(otherSize);
+      System.arraycopy(other.getXArray(), 0, xArray, 0, otherSize);
+      System.arraycopy(other.getYArray(), 0, yArray, 0, otherSize);
+      System.arraycopy(other.getZArray(), 0, zArray, 0, otherSize);
+   }
+
+   /**
+    * Sets all the components of all the tuples of this array to zero.
+    * <p>
+    * The size of this array remains unchanged.
+    * </p>
+    */
+   @Override
+   public void setToZero()
+   {
+      Arrays.fill(xArray, 0, size, 0.0);
+      Arrays.fill(yArray, 0, size, 0.0);
+      Arrays.fill(zArray, 0, size, 0.0);
+   }
+
+   /**
+    * Sets all the components of all the tuples of this array to {@link Double#NaN}.
+    * <p>
+    * The size of this array remains unchanged.
+    * </p>
+    */
+   @Override
+   public void setToNaN()
+   {
+      Arrays.fill(xArray, 0, size, Double.NaN);
+      Arrays.fill(yArray, 0, size, Double.NaN);
+      Arrays.fill(zArray, 0, size, Double.NaN);
+   }
+
+   /**
+    * Tests if at least one component of one of the tuples is equal to {@link Double#NaN}.
+    *
+    * @return {@code true} if at least one component is {@link Double#NaN}, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      for (int i = 0; i < size; i++)
+      {
+         if (EuclidCoreTools.containsNaN(xArray[i], yArray[i], zArray[i]))
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Tests that this array and {@code other} have the same size and that their tuples are equal on
+    * a per component basis to an {@code epsilon}.
+    *
+    * @param other the other array to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two arrays are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(T other, double epsilon)
+   {
+      if (size != other.size())
+         return false;
+
+      double[] otherXArray = other.getXArray();
+      double[] otherYArray = other.getYArray();
+      double[] otherZArray = other.getZArray();
+
+      for (int i = 0; i < size; i++)
+      {
+         if (!EuclidCoreTools.epsilonEquals(xArray[i], otherXArray[i], epsilon))
+            return false;
+         if (!EuclidCoreTools.epsilonEquals(yArray[i], otherYArray[i], epsilon))
+            return false;
+         if (!EuclidCoreTools.epsilonEquals(zArray[i], otherZArray[i], epsilon))
+            return false;
+      }
+      return true;
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method
+    * returns {@code true} if the two arrays have the same size and their tuples are exactly equal,
+    * it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object == this)
+         return true;
+      if (object == null || object.getClass() != getClass())
+         return false;
+
+      Tuple3DArray<?> other = (Tuple3DArray<?>) object;
+
+      if (size != other.size)
+         return false;
+
+      for (int i = 0; i < size; i++)
+      {
+         if (xArray[i] != other.xArray[i] || yArray[i] != other.yArray[i] || zArray[i] != other.zArray[i])
+            return false;
+      }
+      return true;
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of the tuples held
+    * in this array.
+    *
+    * @return the hash code value for this array.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      for (int i = 0; i < size; i++)
+      {
+         bits = EuclidHashCodeTools.addToHashCode(bits, xArray[i]);
+         bits = EuclidHashCodeTools.addToHashCode(bits, yArray[i]);
+         bits = EuclidHashCodeTools.addToHashCode(bits, zArray[i]);
+      }
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+
+   /**
+    * Provides a {@code String} representation of this array as follows: [(x0, y0, z0), (x1, y1,
+    * z1), ...].
+    *
+    * @return the {@code String} representing this array.
+    */
+   @Override
+   public String toString()
+   {
+      StringBuilder builder = new StringBuilder("[");
+      for (int i = 0; i < size; i++)
+      {
+         if (i > 0)
+            builder.append(", ");
+         EuclidCoreIOTools.appendStringOf(builder, "(", " )", ", ", EuclidCoreIOTools.DEFAULT_FORMAT, xArray[i], yArray[i], zArray[i]);
+      }
+      return builder.append("]").toString();
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+   }
+}
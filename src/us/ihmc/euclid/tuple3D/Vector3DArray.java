@@ -0,0 +1,58 @@
+package us.ihmc.euclid.tuple3D;
+
+import us.ihmc.euclid.tools.BulkTransformTools;
+
+/**
+ * A {@code Vector3DArray} is a growable list of 3D vectors, such as a set of normals, stored as a
+ * structure of arrays.
+ * <p>
+ * See {@link Tuple3DArray} for details on the storage. When transformed, a vector is only rotated,
+ * it is never translated.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class Vector3DArray extends Tuple3DArray<Vector3DArray>
+{
+   /**
+    * Creates a new empty array of vectors with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   public Vector3DArray()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty array of vectors with the given initial capacity.
+    *
+    * @param initialCapacity the number of vectors this array can hold before needing to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity < 0}.
+    */
+   public Vector3DArray(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /**
+    * Creates a new array of vectors and initializes it to {@code other}.
+    *
+    * @param other the other array to copy. Not modified.
+    */
+   public Vector3DArray(Vector3DArray other)
+   {
+      super(other.size());
+      set(other);
+   }
+
+   /**
+    * Normalizes each vector of this array such that its length is equal to 1.
+    * <p>
+    * If a vector contains {@link Double#NaN}, it remains unchanged. If a vector is zero, it is set
+    * to {@link Double#NaN}.
+    * </p>
+    */
+   public void normalize()
+   {
+      BulkTransformTools.normalizeVectors(getXArray(), getYArray(), getZArray(), 0, size());
+   }
+}
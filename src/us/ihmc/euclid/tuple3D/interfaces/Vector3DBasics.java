@@ -1,6 +1,7 @@
 package us.ihmc.euclid.tuple3D.interfaces;
 
 import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.transform.AffineTransform;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
@@ -55,6 +56,30 @@ public interface Vector3DBasics extends Tuple3DBasics, Vector3DReadOnly, Transfo
       scale(1.0 / length());
    }
 
+   /**
+    * Normalizes this vector such that its magnitude is equal to 1 after calling this method and its
+    * direction remains unchanged, using an approximation when this vector is already close to
+    * unitary.
+    * <p>
+    * When the squared length of this vector is within
+    * 1+/-{@value EuclidCoreTools#EPS_NORM_FAST_INVERSE_SQRT}, the inverse of the length is
+    * approximated with {@link EuclidCoreTools#fastInverseSquareRoot(double)} and neither square root
+    * nor division is performed. Otherwise, this method is equivalent to {@link #normalize()}.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if this vector contains {@link Double#NaN}, this method is ineffective.
+    * </ul>
+    * </p>
+    */
+   default void fastNormalize()
+   {
+      if (containsNaN())
+         return;
+      scale(EuclidCoreTools.fastInverseSquareRoot(lengthSquared()));
+   }
+
    /**
     * Sets this vector to {@code other} and then calls {@link #normalize()}.
     *
@@ -0,0 +1,312 @@
+package us.ihmc.euclid.tuple4D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+
+/**
+ * A quaternion which components are not stored in fields but in a {@link ByteBuffer}.
+ * <p>
+ * This class is a flyweight: it does not own any data and only provides a view on a section of the
+ * buffer starting at a movable offset. The same instance can be moved through a large set of
+ * quaternions stored contiguously in the buffer, for instance a sequence of orientations held in a
+ * direct or memory-mapped buffer, and passed to any method accepting a {@code QuaternionBasics} without
+ * copying the data into the heap and without creating garbage.
+ * </p>
+ * <p>
+ * The components are stored in the order x, y, z, s, either in double precision or in single
+ * precision as chosen at construction, using the byte order of the buffer, see
+ * {@link ByteBuffer#order()}. Only absolute accessors of the buffer are used such that its position
+ * and limit are never modified.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class ByteBufferQuaternion implements QuaternionBasics, GeometryObject<ByteBufferQuaternion>
+{
+   /** The buffer this quaternion is a view of. */
+   private ByteBuffer buffer;
+   /** The index in bytes in the buffer of the first component of this quaternion. */
+   private int offset;
+   /** Whether the components are stored as {@code float}s or as {@code double}s. */
+   private final boolean singlePrecision;
+   /** The number of bytes used to store one component. */
+   private final int componentSize;
+
+   /**
+    * Creates a new quaternion viewing the first 32 bytes of the given buffer in which the
+    * components are stored in double precision.
+    *
+    * @param buffer the buffer to view. Not modified.
+    */
+   public ByteBufferQuaternion(ByteBuffer buffer)
+   {
+      this(buffer, 0, false);
+   }
+
+   /**
+    * Creates a new quaternion viewing the given buffer starting at {@code offset}.
+    *
+    * @param buffer the buffer to view. Not modified.
+    * @param offset the index in bytes in the buffer of the first component.
+    * @param singlePrecision whether the components are stored as {@code float}s or as
+    *           {@code double}s.
+    */
+   public ByteBufferQuaternion(ByteBuffer buffer, int offset, boolean singlePrecision)
+   {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.singlePrecision = singlePrecision;
+      componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+   }
+
+   /**
+    * Changes the buffer this quaternion is a view of.
+    * <p>
+    * The offset remains unchanged.
+    * </p>
+    *
+    * @param buffer the new buffer to view. Not modified.
+    */
+   public void setBuffer(ByteBuffer buffer)
+   {
+      this.buffer = buffer;
+   }
+
+   /**
+    * Moves this view to the given {@code offset}.
+    *
+    * @param offset the index in bytes in the buffer of the first component.
+    */
+   public void setOffset(int offset)
+   {
+      this.offset = offset;
+   }
+
+   /**
+    * Moves this view to the {@code index}<sup>th</sup> quaternion assuming that the quaternions are
+    * stored contiguously from the beginning of the buffer.
+    * <p>
+    * This is equivalent to {@code setOffset(index * getSizeInBytes())}.
+    * </p>
+    *
+    * @param index the index of the quaternion to view.
+    */
+   public void setIndex(int index)
+   {
+      offset = index * getSizeInBytes();
+   }
+
+   /**
+    * Gets the buffer this quaternion is a view of.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the first component of this quaternion.
+    *
+    * @return the current offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Whether the components are stored as {@code float}s or as {@code double}s.
+    *
+    * @return {@code true} if the components are stored in single precision, {@code false} if they
+    *         are stored in double precision.
+    */
+   public boolean isSinglePrecision()
+   {
+      return singlePrecision;
+   }
+
+   /**
+    * Gets the number of bytes used to store one quaternion: 32 in double precision and 16 in single
+    * precision.
+    *
+    * @return the size in bytes of one quaternion.
+    */
+   public int getSizeInBytes()
+   {
+      return 4 * componentSize;
+   }
+
+   /**
+    * Sets this quaternion to {@code other}.
+    *
+    * @param other the other quaternion to copy the values from. Not modified.
+    */
+   @Override
+   public void set(ByteBufferQuaternion other)
+   {
+      QuaternionBasics.super.set(other);
+   }
+
+   /**
+    * Sets the components of this quaternion without normalizing.
+    * <p>
+    * This method is meant for internal usage. Prefer using
+    * {@link #set(double, double, double, double)}.
+    * </p>
+    *
+    * @param qx the x-component.
+    * @param qy the y-component.
+    * @param qz the z-component.
+    * @param qs the s-component.
+    */
+   @Override
+   public void setUnsafe(double qx, double qy, double qz, double qs)
+   {
+      setComponent(0, qx);
+      setComponent(1, qy);
+      setComponent(2, qz);
+      setComponent(3, qs);
+   }
+
+   /**
+    * Returns the value of the x-component of this quaternion.
+    *
+    * @return the x-component's value.
+    */
+   @Override
+   public double getX()
+   {
+      return getComponent(0);
+   }
+
+   /**
+    * Returns the value of the y-component of this quaternion.
+    *
+    * @return the y-component's value.
+    */
+   @Override
+   public double getY()
+   {
+      return getComponent(1);
+   }
+
+   /**
+    * Returns the value of the z-component of this quaternion.
+    *
+    * @return the z-component's value.
+    */
+   @Override
+   public double getZ()
+   {
+      return getComponent(2);
+   }
+
+   /**
+    * Returns the value of the s-component of this quaternion.
+    *
+    * @return the s-component's value.
+    */
+   @Override
+   public double getS()
+   {
+      return getComponent(3);
+   }
+
+   private double getComponent(int index)
+   {
+      int position = offset + index * componentSize;
+      return singlePrecision ? buffer.getFloat(position) : buffer.getDouble(position);
+   }
+
+   private void setComponent(int index, double value)
+   {
+      int position = offset + index * componentSize;
+      if (singlePrecision)
+         buffer.putFloat(position, (float) value);
+      else
+         buffer.putDouble(position, value);
+   }
+
+   /**
+    * Tests if the given {@code object} is an instance of {@code Tuple4DReadOnly}, in which case the
+    * method returns {@link #equals(Tuple4DReadOnly)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple4DReadOnly)
+         return equals((Tuple4DReadOnly) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if this quaternion is equal to the given {@code other} to an
+    * {@code epsilon}.
+    *
+    * @param other the other quaternion to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two tuples are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(ByteBufferQuaternion other, double epsilon)
+   {
+      return QuaternionBasics.super.epsilonEquals(other, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same orientation to an {@code epsilon}.
+    * <p>
+    * Two quaternions are considered geometrically equal if the magnitude of their difference is
+    * less than or equal to {@code epsilon}.
+    * </p>
+    *
+    * @param other the other quaternion to compare against this. Not modified.
+    * @param epsilon the maximum angle for the two quaternions to be considered equal.
+    * @return {@code true} if the two quaternions represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(ByteBufferQuaternion other, double epsilon)
+   {
+      return QuaternionBasics.super.geometricallyEquals(other, epsilon);
+   }
+
+   /**
+    * Provides a {@code String} representation of this quaternion as follows: (x, y, z, s).
+    *
+    * @return the {@code String} representing this quaternion.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple4DString(this);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this
+    * quaternion.
+    *
+    * @return the hash code value for this quaternion.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, getX());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getY());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getZ());
+      bits = EuclidHashCodeTools.addToHashCode(bits, getS());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
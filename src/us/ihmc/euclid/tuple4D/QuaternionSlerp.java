@@ -0,0 +1,270 @@
+package us.ihmc.euclid.tuple4D;
+
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * A {@code QuaternionSlerp} performs a <i>Spherical Linear Interpolation</i>, or SLERP, between two
+ * given quaternions {@code q0} and {@code qf}.
+ * <p>
+ * It provides the same results as
+ * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} but is
+ * meant for sampling several times the same segment: the dot product, the angle between the two
+ * quaternions, and its sine are computed only once in
+ * {@link #set(QuaternionReadOnly, QuaternionReadOnly)}, such that each call to
+ * {@link #interpolate(double, QuaternionBasics)} only requires two calls to
+ * {@link Math#sin(double)}.
+ * </p>
+ * <p>
+ * When the segment has to be sampled at evenly spaced percentages, the samples can be generated
+ * without any trigonometric function using {@link #startSampling(int)} and
+ * {@link #nextSample(QuaternionBasics)}. As each component of the interpolated quaternion is a
+ * linear combination of {@code sin(alpha * halfTheta)} and {@code cos(alpha * halfTheta)}, two
+ * consecutive samples <i>q<sub>i</sub></i> and <i>q<sub>i-1</sub></i> are enough to compute the
+ * next one:<br>
+ * <i>q<sub>i+1</sub></i> = 2 cos(&delta;) <i>q<sub>i</sub></i> - <i>q<sub>i-1</sub></i><br>
+ * where &delta; is the angle, in the half-angle space, between two consecutive samples. The
+ * round-off errors accumulate linearly with the number of samples, the error is typically in the
+ * order of {@code 1.0e-15} per sample.
+ * </p>
+ * <p>
+ * This class does not create any object once constructed.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class QuaternionSlerp
+{
+   /**
+    * Threshold on {@code 1 - cos(halfTheta)} below which the two quaternions are considered equal
+    * and a linear interpolation is used.
+    */
+   private static final double EPS = 1.0e-12;
+
+   /** The components of the first quaternion. */
+   private double q0x, q0y, q0z, q0s;
+   /**
+    * The components of the second quaternion, negated if necessary to interpolate along the
+    * shortest path.
+    */
+   private double qfx, qfy, qfz, qfs;
+   /** Half the angle between the two quaternions. */
+   private double halfTheta;
+   /** The inverse of {@code sin(halfTheta)}, {@code NaN} when the linear interpolation is used. */
+   private double invSinHalfTheta;
+   /** Whether the two quaternions are close enough to use a linear interpolation. */
+   private boolean useLinearInterpolation;
+
+   /** The number of samples requested in {@link #startSampling(int)}. */
+   private int numberOfSamples = 0;
+   /** The index of the next sample generated by {@link #nextSample(QuaternionBasics)}. */
+   private int sampleIndex = 0;
+   /** The factor {@code 2 cos(delta)} used in the sampling recurrence. */
+   private double twoCosDelta;
+   /** The last two samples generated, used in the sampling recurrence. */
+   private double previousX, previousY, previousZ, previousS;
+   private double currentX, currentY, currentZ, currentS;
+
+   /**
+    * Creates a new interpolator initialized to interpolate between two neutral quaternions.
+    */
+   public QuaternionSlerp()
+   {
+      set(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
+   }
+
+   /**
+    * Creates a new interpolator and initializes it to interpolate from {@code q0} to {@code qf}.
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    */
+   public QuaternionSlerp(QuaternionReadOnly q0, QuaternionReadOnly qf)
+   {
+      set(q0, qf);
+   }
+
+   /**
+    * Sets the segment to interpolate and precomputes the terms that only depend on the two
+    * quaternions.
+    * <p>
+    * Any sampling started with {@link #startSampling(int)} is cancelled.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    */
+   public void set(QuaternionReadOnly q0, QuaternionReadOnly qf)
+   {
+      set(q0.getX(), q0.getY(), q0.getZ(), q0.getS(), qf.getX(), qf.getY(), qf.getZ(), qf.getS());
+   }
+
+   private void set(double q0x, double q0y, double q0z, double q0s, double qfx, double qfy, double qfz, double qfs)
+   {
+      double cosHalfTheta = q0x * qfx + q0y * qfy + q0z * qfz + q0s * qfs;
+
+      if (cosHalfTheta < 0.0)
+      {
+         cosHalfTheta = -cosHalfTheta;
+         qfx = -qfx;
+         qfy = -qfy;
+         qfz = -qfz;
+         qfs = -qfs;
+      }
+
+      this.q0x = q0x;
+      this.q0y = q0y;
+      this.q0z = q0z;
+      this.q0s = q0s;
+      this.qfx = qfx;
+      this.qfy = qfy;
+      this.qfz = qfz;
+      this.qfs = qfs;
+
+      useLinearInterpolation = !(1.0 - cosHalfTheta > EPS);
+
+      if (useLinearInterpolation)
+      {
+         halfTheta = 0.0;
+         invSinHalfTheta = Double.NaN;
+      }
+      else
+      {
+         halfTheta = Math.acos(cosHalfTheta);
+         invSinHalfTheta = 1.0 / Math.sin(halfTheta);
+      }
+
+      numberOfSamples = 0;
+      sampleIndex = 0;
+   }
+
+   /**
+    * Computes the quaternion at the given percentage {@code alpha} along the segment.
+    *
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to {@code q0}, while a value of 1 is equivalent to setting
+    *           it to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public void interpolate(double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = 1.0 - alpha;
+      double alphaf = alpha;
+
+      if (!useLinearInterpolation)
+      {
+         alpha0 = Math.sin(alpha0 * halfTheta) * invSinHalfTheta;
+         alphaf = Math.sin(alphaf * halfTheta) * invSinHalfTheta;
+      }
+
+      double qx = alpha0 * q0x + alphaf * qfx;
+      double qy = alpha0 * q0y + alphaf * qfy;
+      double qz = alpha0 * q0z + alphaf * qfz;
+      double qs = alpha0 * q0s + alphaf * qfs;
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Prepares the generation of {@code numberOfSamples} evenly spaced samples along the segment,
+    * the first sample being {@code q0} and the last one being {@code qf}.
+    * <p>
+    * The samples are then obtained by calling {@link #nextSample(QuaternionBasics)}
+    * {@code numberOfSamples} times.
+    * </p>
+    *
+    * @param numberOfSamples the number of samples to generate, including the two ends of the
+    *           segment.
+    * @throws IllegalArgumentException if {@code numberOfSamples < 2}.
+    */
+   public void startSampling(int numberOfSamples)
+   {
+      if (numberOfSamples < 2)
+         throw new IllegalArgumentException("The number of samples has to be at least 2, was: " + numberOfSamples);
+
+      this.numberOfSamples = numberOfSamples;
+      sampleIndex = 0;
+      twoCosDelta = useLinearInterpolation ? 2.0 : 2.0 * Math.cos(halfTheta / (numberOfSamples - 1));
+   }
+
+   /**
+    * Tests whether there are remaining samples to be generated with
+    * {@link #nextSample(QuaternionBasics)}.
+    *
+    * @return {@code true} if the sampling is not over, {@code false} otherwise.
+    */
+   public boolean hasNextSample()
+   {
+      return sampleIndex < numberOfSamples;
+   }
+
+   /**
+    * Computes the next sample of the sampling started with {@link #startSampling(int)}.
+    * <p>
+    * The first two samples are computed directly, the following ones using the recurrence
+    * described in the class documentation.
+    * </p>
+    *
+    * @param sampleToPack the quaternion in which the sample is stored. Modified.
+    * @throws IllegalStateException if the sampling has not been started or is over.
+    */
+   public void nextSample(QuaternionBasics sampleToPack)
+   {
+      if (!hasNextSample())
+         throw new IllegalStateException("The sampling has not been started or is over.");
+
+      double nextX, nextY, nextZ, nextS;
+
+      if (sampleIndex == 0)
+      {
+         nextX = q0x;
+         nextY = q0y;
+         nextZ = q0z;
+         nextS = q0s;
+      }
+      else if (sampleIndex == 1)
+      {
+         double alphaf = 1.0 / (numberOfSamples - 1);
+         double alpha0 = 1.0 - alphaf;
+
+         if (!useLinearInterpolation)
+         {
+            alpha0 = Math.sin(alpha0 * halfTheta) * invSinHalfTheta;
+            alphaf = Math.sin(alphaf * halfTheta) * invSinHalfTheta;
+         }
+
+         nextX = alpha0 * q0x + alphaf * qfx;
+         nextY = alpha0 * q0y + alphaf * qfy;
+         nextZ = alpha0 * q0z + alphaf * qfz;
+         nextS = alpha0 * q0s + alphaf * qfs;
+      }
+      else
+      {
+         nextX = twoCosDelta * currentX - previousX;
+         nextY = twoCosDelta * currentY - previousY;
+         nextZ = twoCosDelta * currentZ - previousZ;
+         nextS = twoCosDelta * currentS - previousS;
+      }
+
+      previousX = currentX;
+      previousY = currentY;
+      previousZ = currentZ;
+      previousS = currentS;
+      currentX = nextX;
+      currentY = nextY;
+      currentZ = nextZ;
+      currentS = nextS;
+      sampleIndex++;
+
+      sampleToPack.set(nextX, nextY, nextZ, nextS);
+   }
+
+   /**
+    * Gets half the angle between the two quaternions, i.e. the angle used in the interpolation.
+    *
+    * @return the half angle in [0, <i>pi</i>/2].
+    */
+   public double getHalfTheta()
+   {
+      return halfTheta;
+   }
+}
@@ -5,6 +5,7 @@ import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.rotationConversion.QuaternionConversion;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
  * Write and read interface for unit-quaternion used to represent 3D orientations.
@@ -137,6 +138,44 @@ public interface QuaternionBasics extends QuaternionReadOnly, Orientation3DBasic
       setUnsafe(qx, qy, qz, qs);
    }
 
+   /**
+    * Recomputes this quaternion's components to ensure its norm is equal to 1, using an
+    * approximation when this quaternion is already close to unitary.
+    * <p>
+    * This method is meant to be called repeatedly to remove the drift accumulated by successive
+    * operations, e.g. after every step of an integration. When the squared norm of this quaternion
+    * is within 1+/-{@value EuclidCoreTools#EPS_NORM_FAST_INVERSE_SQRT}, the inverse of the norm is
+    * approximated with {@link EuclidCoreTools#fastInverseSquareRoot(double)} and neither square root
+    * nor division is performed. Otherwise, this method is equivalent to {@link #normalize()}.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if this quaternion contains {@link Double#NaN}, this method is ineffective.
+    * </ul>
+    * </p>
+    */
+   default void fastNormalize()
+   {
+      if (containsNaN())
+         return;
+
+      double normSquared = normSquared();
+
+      if (normSquared == 0.0)
+      {
+         setToZero();
+         return;
+      }
+
+      double invNorm = EuclidCoreTools.fastInverseSquareRoot(normSquared);
+      double qx = getX() * invNorm;
+      double qy = getY() * invNorm;
+      double qz = getZ() * invNorm;
+      double qs = getS() * invNorm;
+      setUnsafe(qx, qy, qz, qs);
+   }
+
    /**
     * Normalizes this quaternion and then limits the angle of the rotation it represents to be &in;
     * [-<i>pi</i>;<i>pi</i>].
@@ -476,6 +515,26 @@ public interface QuaternionBasics extends QuaternionReadOnly, Orientation3DBasic
       QuaternionTools.appendRollRotation(this, roll, this);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the local frame of this
+    * quaternion over the duration {@code dt}.
+    * <p>
+    * this = this * exp(angularVelocity * dt)
+    * </p>
+    * <p>
+    * See {@link QuaternionTools#integrateInBodyFrame(QuaternionReadOnly, Vector3DReadOnly, double, QuaternionBasics)}
+    * for more details.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the local frame of this quaternion.
+    *           Not modified.
+    * @param dt the integration time step.
+    */
+   default void integrateInBodyFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      QuaternionTools.integrateInBodyFrame(this, angularVelocity, dt, this);
+   }
+
    /**
     * Pre-multiplies this quaternion by {@code other}.
     * <p>
@@ -597,6 +656,25 @@ public interface QuaternionBasics extends QuaternionReadOnly, Orientation3DBasic
       QuaternionTools.prependRollRotation(roll, this, this);
    }
 
+   /**
+    * Integrates the angular velocity {@code angularVelocity} expressed in the world frame over the
+    * duration {@code dt}.
+    * <p>
+    * this = exp(angularVelocity * dt) * this
+    * </p>
+    * <p>
+    * See {@link QuaternionTools#integrateInWorldFrame(Vector3DReadOnly, double, QuaternionReadOnly, QuaternionBasics)}
+    * for more details.
+    * </p>
+    *
+    * @param angularVelocity the angular velocity expressed in the world frame. Not modified.
+    * @param dt the integration time step.
+    */
+   default void integrateInWorldFrame(Vector3DReadOnly angularVelocity, double dt)
+   {
+      QuaternionTools.integrateInWorldFrame(angularVelocity, dt, this, this);
+   }
+
    /**
     * Performs a linear interpolation in SO(3) from {@code this} to {@code qf} given the percentage
     * {@code alpha}.
@@ -657,4 +735,87 @@ public interface QuaternionBasics extends QuaternionReadOnly, Orientation3DBasic
       double qs = alpha0 * q0.getS() + sign * alphaf * qf.getS();
       set(qx, qy, qz, qs);
    }
+
+   /**
+    * Performs a <i>Normalized Linear Interpolation</i> from {@code this} to {@code qf} given the
+    * percentage {@code alpha}.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(QuaternionReadOnly, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param qf the other quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this quaternion, while a value of 1 is equivalent to setting this quaternion to
+    *           {@code qf}.
+    */
+   default void nlerp(QuaternionReadOnly qf, double alpha)
+   {
+      nlerp(this, qf, alpha);
+   }
+
+   /**
+    * Performs a <i>Normalized Linear Interpolation</i> from {@code q0} to {@code qf} given the
+    * percentage {@code alpha}.
+    * <p>
+    * This is a cheaper but less accurate alternative to
+    * {@link #interpolate(QuaternionReadOnly, QuaternionReadOnly, double)}, see
+    * {@link QuaternionTools#nlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this quaternion to {@code q0}, while a value of 1 is equivalent to setting this
+    *           quaternion to {@code qf}.
+    */
+   default void nlerp(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha)
+   {
+      QuaternionTools.nlerp(q0, qf, alpha, this);
+   }
+
+   /**
+    * Performs an approximation of the <i>Spherical Linear Interpolation</i> from {@code this} to
+    * {@code qf} given the percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to {@link #interpolate(QuaternionReadOnly, double)} with a
+    * small loss of accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param qf the other quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this quaternion, while a value of 1 is equivalent to setting this quaternion to
+    *           {@code qf}.
+    */
+   default void fastSlerp(QuaternionReadOnly qf, double alpha)
+   {
+      fastSlerp(this, qf, alpha);
+   }
+
+   /**
+    * Performs an approximation of the <i>Spherical Linear Interpolation</i> from {@code q0} to
+    * {@code qf} given the percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to
+    * {@link #interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} with a small loss of
+    * accuracy, see
+    * {@link QuaternionTools#fastSlerp(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the error bounds.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this quaternion to {@code q0}, while a value of 1 is equivalent to setting this
+    *           quaternion to {@code qf}.
+    */
+   default void fastSlerp(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha)
+   {
+      QuaternionTools.fastSlerp(q0, qf, alpha, this);
+   }
 }
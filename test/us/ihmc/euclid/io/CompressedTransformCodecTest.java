@@ -0,0 +1,101 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class CompressedTransformCodecTest
+{
+   private static final int ITERATIONS = 1000;
+
+   @Test
+   public void testRoundTrip() throws Exception
+   {
+      Random random = new Random(34636L);
+      int[] rotationBits = {32, 48, 64};
+      int[] translationBits = {16, 32};
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         CompressedTransformCodec codec = new CompressedTransformCodec(rotationBits[random.nextInt(3)], 2.0, translationBits[random.nextInt(2)]);
+         double angularError = codec.getRotationCodec().getMaximumAngularError();
+         double translationError = codec.getTranslationCodec().getMaximumError() * (1.0 + 1.0e-12);
+
+         ByteBuffer buffer = ByteBuffer.allocate(2 * codec.getEncodedSize());
+         RigidBodyTransform expectedRigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         QuaternionBasedTransform expectedQuaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         codec.writeRigidBodyTransform(buffer, expectedRigidBodyTransform);
+         codec.writeQuaternionBasedTransform(buffer, expectedQuaternionBasedTransform);
+         assertEquals(0, buffer.remaining());
+
+         buffer.flip();
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         QuaternionBasedTransform actualQuaternionBasedTransform = new QuaternionBasedTransform();
+         codec.readRigidBodyTransform(buffer, actualRigidBodyTransform);
+         codec.readQuaternionBasedTransform(buffer, actualQuaternionBasedTransform);
+         assertEquals(0, buffer.remaining());
+
+         EuclidCoreTestTools.assertTuple3DEquals(expectedRigidBodyTransform.getTranslationVector(), actualRigidBodyTransform.getTranslationVector(),
+                                                 translationError);
+         Quaternion expectedRotation = new Quaternion(expectedRigidBodyTransform.getRotationMatrix());
+         Quaternion actualRotation = new Quaternion(actualRigidBodyTransform.getRotationMatrix());
+         assertTrue(SmallestThreeQuaternionCodecTest.orientationDistance(expectedRotation, actualRotation) <= angularError + 1.0e-12);
+
+         EuclidCoreTestTools.assertTuple3DEquals(expectedQuaternionBasedTransform.getTranslationVector(),
+                                                 actualQuaternionBasedTransform.getTranslationVector(), translationError);
+         expectedRotation.set(expectedQuaternionBasedTransform.getQuaternion());
+         actualRotation.set(actualQuaternionBasedTransform.getQuaternion());
+         assertTrue(SmallestThreeQuaternionCodecTest.orientationDistance(expectedRotation, actualRotation) <= angularError + 1.0e-12);
+      }
+   }
+
+   @Test
+   public void testNaN() throws Exception
+   {
+      CompressedTransformCodec codec = new CompressedTransformCodec(48, 2.0, 16);
+      ByteBuffer buffer = ByteBuffer.allocate(codec.getEncodedSize());
+      QuaternionBasedTransform expected = new QuaternionBasedTransform();
+      expected.setToNaN();
+      codec.writeQuaternionBasedTransform(buffer, expected);
+
+      buffer.flip();
+      QuaternionBasedTransform actual = new QuaternionBasedTransform();
+      codec.readQuaternionBasedTransform(buffer, actual);
+      assertTrue(actual.getQuaternion().containsNaN());
+      assertTrue(actual.getTranslationVector().containsNaN());
+   }
+
+   @Test
+   public void testEncodedSize() throws Exception
+   {
+      CompressedTransformCodec codec = new CompressedTransformCodec(48, 10.0, 16);
+      assertEquals(12, codec.getEncodedSize());
+      codec = new CompressedTransformCodec(64, 10.0, 32);
+      assertEquals(20, codec.getEncodedSize());
+
+      ByteBuffer buffer = ByteBuffer.allocate(codec.getEncodedSize() - 1);
+
+      try
+      {
+         codec.writeRigidBodyTransform(buffer, new RigidBodyTransform());
+         fail("Should have thrown an exception");
+      }
+      catch (BufferOverflowException e)
+      {
+         // good
+      }
+      assertEquals(0, buffer.position());
+   }
+}
@@ -0,0 +1,275 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.RotationScaleMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class EuclidBinaryCodecTest
+{
+   private static final int ITERATIONS = 1000;
+   private static final double EPS = 1.0e-15;
+   private static final double EPS_FLOAT = 1.0e-5;
+
+   @Test
+   public void testRoundTrip() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         boolean singlePrecision = random.nextBoolean();
+         double epsilon = singlePrecision ? EPS_FLOAT : EPS;
+         EuclidBinaryCodec codec = new EuclidBinaryCodec(singlePrecision);
+         ByteBuffer buffer = nextBuffer(random, 1024);
+         int start = random.nextInt(16);
+         buffer.position(start);
+
+         Point2D expectedPoint2D = EuclidCoreRandomTools.nextPoint2D(random);
+         Vector3D expectedVector3D = EuclidCoreRandomTools.nextVector3D(random);
+         Vector4D expectedVector4D = EuclidCoreRandomTools.nextVector4D(random);
+         Quaternion expectedQuaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         AxisAngle expectedAxisAngle = EuclidCoreRandomTools.nextAxisAngle(random);
+         YawPitchRoll expectedYawPitchRoll = EuclidCoreRandomTools.nextYawPitchRoll(random);
+         RotationMatrix expectedRotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationScaleMatrix expectedRotationScaleMatrix = EuclidCoreRandomTools.nextRotationScaleMatrix(random, 10.0);
+         RigidBodyTransform expectedRigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         QuaternionBasedTransform expectedQuaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         AffineTransform expectedAffineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+
+         codec.writeTuple2D(buffer, expectedPoint2D);
+         codec.writeTuple3D(buffer, expectedVector3D);
+         codec.writeTuple4D(buffer, expectedVector4D);
+         codec.writeQuaternion(buffer, expectedQuaternion);
+         codec.writeAxisAngle(buffer, expectedAxisAngle);
+         codec.writeYawPitchRoll(buffer, expectedYawPitchRoll);
+         codec.writeRotationMatrix(buffer, expectedRotationMatrix);
+         codec.writeRotationScaleMatrix(buffer, expectedRotationScaleMatrix);
+         codec.writeRigidBodyTransform(buffer, expectedRigidBodyTransform);
+         codec.writeQuaternionBasedTransform(buffer, expectedQuaternionBasedTransform);
+         codec.writeAffineTransform(buffer, expectedAffineTransform);
+
+         int expectedLength = EuclidBinaryCodec.TUPLE2D_LENGTH + EuclidBinaryCodec.TUPLE3D_LENGTH + EuclidBinaryCodec.TUPLE4D_LENGTH
+               + EuclidBinaryCodec.QUATERNION_LENGTH + EuclidBinaryCodec.AXIS_ANGLE_LENGTH + EuclidBinaryCodec.YAW_PITCH_ROLL_LENGTH
+               + EuclidBinaryCodec.ROTATION_MATRIX_LENGTH + EuclidBinaryCodec.ROTATION_SCALE_MATRIX_LENGTH + EuclidBinaryCodec.RIGID_BODY_TRANSFORM_LENGTH
+               + EuclidBinaryCodec.QUATERNION_BASED_TRANSFORM_LENGTH + EuclidBinaryCodec.AFFINE_TRANSFORM_LENGTH;
+         assertEquals(start + codec.getEncodedSize(expectedLength), buffer.position());
+
+         buffer.flip();
+         buffer.position(start);
+
+         Point2D actualPoint2D = new Point2D();
+         Vector3D actualVector3D = new Vector3D();
+         Vector4D actualVector4D = new Vector4D();
+         Quaternion actualQuaternion = new Quaternion();
+         AxisAngle actualAxisAngle = new AxisAngle();
+         YawPitchRoll actualYawPitchRoll = new YawPitchRoll();
+         RotationMatrix actualRotationMatrix = new RotationMatrix();
+         RotationScaleMatrix actualRotationScaleMatrix = new RotationScaleMatrix();
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         QuaternionBasedTransform actualQuaternionBasedTransform = new QuaternionBasedTransform();
+         AffineTransform actualAffineTransform = new AffineTransform();
+
+         codec.readTuple2D(buffer, actualPoint2D);
+         codec.readTuple3D(buffer, actualVector3D);
+         codec.readTuple4D(buffer, actualVector4D);
+         codec.readQuaternion(buffer, actualQuaternion);
+         codec.readAxisAngle(buffer, actualAxisAngle);
+         codec.readYawPitchRoll(buffer, actualYawPitchRoll);
+         codec.readRotationMatrix(buffer, actualRotationMatrix);
+         codec.readRotationScaleMatrix(buffer, actualRotationScaleMatrix);
+         codec.readRigidBodyTransform(buffer, actualRigidBodyTransform);
+         codec.readQuaternionBasedTransform(buffer, actualQuaternionBasedTransform);
+         codec.readAffineTransform(buffer, actualAffineTransform);
+         assertEquals(0, buffer.remaining());
+
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint2D, actualPoint2D, epsilon);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector3D, actualVector3D, epsilon);
+         EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, epsilon);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedQuaternion, actualQuaternion, epsilon);
+         EuclidCoreTestTools.assertAxisAngleEquals(expectedAxisAngle, actualAxisAngle, epsilon);
+         EuclidCoreTestTools.assertYawPitchRollEquals(expectedYawPitchRoll, actualYawPitchRoll, epsilon);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedRotationMatrix, actualRotationMatrix, epsilon);
+         assertTrue(expectedRotationScaleMatrix.epsilonEquals(actualRotationScaleMatrix, 10.0 * epsilon));
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedRigidBodyTransform, actualRigidBodyTransform, epsilon);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expectedQuaternionBasedTransform, actualQuaternionBasedTransform, epsilon);
+         assertTrue(expectedAffineTransform.epsilonEquals(actualAffineTransform, 10.0 * epsilon));
+
+         if (!singlePrecision)
+         {
+            assertEquals(expectedVector3D, actualVector3D);
+            assertEquals(expectedRotationMatrix, actualRotationMatrix);
+            assertEquals(expectedRigidBodyTransform, actualRigidBodyTransform);
+         }
+      }
+   }
+
+   @Test
+   public void testBulk() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         boolean singlePrecision = random.nextBoolean();
+         double epsilon = singlePrecision ? EPS_FLOAT : 0.0;
+         EuclidBinaryCodec codec = new EuclidBinaryCodec(singlePrecision);
+
+         Point3DArray expectedPoints = new Point3DArray();
+         int numberOfPoints = random.nextInt(100);
+         for (int j = 0; j < numberOfPoints; j++)
+            expectedPoints.add(EuclidCoreRandomTools.nextPoint3D(random));
+         double[] expectedArray = new double[random.nextInt(100)];
+         for (int j = 0; j < expectedArray.length; j++)
+            expectedArray[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         ByteBuffer buffer = nextBuffer(random, 8192);
+         // Unaligned positions are not handled with the DoubleBuffer view.
+         int start = random.nextBoolean() ? 8 * random.nextInt(4) : random.nextInt(32);
+         buffer.position(start);
+
+         int arrayStart = expectedArray.length == 0 ? 0 : random.nextInt(expectedArray.length);
+         int arrayLength = expectedArray.length - arrayStart;
+         codec.writeTuple3DArray(buffer, expectedPoints);
+         codec.writeDoubles(buffer, expectedArray, arrayStart, arrayLength);
+         assertEquals(start + Integer.BYTES + codec.getEncodedSize(3 * numberOfPoints + arrayLength), buffer.position());
+
+         buffer.flip();
+         buffer.position(start);
+
+         Point3DArray actualPoints = new Point3DArray();
+         actualPoints.add(1.0, 2.0, 3.0);
+         double[] actualArray = new double[expectedArray.length];
+         codec.readTuple3DArray(buffer, actualPoints);
+         codec.readDoubles(buffer, actualArray, arrayStart, arrayLength);
+         assertEquals(0, buffer.remaining());
+
+         assertEquals(numberOfPoints, actualPoints.size());
+         assertTrue(expectedPoints.epsilonEquals(actualPoints, epsilon));
+         for (int j = arrayStart; j < expectedArray.length; j++)
+            assertEquals(expectedArray[j], actualArray[j], 10.0 * epsilon);
+      }
+   }
+
+   @Test
+   public void testChangingByteOrder() throws Exception
+   {
+      Random random = new Random(23423L);
+      EuclidBinaryCodec codec = new EuclidBinaryCodec(false);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+      double[] expectedArray = new double[50];
+      for (int i = 0; i < expectedArray.length; i++)
+         expectedArray[i] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+      for (ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN})
+      {
+         // The view used for the bulk transfer has to follow the byte order of the buffer.
+         buffer.clear();
+         buffer.order(byteOrder);
+         codec.writeDoubles(buffer, expectedArray, 0, expectedArray.length);
+
+         for (int i = 0; i < expectedArray.length; i++)
+            assertEquals(expectedArray[i], buffer.getDouble(i * Double.BYTES), 0.0);
+      }
+   }
+
+   @Test
+   public void testBufferTooSmall() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (boolean singlePrecision : new boolean[] {true, false})
+      {
+         EuclidBinaryCodec codec = new EuclidBinaryCodec(singlePrecision);
+         int transformSize = codec.getEncodedSize(EuclidBinaryCodec.RIGID_BODY_TRANSFORM_LENGTH);
+         ByteBuffer buffer = ByteBuffer.allocate(transformSize + 4);
+         buffer.position(5);
+
+         try
+         {
+            codec.writeRigidBodyTransform(buffer, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            fail("Should have thrown an exception");
+         }
+         catch (BufferOverflowException e)
+         {
+            // good
+         }
+         assertEquals(5, buffer.position());
+
+         try
+         {
+            codec.readRigidBodyTransform(buffer, new RigidBodyTransform());
+            fail("Should have thrown an exception");
+         }
+         catch (BufferUnderflowException e)
+         {
+            // good
+         }
+         assertEquals(5, buffer.position());
+
+         try
+         {
+            codec.writeDoubles(buffer, new double[transformSize], 0, transformSize);
+            fail("Should have thrown an exception");
+         }
+         catch (BufferOverflowException e)
+         {
+            // good
+         }
+         assertEquals(5, buffer.position());
+
+         try
+         {
+            codec.writeDoubles(buffer, new double[3], 2, 2);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         buffer.position(0);
+         buffer.putInt(100);
+         buffer.position(0);
+         try
+         {
+            codec.readTuple3DArray(buffer, new Point3DArray());
+            fail("Should have thrown an exception");
+         }
+         catch (BufferUnderflowException e)
+         {
+            // good
+         }
+         assertEquals(0, buffer.position());
+      }
+   }
+
+   private static ByteBuffer nextBuffer(Random random, int capacity)
+   {
+      ByteBuffer buffer = random.nextBoolean() ? ByteBuffer.allocate(capacity) : ByteBuffer.allocateDirect(capacity);
+      buffer.order(random.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      return buffer;
+   }
+}
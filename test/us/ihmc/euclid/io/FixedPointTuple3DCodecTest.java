@@ -0,0 +1,146 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class FixedPointTuple3DCodecTest
+{
+   private static final int ITERATIONS = 10000;
+
+   @Test
+   public void testConstructor() throws Exception
+   {
+      FixedPointTuple3DCodec codec = new FixedPointTuple3DCodec(10.0, 16);
+      assertEquals(10.0, codec.getMaximumAbsoluteValue(), 0.0);
+      assertEquals(16, codec.getBitsPerComponent());
+      assertEquals(6, codec.getEncodedSize());
+      assertEquals(10.0 / Short.MAX_VALUE, codec.getResolution(), 1.0e-15);
+      assertEquals(0.5 * codec.getResolution(), codec.getMaximumError(), 1.0e-15);
+
+      codec = new FixedPointTuple3DCodec(10.0, 32);
+      assertEquals(12, codec.getEncodedSize());
+      assertEquals(10.0 / Integer.MAX_VALUE, codec.getResolution(), 1.0e-20);
+
+      double[] invalidRanges = {0.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY};
+      for (double range : invalidRanges)
+      {
+         try
+         {
+            new FixedPointTuple3DCodec(range, 16);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+
+      for (int bits : new int[] {0, 8, 24, 64})
+      {
+         try
+         {
+            new FixedPointTuple3DCodec(1.0, bits);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testEncodeDecode() throws Exception
+   {
+      Random random = new Random(6457L);
+
+      for (int bits : new int[] {16, 32})
+      {
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            double range = EuclidCoreRandomTools.nextDouble(random, 0.01, 100.0);
+            FixedPointTuple3DCodec codec = new FixedPointTuple3DCodec(range, bits);
+            double value = EuclidCoreRandomTools.nextDouble(random, range);
+
+            int encoded = codec.encode(value);
+            if (bits == 16)
+               assertTrue(encoded >= -Short.MAX_VALUE && encoded <= Short.MAX_VALUE);
+            assertEquals(value, codec.decode(encoded), codec.getMaximumError() * (1.0 + 1.0e-12));
+
+            // Out of range values saturate.
+            double outside = range * EuclidCoreRandomTools.nextDouble(random, 1.0, 10.0);
+            assertEquals(range, codec.decode(codec.encode(outside)), range * 1.0e-12);
+            assertEquals(-range, codec.decode(codec.encode(-outside)), range * 1.0e-12);
+            assertEquals(range, codec.decode(codec.encode(Double.POSITIVE_INFINITY)), range * 1.0e-12);
+            assertEquals(-range, codec.decode(codec.encode(Double.NEGATIVE_INFINITY)), range * 1.0e-12);
+         }
+
+         FixedPointTuple3DCodec codec = new FixedPointTuple3DCodec(1.0, bits);
+         assertEquals(0.0, codec.decode(codec.encode(0.0)), 0.0);
+         assertEquals(0.0, codec.decode(codec.encode(-0.0)), 0.0);
+         assertTrue(Double.isNaN(codec.decode(codec.encode(Double.NaN))));
+      }
+   }
+
+   @Test
+   public void testBuffers() throws Exception
+   {
+      Random random = new Random(6457L);
+
+      for (int bits : new int[] {16, 32})
+      {
+         FixedPointTuple3DCodec codec = new FixedPointTuple3DCodec(5.0, bits);
+         ByteBuffer buffer = ByteBuffer.allocate(100 * codec.getEncodedSize());
+         Point3D[] originals = new Point3D[100];
+
+         for (int i = 0; i < originals.length; i++)
+         {
+            originals[i] = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+            codec.writeTuple3D(buffer, originals[i]);
+         }
+         assertEquals(0, buffer.remaining());
+
+         buffer.flip();
+         Vector3D decoded = new Vector3D();
+
+         for (int i = 0; i < originals.length; i++)
+         {
+            codec.readTuple3D(buffer, decoded);
+            EuclidCoreTestTools.assertTuple3DEquals(originals[i], decoded, codec.getMaximumError() * (1.0 + 1.0e-12));
+         }
+
+         try
+         {
+            codec.writeTuple3D(buffer, decoded);
+            fail("Should have thrown an exception");
+         }
+         catch (BufferOverflowException e)
+         {
+            // good
+         }
+
+         try
+         {
+            codec.readTuple3D(buffer, decoded);
+            fail("Should have thrown an exception");
+         }
+         catch (BufferUnderflowException e)
+         {
+            // good
+         }
+      }
+   }
+}
@@ -0,0 +1,183 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class MappedPointCloudTransformerTest
+{
+   private static final double EPS = 1.0e-12;
+   private static final double EPS_FLOAT = 1.0e-4;
+
+   @Test
+   public void testTransformInPlace() throws Exception
+   {
+      Random random = new Random(34534L);
+
+      for (int i = 0; i < 20; i++)
+      {
+         boolean singlePrecision = random.nextBoolean();
+         ByteOrder byteOrder = random.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+         Transform transform = random.nextBoolean() ? EuclidCoreRandomTools.nextRigidBodyTransform(random)
+               : EuclidCoreRandomTools.nextAffineTransform(random);
+         Point3D[] points = nextPoints(random, random.nextInt(1000));
+
+         Path file = Files.createTempFile("pointCloud", ".bin");
+
+         try
+         {
+            writePoints(file, points, singlePrecision, byteOrder);
+
+            MappedPointCloudTransformer transformer = new MappedPointCloudTransformer(singlePrecision, 24 + random.nextInt(1000));
+            transformer.setByteOrder(byteOrder);
+            assertEquals(points.length, transformer.transform(file, transform));
+            assertEquals(Files.size(file), transformer.getLastNumberOfBytes());
+            assertFalse(Double.isNaN(transformer.getLastThroughput()));
+
+            Point3D[] actual = readPoints(file, singlePrecision, byteOrder);
+            assertEquals(points.length, actual.length);
+
+            for (int j = 0; j < points.length; j++)
+            {
+               Point3D expected = new Point3D(points[j]);
+               transform.transform(expected);
+               EuclidCoreTestTools.assertTuple3DEquals(expected, actual[j], singlePrecision ? EPS_FLOAT : EPS);
+            }
+         }
+         finally
+         {
+            Files.deleteIfExists(file);
+         }
+      }
+   }
+
+   @Test
+   public void testTransformIntoOtherFile() throws Exception
+   {
+      Random random = new Random(34534L);
+
+      for (int i = 0; i < 20; i++)
+      {
+         boolean singlePrecision = random.nextBoolean();
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         Point3D[] points = nextPoints(random, random.nextInt(1000));
+
+         Path source = Files.createTempFile("pointCloud", ".bin");
+         Path destination = Files.createTempFile("pointCloudTransformed", ".bin");
+
+         try
+         {
+            writePoints(source, points, singlePrecision, ByteOrder.nativeOrder());
+            // Making the destination file larger than necessary to verify it gets truncated.
+            Files.write(destination, new byte[3 * Double.BYTES * points.length + 100]);
+
+            MappedPointCloudTransformer transformer = new MappedPointCloudTransformer(singlePrecision, 24 + random.nextInt(1000));
+            assertEquals(points.length, transformer.transform(source, destination, transform));
+            assertEquals(Files.size(source), Files.size(destination));
+
+            Point3D[] original = readPoints(source, singlePrecision, ByteOrder.nativeOrder());
+            Point3D[] actual = readPoints(destination, singlePrecision, ByteOrder.nativeOrder());
+
+            for (int j = 0; j < points.length; j++)
+            {
+               EuclidCoreTestTools.assertTuple3DEquals(points[j], original[j], singlePrecision ? EPS_FLOAT : 0.0);
+               Point3D expected = new Point3D(points[j]);
+               transform.transform(expected);
+               EuclidCoreTestTools.assertTuple3DEquals(expected, actual[j], singlePrecision ? EPS_FLOAT : EPS);
+            }
+         }
+         finally
+         {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(destination);
+         }
+      }
+   }
+
+   @Test
+   public void testExceptions() throws Exception
+   {
+      try
+      {
+         new MappedPointCloudTransformer(false, 23);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      Path file = Files.createTempFile("pointCloud", ".bin");
+
+      try
+      {
+         Files.write(file, new byte[13]);
+         new MappedPointCloudTransformer(true).transform(file, new AffineTransform());
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+
+      assertTrue(Double.isNaN(new MappedPointCloudTransformer(true).getLastThroughput()));
+   }
+
+   private static Point3D[] nextPoints(Random random, int numberOfPoints)
+   {
+      Point3D[] points = new Point3D[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++)
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      return points;
+   }
+
+   private static void writePoints(Path file, Point3D[] points, boolean singlePrecision, ByteOrder byteOrder) throws IOException
+   {
+      ByteBuffer buffer = ByteBuffer.allocate(3 * (singlePrecision ? Float.BYTES : Double.BYTES) * points.length).order(byteOrder);
+
+      for (Point3D point : points)
+      {
+         if (singlePrecision)
+            buffer.putFloat(point.getX32()).putFloat(point.getY32()).putFloat(point.getZ32());
+         else
+            buffer.putDouble(point.getX()).putDouble(point.getY()).putDouble(point.getZ());
+      }
+      Files.write(file, buffer.array());
+   }
+
+   private static Point3D[] readPoints(Path file, boolean singlePrecision, ByteOrder byteOrder) throws IOException
+   {
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(byteOrder);
+      Point3D[] points = new Point3D[buffer.capacity() / (3 * (singlePrecision ? Float.BYTES : Double.BYTES))];
+
+      for (int i = 0; i < points.length; i++)
+      {
+         if (singlePrecision)
+            points[i] = new Point3D(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+         else
+            points[i] = new Point3D(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+      }
+      return points;
+   }
+}
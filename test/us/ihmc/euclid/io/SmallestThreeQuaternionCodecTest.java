@@ -0,0 +1,229 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class SmallestThreeQuaternionCodecTest
+{
+   private static final int ITERATIONS = 10000;
+   private static final int[] NUMBER_OF_BITS = {32, 48, 64};
+
+   @Test
+   public void testConstructor() throws Exception
+   {
+      for (int numberOfBits : NUMBER_OF_BITS)
+      {
+         SmallestThreeQuaternionCodec codec = new SmallestThreeQuaternionCodec(numberOfBits);
+         assertEquals(numberOfBits, codec.getNumberOfBits());
+         assertEquals(numberOfBits / 8, codec.getEncodedSize());
+      }
+
+      assertEquals(4.8e-3, new SmallestThreeQuaternionCodec(32).getMaximumAngularError(), 0.1e-3);
+      assertEquals(1.5e-4, new SmallestThreeQuaternionCodec(48).getMaximumAngularError(), 0.1e-4);
+      assertEquals(4.7e-6, new SmallestThreeQuaternionCodec(64).getMaximumAngularError(), 0.1e-6);
+
+      for (int numberOfBits : new int[] {0, 16, 33, 128})
+      {
+         try
+         {
+            new SmallestThreeQuaternionCodec(numberOfBits);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testEncodeDecode() throws Exception
+   {
+      Random random = new Random(54654L);
+
+      for (int numberOfBits : NUMBER_OF_BITS)
+      {
+         SmallestThreeQuaternionCodec codec = new SmallestThreeQuaternionCodec(numberOfBits);
+         Quaternion decoded = new Quaternion();
+         double maximumError = 0.0;
+
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            Quaternion original = EuclidCoreRandomTools.nextQuaternion(random);
+            if (random.nextBoolean())
+               original.negate();
+
+            long encoded = codec.encode(original);
+            if (numberOfBits < 64)
+               assertEquals(0L, encoded >>> numberOfBits);
+
+            codec.decode(encoded, decoded);
+            EuclidCoreTestTools.assertQuaternionIsUnitary(decoded, 1.0e-12);
+            maximumError = Math.max(maximumError, orientationDistance(original, decoded));
+         }
+
+         // Quaternions with equal components are the worst case for the recovery of the largest component.
+         double[] signs = {-1.0, 1.0};
+         for (double sx : signs)
+         {
+            for (double sy : signs)
+            {
+               for (double sz : signs)
+               {
+                  Quaternion original = new Quaternion(0.5 * sx, 0.5 * sy, 0.5 * sz, 0.5);
+                  codec.decode(codec.encode(original), decoded);
+                  maximumError = Math.max(maximumError, orientationDistance(original, decoded));
+               }
+            }
+         }
+
+         assertTrue("Bits: " + numberOfBits + ", error: " + maximumError, maximumError <= codec.getMaximumAngularError());
+         // The bound should not be overly conservative.
+         assertTrue("Bits: " + numberOfBits + ", error: " + maximumError, maximumError >= 0.1 * codec.getMaximumAngularError());
+      }
+   }
+
+   @Test
+   public void testSpecialQuaternions() throws Exception
+   {
+      for (int numberOfBits : NUMBER_OF_BITS)
+      {
+         SmallestThreeQuaternionCodec codec = new SmallestThreeQuaternionCodec(numberOfBits);
+         Quaternion decoded = new Quaternion();
+
+         // Zero components are exactly represented.
+         Quaternion[] quaternions = {new Quaternion(), new Quaternion(1.0, 0.0, 0.0, 0.0), new Quaternion(0.0, -1.0, 0.0, 0.0),
+               new Quaternion(0.0, 0.0, 1.0, 0.0), new Quaternion(0.0, 0.0, 0.0, -1.0)};
+
+         for (Quaternion original : quaternions)
+         {
+            codec.decode(codec.encode(original), decoded);
+            assertEquals(0.0, orientationDistance(original, decoded), 1.0e-12);
+         }
+
+         // The input does not need to be unitary.
+         codec.decode(codec.encode(0.0, 0.0, 0.0, 3.0), decoded);
+         EuclidCoreTestTools.assertQuaternionEquals(new Quaternion(), decoded, 0.0);
+
+         // Quaternions that cannot be normalized are decoded as NaN.
+         double[][] invalidQuaternions = {{Double.NaN, 0.0, 0.0, 1.0}, {0.0, 0.0, 0.0, Double.NaN}, {Double.NaN, Double.NaN, Double.NaN, Double.NaN},
+               {0.0, 0.0, 0.0, 0.0}, {0.0, -0.0, 0.0, -0.0}, {Double.POSITIVE_INFINITY, 0.0, 0.0, 1.0}, {0.0, 0.0, Double.NEGATIVE_INFINITY, 0.0}};
+
+         for (double[] invalid : invalidQuaternions)
+         {
+            long encoded = codec.encode(invalid[0], invalid[1], invalid[2], invalid[3]);
+            if (numberOfBits < 64)
+               assertEquals(0L, encoded >>> numberOfBits);
+            decoded.setToZero();
+            codec.decode(encoded, decoded);
+            assertTrue(decoded.containsNaN());
+         }
+
+         Quaternion nanQuaternion = new Quaternion();
+         nanQuaternion.setToNaN();
+         codec.decode(codec.encode(nanQuaternion), decoded);
+         assertTrue(decoded.containsNaN());
+
+         ByteBuffer buffer = ByteBuffer.allocate(codec.getEncodedSize());
+         codec.writeQuaternion(buffer, nanQuaternion);
+         buffer.flip();
+         decoded.setToZero();
+         codec.readQuaternion(buffer, decoded);
+         assertTrue(decoded.containsNaN());
+      }
+   }
+
+   @Test
+   public void testBuffers() throws Exception
+   {
+      Random random = new Random(54654L);
+
+      for (int numberOfBits : NUMBER_OF_BITS)
+      {
+         SmallestThreeQuaternionCodec codec = new SmallestThreeQuaternionCodec(numberOfBits);
+
+         for (int i = 0; i < 100; i++)
+         {
+            int numberOfQuaternions = random.nextInt(100) + 1;
+            Quaternion[] originals = new Quaternion[numberOfQuaternions];
+            Quaternion[] decoded = new Quaternion[numberOfQuaternions];
+            for (int j = 0; j < numberOfQuaternions; j++)
+            {
+               originals[j] = EuclidCoreRandomTools.nextQuaternion(random);
+               decoded[j] = new Quaternion();
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(numberOfQuaternions * codec.getEncodedSize() + 20);
+            buffer.order(random.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+            int start = random.nextInt(numberOfQuaternions);
+
+            buffer.position(3);
+            codec.writeQuaternion(buffer, originals[0]);
+            codec.writeQuaternions(buffer, originals, start, numberOfQuaternions - start);
+            assertEquals(3 + (numberOfQuaternions - start + 1) * codec.getEncodedSize(), buffer.position());
+
+            buffer.flip();
+            buffer.position(3);
+            Quaternion first = new Quaternion();
+            codec.readQuaternion(buffer, first);
+            codec.readQuaternions(buffer, decoded, start, numberOfQuaternions - start);
+            assertEquals(0, buffer.remaining());
+
+            Quaternion expected = new Quaternion();
+            codec.decode(codec.encode(originals[0]), expected);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, first, 0.0);
+
+            for (int j = start; j < numberOfQuaternions; j++)
+            {
+               codec.decode(codec.encode(originals[j]), expected);
+               EuclidCoreTestTools.assertQuaternionEquals(expected, decoded[j], 0.0);
+            }
+         }
+
+         ByteBuffer buffer = ByteBuffer.allocate(codec.getEncodedSize() - 1);
+
+         try
+         {
+            codec.writeQuaternion(buffer, new Quaternion());
+            fail("Should have thrown an exception");
+         }
+         catch (BufferOverflowException e)
+         {
+            // good
+         }
+
+         try
+         {
+            codec.readQuaternion(buffer, new Quaternion());
+            fail("Should have thrown an exception");
+         }
+         catch (BufferUnderflowException e)
+         {
+            // good
+         }
+         assertEquals(0, buffer.position());
+      }
+   }
+
+   /** Angle between the orientations, knowing that the decoded quaternion may have been negated. */
+   static double orientationDistance(Quaternion original, Quaternion decoded)
+   {
+      Quaternion other = new Quaternion(decoded);
+      if (original.dot(other) < 0.0)
+         other.negate();
+      return original.distancePrecise(other);
+   }
+}
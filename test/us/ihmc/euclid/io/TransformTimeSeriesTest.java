@@ -0,0 +1,524 @@
+package us.ihmc.euclid.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class TransformTimeSeriesTest
+{
+   private static final int ITERATIONS = 20;
+   private static final int NUMBER_OF_FRAMES = 2000;
+
+   @Test
+   public void testWriteAndReadSequentially() throws Exception
+   {
+      Random random = new Random(23523L);
+      int[] rotationBits = {32, 48, 64};
+      int[] translationBits = {16, 32};
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         CompressedTransformCodec codec = new CompressedTransformCodec(rotationBits[random.nextInt(3)], 0.1, translationBits[random.nextInt(2)]);
+         int keyframeInterval = random.nextInt(200) + 1;
+         long[] timestamps = new long[NUMBER_OF_FRAMES];
+         QuaternionBasedTransform[] transforms = nextTrajectory(random, timestamps);
+
+         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+         // Small staging buffer to exercise the intermediate flushes.
+         TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), keyframeInterval, codec, 256);
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            if (random.nextBoolean())
+            {
+               writer.write(timestamps[j], transforms[j]);
+            }
+            else
+            {
+               RigidBodyTransform rigidBodyTransform = new RigidBodyTransform(transforms[j]);
+               writer.write(timestamps[j], rigidBodyTransform);
+               // The conversion is the only source of error for the keyframes.
+               transforms[j].set(rigidBodyTransform);
+            }
+         }
+         writer.close();
+         writer.close();
+
+         byte[] bytes = outputStream.toByteArray();
+         assertEquals(bytes.length, writer.getNumberOfBytesWritten());
+         assertEquals(NUMBER_OF_FRAMES, writer.getNumberOfFrames());
+         assertTrue(writer.getNumberOfKeyframes() >= NUMBER_OF_FRAMES / keyframeInterval);
+
+         TransformTimeSeriesReader reader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes));
+         assertEquals(keyframeInterval, reader.getKeyframeInterval());
+         assertEquals(NUMBER_OF_FRAMES, reader.getNumberOfFrames());
+         assertEquals(writer.getNumberOfKeyframes(), reader.getNumberOfKeyframes());
+         assertEquals(-1L, reader.getFrameIndex());
+
+         double angularError = codec.getRotationCodec().getMaximumAngularError() + 1.0e-12;
+         // The translation delta is expressed in the previous frame, the quantization error is rotated.
+         double translationError = Math.sqrt(3.0) * codec.getTranslationCodec().getMaximumError() * (1.0 + 1.0e-12) + 1.0e-12;
+         QuaternionBasedTransform decoded = new QuaternionBasedTransform();
+         Quaternion expectedRotation = new Quaternion();
+         Quaternion actualRotation = new Quaternion();
+         Vector3D translationDifference = new Vector3D();
+         int keyframeIndex = 0;
+
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            assertTrue(reader.hasNext());
+            reader.next(decoded);
+            assertEquals(j, reader.getFrameIndex());
+            assertEquals(timestamps[j], reader.getTimestamp());
+
+            if (keyframeIndex < reader.getNumberOfKeyframes() && reader.getKeyframeFrameIndex(keyframeIndex) == j)
+            {
+               // Keyframes are stored in double precision, the quaternion is only normalized when read.
+               assertEquals(timestamps[j], reader.getKeyframeTimestamp(keyframeIndex));
+               EuclidCoreTestTools.assertQuaternionEquals(transforms[j].getQuaternion(), decoded.getQuaternion(), 1.0e-12);
+               EuclidCoreTestTools.assertTuple3DEquals(transforms[j].getTranslationVector(), decoded.getTranslationVector(), 0.0);
+               keyframeIndex++;
+            }
+            else
+            {
+               assertTrue(j % keyframeInterval != 0);
+               expectedRotation.set(transforms[j].getQuaternion());
+               actualRotation.set(decoded.getQuaternion());
+               assertTrue(SmallestThreeQuaternionCodecTest.orientationDistance(expectedRotation, actualRotation) <= angularError);
+               translationDifference.sub(transforms[j].getTranslationVector(), decoded.getTranslationVector());
+               assertTrue(translationDifference.length() <= translationError);
+            }
+         }
+
+         assertEquals(reader.getNumberOfKeyframes(), keyframeIndex);
+         assertFalse(reader.hasNext());
+
+         try
+         {
+            reader.next(decoded);
+            fail("Should have thrown an exception");
+         }
+         catch (NoSuchElementException e)
+         {
+            // good
+         }
+
+         // The compressed deltas are much smaller than raw transforms.
+         long rawSize = (long) NUMBER_OF_FRAMES * (Long.BYTES + TransformTimeSeriesWriter.KEYFRAME_TRANSFORM_SIZE);
+         if (keyframeInterval >= 10 && codec.getEncodedSize() <= 12)
+            assertTrue(bytes.length < rawSize / 2);
+      }
+   }
+
+   @Test
+   public void testRandomAccess() throws Exception
+   {
+      Random random = new Random(7453L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         CompressedTransformCodec codec = new CompressedTransformCodec(48, 0.1, 16);
+         int keyframeInterval = random.nextInt(100) + 1;
+         long[] timestamps = new long[NUMBER_OF_FRAMES];
+         QuaternionBasedTransform[] transforms = nextTrajectory(random, timestamps);
+
+         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+         try (TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), keyframeInterval, codec))
+         {
+            for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+               writer.write(timestamps[j], transforms[j]);
+         }
+
+         TransformTimeSeriesReader reader = new TransformTimeSeriesReader(ByteBuffer.wrap(outputStream.toByteArray()));
+         QuaternionBasedTransform[] sequential = new QuaternionBasedTransform[NUMBER_OF_FRAMES];
+         for (int j = 0; j < NUMBER_OF_FRAMES; j++)
+         {
+            sequential[j] = new QuaternionBasedTransform();
+            reader.next(sequential[j]);
+         }
+
+         QuaternionBasedTransform decoded = new QuaternionBasedTransform();
+
+         for (int j = 0; j < 100; j++)
+         {
+            int keyframeIndex = random.nextInt(reader.getNumberOfKeyframes());
+            long frameIndex = reader.getKeyframeFrameIndex(keyframeIndex);
+            reader.seekToKeyframe(keyframeIndex);
+            reader.next(decoded);
+            assertEquals(frameIndex, reader.getFrameIndex());
+            assertEquals(reader.getKeyframeTimestamp(keyframeIndex), reader.getTimestamp());
+            assertEquals(keyframeIndex, reader.findKeyframeByTimestamp(reader.getTimestamp()));
+            assertEquals(keyframeIndex, reader.findKeyframeByFrameIndex(frameIndex));
+            assertEquals(sequential[(int) frameIndex], decoded);
+
+            frameIndex = random.nextInt(NUMBER_OF_FRAMES);
+            reader.seekToFrame(frameIndex);
+            RigidBodyTransform rigidBodyTransform = new RigidBodyTransform();
+            reader.next(rigidBodyTransform);
+            assertEquals(frameIndex, reader.getFrameIndex());
+            assertEquals(timestamps[(int) frameIndex], reader.getTimestamp());
+            assertEquals(new RigidBodyTransform(sequential[(int) frameIndex]), rigidBodyTransform);
+
+            // Continuing from there gives the same result as the sequential decoding.
+            if (reader.hasNext())
+            {
+               reader.next(decoded);
+               assertEquals(sequential[(int) frameIndex + 1], decoded);
+            }
+         }
+
+         assertEquals(-1, reader.findKeyframeByTimestamp(timestamps[0] - 1));
+         assertEquals(reader.getNumberOfKeyframes() - 1, reader.findKeyframeByTimestamp(Long.MAX_VALUE));
+
+         for (long frameIndex : new long[] {-1, NUMBER_OF_FRAMES})
+         {
+            try
+            {
+               reader.seekToFrame(frameIndex);
+               fail("Should have thrown an exception");
+            }
+            catch (IndexOutOfBoundsException e)
+            {
+               // good
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testForcedKeyframes() throws Exception
+   {
+      CompressedTransformCodec codec = new CompressedTransformCodec(32, 0.1, 16);
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), 1000, codec);
+
+      QuaternionBasedTransform transform = new QuaternionBasedTransform();
+      writer.write(0L, transform);
+      transform.setTranslation(0.05, 0.0, 0.0);
+      writer.write(1L, transform);
+      assertEquals(1, writer.getNumberOfKeyframes());
+      // The translation is too large for the delta codec.
+      transform.setTranslation(1.0, 0.0, 0.0);
+      writer.write(2L, transform);
+      assertEquals(2, writer.getNumberOfKeyframes());
+      // The time gap does not fit in an int.
+      writer.write(3L + Integer.MAX_VALUE, transform);
+      assertEquals(3, writer.getNumberOfKeyframes());
+      writer.write(4L + Integer.MAX_VALUE, transform);
+      assertEquals(3, writer.getNumberOfKeyframes());
+      // Equal timestamps are allowed.
+      writer.write(4L + Integer.MAX_VALUE, transform);
+
+      try
+      {
+         writer.write(3L, transform);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      writer.close();
+
+      try
+      {
+         writer.write(5L + Integer.MAX_VALUE, transform);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalStateException e)
+      {
+         // good
+      }
+
+      TransformTimeSeriesReader reader = new TransformTimeSeriesReader(ByteBuffer.wrap(outputStream.toByteArray()));
+      assertEquals(6, reader.getNumberOfFrames());
+      assertEquals(3, reader.getNumberOfKeyframes());
+      assertEquals(0L, reader.getKeyframeFrameIndex(0));
+      assertEquals(2L, reader.getKeyframeFrameIndex(1));
+      assertEquals(3L, reader.getKeyframeFrameIndex(2));
+      assertEquals(3L + Integer.MAX_VALUE, reader.getKeyframeTimestamp(2));
+
+      long[] expectedTimestamps = {0L, 1L, 2L, 3L + Integer.MAX_VALUE, 4L + Integer.MAX_VALUE, 4L + Integer.MAX_VALUE};
+      for (long expectedTimestamp : expectedTimestamps)
+      {
+         reader.next(transform);
+         assertEquals(expectedTimestamp, reader.getTimestamp());
+      }
+      EuclidCoreTestTools.assertTuple3DEquals(new Vector3D(1.0, 0.0, 0.0), transform.getTranslationVector(), 0.0);
+   }
+
+   @Test
+   public void testFile() throws Exception
+   {
+      Random random = new Random(2346L);
+      CompressedTransformCodec codec = new CompressedTransformCodec(64, 0.1, 32);
+      long[] timestamps = new long[NUMBER_OF_FRAMES];
+      QuaternionBasedTransform[] transforms = nextTrajectory(random, timestamps);
+      Path file = Files.createTempFile("transformTimeSeries", ".bin");
+
+      try
+      {
+         try (TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(FileChannel.open(file, StandardOpenOption.WRITE), 50, codec))
+         {
+            for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+               writer.write(timestamps[i], transforms[i]);
+         }
+
+         TransformTimeSeriesReader reader = TransformTimeSeriesReader.open(file);
+         assertEquals(NUMBER_OF_FRAMES, reader.getNumberOfFrames());
+         QuaternionBasedTransform decoded = new QuaternionBasedTransform();
+
+         for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+         {
+            reader.next(decoded);
+            assertEquals(timestamps[i], reader.getTimestamp());
+            assertTrue(transforms[i].epsilonEquals(decoded, 1.0e-5));
+         }
+      }
+      finally
+      {
+         Files.delete(file);
+      }
+   }
+
+   @Test
+   public void testInvalidInputs() throws Exception
+   {
+      CompressedTransformCodec codec = new CompressedTransformCodec(32, 0.1, 16);
+
+      for (int keyframeInterval : new int[] {0, -1})
+      {
+         try
+         {
+            new TransformTimeSeriesWriter(Channels.newChannel(new ByteArrayOutputStream()), keyframeInterval, codec);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+
+      try
+      {
+         new TransformTimeSeriesWriter(Channels.newChannel(new ByteArrayOutputStream()), 10, codec, TransformTimeSeriesWriter.MAXIMUM_FRAME_SIZE - 1);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      try (TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), 10, codec))
+      {
+         for (int i = 0; i < 25; i++)
+            writer.write(i, new QuaternionBasedTransform());
+      }
+      byte[] bytes = outputStream.toByteArray();
+
+      assertInvalid(ByteBuffer.wrap(bytes, 0, TransformTimeSeriesWriter.HEADER_SIZE - 1).slice());
+      assertInvalid(ByteBuffer.allocate(10));
+
+      byte[] corrupted = bytes.clone();
+      corrupted[0]++;
+      assertInvalid(ByteBuffer.wrap(corrupted));
+
+      corrupted = bytes.clone();
+      corrupted[Integer.BYTES + 3]++;
+      assertInvalid(ByteBuffer.wrap(corrupted));
+
+      corrupted = bytes.clone();
+      corrupted[corrupted.length - TransformTimeSeriesWriter.FOOTER_SIZE + 7]++;
+      assertInvalid(ByteBuffer.wrap(corrupted));
+
+      // The buffer given to the reader is not modified.
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      TransformTimeSeriesReader reader = new TransformTimeSeriesReader(buffer);
+      while (reader.hasNext())
+         reader.next(new QuaternionBasedTransform());
+      assertEquals(0, buffer.position());
+      assertEquals(bytes.length, buffer.limit());
+   }
+
+   @Test
+   public void testRecovery() throws Exception
+   {
+      Random random = new Random(8734L);
+      CompressedTransformCodec codec = new CompressedTransformCodec(48, 0.1, 32);
+      long[] timestamps = new long[NUMBER_OF_FRAMES];
+      QuaternionBasedTransform[] transforms = nextTrajectory(random, timestamps);
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), 50, codec, 1000);
+
+      for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+         writer.write(timestamps[i], transforms[i]);
+
+      // The writer is not closed, e.g. after a crash: only the flushed frames can be recovered.
+      byte[] unclosedBytes = outputStream.toByteArray();
+      TransformTimeSeriesReader reader = new TransformTimeSeriesReader(ByteBuffer.wrap(unclosedBytes));
+      assertTrue(reader.isRecovered());
+      assertTrue(reader.getNumberOfFrames() > 0);
+      assertTrue(reader.getNumberOfFrames() < NUMBER_OF_FRAMES);
+      assertTrue(unclosedBytes.length < writer.getNumberOfBytesWritten());
+      writer.close();
+
+      byte[] bytes = outputStream.toByteArray();
+      TransformTimeSeriesReader completeReader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes));
+      assertFalse(completeReader.isRecovered());
+      assertEquals(NUMBER_OF_FRAMES, completeReader.getNumberOfFrames());
+      QuaternionBasedTransform[] decodedTransforms = new QuaternionBasedTransform[NUMBER_OF_FRAMES];
+
+      for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+      {
+         decodedTransforms[i] = new QuaternionBasedTransform();
+         completeReader.next(decodedTransforms[i]);
+      }
+
+      assertRecoveredFramesEqual(reader, completeReader, timestamps, decodedTransforms);
+
+      // Truncated anywhere, including in the middle of the index or the footer.
+      for (int i = 0; i < 1000; i++)
+      {
+         int length = TransformTimeSeriesWriter.HEADER_SIZE + random.nextInt(bytes.length - TransformTimeSeriesWriter.HEADER_SIZE);
+         reader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes, 0, length).slice());
+         assertTrue(reader.isRecovered());
+         assertRecoveredFramesEqual(reader, completeReader, timestamps, decodedTransforms);
+      }
+
+      // The frames are all recovered when only the footer is missing.
+      reader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes, 0, bytes.length - 1).slice());
+      assertTrue(reader.isRecovered());
+      assertEquals(NUMBER_OF_FRAMES, reader.getNumberOfFrames());
+      assertEquals(completeReader.getNumberOfKeyframes(), reader.getNumberOfKeyframes());
+
+      // Only the header.
+      reader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes, 0, TransformTimeSeriesWriter.HEADER_SIZE).slice());
+      assertTrue(reader.isRecovered());
+      assertEquals(0, reader.getNumberOfFrames());
+      assertFalse(reader.hasNext());
+   }
+
+   private static void assertRecoveredFramesEqual(TransformTimeSeriesReader reader, TransformTimeSeriesReader completeReader, long[] timestamps,
+                                                  QuaternionBasedTransform[] decodedTransforms)
+   {
+      for (int i = 0; i < reader.getNumberOfKeyframes(); i++)
+      {
+         assertEquals(completeReader.getKeyframeFrameIndex(i), reader.getKeyframeFrameIndex(i));
+         assertEquals(completeReader.getKeyframeTimestamp(i), reader.getKeyframeTimestamp(i));
+      }
+
+      QuaternionBasedTransform decoded = new QuaternionBasedTransform();
+
+      for (int i = 0; i < reader.getNumberOfFrames(); i++)
+      {
+         reader.next(decoded);
+         assertEquals(timestamps[i], reader.getTimestamp());
+         assertTrue(decodedTransforms[i].epsilonEquals(decoded, 0.0));
+      }
+
+      assertFalse(reader.hasNext());
+
+      if (reader.getNumberOfFrames() > 0)
+      {
+         long frameIndex = reader.getNumberOfFrames() - 1;
+         reader.seekToFrame(frameIndex);
+         reader.next(decoded);
+         assertTrue(decodedTransforms[(int) frameIndex].epsilonEquals(decoded, 0.0));
+      }
+   }
+
+   @Test
+   public void testMaximumSize() throws Exception
+   {
+      CompressedTransformCodec codec = new CompressedTransformCodec(32, 0.1, 16);
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      long maximumSize = 10000;
+      TransformTimeSeriesWriter writer = new TransformTimeSeriesWriter(Channels.newChannel(outputStream), 10, codec, 1000, maximumSize);
+      int numberOfFrames = 0;
+
+      try
+      {
+         while (true)
+         {
+            writer.write(numberOfFrames, new QuaternionBasedTransform());
+            numberOfFrames++;
+         }
+      }
+      catch (IllegalStateException e)
+      {
+         // good
+      }
+
+      writer.close();
+      byte[] bytes = outputStream.toByteArray();
+      assertTrue(bytes.length <= maximumSize);
+      assertTrue(bytes.length > maximumSize - TransformTimeSeriesWriter.MAXIMUM_FRAME_SIZE - 2 * TransformTimeSeriesWriter.INDEX_ENTRY_SIZE
+            - TransformTimeSeriesWriter.FOOTER_SIZE);
+
+      TransformTimeSeriesReader reader = new TransformTimeSeriesReader(ByteBuffer.wrap(bytes));
+      assertFalse(reader.isRecovered());
+      assertEquals(numberOfFrames, reader.getNumberOfFrames());
+   }
+
+   private static void assertInvalid(ByteBuffer buffer)
+   {
+      try
+      {
+         new TransformTimeSeriesReader(buffer);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   /** Random smooth trajectory with a few jumps. */
+   private static QuaternionBasedTransform[] nextTrajectory(Random random, long[] timestampsToPack)
+   {
+      QuaternionBasedTransform[] transforms = new QuaternionBasedTransform[timestampsToPack.length];
+      QuaternionBasedTransform increment = new QuaternionBasedTransform();
+      transforms[0] = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      timestampsToPack[0] = random.nextLong() / 2;
+
+      for (int i = 1; i < transforms.length; i++)
+      {
+         if (random.nextInt(100) == 0)
+         {
+            transforms[i] = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         }
+         else
+         {
+            increment.setRotation(EuclidCoreRandomTools.nextQuaternion(random, 0.05));
+            increment.setTranslation(EuclidCoreRandomTools.nextVector3D(random, -0.05, 0.05));
+            transforms[i] = new QuaternionBasedTransform(transforms[i - 1]);
+            transforms[i].multiply(increment);
+         }
+
+         timestampsToPack[i] = timestampsToPack[i - 1] + random.nextInt(1000) + 1;
+      }
+
+      return transforms;
+   }
+}
@@ -23,6 +23,7 @@ import us.ihmc.euclid.rotationConversion.RotationVectorConversion;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
 import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tools.QuaternionTools;
 import us.ihmc.euclid.tools.RotationMatrixTools;
@@ -520,6 +521,45 @@ public class RotationMatrixTest extends CommonMatrix3DBasicsTest<RotationMatrix>
       }
    }
 
+   @Test
+   public void testIntegrate() throws Exception
+   {
+      Random random = new Random(35454L);
+
+      RotationMatrix expected = new RotationMatrix();
+      RotationMatrix actual = new RotationMatrix();
+      RotationMatrix rotation = new RotationMatrix();
+      Vector3D rotationVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RotationMatrix original = EuclidCoreRandomTools.nextRotationMatrix(random);
+         double dt = random.nextDouble();
+         // Alternates between the series expansion and the exact exponential map.
+         double maxAngle = i % 2 == 0 ? RotationMatrixTools.SMALL_INTEGRATION_ANGLE : Math.PI;
+         Vector3D angularVelocity = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, random.nextDouble() * maxAngle / dt);
+         rotationVector.setAndScale(dt, angularVelocity);
+         rotation.setRotationVector(rotationVector);
+
+         RotationMatrixTools.multiply(original, rotation, expected);
+         actual.set(original);
+         actual.integrateInBodyFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+
+         RotationMatrixTools.multiply(rotation, original, expected);
+         actual.set(original);
+         actual.integrateInWorldFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, actual, EPS);
+      }
+
+      RotationMatrix original = EuclidCoreRandomTools.nextRotationMatrix(random);
+      actual.set(original);
+      actual.integrateInBodyFrame(new Vector3D(), 1.0);
+      EuclidCoreTestTools.assertMatrix3DEquals(original, actual, EPS);
+      actual.integrateInWorldFrame(EuclidCoreRandomTools.nextVector3D(random), 0.0);
+      EuclidCoreTestTools.assertMatrix3DEquals(original, actual, EPS);
+   }
+
    @Test
    public void testPrependYawPitchRoll() throws Exception
    {
@@ -1222,6 +1262,104 @@ public class RotationMatrixTest extends CommonMatrix3DBasicsTest<RotationMatrix>
       }
    }
 
+   @Test
+   public void testDriftTracking() throws Exception
+   {
+      Random random = new Random(39456L);
+      RotationMatrix tracked = EuclidCoreRandomTools.nextRotationMatrix(random);
+      RotationMatrix untracked = new RotationMatrix(tracked);
+      assertNull(tracked.getDriftTracker());
+
+      // A zero tolerance normalizes the matrix at every check.
+      tracked.enableDriftTracking(10, 0.0);
+      RotationMatrixDriftTracker tracker = tracked.getDriftTracker();
+      assertEquals(10, tracker.getNumberOfOperationsPerCheck());
+
+      for (int i = 0; i < 1000; i++)
+      {
+         RotationMatrix other = EuclidCoreRandomTools.nextRotationMatrix(random);
+
+         switch (i % 4)
+         {
+         case 0:
+            tracked.multiply(other);
+            untracked.multiply(other);
+            break;
+         case 1:
+            tracked.preMultiplyTransposeOther(other);
+            untracked.preMultiplyTransposeOther(other);
+            break;
+         case 2:
+            tracked.append(other);
+            untracked.append(other);
+            break;
+         default:
+            tracked.prependYawRotation(0.1);
+            untracked.prependYawRotation(0.1);
+            break;
+         }
+
+         assertEquals((i + 1) % 10, tracker.getNumberOfOperationsSinceNormalization());
+      }
+
+      assertEquals(1000, tracker.getNumberOfOperations());
+      assertEquals(100, tracker.getNumberOfChecks());
+      assertTrue(tracker.getNumberOfAutomaticNormalizations() > 0);
+      assertTrue(tracker.getNumberOfAutomaticNormalizations() <= tracker.getNumberOfChecks());
+      EuclidCoreTestTools.assertMatrix3DEquals(untracked, tracked, 1.0e-12);
+      assertTrue(Matrix3DFeatures.computeOrthogonalityError(tracked.getM00(), tracked.getM01(), tracked.getM02(), tracked.getM10(), tracked.getM11(),
+                                                            tracked.getM12(), tracked.getM20(), tracked.getM21(), tracked.getM22()) < 1.0e-15);
+
+      tracked.multiply(untracked);
+      tracked.normalize();
+      assertEquals(0, tracker.getNumberOfOperationsSinceNormalization());
+      tracker.resetStatistics();
+      assertEquals(0, tracker.getNumberOfOperations());
+      assertEquals(0, tracker.getNumberOfChecks());
+      assertEquals(0, tracker.getNumberOfAutomaticNormalizations());
+      assertEquals(0.0, tracker.getMaxOrthogonalityError(), 0.0);
+
+      // A large tolerance never triggers a normalization.
+      tracked.enableDriftTracking(1, 1.0);
+      tracker = tracked.getDriftTracker();
+
+      for (int i = 0; i < 100; i++)
+         tracked.multiply(EuclidCoreRandomTools.nextRotationMatrix(random));
+
+      assertEquals(100, tracker.getNumberOfChecks());
+      assertEquals(0, tracker.getNumberOfAutomaticNormalizations());
+      assertEquals(100, tracker.getNumberOfOperationsSinceNormalization());
+      assertTrue(tracker.getMaxOrthogonalityError() < 1.0e-12);
+
+      tracked.disableDriftTracking();
+      assertNull(tracked.getDriftTracker());
+      tracked.multiply(untracked);
+
+      tracked.enableDriftTracking();
+      assertEquals(RotationMatrixDriftTracker.DEFAULT_NUMBER_OF_OPERATIONS_PER_CHECK, tracked.getDriftTracker().getNumberOfOperationsPerCheck());
+      assertEquals(RotationMatrixDriftTracker.DEFAULT_ORTHOGONALITY_TOLERANCE, tracked.getDriftTracker().getOrthogonalityTolerance(), 0.0);
+
+      try
+      {
+         tracked.enableDriftTracking(0, 1.0e-12);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         tracked.enableDriftTracking(10, -1.0e-12);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
    @Test
    public void testNormalize() throws Exception
    {
@@ -0,0 +1,206 @@
+package us.ihmc.euclid.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class EuclidScratchTest
+{
+   @Test
+   public void testLIFOReuse() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      Vector3D outerVector;
+      Vector3D innerVector;
+
+      try (EuclidScratch outer = EuclidScratch.acquire())
+      {
+         assertEquals(1, EuclidScratch.getNumberOfOpenScopes());
+         outerVector = outer.vector3D();
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(outerVector);
+         outerVector.set(EuclidCoreRandomTools.nextVector3D(random));
+
+         try (EuclidScratch inner = EuclidScratch.acquire())
+         {
+            assertEquals(2, EuclidScratch.getNumberOfOpenScopes());
+            innerVector = inner.vector3D();
+            assertNotSame(outerVector, innerVector);
+            innerVector.set(EuclidCoreRandomTools.nextVector3D(random));
+
+            Point3D point = inner.point3D();
+            Quaternion quaternion = inner.quaternion();
+            RotationMatrix rotationMatrix = inner.rotationMatrix();
+            RigidBodyTransform transform = inner.rigidBodyTransform();
+            EuclidCoreTestTools.assertTuple3DIsSetToZero(point);
+            EuclidCoreTestTools.assertQuaternionIsSetToZero(quaternion);
+            EuclidCoreTestTools.assertIdentity(rotationMatrix, 0.0);
+            EuclidCoreTestTools.assertIdentity(transform.getRotationMatrix(), 0.0);
+            EuclidCoreTestTools.assertTuple3DIsSetToZero(transform.getTranslationVector());
+            quaternion.set(EuclidCoreRandomTools.nextQuaternion(random));
+         }
+
+         assertEquals(1, EuclidScratch.getNumberOfOpenScopes());
+
+         try (EuclidScratch inner = EuclidScratch.acquire())
+         { // The inner vector is reclaimed and handed out again, reset to zero.
+            Vector3D vector = inner.vector3D();
+            assertSame(innerVector, vector);
+            EuclidCoreTestTools.assertTuple3DIsSetToZero(vector);
+            EuclidCoreTestTools.assertQuaternionIsSetToZero(inner.quaternion());
+         }
+      }
+
+      assertEquals(0, EuclidScratch.getNumberOfOpenScopes());
+
+      try (EuclidScratch scratch = EuclidScratch.acquire())
+      {
+         assertSame(outerVector, scratch.vector3D());
+      }
+   }
+
+   @Test
+   public void testNonDebugMode() throws Exception
+   {
+      EuclidScratch.setDebugMode(false);
+
+      // Closing the outer scope releases the nested scope that was leaked.
+      EuclidScratch outer = EuclidScratch.acquire();
+      EuclidScratch.acquire().point3D();
+      outer.close();
+      assertEquals(0, EuclidScratch.getNumberOfOpenScopes());
+      outer.close();
+
+      // Going over the capacity causes the arena to grow.
+      try (EuclidScratch scratch = EuclidScratch.acquire())
+      {
+         for (int i = 0; i < 2 * EuclidScratch.DEFAULT_CAPACITY; i++)
+            assertNotNull(scratch.rigidBodyTransform());
+      }
+   }
+
+   @Test
+   public void testDebugMode() throws Exception
+   {
+      EuclidScratch.setDebugMode(true);
+
+      try
+      {
+         try (EuclidScratch scratch = EuclidScratch.acquire())
+         {
+            for (int i = 0; i < EuclidScratch.DEFAULT_CAPACITY; i++)
+               scratch.point3D();
+            scratch.point3D();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: overflow
+         }
+         assertEquals(0, EuclidScratch.getNumberOfOpenScopes());
+
+         EuclidScratch outer = EuclidScratch.acquire();
+         EuclidScratch inner = EuclidScratch.acquire();
+
+         try
+         {
+            outer.vector3D();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: the outer scope is not the innermost one
+         }
+
+         try
+         {
+            outer.close();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: leak
+            assertNotNull(e.getCause());
+         }
+         assertEquals(0, EuclidScratch.getNumberOfOpenScopes());
+
+         try
+         {
+            inner.vector3D();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: use after close
+         }
+
+         try
+         {
+            inner.close();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: closed twice
+         }
+
+         // A stale reference closed twice must not release a scope acquired since then.
+         EuclidScratch stale = EuclidScratch.acquire();
+         stale.close();
+         EuclidScratch live = EuclidScratch.acquire();
+         assertNotSame(stale, live);
+
+         try
+         {
+            stale.close();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good: closed twice
+         }
+         assertEquals(1, EuclidScratch.getNumberOfOpenScopes());
+         live.vector3D();
+         live.close();
+         assertEquals(0, EuclidScratch.getNumberOfOpenScopes());
+
+         AtomicReference<Throwable> error = new AtomicReference<>();
+         try (EuclidScratch scratch = EuclidScratch.acquire())
+         {
+            Thread thread = new Thread(() ->
+            {
+               try
+               {
+                  scratch.vector3D();
+               }
+               catch (Throwable e)
+               {
+                  error.set(e);
+               }
+            });
+            thread.start();
+            thread.join();
+         }
+         assertEquals(IllegalStateException.class, error.get().getClass());
+      }
+      finally
+      {
+         EuclidScratch.setDebugMode(false);
+      }
+   }
+}
@@ -0,0 +1,138 @@
+package us.ihmc.euclid.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class RecyclingArrayListTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testRecycling() throws Exception
+   {
+      Random random = new Random(34L);
+      int[] numberOfCreatedPoints = {0};
+      RecyclingArrayList<Point3D> list = new RecyclingArrayList<>(0, () ->
+      {
+         numberOfCreatedPoints[0]++;
+         return new Point3D();
+      });
+
+      assertTrue(list.isEmpty());
+      assertEquals(0, list.getNumberOfAllocatedElements());
+      List<Point3D> allPoints = new ArrayList<>();
+      int maxSize = 0;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         list.clear();
+         assertTrue(list.isEmpty());
+         int size = random.nextInt(50);
+         maxSize = Math.max(maxSize, size);
+
+         for (int j = 0; j < size; j++)
+         {
+            Point3D point = list.add();
+            EuclidCoreTestTools.assertTuple3DIsSetToZero(point);
+            point.set(EuclidCoreRandomTools.nextPoint3D(random));
+            assertSame(point, list.get(j));
+            assertSame(point, list.getLast());
+
+            if (j < allPoints.size())
+               assertSame(allPoints.get(j), point);
+            else
+               allPoints.add(point);
+         }
+
+         assertEquals(size, list.size());
+         assertEquals(maxSize, list.getHighWaterMark());
+         assertEquals(maxSize, list.getNumberOfAllocatedElements());
+         assertEquals(maxSize, numberOfCreatedPoints[0]);
+      }
+
+      list.clear();
+      list.resetHighWaterMark();
+      assertEquals(0, list.getHighWaterMark());
+      list.add();
+      list.add();
+      assertEquals(2, list.getHighWaterMark());
+      list.removeLast();
+      assertEquals(1, list.size());
+      assertEquals(2, list.getHighWaterMark());
+
+      list.ensureCapacity(maxSize + 10);
+      assertEquals(maxSize + 10, list.getNumberOfAllocatedElements());
+      assertEquals(1, list.size());
+   }
+
+   @Test
+   public void testRemove() throws Exception
+   {
+      RecyclingArrayList<RigidBodyTransform> list = new RecyclingArrayList<>(RigidBodyTransform::new);
+      assertEquals(RecyclingArrayList.DEFAULT_INITIAL_CAPACITY, list.getNumberOfAllocatedElements());
+
+      for (int i = 0; i < 5; i++)
+         list.add().setTranslation(i, 0.0, 0.0);
+
+      RigidBodyTransform removed = list.fastRemove(1);
+      assertEquals(1.0, removed.getTranslationX(), 0.0);
+      assertEquals(4, list.size());
+      assertEquals(4.0, list.get(1).getTranslationX(), 0.0);
+      assertEquals(3.0, list.getLast().getTranslationX(), 0.0);
+
+      removed = list.removeLast();
+      assertEquals(3.0, removed.getTranslationX(), 0.0);
+      assertEquals(3, list.size());
+
+      // The removed element is the next one handed out, reset to identity.
+      RigidBodyTransform added = list.add();
+      assertSame(removed, added);
+      assertFalse(added.hasTranslation());
+
+      list.clear();
+
+      try
+      {
+         list.removeLast();
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      try
+      {
+         list.get(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      try
+      {
+         new RecyclingArrayList<>(-1, Point3D::new);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+}
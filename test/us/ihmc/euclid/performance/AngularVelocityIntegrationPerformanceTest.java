@@ -0,0 +1,102 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This test compares the speed of the fused integration of an angular velocity, e.g.
+ * {@link Quaternion#integrateInBodyFrame(us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly, double)},
+ * to the integration done by converting the rotation vector and then multiplying.
+ * <p>
+ * The angular velocities and time step are typical of an IMU update such that the integration
+ * angles are small.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class AngularVelocityIntegrationPerformanceTest
+{
+   private static final int NUMBER_OF_INTEGRATIONS = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+   private static final double DT = 0.001;
+
+   @Test
+   public void testQuaternionIntegration()
+   {
+      Vector3D[] angularVelocities = nextAngularVelocities(new Random(1230930210L));
+      Quaternion original = EuclidCoreRandomTools.nextQuaternion(new Random(4566L));
+      Quaternion quaternion = new Quaternion();
+      Quaternion rotation = new Quaternion();
+      Vector3D rotationVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         quaternion.set(original);
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTEGRATIONS; j++)
+         {
+            rotationVector.setAndScale(DT, angularVelocities[j]);
+            QuaternionConversion.convertRotationVectorToQuaternion(rotationVector, rotation);
+            quaternion.multiply(rotation);
+         }
+         long conversionTime = System.nanoTime() - start;
+
+         quaternion.set(original);
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTEGRATIONS; j++)
+            quaternion.integrateInBodyFrame(angularVelocities[j], DT);
+         long fusedTime = System.nanoTime() - start;
+
+         System.out.println(i + ", conversion: " + (double) conversionTime / NUMBER_OF_INTEGRATIONS + "ns/integration, fused: "
+               + (double) fusedTime / NUMBER_OF_INTEGRATIONS + "ns/integration");
+      }
+   }
+
+   @Test
+   public void testRotationMatrixIntegration()
+   {
+      Vector3D[] angularVelocities = nextAngularVelocities(new Random(1230930210L));
+      RotationMatrix original = EuclidCoreRandomTools.nextRotationMatrix(new Random(4566L));
+      RotationMatrix matrix = new RotationMatrix();
+      RotationMatrix rotation = new RotationMatrix();
+      Vector3D rotationVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         matrix.set(original);
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTEGRATIONS; j++)
+         {
+            rotationVector.setAndScale(DT, angularVelocities[j]);
+            RotationMatrixConversion.convertRotationVectorToMatrix(rotationVector, rotation);
+            matrix.multiply(rotation);
+         }
+         long conversionTime = System.nanoTime() - start;
+
+         matrix.set(original);
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTEGRATIONS; j++)
+            matrix.integrateInBodyFrame(angularVelocities[j], DT);
+         long fusedTime = System.nanoTime() - start;
+
+         System.out.println(i + ", conversion: " + (double) conversionTime / NUMBER_OF_INTEGRATIONS + "ns/integration, fused: "
+               + (double) fusedTime / NUMBER_OF_INTEGRATIONS + "ns/integration");
+      }
+   }
+
+   private static Vector3D[] nextAngularVelocities(Random random)
+   {
+      Vector3D[] angularVelocities = new Vector3D[NUMBER_OF_INTEGRATIONS];
+      for (int i = 0; i < NUMBER_OF_INTEGRATIONS; i++)
+         angularVelocities[i] = EuclidCoreRandomTools.nextVector3D(random, -5.0, 5.0);
+      return angularVelocities;
+   }
+}
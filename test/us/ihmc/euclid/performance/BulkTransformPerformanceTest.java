@@ -0,0 +1,91 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This test compares the speed of transforming points one at a time against transforming them in
+ * bulk with the vectorizable loops of {@link BulkTransformTools}, once the code has been compiled
+ * by the JVM.
+ *
+ * @author Sylvain Bertrand
+ */
+public class BulkTransformPerformanceTest
+{
+   private static final int NUMBER_OF_POINTS = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testTransformingManyPoints()
+   {
+      Random random = new Random(1230930210L);
+      RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+
+      Point3D[] points = new Point3D[NUMBER_OF_POINTS];
+      Point3DArray pointArray = new Point3DArray(NUMBER_OF_POINTS);
+
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+      {
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         pointArray.add(points[i]);
+      }
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_POINTS; j++)
+            transform.transform(points[j]);
+         long scalarTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         transform.transform(pointArray);
+         long bulkTime = System.nanoTime() - start;
+
+         System.out.println(i + ", scalar: " + (double) scalarTime / NUMBER_OF_POINTS + "ns/point, bulk: " + (double) bulkTime / NUMBER_OF_POINTS
+               + "ns/point");
+      }
+   }
+
+   @Test
+   public void testConvertingManyQuaternions()
+   {
+      Random random = new Random(1230930210L);
+
+      double[] qx = new double[NUMBER_OF_POINTS];
+      double[] qy = new double[NUMBER_OF_POINTS];
+      double[] qz = new double[NUMBER_OF_POINTS];
+      double[] qs = new double[NUMBER_OF_POINTS];
+      double[] matrices = new double[9 * NUMBER_OF_POINTS];
+
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         qx[i] = quaternion.getX();
+         qy[i] = quaternion.getY();
+         qz[i] = quaternion.getZ();
+         qs[i] = quaternion.getS();
+      }
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         long start = System.nanoTime();
+         BulkTransformTools.normalizeQuaternions(qx, qy, qz, qs, 0, NUMBER_OF_POINTS);
+         long normalizeTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         BulkTransformTools.convertQuaternionsToMatrices(qx, qy, qz, qs, matrices, 0, NUMBER_OF_POINTS);
+         long conversionTime = System.nanoTime() - start;
+
+         System.out.println(i + ", normalize: " + (double) normalizeTime / NUMBER_OF_POINTS + "ns/quaternion, conversion: "
+               + (double) conversionTime / NUMBER_OF_POINTS + "ns/quaternion");
+      }
+   }
+}
@@ -0,0 +1,117 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This test compares the speed and accuracy of {@link Quaternion#normalize()} and
+ * {@link Quaternion#fastNormalize()}, and of their {@link Vector3D} counterparts, when applied to
+ * tuples that are close to unitary as it is the case when renormalizing after every step of an
+ * integration.
+ *
+ * @author Sylvain Bertrand
+ */
+public class NormalizationPerformanceTest
+{
+   private static final int NUMBER_OF_TUPLES = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testQuaternionNormalization()
+   {
+      Random random = new Random(1230930210L);
+      double[][] components = new double[NUMBER_OF_TUPLES][];
+
+      for (int i = 0; i < NUMBER_OF_TUPLES; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         double scale = 1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT);
+         components[i] = new double[] {scale * quaternion.getX(), scale * quaternion.getY(), scale * quaternion.getZ(), scale * quaternion.getS()};
+      }
+
+      Quaternion quaternion = new Quaternion();
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         double maxError = 0.0;
+
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            quaternion.setUnsafe(components[j][0], components[j][1], components[j][2], components[j][3]);
+            quaternion.normalize();
+         }
+         long exactTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            quaternion.setUnsafe(components[j][0], components[j][1], components[j][2], components[j][3]);
+            quaternion.fastNormalize();
+         }
+         long fastTime = System.nanoTime() - start;
+
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            quaternion.setUnsafe(components[j][0], components[j][1], components[j][2], components[j][3]);
+            quaternion.fastNormalize();
+            maxError = Math.max(maxError, Math.abs(1.0 - quaternion.norm()));
+         }
+
+         System.out.println(i + ", exact: " + (double) exactTime / NUMBER_OF_TUPLES + "ns/normalize, fast: " + (double) fastTime / NUMBER_OF_TUPLES
+               + "ns/normalize, max norm error: " + maxError);
+      }
+   }
+
+   @Test
+   public void testVector3DNormalization()
+   {
+      Random random = new Random(1230930210L);
+      Vector3D[] vectors = new Vector3D[NUMBER_OF_TUPLES];
+
+      for (int i = 0; i < NUMBER_OF_TUPLES; i++)
+      {
+         vectors[i] = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         vectors[i].scale(1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT));
+      }
+
+      Vector3D vector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         double maxError = 0.0;
+
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            vector.set(vectors[j]);
+            vector.normalize();
+         }
+         long exactTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            vector.set(vectors[j]);
+            vector.fastNormalize();
+         }
+         long fastTime = System.nanoTime() - start;
+
+         for (int j = 0; j < NUMBER_OF_TUPLES; j++)
+         {
+            vector.set(vectors[j]);
+            vector.fastNormalize();
+            maxError = Math.max(maxError, Math.abs(1.0 - vector.length()));
+         }
+
+         System.out.println(i + ", exact: " + (double) exactTime / NUMBER_OF_TUPLES + "ns/normalize, fast: " + (double) fastTime / NUMBER_OF_TUPLES
+               + "ns/normalize, max length error: " + maxError);
+      }
+   }
+}
@@ -0,0 +1,85 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This test compares the speed and accuracy of the different quaternion interpolations: the
+ * spherical linear interpolation {@link Quaternion#interpolate(Quaternion, Quaternion, double)},
+ * the normalized linear interpolation {@link Quaternion#nlerp(Quaternion, Quaternion, double)}, and
+ * the approximated spherical linear interpolation
+ * {@link Quaternion#fastSlerp(Quaternion, Quaternion, double)}.
+ *
+ * @author Sylvain Bertrand
+ */
+public class QuaternionInterpolationPerformanceTest
+{
+   private static final int NUMBER_OF_INTERPOLATIONS = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testInterpolations()
+   {
+      Random random = new Random(1230930210L);
+      Quaternion[] q0s = new Quaternion[NUMBER_OF_INTERPOLATIONS];
+      Quaternion[] qfs = new Quaternion[NUMBER_OF_INTERPOLATIONS];
+      double[] alphas = new double[NUMBER_OF_INTERPOLATIONS];
+
+      for (int i = 0; i < NUMBER_OF_INTERPOLATIONS; i++)
+      {
+         q0s[i] = EuclidCoreRandomTools.nextQuaternion(random);
+         qfs[i] = EuclidCoreRandomTools.nextQuaternion(random);
+         alphas[i] = random.nextDouble();
+      }
+
+      Quaternion slerp = new Quaternion();
+      Quaternion nlerp = new Quaternion();
+      Quaternion fastSlerp = new Quaternion();
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTERPOLATIONS; j++)
+            slerp.interpolate(q0s[j], qfs[j], alphas[j]);
+         long slerpTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTERPOLATIONS; j++)
+            nlerp.nlerp(q0s[j], qfs[j], alphas[j]);
+         long nlerpTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_INTERPOLATIONS; j++)
+            fastSlerp.fastSlerp(q0s[j], qfs[j], alphas[j]);
+         long fastSlerpTime = System.nanoTime() - start;
+
+         double maxNlerpError = 0.0;
+         double maxFastSlerpError = 0.0;
+
+         for (int j = 0; j < NUMBER_OF_INTERPOLATIONS; j++)
+         {
+            slerp.interpolate(q0s[j], qfs[j], alphas[j]);
+            nlerp.nlerp(q0s[j], qfs[j], alphas[j]);
+            fastSlerp.fastSlerp(q0s[j], qfs[j], alphas[j]);
+            maxNlerpError = Math.max(maxNlerpError, angularDistance(slerp, nlerp));
+            maxFastSlerpError = Math.max(maxFastSlerpError, angularDistance(slerp, fastSlerp));
+         }
+
+         String line = i + ",";
+         line += " slerp: " + (double) slerpTime / NUMBER_OF_INTERPOLATIONS + "ns,";
+         line += " nlerp: " + (double) nlerpTime / NUMBER_OF_INTERPOLATIONS + "ns (max error: " + maxNlerpError + "),";
+         line += " fast-slerp: " + (double) fastSlerpTime / NUMBER_OF_INTERPOLATIONS + "ns (max error: " + maxFastSlerpError + ")";
+         System.out.println(line);
+      }
+   }
+
+   private static double angularDistance(Quaternion q1, Quaternion q2)
+   {
+      double distance = q1.distancePrecise(q2);
+      return Math.min(distance, 2.0 * Math.PI - distance);
+   }
+}
@@ -0,0 +1,75 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * This test compares the speed of printing a {@link RigidBodyTransform} using
+ * {@link String#format(String, Object...)} for each coefficient, as {@link EuclidCoreIOTools} used
+ * to do, to appending it to a reused {@link StringBuilder} with
+ * {@link EuclidCoreIOTools#appendRigidBodyTransformString(StringBuilder, RigidBodyTransform)}.
+ *
+ * @author Sylvain Bertrand
+ */
+public class StringFormattingPerformanceTest
+{
+   private static final int NUMBER_OF_TRANSFORMS = 10000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testRigidBodyTransformFormatting()
+   {
+      Random random = new Random(1230930210L);
+      RigidBodyTransform[] transforms = new RigidBodyTransform[NUMBER_OF_TRANSFORMS];
+      for (int i = 0; i < NUMBER_OF_TRANSFORMS; i++)
+         transforms[i] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+
+      StringBuilder builder = new StringBuilder();
+      int totalLength = 0;
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         long start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TRANSFORMS; j++)
+            totalLength += formatWithStringFormat(transforms[j]).length();
+         long stringFormatTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         for (int j = 0; j < NUMBER_OF_TRANSFORMS; j++)
+         {
+            builder.setLength(0);
+            EuclidCoreIOTools.appendRigidBodyTransformString(builder, transforms[j]);
+            totalLength += builder.length();
+         }
+         long appendTime = System.nanoTime() - start;
+
+         System.out.println(i + ", String.format: " + (double) stringFormatTime / NUMBER_OF_TRANSFORMS + "ns/transform, append: "
+               + (double) appendTime / NUMBER_OF_TRANSFORMS + "ns/transform");
+      }
+
+      System.out.println("Total length: " + totalLength);
+   }
+
+   private static String formatWithStringFormat(RigidBodyTransform transform)
+   {
+      String format = EuclidCoreIOTools.DEFAULT_FORMAT;
+      String ret = "";
+
+      for (int row = 0; row < 3; row++)
+      {
+         for (int column = 0; column < 3; column++)
+            ret += String.format(format, transform.getElement(row, column)) + " ";
+         ret += "| " + String.format(format, transform.getElement(row, 3)) + "\n";
+      }
+
+      for (int column = 0; column < 3; column++)
+         ret += String.format(format, 0.0) + " ";
+      ret += "| " + String.format(format, 1.0);
+      return ret;
+   }
+}
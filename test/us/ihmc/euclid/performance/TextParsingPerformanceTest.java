@@ -0,0 +1,66 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTextParser;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * This test compares the speed of parsing the text representation of a {@link RigidBodyTransform}
+ * by splitting it into tokens converted with {@link Double#parseDouble(String)} to parsing it with
+ * {@link EuclidCoreTextParser#parseRigidBodyTransform(RigidBodyTransform)}.
+ *
+ * @author Sylvain Bertrand
+ */
+public class TextParsingPerformanceTest
+{
+   private static final int NUMBER_OF_TRANSFORMS = 10000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testRigidBodyTransformParsing()
+   {
+      Random random = new Random(1230930210L);
+      StringBuilder log = new StringBuilder();
+      for (int i = 0; i < NUMBER_OF_TRANSFORMS; i++)
+         EuclidCoreIOTools.appendRigidBodyTransformString(log, EuclidCoreRandomTools.nextRigidBodyTransform(random)).append('\n');
+      String logString = log.toString();
+
+      EuclidCoreTextParser parser = new EuclidCoreTextParser();
+      RigidBodyTransform transform = new RigidBodyTransform();
+      double[] values = new double[16];
+      double sum = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         long start = System.nanoTime();
+         String[] tokens = logString.split("[\\s|]+");
+         for (int j = 0; j < tokens.length; j++)
+         {
+            if (tokens[j].isEmpty())
+               continue;
+            values[j % 16] = Double.parseDouble(tokens[j]);
+            sum += values[j % 16];
+         }
+         long parseDoubleTime = System.nanoTime() - start;
+
+         start = System.nanoTime();
+         parser.setInput(logString);
+         while (parser.hasNext())
+         {
+            parser.parseRigidBodyTransform(transform);
+            sum += transform.getM00();
+         }
+         long parserTime = System.nanoTime() - start;
+
+         System.out.println(i + ", split + Double.parseDouble: " + (double) parseDoubleTime / NUMBER_OF_TRANSFORMS + "ns/transform, parser: "
+               + (double) parserTime / NUMBER_OF_TRANSFORMS + "ns/transform");
+      }
+
+      System.out.println("Sum: " + sum);
+   }
+}
@@ -0,0 +1,131 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+/**
+ * This test compares the speed of the transforms when they are identity, pure translation, or
+ * uniformly scaled, against the general case, once the code has been compiled by the JVM.
+ * <p>
+ * Before the transforms tracked these special cases, every one of them was as expensive as the
+ * general case.
+ * </p>
+ *
+ * @author Sylvain Bertrand
+ */
+public class TransformFastPathPerformanceTest
+{
+   private static final int NUMBER_OF_POINTS = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testQuaternionBasedTransform()
+   {
+      Random random = new Random(1230930210L);
+      Point3D[] points = nextPoints(random);
+      Point3D result = new Point3D();
+
+      QuaternionBasedTransform identity = new QuaternionBasedTransform();
+      QuaternionBasedTransform translation = new QuaternionBasedTransform();
+      translation.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      QuaternionBasedTransform general = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      QuaternionBasedTransform[] transforms = {identity, translation, general};
+      String[] names = {"identity", "translation", "general"};
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         String line = i + ",";
+
+         for (int k = 0; k < transforms.length; k++)
+         {
+            QuaternionBasedTransform transform = transforms[k];
+            QuaternionBasedTransform product = new QuaternionBasedTransform();
+
+            long start = System.nanoTime();
+            for (int j = 0; j < NUMBER_OF_POINTS; j++)
+            {
+               transform.transform(points[j], result);
+               transform.inverseTransform(result);
+            }
+            long transformTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int j = 0; j < NUMBER_OF_POINTS; j++)
+            {
+               product.set(transform);
+               product.multiply(transform);
+               product.invert();
+            }
+            long multiplyTime = System.nanoTime() - start;
+
+            line += " " + names[k] + ": " + (double) transformTime / NUMBER_OF_POINTS + "ns/point, " + (double) multiplyTime / NUMBER_OF_POINTS
+                  + "ns/multiply-invert,";
+         }
+
+         System.out.println(line);
+      }
+   }
+
+   @Test
+   public void testAffineTransform()
+   {
+      Random random = new Random(1230930210L);
+      Point3D[] points = nextPoints(random);
+      Point3D result = new Point3D();
+
+      AffineTransform identity = new AffineTransform();
+      AffineTransform translation = new AffineTransform();
+      translation.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      AffineTransform uniformScale = new AffineTransform(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      uniformScale.setScale(EuclidCoreRandomTools.nextDouble(random, 0.5, 2.0));
+      AffineTransform general = EuclidCoreRandomTools.nextAffineTransform(random);
+      AffineTransform[] transforms = {identity, translation, uniformScale, general};
+      String[] names = {"identity", "translation", "uniform scale", "general"};
+
+      for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+      {
+         String line = i + ",";
+
+         for (int k = 0; k < transforms.length; k++)
+         {
+            AffineTransform transform = transforms[k];
+            AffineTransform product = new AffineTransform();
+
+            long start = System.nanoTime();
+            for (int j = 0; j < NUMBER_OF_POINTS; j++)
+            {
+               transform.transform(points[j], result);
+               transform.inverseTransform(result);
+            }
+            long transformTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int j = 0; j < NUMBER_OF_POINTS; j++)
+            {
+               product.set(transform);
+               product.multiply(transform);
+            }
+            long multiplyTime = System.nanoTime() - start;
+
+            line += " " + names[k] + ": " + (double) transformTime / NUMBER_OF_POINTS + "ns/point, " + (double) multiplyTime / NUMBER_OF_POINTS
+                  + "ns/multiply,";
+         }
+
+         System.out.println(line);
+      }
+   }
+
+   private static Point3D[] nextPoints(Random random)
+   {
+      Point3D[] points = new Point3D[NUMBER_OF_POINTS];
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      return points;
+   }
+}
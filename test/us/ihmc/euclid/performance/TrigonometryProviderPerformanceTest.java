@@ -0,0 +1,69 @@
+package us.ihmc.euclid.performance;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.FastTrigonometryProvider;
+import us.ihmc.euclid.tools.TrigonometryProvider;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+/**
+ * This test compares the speed of the conversions between yaw-pitch-roll angles and quaternions
+ * when using the default trigonometry provider against the {@link FastTrigonometryProvider}, once
+ * the code has been compiled by the JVM.
+ *
+ * @author Sylvain Bertrand
+ */
+public class TrigonometryProviderPerformanceTest
+{
+   private static final int NUMBER_OF_CONVERSIONS = 100000;
+   private static final int NUMBER_OF_MEASURED_RUNS = 20;
+
+   @Test
+   public void testYawPitchRollConversions()
+   {
+      Random random = new Random(1230930210L);
+      TrigonometryProvider defaultProvider = EuclidCoreTools.getTrigonometryProvider();
+      TrigonometryProvider[] providers = {defaultProvider, new FastTrigonometryProvider()};
+      String[] names = {"default", "fast"};
+
+      Quaternion[] quaternions = new Quaternion[NUMBER_OF_CONVERSIONS];
+      for (int i = 0; i < NUMBER_OF_CONVERSIONS; i++)
+         quaternions[i] = EuclidCoreRandomTools.nextQuaternion(random);
+      YawPitchRoll yawPitchRoll = new YawPitchRoll();
+      Quaternion quaternion = new Quaternion();
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_MEASURED_RUNS; i++)
+         {
+            String line = i + ",";
+
+            for (int k = 0; k < providers.length; k++)
+            {
+               EuclidCoreTools.setTrigonometryProvider(providers[k]);
+
+               long start = System.nanoTime();
+               for (int j = 0; j < NUMBER_OF_CONVERSIONS; j++)
+               {
+                  yawPitchRoll.set(quaternions[j]);
+                  quaternion.set(yawPitchRoll);
+               }
+               long time = System.nanoTime() - start;
+
+               line += " " + names[k] + ": " + (double) time / NUMBER_OF_CONVERSIONS + "ns/round-trip,";
+            }
+
+            System.out.println(line);
+         }
+      }
+      finally
+      {
+         EuclidCoreTools.setTrigonometryProvider(defaultProvider);
+      }
+   }
+}
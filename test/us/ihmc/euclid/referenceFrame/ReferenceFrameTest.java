@@ -0,0 +1,235 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ReferenceFrameTest
+{
+   private static final double EPS = 1.0e-11;
+   public static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      ReferenceFrame root = new ReferenceFrame("root");
+      assertTrue(root.isRootFrame());
+      assertTrue(root.isTransformToRootUpToDate());
+      assertEquals(root, root.getRootFrame());
+      assertEquals(0, root.getDepth());
+      assertEquals("root", root.toString());
+
+      RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      RigidBodyTransform actual = new RigidBodyTransform();
+      ReferenceFrame child = new ReferenceFrame("child", root, expected);
+      assertFalse(child.isRootFrame());
+      assertFalse(child.isTransformToRootUpToDate());
+      assertEquals(root, child.getParent());
+      assertEquals(root, child.getRootFrame());
+      assertEquals(1, child.getDepth());
+      assertEquals(1, root.getNumberOfChildren());
+      assertEquals(child, root.getChild(0));
+      child.getTransformToParent(actual);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, 0.0);
+
+      ReferenceFrame grandChild = new ReferenceFrame("grandChild", child);
+      assertEquals(2, grandChild.getDepth());
+      grandChild.getTransformToParent(actual);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(), actual, 0.0);
+
+      try
+      {
+         new ReferenceFrame("orphan", null);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         root.setTransformToParent(expected);
+         fail("Should have thrown an exception");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testGetTransformToRoot() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = nextReferenceFrameTree(random, 2 + random.nextInt(40));
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < 5; j++)
+         {
+            ReferenceFrame modifiedFrame = frames[1 + random.nextInt(frames.length - 1)];
+
+            for (ReferenceFrame frame : frames)
+               frame.getTransformToRoot(actual);
+            for (ReferenceFrame frame : frames)
+               assertTrue(frame.isTransformToRootUpToDate());
+
+            modifiedFrame.setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+            for (ReferenceFrame frame : frames)
+               assertEquals(!isDescendant(frame, modifiedFrame), frame.isTransformToRootUpToDate());
+
+            for (ReferenceFrame frame : frames)
+            {
+               frame.getTransformToRoot(actual);
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(computeTransformToRoot(frame), actual, EPS);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testGetTransformBetween() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = nextReferenceFrameTree(random, 2 + random.nextInt(40));
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < 10; j++)
+         {
+            if (random.nextBoolean())
+               frames[1 + random.nextInt(frames.length - 1)].setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            if (random.nextBoolean())
+               frames[random.nextInt(frames.length)].getTransformToRoot(actual);
+
+            ReferenceFrame from = frames[random.nextInt(frames.length)];
+            ReferenceFrame to = frames[random.nextInt(frames.length)];
+
+            expected.set(computeTransformToRoot(from));
+            expected.preMultiplyInvertOther(computeTransformToRoot(to));
+
+            ReferenceFrame.getTransformBetween(from, to, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+            // The caches are refreshed by the query, unless it is trivial.
+            assertTrue(from == to || from.isTransformToRootUpToDate());
+            assertTrue(from == to || to.isTransformToRootUpToDate());
+            from.getTransformToDesiredFrame(to, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+            // Testing again once the caches are up-to-date.
+            from.getTransformToRoot(actual);
+            to.getTransformToRoot(actual);
+            ReferenceFrame.getTransformBetween(from, to, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         }
+      }
+
+      ReferenceFrame[] tree1 = nextReferenceFrameTree(random, 5);
+      ReferenceFrame[] tree2 = nextReferenceFrameTree(random, 5);
+
+      try
+      {
+         ReferenceFrame.getTransformBetween(tree1[4], tree2[3], new RigidBodyTransform());
+         fail("Should have thrown an exception");
+      }
+      catch (ReferenceFrameMismatchException e)
+      {
+         // good
+      }
+
+      // Same with up-to-date caches.
+      tree1[4].getTransformToRoot(new RigidBodyTransform());
+      tree2[3].getTransformToRoot(new RigidBodyTransform());
+
+      try
+      {
+         ReferenceFrame.getTransformBetween(tree1[4], tree2[3], new RigidBodyTransform());
+         fail("Should have thrown an exception");
+      }
+      catch (ReferenceFrameMismatchException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testGetCommonAncestor() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = nextReferenceFrameTree(random, 2 + random.nextInt(40));
+         ReferenceFrame frameA = frames[random.nextInt(frames.length)];
+         ReferenceFrame frameB = frames[random.nextInt(frames.length)];
+         ReferenceFrame ancestor = frameA.getCommonAncestor(frameB);
+
+         assertEquals(ancestor, frameB.getCommonAncestor(frameA));
+         assertTrue(isDescendant(frameA, ancestor));
+         assertTrue(isDescendant(frameB, ancestor));
+
+         for (int j = 0; j < ancestor.getNumberOfChildren(); j++)
+         {
+            ReferenceFrame child = ancestor.getChild(j);
+            assertFalse(isDescendant(frameA, child) && isDescendant(frameB, child));
+         }
+      }
+   }
+
+   private static ReferenceFrame[] nextReferenceFrameTree(Random random, int numberOfFrames)
+   {
+      ReferenceFrame[] frames = new ReferenceFrame[numberOfFrames];
+      frames[0] = new ReferenceFrame("root");
+
+      for (int i = 1; i < numberOfFrames; i++)
+      {
+         ReferenceFrame parent = frames[random.nextInt(i)];
+         frames[i] = new ReferenceFrame("frame" + i, parent, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      }
+
+      return frames;
+   }
+
+   private static boolean isDescendant(ReferenceFrame frame, ReferenceFrame ancestor)
+   {
+      for (ReferenceFrame current = frame; current != null; current = current.getParent())
+      {
+         if (current == ancestor)
+            return true;
+      }
+      return false;
+   }
+
+   private static RigidBodyTransform computeTransformToRoot(ReferenceFrame frame)
+   {
+      RigidBodyTransform transformToRoot = new RigidBodyTransform();
+      RigidBodyTransform transformToParent = new RigidBodyTransform();
+
+      for (ReferenceFrame current = frame; current != null; current = current.getParent())
+      {
+         current.getTransformToParent(transformToParent);
+         transformToRoot.preMultiply(transformToParent);
+      }
+
+      return transformToRoot;
+   }
+}
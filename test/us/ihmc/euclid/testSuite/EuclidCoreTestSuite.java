@@ -13,9 +13,18 @@ import org.pitest.mutationtest.commandline.MutationCoverageReport;
 
 import us.ihmc.euclid.axisAngle.AxisAngle32Test;
 import us.ihmc.euclid.axisAngle.AxisAngleTest;
+import us.ihmc.euclid.io.CompressedTransformCodecTest;
+import us.ihmc.euclid.io.EuclidBinaryCodecTest;
+import us.ihmc.euclid.io.FixedPointTuple3DCodecTest;
+import us.ihmc.euclid.io.MappedPointCloudTransformerTest;
+import us.ihmc.euclid.io.SmallestThreeQuaternionCodecTest;
+import us.ihmc.euclid.io.TransformTimeSeriesTest;
 import us.ihmc.euclid.matrix.Matrix3DTest;
 import us.ihmc.euclid.matrix.RotationMatrixTest;
 import us.ihmc.euclid.matrix.RotationScaleMatrixTest;
+import us.ihmc.euclid.memory.EuclidScratchTest;
+import us.ihmc.euclid.memory.RecyclingArrayListTest;
+import us.ihmc.euclid.referenceFrame.ReferenceFrameTest;
 import us.ihmc.euclid.rotationConversion.AxisAngleConversionTest;
 import us.ihmc.euclid.rotationConversion.CyclingConversionTest;
 import us.ihmc.euclid.rotationConversion.QuaternionConversionTest;
@@ -23,8 +32,12 @@ import us.ihmc.euclid.rotationConversion.RotationMatrixConversionTest;
 import us.ihmc.euclid.rotationConversion.RotationVectorConversionTest;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversionTest;
 import us.ihmc.euclid.tools.AxisAngleToolsTest;
+import us.ihmc.euclid.tools.BulkTransformToolsTest;
+import us.ihmc.euclid.tools.EuclidCoreIOToolsTest;
 import us.ihmc.euclid.tools.EuclidCoreTestToolsTest;
+import us.ihmc.euclid.tools.EuclidCoreTextParserTest;
 import us.ihmc.euclid.tools.EuclidCoreToolsTest;
+import us.ihmc.euclid.tools.FastTrigonometryProviderTest;
 import us.ihmc.euclid.tools.Matrix3DFeaturesTest;
 import us.ihmc.euclid.tools.Matrix3DToolsTest;
 import us.ihmc.euclid.tools.QuaternionToolsTest;
@@ -33,17 +46,27 @@ import us.ihmc.euclid.tools.RotationScaleMatrixToolsTest;
 import us.ihmc.euclid.tools.TransformationToolsTest;
 import us.ihmc.euclid.tools.TupleToolsTest;
 import us.ihmc.euclid.transform.AffineTransformTest;
+import us.ihmc.euclid.transform.DualQuaternionTransformTest;
+import us.ihmc.euclid.transform.ParallelBulkTransformerTest;
 import us.ihmc.euclid.transform.QuaternionBasedTransformTest;
+import us.ihmc.euclid.transform.RigidBodyTransform2DTest;
 import us.ihmc.euclid.transform.RigidBodyTransformTest;
+import us.ihmc.euclid.transform.TransformChainTest;
+import us.ihmc.euclid.tuple2D.ByteBufferPoint2DTest;
 import us.ihmc.euclid.tuple2D.Point2D32Test;
 import us.ihmc.euclid.tuple2D.Point2DTest;
 import us.ihmc.euclid.tuple2D.Vector2D32Test;
 import us.ihmc.euclid.tuple2D.Vector2DTest;
+import us.ihmc.euclid.tuple3D.ByteBufferPoint3DTest;
+import us.ihmc.euclid.tuple3D.ByteBufferVector3DTest;
 import us.ihmc.euclid.tuple3D.Point3D32Test;
+import us.ihmc.euclid.tuple3D.Point3DArrayTest;
 import us.ihmc.euclid.tuple3D.Point3DTest;
 import us.ihmc.euclid.tuple3D.Vector3D32Test;
 import us.ihmc.euclid.tuple3D.Vector3DTest;
+import us.ihmc.euclid.tuple4D.ByteBufferQuaternionTest;
 import us.ihmc.euclid.tuple4D.Quaternion32Test;
+import us.ihmc.euclid.tuple4D.QuaternionSlerpTest;
 import us.ihmc.euclid.tuple4D.QuaternionTest;
 import us.ihmc.euclid.tuple4D.Vector4D32Test;
 import us.ihmc.euclid.tuple4D.Vector4DTest;
@@ -52,11 +75,17 @@ import us.ihmc.euclid.tuple4D.Vector4DTest;
 @Suite.SuiteClasses({Point3DTest.class, Point3D32Test.class, Point2DTest.class, Point2D32Test.class, Vector3DTest.class, Vector3D32Test.class,
       Vector2DTest.class, Vector2D32Test.class, Vector4DTest.class, Vector4D32Test.class, AxisAngleTest.class, AxisAngle32Test.class, QuaternionTest.class,
       Quaternion32Test.class, Matrix3DTest.class, RotationMatrixTest.class, RotationScaleMatrixTest.class, RigidBodyTransformTest.class,
-      QuaternionBasedTransformTest.class, AffineTransformTest.class,
+      QuaternionBasedTransformTest.class, AffineTransformTest.class, Point3DArrayTest.class,
+      ByteBufferPoint3DTest.class, ByteBufferVector3DTest.class, ByteBufferPoint2DTest.class, ByteBufferQuaternionTest.class,
+      MappedPointCloudTransformerTest.class, ParallelBulkTransformerTest.class, ReferenceFrameTest.class, TransformChainTest.class, QuaternionSlerpTest.class,
+      DualQuaternionTransformTest.class, RigidBodyTransform2DTest.class, RecyclingArrayListTest.class,
+      EuclidScratchTest.class, EuclidBinaryCodecTest.class, SmallestThreeQuaternionCodecTest.class, FixedPointTuple3DCodecTest.class,
+      CompressedTransformCodecTest.class, TransformTimeSeriesTest.class,
 
       // Tools tests
-      EuclidCoreToolsTest.class, EuclidCoreTestToolsTest.class, QuaternionToolsTest.class, Matrix3DToolsTest.class, Matrix3DFeaturesTest.class,
-      RotationMatrixToolsTest.class, RotationScaleMatrixToolsTest.class, TupleToolsTest.class, TransformationToolsTest.class, AxisAngleToolsTest.class,
+      EuclidCoreToolsTest.class, EuclidCoreIOToolsTest.class, EuclidCoreTestToolsTest.class, QuaternionToolsTest.class, Matrix3DToolsTest.class,
+      Matrix3DFeaturesTest.class, RotationMatrixToolsTest.class, RotationScaleMatrixToolsTest.class, TupleToolsTest.class, TransformationToolsTest.class,
+      AxisAngleToolsTest.class, BulkTransformToolsTest.class, FastTrigonometryProviderTest.class, EuclidCoreTextParserTest.class,
 
       // Conversion tests
       AxisAngleConversionTest.class, RotationVectorConversionTest.class, QuaternionConversionTest.class, RotationMatrixConversionTest.class,
@@ -0,0 +1,212 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class BulkTransformToolsTest
+{
+   private static final double EPS = 1.0e-12;
+   public static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testNormalizeVectors() throws Exception
+   {
+      Random random = new Random(4562L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int size = random.nextInt(100);
+         Vector3D[] expected = new Vector3D[size];
+         Vector3DArray array = new Vector3DArray();
+
+         for (int j = 0; j < size; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+            array.add(expected[j]);
+            expected[j].normalize();
+         }
+
+         array.normalize();
+         Vector3D actual = new Vector3D();
+
+         for (int j = 0; j < size; j++)
+         {
+            array.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, EPS);
+         }
+      }
+
+      { // Test edge cases
+         double[] x = {0.0, Double.NaN};
+         double[] y = {0.0, 1.0};
+         double[] z = {0.0, 1.0};
+         BulkTransformTools.normalizeVectors(x, y, z, 0, 2);
+         assertTrue(Double.isNaN(x[0]) && Double.isNaN(y[0]) && Double.isNaN(z[0]));
+         assertTrue(Double.isNaN(x[1]));
+      }
+   }
+
+   @Test
+   public void testNormalizeQuaternions() throws Exception
+   {
+      Random random = new Random(4562L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int size = random.nextInt(100);
+         int startIndex = size == 0 ? 0 : random.nextInt(size);
+         double[] qx = new double[size];
+         double[] qy = new double[size];
+         double[] qz = new double[size];
+         double[] qs = new double[size];
+         Quaternion[] expected = new Quaternion[size];
+
+         for (int j = 0; j < size; j++)
+         {
+            expected[j] = new Quaternion();
+            if (random.nextInt(10) != 0)
+            {
+               double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+               Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+               expected[j].setUnsafe(scale * quaternion.getX(), scale * quaternion.getY(), scale * quaternion.getZ(), scale * quaternion.getS());
+            }
+            else
+            {
+               expected[j].setUnsafe(0.0, 0.0, 0.0, 0.0);
+            }
+
+            qx[j] = expected[j].getX();
+            qy[j] = expected[j].getY();
+            qz[j] = expected[j].getZ();
+            qs[j] = expected[j].getS();
+
+            if (j >= startIndex)
+               expected[j].normalize();
+         }
+
+         BulkTransformTools.normalizeQuaternions(qx, qy, qz, qs, startIndex, size);
+
+         for (int j = 0; j < size; j++)
+         {
+            assertEquals(expected[j].getX(), qx[j], EPS);
+            assertEquals(expected[j].getY(), qy[j], EPS);
+            assertEquals(expected[j].getZ(), qz[j], EPS);
+            assertEquals(expected[j].getS(), qs[j], EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testConvertQuaternionsToMatrices() throws Exception
+   {
+      Random random = new Random(4562L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int size = random.nextInt(100);
+         double[] qx = new double[size];
+         double[] qy = new double[size];
+         double[] qz = new double[size];
+         double[] qs = new double[size];
+         double[] matrices = new double[9 * size];
+
+         for (int j = 0; j < size; j++)
+         {
+            double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+            Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+            qx[j] = scale * quaternion.getX();
+            qy[j] = scale * quaternion.getY();
+            qz[j] = scale * quaternion.getZ();
+            qs[j] = scale * quaternion.getS();
+
+            int edgeCase = random.nextInt(10);
+            if (edgeCase == 0)
+               qx[j] = qy[j] = qz[j] = qs[j] = 0.0;
+            else if (edgeCase == 1)
+               qy[j] = Double.NaN;
+         }
+
+         BulkTransformTools.convertQuaternionsToMatrices(qx, qy, qz, qs, matrices, 0, size);
+
+         RotationMatrix expected = new RotationMatrix();
+
+         for (int j = 0; j < size; j++)
+         {
+            RotationMatrixConversion.convertQuaternionToMatrix(qx[j], qy[j], qz[j], qs[j], expected);
+
+            for (int row = 0; row < 3; row++)
+            {
+               for (int column = 0; column < 3; column++)
+                  assertEquals(expected.getElement(row, column), matrices[9 * j + 3 * row + column], EPS);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithZeroQuaternion() throws Exception
+   {
+      Random random = new Random(6734L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         // A quaternion with a zero norm is handled as the identity.
+         Quaternion quaternion = new Quaternion();
+         quaternion.setUnsafe(0.0, 0.0, 0.0, 0.0);
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         int numberOfTuples = random.nextInt(50);
+         int originalOffset = random.nextInt(10);
+         int transformedOffset = random.nextInt(10);
+
+         double[] tuplesOriginal = new double[originalOffset + 3 * numberOfTuples];
+         float[] tuplesOriginal32 = new float[tuplesOriginal.length];
+         for (int j = 0; j < tuplesOriginal.length; j++)
+         {
+            tuplesOriginal[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            tuplesOriginal32[j] = (float) tuplesOriginal[j];
+         }
+
+         double[] tuplesTransformed = new double[transformedOffset + 3 * numberOfTuples];
+         float[] tuplesTransformed32 = new float[tuplesTransformed.length];
+
+         for (boolean inverse : new boolean[] {false, true})
+         {
+            double sign = inverse ? -1.0 : 1.0;
+
+            if (inverse)
+            {
+               BulkTransformTools.inverseTransform(quaternion, translation, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset,
+                                                   numberOfTuples);
+               BulkTransformTools.inverseTransform(quaternion, translation, tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset,
+                                                   numberOfTuples);
+            }
+            else
+            {
+               BulkTransformTools.transform(quaternion, translation, tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+               BulkTransformTools.transform(quaternion, translation, tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset,
+                                            numberOfTuples);
+            }
+
+            for (int j = 0; j < numberOfTuples; j++)
+            {
+               for (int k = 0; k < 3; k++)
+               {
+                  double expected = tuplesOriginal[originalOffset + 3 * j + k] + sign * translation.getElement(k);
+                  assertEquals(expected, tuplesTransformed[transformedOffset + 3 * j + k], EPS);
+                  assertEquals(expected, tuplesTransformed32[transformedOffset + 3 * j + k], 1.0e-4);
+               }
+            }
+         }
+      }
+   }
+}
@@ -0,0 +1,141 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.Vector2D;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class EuclidCoreIOToolsTest
+{
+   private static final int ITERATIONS = 10000;
+
+   @Test
+   public void testAppendDouble() throws Exception
+   {
+      Random random = new Random(4535L);
+      String[] formats = {EuclidCoreIOTools.DEFAULT_FORMAT, "%15.12f", "%.0f", "%f", "%8.2f", "%.1f", "%3.5f", "%20.15f"};
+      StringBuilder builder = new StringBuilder();
+
+      for (String format : formats)
+      {
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            double value = EuclidCoreRandomTools.nextDouble(random, 1.0) * Math.pow(10.0, random.nextInt(19) - 8);
+            assertAppendDoubleEquals(builder, format, value);
+         }
+
+         double[] specialValues = {0.0, -0.0, 0.5, -0.5, 1.5, 2.5, 0.125, -0.125, 0.15, 1.005, 0.0005, -0.0001, 999.9995, 1.0e-20, 1.0e20, Double.MAX_VALUE,
+               Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+         for (double value : specialValues)
+            assertAppendDoubleEquals(builder, format, value);
+      }
+
+      // These formats are not handled by the fast path and are delegated to String.format(...).
+      String[] otherFormats = {"%e", "%-8.3f", "%+.3f", "%08.3f", "%,.2f", "%.20f", "%10.3g"};
+
+      for (String format : otherFormats)
+      {
+         for (int i = 0; i < 100; i++)
+            assertAppendDoubleEquals(builder, format, EuclidCoreRandomTools.nextDouble(random, 1000.0));
+      }
+   }
+
+   private static void assertAppendDoubleEquals(StringBuilder builder, String format, double value)
+   {
+      builder.setLength(0);
+      builder.append("prefix");
+      EuclidCoreIOTools.appendDouble(builder, format, value);
+      assertEquals("format: " + format + ", value: " + value, "prefix" + String.format(Locale.ROOT, format, value), builder.toString());
+   }
+
+   @Test
+   public void testDefaultLocaleIsIgnored() throws Exception
+   {
+      Locale defaultLocale = Locale.getDefault();
+
+      try
+      {
+         // This locale uses ',' as decimal separator.
+         Locale.setDefault(Locale.GERMANY);
+         // 0.0005 is delegated to String.format(...) as it is too close to a rounding tie.
+         Point3D point3D = new Point3D(1.25, 0.0005, 2.5);
+         assertEquals("( 1.250,  0.001,  2.500 )", point3D.toString());
+
+         Random random = new Random(3453L);
+         StringBuilder builder = new StringBuilder();
+         for (String format : new String[] {EuclidCoreIOTools.DEFAULT_FORMAT, "%e", "%.20f"})
+         {
+            for (int i = 0; i < 100; i++)
+               assertAppendDoubleEquals(builder, format, EuclidCoreRandomTools.nextDouble(random, 1000.0));
+         }
+
+         EuclidCoreTextParser parser = new EuclidCoreTextParser(point3D.toString());
+         Point3D parsed = new Point3D();
+         parser.parseTuple3D(parsed);
+         EuclidCoreTestTools.assertTuple3DEquals(point3D, parsed, 1.0e-3);
+      }
+      finally
+      {
+         Locale.setDefault(defaultLocale);
+      }
+   }
+
+   @Test
+   public void testAppendStrings() throws Exception
+   {
+      StringBuilder builder = new StringBuilder();
+
+      Vector2D vector2D = new Vector2D(1.0, -2.5);
+      assertEquals("( 1.000, -2.500 )", EuclidCoreIOTools.getTuple2DString(vector2D));
+      assertEquals(vector2D.toString(), EuclidCoreIOTools.appendTuple2DString(builder, vector2D).toString());
+
+      Point3D point3D = new Point3D(1.0, -2.5, 0.12345);
+      assertEquals("( 1.000, -2.500,  0.123 )", EuclidCoreIOTools.getTuple3DString(point3D));
+      assertEquals("( 1.0, -2.5,  0.1 )", EuclidCoreIOTools.getTuple3DString("%4.1f", point3D));
+      builder.setLength(0);
+      assertEquals(point3D.toString(), EuclidCoreIOTools.appendTuple3DString(builder, point3D).toString());
+
+      Vector4D vector4D = new Vector4D(0.1, 0.2, 0.3, -0.4);
+      assertEquals("( 0.100,  0.200,  0.300, -0.400 )", EuclidCoreIOTools.getTuple4DString(vector4D));
+      builder.setLength(0);
+      assertEquals(vector4D.toString(), EuclidCoreIOTools.appendTuple4DString(builder, vector4D).toString());
+
+      Matrix3D matrix = new Matrix3D(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, -9.0);
+      assertEquals("/ 1.000,  2.000,  3.000 \\\n| 4.000,  5.000,  6.000 |\n\\ 7.000,  8.000, -9.000 /", EuclidCoreIOTools.getMatrixString(matrix));
+      builder.setLength(0);
+      assertEquals(matrix.toString(), EuclidCoreIOTools.appendMatrixString(builder, matrix).toString());
+
+      RigidBodyTransform rigidBodyTransform = new RigidBodyTransform();
+      rigidBodyTransform.setTranslation(1.0, -2.0, 3.0);
+      assertEquals(" 1.000  0.000  0.000 |  1.000\n 0.000  1.000  0.000 | -2.000\n 0.000  0.000  1.000 |  3.000\n 0.000  0.000  0.000 |  1.000",
+                   rigidBodyTransform.toString());
+
+      QuaternionBasedTransform quaternionBasedTransform = new QuaternionBasedTransform(new Quaternion(), new Vector3D(1.0, -2.0, 3.0));
+      assertEquals("Quaternion:  ( 0.000,  0.000,  0.000,  1.000 )\nTranslation: ( 1.000, -2.000,  3.000 )", quaternionBasedTransform.toString());
+
+      YawPitchRoll yawPitchRoll = new YawPitchRoll(0.1, 0.2, 0.3);
+      assertEquals("yaw-pitch-roll: ( 0.100,  0.200,  0.300)", yawPitchRoll.toString());
+      assertEquals("yaw-pitch-roll: (0.10, 0.20, 0.30)", EuclidCoreIOTools.getYawPitchRollString("%.2f", yawPitchRoll));
+
+      assertEquals("null", EuclidCoreIOTools.getTuple3DString(null));
+      assertEquals("null", EuclidCoreIOTools.getRigidBodyTransformString(null));
+      builder.setLength(0);
+      assertEquals("null", EuclidCoreIOTools.appendMatrixString(builder, (Matrix3D) null).toString());
+
+      assertEquals("[ 1.000;  2.000]", EuclidCoreIOTools.getStringOf("[", "]", "; ", 1.0, 2.0));
+      assertEquals("", EuclidCoreIOTools.getStringOf(", ", EuclidCoreIOTools.DEFAULT_FORMAT));
+   }
+}
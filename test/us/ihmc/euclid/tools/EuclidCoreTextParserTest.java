@@ -0,0 +1,247 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.exceptions.EuclidParseException;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class EuclidCoreTextParserTest
+{
+   private static final int ITERATIONS = 1000;
+   /** Error due to the rounding of {@link EuclidCoreIOTools#DEFAULT_FORMAT}. */
+   private static final double DEFAULT_FORMAT_EPSILON = 5.0e-4 + 1.0e-12;
+
+   @Test
+   public void testNextDouble() throws Exception
+   {
+      Random random = new Random(3453L);
+      EuclidCoreTextParser parser = new EuclidCoreTextParser();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         double value = EuclidCoreRandomTools.nextDouble(random, 1.0) * Math.pow(10.0, random.nextInt(40) - 20);
+
+         // Shortest representation, usually 16 or 17 digits, converted with the fallback.
+         String shortest = Double.toString(value);
+         parser.setInput(shortest);
+         assertEquals(shortest, value, parser.nextDouble(), 0.0);
+         assertFalse(parser.hasNext());
+
+         for (String format : new String[] {EuclidCoreIOTools.DEFAULT_FORMAT, "%15.12f", "%.3e", "%.0f"})
+         {
+            String formatted = String.format(format, value);
+            parser.setInput(formatted);
+            assertEquals(formatted, Double.parseDouble(formatted), parser.nextDouble(), 0.0);
+         }
+      }
+
+      String[] inputs = {"0", "-0.0", "+3.5", ".5", "5.", "1e5", "1E-300", "-2.5e+3", "007.250", "123456789012345678901234567890", "4.9e-324",
+            "1.7976931348623157E308", "0.000000000000000000000000000123"};
+
+      for (String input : inputs)
+      {
+         parser.setInput(input);
+         double actual = parser.nextDouble();
+         assertEquals(input, Double.parseDouble(input), actual, 0.0);
+         assertEquals(Double.doubleToLongBits(Double.parseDouble(input)), Double.doubleToLongBits(actual));
+      }
+
+      parser.setInput("NaN -Infinity Infinity");
+      assertTrue(Double.isNaN(parser.nextDouble()));
+      assertEquals(Double.NEGATIVE_INFINITY, parser.nextDouble(), 0.0);
+      assertEquals(Double.POSITIVE_INFINITY, parser.nextDouble(), 0.0);
+      assertFalse(parser.hasNext());
+
+      for (String input : new String[] {"", "abc", "-", ".", "1e", "1e+", "Nan"})
+      {
+         parser.setInput(input);
+
+         try
+         {
+            parser.nextDouble();
+            fail("Should have thrown an exception for: " + input);
+         }
+         catch (EuclidParseException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testParseToStrings() throws Exception
+   {
+      Random random = new Random(3453L);
+      EuclidCoreTextParser parser = new EuclidCoreTextParser();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Point2D expectedPoint2D = EuclidCoreRandomTools.nextPoint2D(random);
+         Point2D actualPoint2D = new Point2D();
+         parser.setInput(expectedPoint2D.toString());
+         parser.parseTuple2D(actualPoint2D);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint2D, actualPoint2D, DEFAULT_FORMAT_EPSILON);
+
+         Point3D expectedPoint3D = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D actualPoint3D = new Point3D();
+         parser.setInput(expectedPoint3D.toString());
+         parser.parseTuple3D(actualPoint3D);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint3D, actualPoint3D, DEFAULT_FORMAT_EPSILON);
+
+         Vector4D expectedVector4D = EuclidCoreRandomTools.nextVector4D(random);
+         Vector4D actualVector4D = new Vector4D();
+         parser.setInput(expectedVector4D.toString());
+         parser.parseTuple4D(actualVector4D);
+         EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, DEFAULT_FORMAT_EPSILON);
+
+         Quaternion expectedQuaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion actualQuaternion = new Quaternion();
+         parser.setInput(EuclidCoreIOTools.getTuple4DString("%20.17f", expectedQuaternion));
+         parser.parseTuple4D(actualQuaternion);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedQuaternion, actualQuaternion, 1.0e-15);
+
+         AxisAngle expectedAxisAngle = EuclidCoreRandomTools.nextAxisAngle(random);
+         AxisAngle actualAxisAngle = new AxisAngle();
+         parser.setInput(expectedAxisAngle.toString());
+         parser.parseAxisAngle(actualAxisAngle);
+         EuclidCoreTestTools.assertAxisAngleEquals(expectedAxisAngle, actualAxisAngle, DEFAULT_FORMAT_EPSILON);
+
+         YawPitchRoll expectedYawPitchRoll = EuclidCoreRandomTools.nextYawPitchRoll(random);
+         YawPitchRoll actualYawPitchRoll = new YawPitchRoll();
+         parser.setInput(expectedYawPitchRoll.toString());
+         parser.parseYawPitchRoll(actualYawPitchRoll);
+         EuclidCoreTestTools.assertYawPitchRollEquals(expectedYawPitchRoll, actualYawPitchRoll, DEFAULT_FORMAT_EPSILON);
+
+         Matrix3D expectedMatrix = EuclidCoreRandomTools.nextMatrix3D(random);
+         Matrix3D actualMatrix = new Matrix3D();
+         parser.setInput(expectedMatrix.toString());
+         parser.parseMatrix3D(actualMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, DEFAULT_FORMAT_EPSILON);
+
+         RotationMatrix expectedRotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix actualRotationMatrix = new RotationMatrix();
+         parser.setInput(expectedRotationMatrix.toString());
+         parser.parseRotationMatrix(actualRotationMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedRotationMatrix, actualRotationMatrix, 1.0e-2);
+
+         RigidBodyTransform expectedRigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         parser.setInput(EuclidCoreIOTools.getRigidBodyTransformString("%20.17f", expectedRigidBodyTransform));
+         parser.parseRigidBodyTransform(actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedRigidBodyTransform, actualRigidBodyTransform, 1.0e-14);
+
+         AffineTransform expectedAffineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+         AffineTransform actualAffineTransform = new AffineTransform();
+         parser.setInput(EuclidCoreIOTools.getAffineTransformString("%20.17f", expectedAffineTransform));
+         parser.parseAffineTransform(actualAffineTransform);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedAffineTransform.getRotationScaleMatrix(), actualAffineTransform.getRotationScaleMatrix(),
+                                                  1.0e-12);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedAffineTransform.getTranslationVector(), actualAffineTransform.getTranslationVector(), 1.0e-14);
+
+         // The default format, as used by toString(), rounds the rotation-scale coefficients.
+         parser.setInput(expectedAffineTransform.toString());
+         parser.parseAffineTransform(actualAffineTransform);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedAffineTransform.getRotationScaleMatrix(), actualAffineTransform.getRotationScaleMatrix(),
+                                                  1.0e-2);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedAffineTransform.getTranslationVector(), actualAffineTransform.getTranslationVector(),
+                                                 DEFAULT_FORMAT_EPSILON);
+
+         AffineTransform uniformScaleTransform = new AffineTransform();
+         uniformScaleTransform.setRotation(EuclidCoreRandomTools.nextRotationMatrix(random));
+         uniformScaleTransform.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+         uniformScaleTransform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+         parser.setInput(uniformScaleTransform.toString());
+         parser.parseAffineTransform(actualAffineTransform);
+         EuclidCoreTestTools.assertMatrix3DEquals(uniformScaleTransform.getRotationScaleMatrix(), actualAffineTransform.getRotationScaleMatrix(), 1.0e-2);
+
+         QuaternionBasedTransform expectedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform actualTransform = new QuaternionBasedTransform();
+         parser.setInput(expectedTransform.toString());
+         parser.parseQuaternionBasedTransform(actualTransform);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTransform.getTranslationVector(), actualTransform.getTranslationVector(), DEFAULT_FORMAT_EPSILON);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedTransform.getQuaternion(), actualTransform.getQuaternion(), 1.0e-2);
+      }
+   }
+
+   @Test
+   public void testParseStream() throws Exception
+   {
+      Random random = new Random(3453L);
+      List<Vector3D> expectedVectors = new ArrayList<>();
+      List<RigidBodyTransform> expectedTransforms = new ArrayList<>();
+      StringBuilder log = new StringBuilder();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         expectedVectors.add(vector);
+         expectedTransforms.add(transform);
+         EuclidCoreIOTools.appendTuple3DString(log, vector).append('\n');
+         EuclidCoreIOTools.appendRigidBodyTransformString(log, transform).append('\n');
+      }
+
+      // The log is larger than the buffer of the parser such that tokens are split between reads.
+      EuclidCoreTextParser parser = new EuclidCoreTextParser(new StringReader(log.toString()));
+      Vector3D actualVector = new Vector3D();
+      RigidBodyTransform actualTransform = new RigidBodyTransform();
+      int index = 0;
+
+      while (parser.hasNext())
+      {
+         parser.parseTuple3D(actualVector);
+         parser.parseRigidBodyTransform(actualTransform);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVectors.get(index), actualVector, DEFAULT_FORMAT_EPSILON);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTransforms.get(index).getTranslationVector(), actualTransform.getTranslationVector(),
+                                                 DEFAULT_FORMAT_EPSILON);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedTransforms.get(index).getRotationMatrix(), actualTransform.getRotationMatrix(), 1.0e-2);
+         index++;
+      }
+
+      assertEquals(ITERATIONS, index);
+      assertEquals(log.length(), parser.getPosition());
+
+      parser.setInput("( 1.0, 2.0, 3.0 ]");
+      try
+      {
+         parser.parseTuple3D(actualVector);
+         fail("Should have thrown an exception");
+      }
+      catch (EuclidParseException e)
+      {
+         // good
+      }
+
+      parser.setInput("( 1.0, 2.0 )");
+      try
+      {
+         parser.parseTuple3D(actualVector);
+         fail("Should have thrown an exception");
+      }
+      catch (EuclidParseException e)
+      {
+         // good
+      }
+   }
+}
@@ -3,6 +3,7 @@ package us.ihmc.euclid.tools;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static us.ihmc.euclid.tools.EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT;
 import static us.ihmc.euclid.tools.EuclidCoreTools.EPS_NORM_FAST_SQRT;
 
 import java.util.Arrays;
@@ -50,6 +51,36 @@ public class EuclidCoreToolsTest
       }
    }
 
+   @Test
+   public void testFastInverseSquareRoot() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < 1000; i++)
+      { // Outside the approximation range, the result is exact.
+         double squaredValue = EuclidCoreRandomTools.nextDouble(random, 0.01, 2.5);
+         if (Math.abs(1.0 - squaredValue) < EPS_NORM_FAST_INVERSE_SQRT)
+            squaredValue = 1.0 + EPS_NORM_FAST_INVERSE_SQRT;
+
+         double actualValue = EuclidCoreTools.fastInverseSquareRoot(squaredValue);
+         double expectedValue = 1.0 / Math.sqrt(squaredValue);
+         assertEquals(expectedValue, actualValue, Double.MIN_VALUE);
+      }
+
+      for (int i = 0; i < 1000; i++)
+      {
+         double squaredValue = EuclidCoreRandomTools.nextDouble(random, 1.0 - EPS_NORM_FAST_INVERSE_SQRT, 1.0 + EPS_NORM_FAST_INVERSE_SQRT);
+
+         double actualValue = EuclidCoreTools.fastInverseSquareRoot(squaredValue);
+         double expectedValue = 1.0 / Math.sqrt(squaredValue);
+         assertEquals(expectedValue, actualValue, 4.0e-13);
+         // Renormalizing once more brings the value back to 1 up to round-off errors.
+         double renormalized = squaredValue * actualValue * actualValue;
+         double inverseSquareRoot = EuclidCoreTools.fastInverseSquareRoot(renormalized);
+         assertEquals(1.0, renormalized * inverseSquareRoot * inverseSquareRoot, 1.0e-15);
+      }
+   }
+
    @Test
    public void testContainsNaNWith2Elements() throws Exception
    {
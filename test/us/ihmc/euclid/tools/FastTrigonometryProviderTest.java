@@ -0,0 +1,231 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+public class FastTrigonometryProviderTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100000;
+
+   @Test
+   public void testSinCos() throws Exception
+   {
+      Random random = new Random(3245L);
+      FastTrigonometryProvider provider = new FastTrigonometryProvider();
+      double maxError = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double angle;
+         if (i % 2 == 0)
+            angle = EuclidCoreRandomTools.nextDouble(random, 2.0 * Math.PI);
+         else
+            angle = EuclidCoreRandomTools.nextDouble(random, FastTrigonometryProvider.MAX_REDUCIBLE_ANGLE);
+
+         maxError = Math.max(maxError, Math.abs(Math.sin(angle) - provider.sin(angle)));
+         maxError = Math.max(maxError, Math.abs(Math.cos(angle) - provider.cos(angle)));
+      }
+
+      assertTrue("Max error: " + maxError, maxError < FastTrigonometryProvider.MAX_SIN_COS_ERROR);
+
+      for (double angle : new double[] {0.0, Math.PI / 4.0, Math.PI / 2.0, Math.PI, -Math.PI, 1.0e6, -1.0e12})
+      {
+         assertEquals(Math.sin(angle), provider.sin(angle), FastTrigonometryProvider.MAX_SIN_COS_ERROR);
+         assertEquals(Math.cos(angle), provider.cos(angle), FastTrigonometryProvider.MAX_SIN_COS_ERROR);
+      }
+
+      assertTrue(Double.isNaN(provider.sin(Double.NaN)));
+      assertTrue(Double.isNaN(provider.cos(Double.POSITIVE_INFINITY)));
+   }
+
+   @Test
+   public void testInverseFunctions() throws Exception
+   {
+      Random random = new Random(3245L);
+      FastTrigonometryProvider provider = new FastTrigonometryProvider();
+      double maxError = 0.0;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double value = EuclidCoreRandomTools.nextDouble(random, 1.0);
+
+         maxError = Math.max(maxError, Math.abs(Math.atan2(y, x) - provider.atan2(y, x)));
+         maxError = Math.max(maxError, Math.abs(Math.asin(value) - provider.asin(value)));
+         maxError = Math.max(maxError, Math.abs(Math.acos(value) - provider.acos(value)));
+      }
+
+      assertTrue("Max error: " + maxError, maxError < FastTrigonometryProvider.MAX_INVERSE_FUNCTION_ERROR);
+
+      double[] specialValues = {0.0, -0.0, 1.0, -1.0, 1.0e-300, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+      for (double y : specialValues)
+      {
+         for (double x : specialValues)
+            assertEquals(Math.atan2(y, x), provider.atan2(y, x), FastTrigonometryProvider.MAX_INVERSE_FUNCTION_ERROR);
+      }
+
+      for (double value : new double[] {-1.0, -0.5, 0.0, 0.5, 1.0})
+      {
+         assertEquals(Math.asin(value), provider.asin(value), FastTrigonometryProvider.MAX_INVERSE_FUNCTION_ERROR);
+         assertEquals(Math.acos(value), provider.acos(value), FastTrigonometryProvider.MAX_INVERSE_FUNCTION_ERROR);
+      }
+
+      assertTrue(Double.isNaN(provider.asin(1.1)));
+      assertTrue(Double.isNaN(provider.acos(-1.1)));
+      assertTrue(Double.isNaN(provider.atan2(Double.NaN, 1.0)));
+   }
+
+   @Test
+   public void testConversionsWithFastProvider() throws Exception
+   {
+      Random random = new Random(3245L);
+      TrigonometryProvider defaultProvider = EuclidCoreTools.getTrigonometryProvider();
+      assertTrue(defaultProvider instanceof StrictTrigonometryProvider);
+
+      try
+      {
+         for (int i = 0; i < 1000; i++)
+         {
+            YawPitchRoll yawPitchRoll = EuclidCoreRandomTools.nextYawPitchRoll(random);
+            EuclidCoreTools.setTrigonometryProvider(defaultProvider);
+            Quaternion expectedQuaternion = new Quaternion(yawPitchRoll);
+            RotationMatrix expectedMatrix = new RotationMatrix(yawPitchRoll);
+            AxisAngle expectedAxisAngle = new AxisAngle(yawPitchRoll);
+            YawPitchRoll expectedYawPitchRoll = new YawPitchRoll(expectedQuaternion);
+
+            EuclidCoreTools.setTrigonometryProvider(new FastTrigonometryProvider());
+            Quaternion actualQuaternion = new Quaternion(yawPitchRoll);
+            RotationMatrix actualMatrix = new RotationMatrix(yawPitchRoll);
+            AxisAngle actualAxisAngle = new AxisAngle(yawPitchRoll);
+            YawPitchRoll actualYawPitchRoll = new YawPitchRoll(expectedQuaternion);
+
+            EuclidCoreTestTools.assertQuaternionEquals(expectedQuaternion, actualQuaternion, 1.0e-9);
+            EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, 1.0e-9);
+            EuclidCoreTestTools.assertAxisAngleEquals(expectedAxisAngle, actualAxisAngle, 1.0e-9);
+            EuclidCoreTestTools.assertYawPitchRollEquals(expectedYawPitchRoll, actualYawPitchRoll, 1.0e-9);
+         }
+      }
+      finally
+      {
+         EuclidCoreTools.setTrigonometryProvider(defaultProvider);
+      }
+
+      try
+      {
+         EuclidCoreTools.setTrigonometryProvider(null);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testAxisAngleToolsUseProvider() throws Exception
+   {
+      Random random = new Random(3245L);
+      TrigonometryProvider defaultProvider = EuclidCoreTools.getTrigonometryProvider();
+      int[] numberOfCalls = {0};
+      TrigonometryProvider countingProvider = new TrigonometryProvider()
+      {
+         @Override
+         public double sin(double angle)
+         {
+            numberOfCalls[0]++;
+            return defaultProvider.sin(angle);
+         }
+
+         @Override
+         public double cos(double angle)
+         {
+            numberOfCalls[0]++;
+            return defaultProvider.cos(angle);
+         }
+
+         @Override
+         public double asin(double value)
+         {
+            numberOfCalls[0]++;
+            return defaultProvider.asin(value);
+         }
+
+         @Override
+         public double acos(double value)
+         {
+            numberOfCalls[0]++;
+            return defaultProvider.acos(value);
+         }
+
+         @Override
+         public double atan2(double y, double x)
+         {
+            numberOfCalls[0]++;
+            return defaultProvider.atan2(y, x);
+         }
+      };
+
+      try
+      {
+         for (int i = 0; i < 1000; i++)
+         {
+            AxisAngle original = EuclidCoreRandomTools.nextAxisAngle(random);
+            double angle = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+            AxisAngle expected = new AxisAngle();
+            AxisAngle actual = new AxisAngle();
+
+            for (int operation = 0; operation < 6; operation++)
+            {
+               EuclidCoreTools.setTrigonometryProvider(defaultProvider);
+               applyAxisAngleOperation(operation, original, angle, expected);
+
+               EuclidCoreTools.setTrigonometryProvider(countingProvider);
+               numberOfCalls[0] = 0;
+               applyAxisAngleOperation(operation, original, angle, actual);
+               assertTrue(numberOfCalls[0] > 0);
+               EuclidCoreTestTools.assertAxisAngleEquals(expected, actual, 0.0);
+            }
+         }
+      }
+      finally
+      {
+         EuclidCoreTools.setTrigonometryProvider(defaultProvider);
+      }
+   }
+
+   private static void applyAxisAngleOperation(int operation, AxisAngle original, double angle, AxisAngle result)
+   {
+      switch (operation)
+      {
+      case 0:
+         AxisAngleTools.prependYawRotation(angle, original, result);
+         break;
+      case 1:
+         AxisAngleTools.appendYawRotation(original, angle, result);
+         break;
+      case 2:
+         AxisAngleTools.prependPitchRotation(angle, original, result);
+         break;
+      case 3:
+         AxisAngleTools.appendPitchRotation(original, angle, result);
+         break;
+      case 4:
+         AxisAngleTools.prependRollRotation(angle, original, result);
+         break;
+      default:
+         AxisAngleTools.appendRollRotation(original, angle, result);
+         break;
+      }
+   }
+}
@@ -301,6 +301,41 @@ public class Matrix3DFeaturesTest
          assertTrue(Double.compare(matrixArray[index], matrixArrayCopy[index]) == 0);
    }
 
+   @Test
+   public void testComputeOrthogonalityError() throws Exception
+   {
+      Random random = new Random(35434L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RotationMatrix rotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+         Matrix3D matrix = new Matrix3D(rotationMatrix);
+         assertTrue(computeOrthogonalityError(matrix) < 1.0e-14);
+
+         // The error of a rotation matrix with a scaled row is the deviation of the squared norm of the row.
+         double scale = 1.0 + EuclidCoreRandomTools.nextDouble(random, 0.1);
+         int row = random.nextInt(3);
+         for (int column = 0; column < 3; column++)
+            matrix.setElement(row, column, scale * matrix.getElement(row, column));
+         assertEquals(Math.abs(scale * scale - 1.0), computeOrthogonalityError(matrix), 1.0e-12);
+
+         // The error of a rotation matrix with a skewed row is the dot product of the two rows.
+         matrix.set(rotationMatrix);
+         double epsilon = EuclidCoreRandomTools.nextDouble(random, 1.0e-3);
+         for (int column = 0; column < 3; column++)
+            matrix.setElement(1, column, matrix.getElement(1, column) + epsilon * matrix.getElement(0, column));
+         assertEquals(Math.max(Math.abs(epsilon), epsilon * epsilon), computeOrthogonalityError(matrix), 1.0e-12);
+      }
+
+      assertTrue(Double.isNaN(Matrix3DFeatures.computeOrthogonalityError(Double.NaN, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0)));
+   }
+
+   private static double computeOrthogonalityError(Matrix3DReadOnly m)
+   {
+      return Matrix3DFeatures.computeOrthogonalityError(m.getM00(), m.getM01(), m.getM02(), m.getM10(), m.getM11(), m.getM12(), m.getM20(), m.getM21(),
+                                                        m.getM22());
+   }
+
    @Test
    public void testCheckIfMatrix2DAndIsMatrix2D() throws Exception
    {
@@ -14,6 +14,7 @@ import org.ejml.ops.RandomMatrices;
 import org.junit.Test;
 
 import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.exceptions.NotARotationScaleMatrixException;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
@@ -23,10 +24,13 @@ import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -36,6 +40,7 @@ public class AffineTransformTest extends TransformTest<AffineTransform>
 {
    private static final double EPS = 1.0e-10;
    public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double BULK_EPS = 1.0e-12;
 
    @Test
    public void testConstructors() throws Exception
@@ -1544,6 +1549,171 @@ public class AffineTransformTest extends TransformTest<AffineTransform>
       }
    }
 
+   @Test
+   public void testFlagsAndFastPaths() throws Exception
+   {
+      Random random = new Random(6784L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         for (int type = 0; type < 12; type++)
+         {
+            AffineTransform transform = new AffineTransform();
+            boolean hasRotation = (type & 1) != 0;
+            boolean hasTranslation = (type & 2) != 0;
+            int scaleType = type / 4; // 0: unit scale, 1: uniform scale, 2: non-uniform scale
+            if (hasRotation)
+               transform.setRotation(EuclidCoreRandomTools.nextRotationMatrix(random));
+            if (hasTranslation)
+               transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+            if (scaleType == 1)
+               transform.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 5.0));
+            else if (scaleType == 2)
+               transform.setScale(EuclidCoreRandomTools.nextVector3D(random, 0.1, 5.0));
+            assertEquals(hasRotation, transform.hasRotation());
+            assertEquals(hasTranslation, transform.hasTranslation());
+            assertEquals(scaleType != 0, transform.hasScale());
+            assertEquals(scaleType != 2, transform.isScaleUniform());
+
+            Matrix3D rotationScale = new Matrix3D(transform.getRotationScaleMatrix());
+            Vector3DReadOnly translation = transform.getTranslationVector();
+
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expectedPoint = new Point3D();
+            Point3D actualPoint = new Point3D();
+            rotationScale.transform(point, expectedPoint);
+            expectedPoint.add(translation);
+            transform.transform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+            transform.inverseTransform(actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+            Vector3D expectedVector = new Vector3D();
+            Vector3D actualVector = new Vector3D();
+            rotationScale.transform(vector, expectedVector);
+            transform.transform(vector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+            transform.inverseTransform(actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+
+            Vector4D vector4D = EuclidCoreRandomTools.nextVector4D(random);
+            Vector4D expectedVector4D = new Vector4D();
+            Vector4D actualVector4D = new Vector4D();
+            rotationScale.transform(vector4D, expectedVector4D);
+            expectedVector4D.addX(vector4D.getS() * translation.getX());
+            expectedVector4D.addY(vector4D.getS() * translation.getY());
+            expectedVector4D.addZ(vector4D.getS() * translation.getZ());
+            transform.transform(vector4D, actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, EPS);
+            transform.inverseTransform(actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(vector4D, actualVector4D, EPS);
+
+            Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random);
+            Matrix3D expectedMatrix = new Matrix3D();
+            Matrix3D actualMatrix = new Matrix3D();
+            Matrix3DTools.multiply(rotationScale, matrix, expectedMatrix);
+            Matrix3DTools.multiplyInvertRight(expectedMatrix, (Matrix3DReadOnly) rotationScale, expectedMatrix);
+            transform.transform(matrix, actualMatrix);
+            EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+            transform.inverseTransform(actualMatrix);
+            EuclidCoreTestTools.assertMatrix3DEquals(matrix, actualMatrix, EPS);
+
+            if (!hasRotation)
+            {
+               Point2D point2D = EuclidCoreRandomTools.nextPoint2D(random);
+               Point2D expectedPoint2D = new Point2D();
+               Point2D actualPoint2D = new Point2D();
+               expectedPoint2D.set(rotationScale.getM00() * point2D.getX(), rotationScale.getM11() * point2D.getY());
+               expectedPoint2D.add(translation.getX(), translation.getY());
+               transform.transform(point2D, actualPoint2D);
+               EuclidCoreTestTools.assertTuple2DEquals(expectedPoint2D, actualPoint2D, EPS);
+               transform.inverseTransform(actualPoint2D);
+               EuclidCoreTestTools.assertTuple2DEquals(point2D, actualPoint2D, EPS);
+            }
+
+            // The composition ignores the scale: the expected result is computed with rigid-body transforms.
+            RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            RigidBodyTransform expected = new RigidBodyTransform(transform.getRotationMatrix(), translation);
+            AffineTransform actual = new AffineTransform(transform);
+            expected.multiply(other);
+            actual.multiply(new AffineTransform(other));
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, rigidBodyPart(actual), EPS);
+            EuclidCoreTestTools.assertTuple3DEquals(transform.getScale(), actual.getScale(), EPS);
+
+            expected.set(transform.getRotationMatrix(), translation);
+            actual.set(transform);
+            expected.preMultiply(other);
+            actual.preMultiply(new QuaternionBasedTransform(other));
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, rigidBodyPart(actual), EPS);
+
+            expected.set(other);
+            expected.multiply(new RigidBodyTransform(transform.getRotationMatrix(), translation));
+            actual.set(other);
+            actual.multiply(transform);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, rigidBodyPart(actual), EPS);
+
+            expected.set(transform.getRotationMatrix(), translation);
+            expected.multiply(expected);
+            actual.set(transform);
+            actual.multiply(actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, rigidBodyPart(actual), EPS);
+            assertEquals(hasRotation, actual.hasRotation());
+            assertEquals(hasTranslation, actual.hasTranslation());
+
+            actual.set(transform);
+
+            if (scaleType == 2)
+            {
+               try
+               {
+                  actual.invert();
+                  fail("Should have thrown an exception");
+               }
+               catch (NotARotationScaleMatrixException e)
+               {
+                  // good
+               }
+               continue;
+            }
+
+            actual.invert();
+            actual.transform(expectedPoint, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+            assertEquals(hasRotation, actual.hasRotation());
+            assertEquals(hasTranslation, actual.hasTranslation());
+            assertEquals(1.0 / transform.getScaleX(), actual.getScaleX(), EPS);
+            assertTrue(actual.isScaleUniform());
+         }
+      }
+
+      // The flags have to follow the modifications of the transform.
+      AffineTransform transform = new AffineTransform();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+      assertFalse(transform.hasScale());
+      assertTrue(transform.isScaleUniform());
+      transform.setScale(2.0, 2.0, 3.0);
+      assertTrue(transform.hasScale());
+      assertFalse(transform.isScaleUniform());
+      transform.appendYawRotation(0.3);
+      assertTrue(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+      transform.appendTranslation(0.1, 0.0, 0.0);
+      assertTrue(transform.hasTranslation());
+      transform.resetScale();
+      assertFalse(transform.hasScale());
+      assertTrue(transform.isScaleUniform());
+      transform.setIdentity();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+   }
+
+   private static RigidBodyTransform rigidBodyPart(AffineTransform affineTransform)
+   {
+      return new RigidBodyTransform(affineTransform.getRotationMatrix(), affineTransform.getTranslationVector());
+   }
+
    @Test
    public void testTransformWithTuple() throws Exception
    {
@@ -2229,6 +2399,85 @@ public class AffineTransformTest extends TransformTest<AffineTransform>
    }
 
    @SuppressWarnings("unlikely-arg-type")
+   @Test
+   public void testTransformWithTuple3DArray() throws Exception
+   {
+      Random random = new Random(4356L);
+      Point3D expectedPoint = new Point3D();
+      Point3D actualPoint = new Point3D();
+      Vector3D expectedVector = new Vector3D();
+      Vector3D actualVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         int size = random.nextInt(50);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+
+         for (int j = 0; j < size; j++)
+         {
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+            vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         }
+
+         { // Test transform(Point3DArray, Point3DArray) and transform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.transform(pointsOriginal, pointsTransformed);
+            transform.transform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.transform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.transform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test inverseTransform(Point3DArray, Point3DArray) and inverseTransform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.inverseTransform(pointsOriginal, pointsTransformed);
+            transform.inverseTransform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.inverseTransform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.inverseTransform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test in-place transform(Point3DArray) followed by inverseTransform(Point3DArray)
+            Point3DArray points = new Point3DArray(pointsOriginal);
+            Vector3DArray vectors = new Vector3DArray(vectorsOriginal);
+            transform.transform(points);
+            transform.transform(vectors);
+            transform.inverseTransform(points);
+            transform.inverseTransform(vectors);
+            assertTrue(points.epsilonEquals(pointsOriginal, BULK_EPS));
+            assertTrue(vectors.epsilonEquals(vectorsOriginal, BULK_EPS));
+         }
+      }
+   }
+
    @Test
    public void testEquals() throws Exception
    {
@@ -0,0 +1,439 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+
+public class DualQuaternionTransformTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 1000;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testSetAndGet() throws Exception
+   {
+      Random random = new Random(34656L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform expected = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternionTransform dualQuaternionTransform = new DualQuaternionTransform(expected);
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         dualQuaternionTransform.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+         actual.setToNaN();
+         actual.set(dualQuaternionTransform);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expected.getTranslationVector(), new Vector3D(dualQuaternionTransform.getTranslationX(),
+                                                                                               dualQuaternionTransform.getTranslationY(),
+                                                                                               dualQuaternionTransform.getTranslationZ()),
+                                                 EPS);
+
+         // The real part is orthogonal to the dual part
+         Vector4D realPart = new Vector4D(dualQuaternionTransform.getRealPart());
+         assertEquals(0.0, realPart.dot(dualQuaternionTransform.getDualPart()), EPS);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         DualQuaternionTransform dualQuaternionTransform = new DualQuaternionTransform(expected);
+         RigidBodyTransform actual = new RigidBodyTransform();
+         dualQuaternionTransform.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         actual.setToNaN();
+         actual.set(dualQuaternionTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         Quaternion orientation = new Quaternion();
+         Vector3D translation = new Vector3D();
+         dualQuaternionTransform.get(orientation, translation);
+         DualQuaternionTransform other = new DualQuaternionTransform(orientation, translation);
+         assertTrue(other.epsilonEquals(dualQuaternionTransform, EPS));
+         assertTrue(other.geometricallyEquals(dualQuaternionTransform, EPS));
+
+         Vector3D newTranslation = EuclidCoreRandomTools.nextVector3D(random);
+         other.setTranslation(newTranslation);
+         other.get(orientation, translation);
+         EuclidCoreTestTools.assertTuple3DEquals(newTranslation, translation, EPS);
+         EuclidCoreTestTools.assertQuaternionEquals(dualQuaternionTransform.getRealPart(), orientation, EPS);
+
+         other.set(dualQuaternionTransform);
+         assertTrue(other.equals(dualQuaternionTransform));
+         other.setUnsafe(-other.getRealPart().getX(), -other.getRealPart().getY(), -other.getRealPart().getZ(), -other.getRealPart().getS(),
+                         -other.getDualPart().getX(), -other.getDualPart().getY(), -other.getDualPart().getZ(), -other.getDualPart().getS());
+         assertFalse(other.epsilonEquals(dualQuaternionTransform, EPS));
+         assertTrue(other.geometricallyEquals(dualQuaternionTransform, EPS));
+      }
+
+      DualQuaternionTransform dualQuaternionTransform = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+      dualQuaternionTransform.setToNaN();
+      assertTrue(dualQuaternionTransform.containsNaN());
+      dualQuaternionTransform.setToZero();
+      assertTrue(dualQuaternionTransform.equals(new DualQuaternionTransform(new RigidBodyTransform())));
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform t1 = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform t2 = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternionTransform dq1 = new DualQuaternionTransform(t1);
+         DualQuaternionTransform dq2 = new DualQuaternionTransform(t2);
+         QuaternionBasedTransform expected = new QuaternionBasedTransform();
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         DualQuaternionTransform product = new DualQuaternionTransform();
+
+         expected.set(t1);
+         expected.multiply(t2);
+         product.multiply(dq1, dq2);
+         product.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         product.set(dq1);
+         product.multiply(dq2);
+         product.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         product.set(dq2);
+         product.preMultiply(dq1);
+         product.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         // Inverse
+         expected.set(t1);
+         expected.invert();
+         product.set(dq1);
+         product.invert();
+         product.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+         product.multiply(dq1);
+         product.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(new QuaternionBasedTransform(), actual, EPS);
+      }
+   }
+
+   @Test
+   public void testNormalize() throws Exception
+   {
+      Random random = new Random(7456L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         DualQuaternionTransform expected = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         Vector4D realPart = new Vector4D(expected.getRealPart());
+         Vector4D dualPart = new Vector4D(expected.getDualPart());
+         // Adding a component parallel to the real part which does not affect the translation
+         double parallel = EuclidCoreRandomTools.nextDouble(random, 1.0);
+         dualPart.scaleAdd(parallel, realPart, dualPart);
+         realPart.scale(scale);
+         dualPart.scale(scale);
+         actual.setUnsafe(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), dualPart.getX(), dualPart.getY(), dualPart.getZ(),
+                          dualPart.getS());
+         actual.normalize();
+         assertTrue(expected.epsilonEquals(actual, EPS));
+      }
+   }
+
+   @Test
+   public void testFastNormalize() throws Exception
+   {
+      Random random = new Random(7456L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         DualQuaternionTransform expected = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         Vector4D realPart = new Vector4D(expected.getRealPart());
+         Vector4D dualPart = new Vector4D(expected.getDualPart());
+         double parallel = EuclidCoreRandomTools.nextDouble(random, 1.0);
+         dualPart.scaleAdd(parallel, realPart, dualPart);
+
+         // Close to unitary: the approximation is used.
+         double scale = 1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT);
+         actual.setUnsafe(scale * realPart.getX(), scale * realPart.getY(), scale * realPart.getZ(), scale * realPart.getS(), scale * dualPart.getX(),
+                          scale * dualPart.getY(), scale * dualPart.getZ(), scale * dualPart.getS());
+         actual.fastNormalize();
+         assertTrue(expected.epsilonEquals(actual, EPS));
+
+         // Far from unitary: falls back to the exact normalization.
+         scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         actual.setUnsafe(scale * realPart.getX(), scale * realPart.getY(), scale * realPart.getZ(), scale * realPart.getS(), scale * dualPart.getX(),
+                          scale * dualPart.getY(), scale * dualPart.getZ(), scale * dualPart.getS());
+         DualQuaternionTransform normalized = new DualQuaternionTransform(actual);
+         normalized.normalize();
+         actual.fastNormalize();
+         assertTrue(normalized.equals(actual));
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform quaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternionTransform dualQuaternionTransform = new DualQuaternionTransform(quaternionBasedTransform);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         quaternionBasedTransform.transform(point, expectedPoint);
+         dualQuaternionTransform.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         dualQuaternionTransform.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+         Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedVector = new Vector3D();
+         Vector3D actualVector = new Vector3D();
+         quaternionBasedTransform.transform(vector, expectedVector);
+         dualQuaternionTransform.transform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+         dualQuaternionTransform.inverseTransform(actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+
+         Vector4D vector4D = EuclidCoreRandomTools.nextVector4D(random);
+         Vector4D expectedVector4D = new Vector4D();
+         Vector4D actualVector4D = new Vector4D();
+         quaternionBasedTransform.transform(vector4D, expectedVector4D);
+         dualQuaternionTransform.transform(vector4D, actualVector4D);
+         EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, EPS);
+         dualQuaternionTransform.inverseTransform(actualVector4D);
+         EuclidCoreTestTools.assertTuple4DEquals(vector4D, actualVector4D, EPS);
+
+         RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expectedRigidBodyTransform = new RigidBodyTransform();
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         quaternionBasedTransform.transform(rigidBodyTransform, expectedRigidBodyTransform);
+         dualQuaternionTransform.transform(rigidBodyTransform, actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedRigidBodyTransform, actualRigidBodyTransform, EPS);
+         dualQuaternionTransform.inverseTransform(actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(rigidBodyTransform, actualRigidBodyTransform, EPS);
+      }
+   }
+
+   @Test
+   public void testTransformWithInterleavedArrays() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform quaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternionTransform dualQuaternionTransform = new DualQuaternionTransform(quaternionBasedTransform);
+         int numberOfTuples = random.nextInt(20);
+         int offset = random.nextInt(5);
+
+         double[] tuplesOriginal = new double[offset + 3 * numberOfTuples];
+         float[] tuplesOriginal32 = new float[tuplesOriginal.length];
+         for (int j = 0; j < tuplesOriginal.length; j++)
+         {
+            tuplesOriginal[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            tuplesOriginal32[j] = (float) tuplesOriginal[j];
+         }
+
+         double[] expected = new double[numberOfTuples * 3];
+         double[] actual = new double[numberOfTuples * 3];
+         float[] expected32 = new float[numberOfTuples * 3];
+         float[] actual32 = new float[numberOfTuples * 3];
+
+         for (int j = 0; j < 4; j++)
+         {
+            for (Transform transform : new Transform[] {quaternionBasedTransform, dualQuaternionTransform})
+            {
+               double[] output = transform == quaternionBasedTransform ? expected : actual;
+               float[] output32 = transform == quaternionBasedTransform ? expected32 : actual32;
+
+               switch (j)
+               {
+               case 0:
+                  transform.transformPoints(tuplesOriginal, offset, output, 0, numberOfTuples);
+                  transform.transformPoints(tuplesOriginal32, offset, output32, 0, numberOfTuples);
+                  break;
+               case 1:
+                  transform.transformVectors(tuplesOriginal, offset, output, 0, numberOfTuples);
+                  transform.transformVectors(tuplesOriginal32, offset, output32, 0, numberOfTuples);
+                  break;
+               case 2:
+                  transform.inverseTransformPoints(tuplesOriginal, offset, output, 0, numberOfTuples);
+                  transform.inverseTransformPoints(tuplesOriginal32, offset, output32, 0, numberOfTuples);
+                  break;
+               default:
+                  transform.inverseTransformVectors(tuplesOriginal, offset, output, 0, numberOfTuples);
+                  transform.inverseTransformVectors(tuplesOriginal32, offset, output32, 0, numberOfTuples);
+                  break;
+               }
+            }
+
+            for (int k = 0; k < expected.length; k++)
+            {
+               assertEquals(expected[k], actual[k], 1.0e-10);
+               assertEquals(expected32[k], actual32[k], 1.0e-4);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(56345L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Interpolating along a known screw motion
+         DualQuaternionTransform start = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+         Vector3D axis = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         Point3D pointOnAxis = EuclidCoreRandomTools.nextPoint3D(random);
+         double angle = EuclidCoreRandomTools.nextDouble(random, 0.99 * Math.PI);
+         double displacement = EuclidCoreRandomTools.nextDouble(random, 5.0);
+         if (i % 10 == 0)
+            angle = 0.0;
+
+         DualQuaternionTransform end = new DualQuaternionTransform(start);
+         end.multiply(screwMotion(axis, pointOnAxis, angle, displacement));
+         if (random.nextBoolean())
+            negate(end);
+
+         double alpha = EuclidCoreRandomTools.nextDouble(random, -1.0, 2.0);
+         DualQuaternionTransform expected = new DualQuaternionTransform(start);
+         expected.multiply(screwMotion(axis, pointOnAxis, alpha * angle, alpha * displacement));
+
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.interpolate(start, end, alpha);
+         assertTrue(expected.geometricallyEquals(actual, 1.0e-10));
+
+         actual.set(start);
+         actual.interpolate(end, alpha);
+         assertTrue(expected.geometricallyEquals(actual, 1.0e-10));
+
+         actual.interpolate(start, end, 0.0);
+         assertTrue(start.geometricallyEquals(actual, EPS));
+         actual.interpolate(start, end, 1.0);
+         assertTrue(end.geometricallyEquals(actual, 1.0e-10));
+
+         // The rotation part is a SLERP
+         Quaternion expectedRotation = new Quaternion();
+         expectedRotation.interpolate(start.getRealPart(), end.getRealPart(), alpha);
+         actual.interpolate(start, end, alpha);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(expectedRotation, actual.getRealPart(), 1.0e-10);
+      }
+   }
+
+   @Test
+   public void testBlend() throws Exception
+   {
+      Random random = new Random(4574L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         DualQuaternionTransform transform = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+         int numberOfTransforms = 1 + random.nextInt(10);
+         DualQuaternionTransform[] transforms = new DualQuaternionTransform[numberOfTransforms];
+         double[] weights = new double[numberOfTransforms];
+
+         for (int j = 0; j < numberOfTransforms; j++)
+         {
+            transforms[j] = new DualQuaternionTransform(transform);
+            if (random.nextBoolean())
+               negate(transforms[j]);
+            weights[j] = random.nextDouble();
+         }
+
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.blend(transforms, weights);
+         assertTrue(transform.geometricallyEquals(actual, EPS));
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Blending two transforms along a pure translation or a pure rotation is exact
+         DualQuaternionTransform start = EuclidCoreRandomTools.nextDualQuaternionTransform(random);
+         DualQuaternionTransform end = new DualQuaternionTransform(start);
+         double alpha = random.nextDouble();
+         Vector3D axis = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         Point3D pointOnAxis = random.nextBoolean() ? new Point3D() : EuclidCoreRandomTools.nextPoint3D(random);
+         DualQuaternionTransform expected = new DualQuaternionTransform(start);
+
+         if (random.nextBoolean())
+         {
+            double displacement = EuclidCoreRandomTools.nextDouble(random, 5.0);
+            end.multiply(screwMotion(axis, pointOnAxis, 0.0, displacement));
+            expected.multiply(screwMotion(axis, pointOnAxis, 0.0, alpha * displacement));
+         }
+         else
+         {
+            end.multiply(screwMotion(axis, new Point3D(), Math.PI / 2.0, 0.0));
+            expected.interpolate(start, end, 0.5);
+            alpha = 0.5;
+         }
+
+         DualQuaternionTransform actual = new DualQuaternionTransform();
+         actual.blend(new DualQuaternionTransform[] {start, end}, new double[] {1.0 - alpha, alpha});
+         assertTrue(expected.geometricallyEquals(actual, 1.0e-10));
+      }
+
+      DualQuaternionTransform dualQuaternionTransform = new DualQuaternionTransform();
+
+      try
+      {
+         dualQuaternionTransform.blend(new DualQuaternionTransform[0], new double[0]);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         dualQuaternionTransform.blend(new DualQuaternionTransform[] {new DualQuaternionTransform()}, new double[2]);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   private static DualQuaternionTransform screwMotion(Vector3D axis, Point3D pointOnAxis, double angle, double displacement)
+   {
+      QuaternionBasedTransform screw = new QuaternionBasedTransform();
+      screw.setRotation(new AxisAngle(axis, angle));
+      Vector3D translation = new Vector3D(pointOnAxis);
+      screw.transform(translation);
+      translation.sub(pointOnAxis, translation);
+      translation.scaleAdd(displacement, axis, translation);
+      screw.setTranslation(translation);
+      return new DualQuaternionTransform(screw);
+   }
+
+   private static void negate(DualQuaternionTransform transform)
+   {
+      transform.setUnsafe(-transform.getRealPart().getX(), -transform.getRealPart().getY(), -transform.getRealPart().getZ(),
+                          -transform.getRealPart().getS(), -transform.getDualPart().getX(), -transform.getDualPart().getY(),
+                          -transform.getDualPart().getZ(), -transform.getDualPart().getS());
+   }
+}
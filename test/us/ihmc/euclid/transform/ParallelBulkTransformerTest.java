@@ -0,0 +1,190 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+
+public class ParallelBulkTransformerTest
+{
+   public static final int NUMBER_OF_ITERATIONS = 100;
+
+   private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+   @AfterClass
+   public static void shutdownPool()
+   {
+      POOL.shutdown();
+   }
+
+   @Test
+   public void testSetters() throws Exception
+   {
+      ParallelBulkTransformer transformer = new ParallelBulkTransformer(POOL);
+      assertEquals(ParallelBulkTransformer.DEFAULT_SEQUENTIAL_THRESHOLD, transformer.getSequentialThreshold());
+      assertEquals(ParallelBulkTransformer.DEFAULT_CHUNK_SIZE, transformer.getChunkSize());
+      assertEquals(POOL, transformer.getPool());
+
+      transformer.setSequentialThreshold(10);
+      transformer.setChunkSize(3);
+      assertEquals(10, transformer.getSequentialThreshold());
+      assertEquals(3, transformer.getChunkSize());
+
+      try
+      {
+         transformer.setChunkSize(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         new ParallelBulkTransformer(null);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testTransformDoubleArrays() throws Exception
+   {
+      Random random = new Random(23423L);
+      ParallelBulkTransformer transformer = new ParallelBulkTransformer(POOL);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Transform transform = nextTransform(random);
+         int numberOfTuples = random.nextInt(2000);
+         int originalOffset = random.nextInt(10);
+         int transformedOffset = random.nextInt(10);
+         transformer.setSequentialThreshold(random.nextInt(100));
+         transformer.setChunkSize(1 + random.nextInt(200));
+
+         double[] original = new double[originalOffset + 3 * numberOfTuples];
+         for (int j = 0; j < original.length; j++)
+            original[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         for (int operation = 0; operation < 4; operation++)
+         {
+            double[] expected = new double[transformedOffset + 3 * numberOfTuples];
+            double[] actual = new double[transformedOffset + 3 * numberOfTuples];
+
+            switch (operation)
+            {
+            case 0:
+               transform.transformPoints(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.transformPoints(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            case 1:
+               transform.transformVectors(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.transformVectors(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            case 2:
+               transform.inverseTransformPoints(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.inverseTransformPoints(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            default:
+               transform.inverseTransformVectors(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.inverseTransformVectors(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            }
+
+            assertArrayEquals(expected, actual, 0.0);
+         }
+
+         { // Test in place
+            double[] expected = new double[original.length];
+            double[] actual = original.clone();
+            transform.transformPoints(original, originalOffset, expected, originalOffset, numberOfTuples);
+            transformer.transformPoints(transform, actual, originalOffset, actual, originalOffset, numberOfTuples);
+            for (int j = originalOffset; j < original.length; j++)
+               assertEquals(expected[j], actual[j], 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testTransformFloatArrays() throws Exception
+   {
+      Random random = new Random(23423L);
+      ParallelBulkTransformer transformer = new ParallelBulkTransformer(POOL);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Transform transform = nextTransform(random);
+         int numberOfTuples = random.nextInt(2000);
+         int originalOffset = random.nextInt(10);
+         int transformedOffset = random.nextInt(10);
+         transformer.setSequentialThreshold(random.nextInt(100));
+         transformer.setChunkSize(1 + random.nextInt(200));
+
+         float[] original = new float[originalOffset + 3 * numberOfTuples];
+         for (int j = 0; j < original.length; j++)
+            original[j] = (float) EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         for (int operation = 0; operation < 4; operation++)
+         {
+            float[] expected = new float[transformedOffset + 3 * numberOfTuples];
+            float[] actual = new float[transformedOffset + 3 * numberOfTuples];
+
+            switch (operation)
+            {
+            case 0:
+               transform.transformPoints(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.transformPoints(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            case 1:
+               transform.transformVectors(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.transformVectors(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            case 2:
+               transform.inverseTransformPoints(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.inverseTransformPoints(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            default:
+               transform.inverseTransformVectors(original, originalOffset, expected, transformedOffset, numberOfTuples);
+               transformer.inverseTransformVectors(transform, original, originalOffset, actual, transformedOffset, numberOfTuples);
+               break;
+            }
+
+            assertArrayEquals(expected, actual, 0.0f);
+         }
+      }
+   }
+
+   private static Transform nextTransform(Random random)
+   {
+      switch (random.nextInt(4))
+      {
+      case 0:
+         return EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      case 1:
+         return EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      case 2:
+         return EuclidCoreRandomTools.nextAffineTransform(random);
+      default:
+         TransformChain chain = new TransformChain();
+         RigidBodyTransform firstStage = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         chain.addStage(firstStage);
+         chain.addStage(EuclidCoreRandomTools.nextQuaternionBasedTransform(random));
+         chain.getFlattenedTransform();
+         // The chain is out-of-date, the flattened transform has to be passed instead of the chain.
+         firstStage.appendYawRotation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         return chain.getFlattenedTransform();
+      }
+   }
+}
@@ -16,10 +16,13 @@ import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -30,6 +33,7 @@ public class QuaternionBasedTransformTest extends TransformTest<QuaternionBasedT
 {
    private static final double EPS = 1.0e-10;
    public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double BULK_EPS = 1.0e-12;
 
    @Test
    public void testConstructors() throws Exception
@@ -177,6 +181,35 @@ public class QuaternionBasedTransformTest extends TransformTest<QuaternionBasedT
       assertTrue(transform.containsNaN());
    }
 
+   @Test
+   public void testNormalizeRotationPart() throws Exception
+   {
+      Random random = new Random(42353L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform expected = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionReadOnly q = expected.getQuaternion();
+         Tuple3DReadOnly t = expected.getTranslationVector();
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         actual.setUnsafe(scale * q.getX(), scale * q.getY(), scale * q.getZ(), scale * q.getS(), t.getX(), t.getY(), t.getZ());
+         long version = actual.getVersion();
+         actual.normalizeRotationPart();
+         assertTrue(actual.getVersion() > version);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+
+         scale = 1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT);
+         actual.setUnsafe(scale * q.getX(), scale * q.getY(), scale * q.getZ(), scale * q.getS(), t.getX(), t.getY(), t.getZ());
+         version = actual.getVersion();
+         actual.fastNormalizeRotationPart();
+         assertTrue(actual.getVersion() > version);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+         assertEquals(1.0, actual.getQuaternion().norm(), 1.0e-12);
+      }
+   }
+
    @Test
    public void testResetRotation() throws Exception
    {
@@ -676,6 +709,41 @@ public class QuaternionBasedTransformTest extends TransformTest<QuaternionBasedT
       }
    }
 
+   @Test
+   public void testNlerpAndFastSlerp() throws Exception
+   {
+      Random random = new Random(23542342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform t0 = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform tf = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         Vector3D expectedTranslation = new Vector3D();
+         expectedTranslation.interpolate(t0.getTranslationVector(), tf.getTranslationVector(), alpha);
+         Quaternion expectedRotation = new Quaternion();
+
+         expectedRotation.nlerp(t0.getQuaternion(), tf.getQuaternion(), alpha);
+         actual.nlerp(t0, tf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, actual.getQuaternion(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslationVector(), EPS);
+         actual.set(t0);
+         actual.nlerp(tf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, actual.getQuaternion(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslationVector(), EPS);
+
+         expectedRotation.fastSlerp(t0.getQuaternion(), tf.getQuaternion(), alpha);
+         actual.fastSlerp(t0, tf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, actual.getQuaternion(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslationVector(), EPS);
+         actual.set(t0);
+         actual.fastSlerp(tf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedRotation, actual.getQuaternion(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actual.getTranslationVector(), EPS);
+      }
+   }
+
    @Test
    public void testAppendTranslation() throws Exception
    {
@@ -1697,7 +1765,306 @@ public class QuaternionBasedTransformTest extends TransformTest<QuaternionBasedT
       EuclidCoreTestTools.assertAffineTransformEquals(expected, actual, EPS);
    }
 
+   @Test
+   public void testInverseCache() throws Exception
+   {
+      Random random = new Random(4353L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform cached = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform expected = new QuaternionBasedTransform(cached);
+         assertFalse(cached.isInverseCacheEnabled());
+         cached.setInverseCacheEnabled(true);
+         assertTrue(cached.isInverseCacheEnabled());
+
+         for (int j = 0; j < 10; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expectedPoint = new Point3D();
+            Point3D actualPoint = new Point3D();
+            expected.inverseTransform(point, expectedPoint);
+            cached.inverseTransform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+            RigidBodyTransform expectedInverse = new RigidBodyTransform(expected);
+            expectedInverse.invert();
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedInverse, cached.getCachedInverse(), EPS);
+
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+            Vector3D expectedVector = new Vector3D();
+            Vector3D actualVector = new Vector3D();
+            expected.inverseTransform(vector, expectedVector);
+            cached.inverseTransform(vector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+
+            Vector4D vector4D = EuclidCoreRandomTools.nextVector4D(random);
+            Vector4D expectedVector4D = new Vector4D();
+            Vector4D actualVector4D = new Vector4D();
+            expected.inverseTransform(vector4D, expectedVector4D);
+            cached.inverseTransform(vector4D, actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, EPS);
+
+            QuaternionBasedTransform other = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+            double angle = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+            double alpha = random.nextDouble();
+
+            // Applying the same random modification to both transforms
+            for (QuaternionBasedTransform modified : new QuaternionBasedTransform[] {expected, cached})
+            {
+               switch (j)
+               {
+               case 0:
+                  modified.multiply(other);
+                  break;
+               case 1:
+                  modified.preMultiply(other);
+                  break;
+               case 2:
+                  modified.multiplyInvertOther(other);
+                  break;
+               case 3:
+                  modified.preMultiplyInvertThis(other);
+                  break;
+               case 4:
+                  modified.invert();
+                  break;
+               case 5:
+                  modified.appendTranslation(translation);
+                  break;
+               case 6:
+                  modified.prependYawRotation(angle);
+                  break;
+               case 7:
+                  modified.interpolate(other, alpha);
+                  break;
+               case 8:
+                  modified.setRotationYaw(angle);
+                  break;
+               default:
+                  modified.set(other);
+                  modified.setTranslationX(angle);
+                  break;
+               }
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testFlagsAndFastPaths() throws Exception
+   {
+      Random random = new Random(2356L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         for (int type = 0; type < 4; type++)
+         {
+            QuaternionBasedTransform transform = new QuaternionBasedTransform();
+            boolean hasRotation = type == 1 || type == 3;
+            boolean hasTranslation = type == 2 || type == 3;
+            if (hasRotation)
+               transform.setRotation(EuclidCoreRandomTools.nextQuaternion(random));
+            if (hasTranslation)
+               transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+            assertEquals(hasRotation, transform.hasRotation());
+            assertEquals(hasTranslation, transform.hasTranslation());
+
+            QuaternionReadOnly quaternion = transform.getQuaternion();
+            Vector3DReadOnly translation = transform.getTranslationVector();
+
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expectedPoint = new Point3D();
+            Point3D actualPoint = new Point3D();
+            quaternion.transform(point, expectedPoint);
+            expectedPoint.add(translation);
+            transform.transform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+            transform.inverseTransform(actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+            Vector3D expectedVector = new Vector3D();
+            Vector3D actualVector = new Vector3D();
+            quaternion.transform(vector, expectedVector);
+            transform.transform(vector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+            transform.inverseTransform(actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+
+            Vector4D vector4D = EuclidCoreRandomTools.nextVector4D(random);
+            Vector4D expectedVector4D = new Vector4D();
+            Vector4D actualVector4D = new Vector4D();
+            new RigidBodyTransform(quaternion, translation).transform(vector4D, expectedVector4D);
+            transform.transform(vector4D, actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, EPS);
+            transform.inverseTransform(actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(vector4D, actualVector4D, EPS);
+
+            Quaternion orientation = EuclidCoreRandomTools.nextQuaternion(random);
+            Quaternion expectedOrientation = new Quaternion();
+            Quaternion actualOrientation = new Quaternion();
+            quaternion.transform(orientation, expectedOrientation);
+            transform.transform(orientation, actualOrientation);
+            EuclidCoreTestTools.assertQuaternionEquals(expectedOrientation, actualOrientation, EPS);
+            transform.inverseTransform(actualOrientation);
+            EuclidCoreTestTools.assertQuaternionGeometricallyEquals(orientation, actualOrientation, EPS);
+
+            if (!hasRotation)
+            {
+               Point2D point2D = EuclidCoreRandomTools.nextPoint2D(random);
+               Point2D expectedPoint2D = new Point2D(point2D);
+               Point2D actualPoint2D = new Point2D();
+               expectedPoint2D.add(translation.getX(), translation.getY());
+               transform.transform(point2D, actualPoint2D);
+               EuclidCoreTestTools.assertTuple2DEquals(expectedPoint2D, actualPoint2D, EPS);
+               transform.inverseTransform(actualPoint2D);
+               EuclidCoreTestTools.assertTuple2DEquals(point2D, actualPoint2D, EPS);
+            }
+
+            // The results of the composition have to match the ones obtained with the rigid-body transform.
+            QuaternionBasedTransform other = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            RigidBodyTransform expected = new RigidBodyTransform(transform);
+            QuaternionBasedTransform actual = new QuaternionBasedTransform(transform);
+            expected.multiply(new RigidBodyTransform(other));
+            actual.multiply(other);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+            expected.set(transform);
+            actual.set(transform);
+            expected.preMultiply(new RigidBodyTransform(other));
+            actual.preMultiply(other);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+            expected.set(other);
+            actual.set(other);
+            expected.multiply(new RigidBodyTransform(transform));
+            actual.multiply(transform);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+            expected.set(other);
+            actual.set(other);
+            expected.preMultiply(new RigidBodyTransform(transform));
+            actual.preMultiply(new RigidBodyTransform(transform));
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+
+            expected.set(transform);
+            actual.set(transform);
+            expected.multiply(expected);
+            actual.multiply(actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+            assertEquals(hasRotation, actual.hasRotation());
+            assertEquals(hasTranslation, actual.hasTranslation());
+
+            expected.set(transform);
+            actual.set(transform);
+            expected.invert();
+            actual.invert();
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, new RigidBodyTransform(actual), EPS);
+            assertEquals(hasRotation, actual.hasRotation());
+            assertEquals(hasTranslation, actual.hasTranslation());
+         }
+      }
+
+      // The flags have to follow the modifications of the transform.
+      QuaternionBasedTransform transform = new QuaternionBasedTransform();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+      transform.setTranslationZ(0.2);
+      assertFalse(transform.hasRotation());
+      assertTrue(transform.hasTranslation());
+      transform.appendYawRotation(0.3);
+      assertTrue(transform.hasRotation());
+      assertTrue(transform.hasTranslation());
+      transform.setTranslationToZero();
+      assertTrue(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+      transform.setIdentity();
+      assertFalse(transform.hasRotation());
+      assertFalse(transform.hasTranslation());
+   }
+
    @SuppressWarnings("unlikely-arg-type")
+   @Test
+   public void testTransformWithTuple3DArray() throws Exception
+   {
+      Random random = new Random(4356L);
+      Point3D expectedPoint = new Point3D();
+      Point3D actualPoint = new Point3D();
+      Vector3D expectedVector = new Vector3D();
+      Vector3D actualVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         int size = random.nextInt(50);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+
+         for (int j = 0; j < size; j++)
+         {
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+            vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         }
+
+         { // Test transform(Point3DArray, Point3DArray) and transform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.transform(pointsOriginal, pointsTransformed);
+            transform.transform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.transform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.transform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test inverseTransform(Point3DArray, Point3DArray) and inverseTransform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.inverseTransform(pointsOriginal, pointsTransformed);
+            transform.inverseTransform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.inverseTransform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.inverseTransform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test in-place transform(Point3DArray) followed by inverseTransform(Point3DArray)
+            Point3DArray points = new Point3DArray(pointsOriginal);
+            Vector3DArray vectors = new Vector3DArray(vectorsOriginal);
+            transform.transform(points);
+            transform.transform(vectors);
+            transform.inverseTransform(points);
+            transform.inverseTransform(vectors);
+            assertTrue(points.epsilonEquals(pointsOriginal, BULK_EPS));
+            assertTrue(vectors.epsilonEquals(vectorsOriginal, BULK_EPS));
+         }
+      }
+   }
+
    @Test
    public void testEquals() throws Exception
    {
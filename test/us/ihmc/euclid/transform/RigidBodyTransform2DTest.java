@@ -0,0 +1,245 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.exceptions.NotAMatrix2DException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+
+public class RigidBodyTransform2DTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 1000;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConversion() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+         expected.setTranslationZ(0.0);
+         RigidBodyTransform2D transform2D = new RigidBodyTransform2D(expected);
+         RigidBodyTransform actual = new RigidBodyTransform();
+         transform2D.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, 0.0);
+         actual.setToNaN();
+         actual.set(transform2D);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, 0.0);
+
+         RigidBodyTransform2D actual2D = new RigidBodyTransform2D(actual);
+         assertTrue(transform2D.equals(actual2D));
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double yaw = EuclidCoreRandomTools.nextDouble(random, 2.0 * Math.PI);
+         double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         RigidBodyTransform2D transform2D = new RigidBodyTransform2D(yaw, x, y);
+         RigidBodyTransform expected = new RigidBodyTransform();
+         expected.setRotationYaw(yaw);
+         expected.setTranslation(x, y, 0.0);
+         RigidBodyTransform actual = new RigidBodyTransform();
+         transform2D.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         assertEquals(0.0, Math.abs(Math.sin(yaw - transform2D.getYaw())), EPS);
+         assertTrue(Math.abs(transform2D.getYaw()) <= Math.PI);
+      }
+
+      try
+      {
+         RigidBodyTransform rigidBodyTransform = new RigidBodyTransform();
+         rigidBodyTransform.setRotationRoll(0.5);
+         new RigidBodyTransform2D(rigidBodyTransform);
+         fail("Should have thrown an exception");
+      }
+      catch (NotAMatrix2DException e)
+      {
+         // good
+      }
+
+      RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+      RigidBodyTransform2D transform2D = new RigidBodyTransform2D();
+
+      try
+      {
+         // The conversion would not be lossless.
+         transform2D.set(rigidBodyTransform);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      transform2D.setAndProjectToXYPlane(rigidBodyTransform);
+      RigidBodyTransform projected = new RigidBodyTransform(rigidBodyTransform);
+      projected.setTranslationZ(0.0);
+      RigidBodyTransform actual = new RigidBodyTransform();
+      transform2D.get(actual);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(projected, actual, 0.0);
+
+      try
+      {
+         rigidBodyTransform.setRotationRoll(0.5);
+         transform2D.setAndProjectToXYPlane(rigidBodyTransform);
+         fail("Should have thrown an exception");
+      }
+      catch (NotAMatrix2DException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(4356L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+         RigidBodyTransform2D transform2D = new RigidBodyTransform2D();
+         transform2D.setAndProjectToXYPlane(rigidBodyTransform);
+
+         Point2D point = EuclidCoreRandomTools.nextPoint2D(random);
+         Point2D expectedPoint = new Point2D();
+         Point2D actualPoint = new Point2D();
+         rigidBodyTransform.transform(point, expectedPoint);
+         transform2D.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+         actualPoint.set(point);
+         transform2D.transform(actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+         rigidBodyTransform.inverseTransform(point, expectedPoint);
+         transform2D.inverseTransform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+         actualPoint.set(point);
+         transform2D.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+
+         Vector2D vector = EuclidCoreRandomTools.nextVector2D(random);
+         Vector2D expectedVector = new Vector2D();
+         Vector2D actualVector = new Vector2D();
+         rigidBodyTransform.transform(vector, expectedVector);
+         transform2D.transform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+         actualVector.set(vector);
+         transform2D.transform(actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+         rigidBodyTransform.inverseTransform(vector, expectedVector);
+         transform2D.inverseTransform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+         actualVector.set(vector);
+         transform2D.inverseTransform(actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+      }
+   }
+
+   @Test
+   public void testBulkTransform() throws Exception
+   {
+      Random random = new Random(8768L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         RigidBodyTransform2D transform2D = new RigidBodyTransform2D();
+         transform2D.setAndProjectToXYPlane(EuclidCoreRandomTools.nextRigidBodyTransform2D(random));
+         int numberOfPoints = random.nextInt(100);
+         int originalOffset = random.nextInt(5);
+         int transformedOffset = random.nextInt(5);
+         double[] original = new double[originalOffset + 2 * numberOfPoints];
+         float[] originalFloat = new float[original.length];
+         for (int j = 0; j < original.length; j++)
+         {
+            original[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            originalFloat[j] = (float) original[j];
+         }
+         double[] transformed = new double[transformedOffset + 2 * numberOfPoints];
+         float[] transformedFloat = new float[transformed.length];
+         double[] inverseTransformed = new double[transformed.length];
+         float[] inverseTransformedFloat = new float[transformed.length];
+
+         transform2D.transformPoints(original, originalOffset, transformed, transformedOffset, numberOfPoints);
+         transform2D.inverseTransformPoints(original, originalOffset, inverseTransformed, transformedOffset, numberOfPoints);
+         transform2D.transformPoints(originalFloat, originalOffset, transformedFloat, transformedOffset, numberOfPoints);
+         transform2D.inverseTransformPoints(originalFloat, originalOffset, inverseTransformedFloat, transformedOffset, numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point2D point = new Point2D(original[originalOffset + 2 * j], original[originalOffset + 2 * j + 1]);
+            Point2D expected = new Point2D();
+            transform2D.transform(point, expected);
+            assertEquals(expected.getX(), transformed[transformedOffset + 2 * j], EPS);
+            assertEquals(expected.getY(), transformed[transformedOffset + 2 * j + 1], EPS);
+            assertEquals(expected.getX(), transformedFloat[transformedOffset + 2 * j], 1.0e-4);
+            assertEquals(expected.getY(), transformedFloat[transformedOffset + 2 * j + 1], 1.0e-4);
+
+            transform2D.inverseTransform(point, expected);
+            assertEquals(expected.getX(), inverseTransformed[transformedOffset + 2 * j], EPS);
+            assertEquals(expected.getY(), inverseTransformed[transformedOffset + 2 * j + 1], EPS);
+            assertEquals(expected.getX(), inverseTransformedFloat[transformedOffset + 2 * j], 1.0e-4);
+            assertEquals(expected.getY(), inverseTransformedFloat[transformedOffset + 2 * j + 1], 1.0e-4);
+         }
+
+         // In place
+         transform2D.transformPoints(original, originalOffset, original, originalOffset, numberOfPoints);
+         for (int j = 0; j < 2 * numberOfPoints; j++)
+            assertEquals(transformed[transformedOffset + j], original[originalOffset + j], EPS);
+      }
+   }
+
+   @Test
+   public void testMultiplyAndInvert() throws Exception
+   {
+      Random random = new Random(9786L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform t1 = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+         RigidBodyTransform t2 = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+         t1.setTranslationZ(0.0);
+         t2.setTranslationZ(0.0);
+         RigidBodyTransform2D t2D1 = new RigidBodyTransform2D(t1);
+         RigidBodyTransform2D t2D2 = new RigidBodyTransform2D(t2);
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+         RigidBodyTransform2D actual2D = new RigidBodyTransform2D();
+
+         expected.set(t1);
+         expected.multiply(t2);
+         actual2D.set(t2D1);
+         actual2D.multiply(t2D2);
+         actual2D.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         assertTrue(new RigidBodyTransform2D(expected).geometricallyEquals(actual2D, EPS));
+
+         actual2D.set(t2D2);
+         actual2D.preMultiply(t2D1);
+         actual2D.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         assertTrue(new RigidBodyTransform2D(expected).geometricallyEquals(actual2D, EPS));
+
+         expected.set(t1);
+         expected.invert();
+         actual2D.set(t2D1);
+         actual2D.invert();
+         actual2D.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         assertTrue(new RigidBodyTransform2D(expected).epsilonEquals(actual2D, EPS));
+
+         actual2D.multiply(t2D1);
+         assertTrue(new RigidBodyTransform2D().geometricallyEquals(actual2D, EPS));
+      }
+   }
+}
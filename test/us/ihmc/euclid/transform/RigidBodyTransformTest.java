@@ -22,7 +22,9 @@ import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -32,6 +34,7 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
 {
    private static final double EPS = 1.0e-14;
    public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double BULK_EPS = 1.0e-12;
 
    @Test
    public void testConstructors() throws Exception
@@ -1484,6 +1487,41 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       }
    }
 
+   @Test
+   public void testIntegrate() throws Exception
+   {
+      Random random = new Random(35454L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform original = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actual = new RigidBodyTransform();
+         RotationMatrix expectedRotation = new RotationMatrix();
+         Vector3D angularVelocity = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         double dt = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.1);
+
+         actual.set(original);
+         actual.integrateInBodyFrame(angularVelocity, dt);
+         expectedRotation.set(original.getRotationMatrix());
+         expectedRotation.integrateInBodyFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedRotation, actual.getRotationMatrix(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(original.getTranslationVector(), actual.getTranslationVector(), EPS);
+
+         actual.set(original);
+         actual.integrateInWorldFrame(angularVelocity, dt);
+         expectedRotation.set(original.getRotationMatrix());
+         expectedRotation.integrateInWorldFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedRotation, actual.getRotationMatrix(), EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(original.getTranslationVector(), actual.getTranslationVector(), EPS);
+      }
+
+      RigidBodyTransform transform = new RigidBodyTransform();
+      transform.integrateInWorldFrame(new Vector3D(), 0.01);
+      assertFalse(transform.hasRotation());
+      transform.integrateInBodyFrame(new Vector3D(1.0, 0.0, 0.0), 0.01);
+      assertTrue(transform.hasRotation());
+   }
+
    @Test
    public void testPrependYawPitchRoll() throws Exception
    {
@@ -3525,6 +3563,91 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       }
    }
 
+   @Test
+   public void testNlerpAndFastSlerp() throws Exception
+   {
+      Random random = new Random(23542342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform t0 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform tf = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actual = new RigidBodyTransform();
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         Vector3D expectedTranslation = new Vector3D();
+         expectedTranslation.interpolate(t0.getTranslationVector(), tf.getTranslationVector(), alpha);
+         Quaternion expectedRotation = new Quaternion();
+         Quaternion q0 = new Quaternion(t0.getRotationMatrix());
+         Quaternion qf = new Quaternion(tf.getRotationMatrix());
+
+         expectedRotation.nlerp(q0, qf, alpha);
+         RigidBodyTransform expected = new RigidBodyTransform(expectedRotation, expectedTranslation);
+         actual.nlerp(t0, tf, alpha);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         actual.set(t0);
+         actual.nlerp(tf, alpha);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         expectedRotation.fastSlerp(q0, qf, alpha);
+         expected.set(expectedRotation, expectedTranslation);
+         actual.fastSlerp(t0, tf, alpha);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         actual.set(t0);
+         actual.fastSlerp(tf, alpha);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+      }
+
+      RigidBodyTransform actual = new RigidBodyTransform();
+      actual.nlerp(new RigidBodyTransform(), new RigidBodyTransform(), 0.5);
+      assertFalse(actual.hasRotation());
+      assertFalse(actual.hasTranslation());
+
+      // Interpolating from the identity, the flags have to be updated for the transform to be applied.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.1, 1.0);
+         Point3D original = EuclidCoreRandomTools.nextPoint3D(random);
+         QuaternionBasedTransform expectedTransform = new QuaternionBasedTransform();
+         Point3D expected = new Point3D();
+         Point3D transformed = new Point3D();
+
+         for (boolean useFastSlerp : new boolean[] {false, true})
+         {
+            actual.setIdentity();
+            if (useFastSlerp)
+            {
+               actual.fastSlerp(other, alpha);
+               expectedTransform.setIdentity();
+               expectedTransform.fastSlerp(new QuaternionBasedTransform(other), alpha);
+            }
+            else
+            {
+               actual.nlerp(other, alpha);
+               expectedTransform.setIdentity();
+               expectedTransform.nlerp(new QuaternionBasedTransform(other), alpha);
+            }
+
+            assertTrue(actual.hasRotation());
+            assertTrue(actual.hasTranslation());
+            expectedTransform.transform(original, expected);
+            actual.transform(original, transformed);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, transformed, EPS);
+            actual.inverseTransform(transformed);
+            EuclidCoreTestTools.assertTuple3DEquals(original, transformed, EPS);
+         }
+
+         actual.setIdentity();
+         actual.interpolate(other, 1.0);
+         assertTrue(actual.hasRotation());
+         assertTrue(actual.hasTranslation());
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(other, actual, EPS);
+         actual.transform(original, transformed);
+         other.transform(original, expected);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, transformed, EPS);
+      }
+   }
+
    @Test
    public void testPreMultiplyInvertOtherWithAffineTransform() throws Exception
    {
@@ -4003,7 +4126,194 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       }
    }
 
+   @Test
+   public void testInverseCache() throws Exception
+   {
+      Random random = new Random(4353L);
+      double epsilon = 1.0e-10;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform cached = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expected = new RigidBodyTransform(cached);
+         assertFalse(cached.isInverseCacheEnabled());
+         cached.setInverseCacheEnabled(true);
+         assertTrue(cached.isInverseCacheEnabled());
+
+         for (int j = 0; j < 10; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expectedPoint = new Point3D();
+            Point3D actualPoint = new Point3D();
+            expected.inverseTransform(point, expectedPoint);
+            cached.inverseTransform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, epsilon);
+
+            RigidBodyTransform expectedInverse = new RigidBodyTransform(expected);
+            expectedInverse.invert();
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedInverse, cached.getCachedInverse(), epsilon);
+
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+            Vector3D expectedVector = new Vector3D();
+            Vector3D actualVector = new Vector3D();
+            expected.inverseTransform(vector, expectedVector);
+            cached.inverseTransform(vector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, epsilon);
+
+            Vector4D vector4D = EuclidCoreRandomTools.nextVector4D(random);
+            Vector4D expectedVector4D = new Vector4D();
+            Vector4D actualVector4D = new Vector4D();
+            expected.inverseTransform(vector4D, expectedVector4D);
+            cached.inverseTransform(vector4D, actualVector4D);
+            EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, epsilon);
+
+            RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            QuaternionBasedTransform otherQuaternionBased = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            other.setInverseCacheEnabled(random.nextBoolean());
+            otherQuaternionBased.setInverseCacheEnabled(random.nextBoolean());
+            Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+            double angle = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+            double alpha = random.nextDouble();
+
+            // Applying the same random modification to both transforms
+            for (RigidBodyTransform modified : new RigidBodyTransform[] {expected, cached})
+            {
+               switch (j)
+               {
+               case 0:
+                  modified.multiply(other);
+                  break;
+               case 1:
+                  modified.preMultiply(other);
+                  break;
+               case 2:
+                  modified.multiplyInvertOther(other);
+                  break;
+               case 3:
+                  modified.preMultiplyInvertOther(otherQuaternionBased);
+                  break;
+               case 4:
+                  modified.multiplyInvertOther(otherQuaternionBased);
+                  break;
+               case 5:
+                  modified.invert();
+                  break;
+               case 6:
+                  modified.appendTranslation(translation);
+                  break;
+               case 7:
+                  modified.prependYawRotation(angle);
+                  break;
+               case 8:
+                  modified.interpolate(other, alpha);
+                  break;
+               default:
+                  modified.set(other);
+                  modified.setTranslationX(angle);
+                  break;
+               }
+            }
+         }
+      }
+
+      { // Test that a transform using its own cached inverse ends up as identity
+         RigidBodyTransform cached = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         cached.setInverseCacheEnabled(true);
+         cached.inverseTransform(new Point3D());
+         cached.multiplyInvertOther(cached);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(), cached, epsilon);
+         cached.setInverseCacheEnabled(false);
+         assertFalse(cached.isInverseCacheEnabled());
+      }
+   }
+
    @SuppressWarnings("unlikely-arg-type")
+   @Test
+   public void testTransformWithTuple3DArray() throws Exception
+   {
+      Random random = new Random(4356L);
+      Point3D expectedPoint = new Point3D();
+      Point3D actualPoint = new Point3D();
+      Vector3D expectedVector = new Vector3D();
+      Vector3D actualVector = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+
+         if (i % 4 == 1)
+            transform.setTranslationToZero();
+         else if (i % 4 == 2)
+            transform.setRotationToZero();
+         else if (i % 4 == 3)
+            transform.setIdentity();
+         int size = random.nextInt(50);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+
+         for (int j = 0; j < size; j++)
+         {
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+            vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         }
+
+         { // Test transform(Point3DArray, Point3DArray) and transform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.transform(pointsOriginal, pointsTransformed);
+            transform.transform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.transform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.transform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test inverseTransform(Point3DArray, Point3DArray) and inverseTransform(Vector3DArray, Vector3DArray)
+            Point3DArray pointsTransformed = new Point3DArray();
+            Vector3DArray vectorsTransformed = new Vector3DArray();
+            transform.inverseTransform(pointsOriginal, pointsTransformed);
+            transform.inverseTransform(vectorsOriginal, vectorsTransformed);
+            assertEquals(size, pointsTransformed.size());
+            assertEquals(size, vectorsTransformed.size());
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.get(j, expectedPoint);
+               transform.inverseTransform(expectedPoint);
+               pointsTransformed.get(j, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, BULK_EPS);
+
+               vectorsOriginal.get(j, expectedVector);
+               transform.inverseTransform(expectedVector);
+               vectorsTransformed.get(j, actualVector);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, BULK_EPS);
+            }
+         }
+
+         { // Test in-place transform(Point3DArray) followed by inverseTransform(Point3DArray)
+            Point3DArray points = new Point3DArray(pointsOriginal);
+            Vector3DArray vectors = new Vector3DArray(vectorsOriginal);
+            transform.transform(points);
+            transform.transform(vectors);
+            transform.inverseTransform(points);
+            transform.inverseTransform(vectors);
+            assertTrue(points.epsilonEquals(pointsOriginal, BULK_EPS));
+            assertTrue(vectors.epsilonEquals(vectorsOriginal, BULK_EPS));
+         }
+      }
+   }
+
    @Test
    public void testEquals() throws Exception
    {
@@ -0,0 +1,340 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class TransformChainTest
+{
+   private static final double EPS = 1.0e-10;
+   public static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testEmptyChain() throws Exception
+   {
+      Random random = new Random(4534L);
+      TransformChain chain = new TransformChain();
+      assertEquals(0, chain.getNumberOfStages());
+
+      Point3D expected = EuclidCoreRandomTools.nextPoint3D(random);
+      Point3D actual = new Point3D();
+      chain.transform(expected, actual);
+      EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+
+      chain.addStage(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      assertEquals(1, chain.getNumberOfStages());
+      chain.clear();
+      assertEquals(0, chain.getNumberOfStages());
+      chain.transform(expected, actual);
+      EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(4534L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         boolean rigidOnly = random.nextBoolean();
+         Transform[] stages = nextStages(random, 1 + random.nextInt(6), rigidOnly);
+         TransformChain chain = new TransformChain();
+         for (Transform stage : stages)
+            addStage(chain, stage);
+
+         for (int j = 0; j < stages.length; j++)
+            assertTrue(stages[j] == chain.getStage(j));
+
+         if (rigidOnly)
+            assertTrue(chain.getFlattenedTransform() instanceof RigidBodyTransform);
+         else
+            assertTrue(chain.getFlattenedTransform() instanceof AffineTransform);
+
+         for (int j = 0; j < 5; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expectedPoint = new Point3D(point);
+            Point3D actualPoint = new Point3D();
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+            Vector3D expectedVector = new Vector3D(vector);
+            Vector3D actualVector = new Vector3D();
+
+            for (Transform stage : stages)
+            {
+               stage.transform(expectedPoint);
+               stage.transform(expectedVector);
+            }
+
+            chain.transform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+            chain.transform(vector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+
+            chain.inverseTransform(expectedPoint, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+            chain.inverseTransform(expectedVector, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+
+            // Modifying a random stage which should trigger the update of the chain
+            assertTrue(chain.isFlattenedTransformUpToDate());
+            Transform stage = stages[random.nextInt(stages.length)];
+            if (stage instanceof RigidBodyTransform)
+               ((RigidBodyTransform) stage).appendYawRotation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+            else if (stage instanceof QuaternionBasedTransform)
+               ((QuaternionBasedTransform) stage).appendTranslation(EuclidCoreRandomTools.nextVector3D(random));
+            else
+               ((AffineTransform) stage).prependPitchRotation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+            assertFalse(chain.isFlattenedTransformUpToDate());
+         }
+      }
+   }
+
+   @Test
+   public void testRemoveStage() throws Exception
+   {
+      Random random = new Random(4534L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Transform[] stages = nextStages(random, 2 + random.nextInt(5), random.nextBoolean());
+         TransformChain chain = new TransformChain();
+         for (Transform stage : stages)
+            addStage(chain, stage);
+         chain.getFlattenedTransform();
+
+         int index = random.nextInt(stages.length);
+         assertTrue(stages[index] == chain.removeStage(index));
+         assertFalse(chain.isFlattenedTransformUpToDate());
+         assertEquals(stages.length - 1, chain.getNumberOfStages());
+
+         boolean hasAffineStage = false;
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D expected = new Point3D(point);
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < stages.length; j++)
+         {
+            if (j == index)
+               continue;
+            assertTrue(stages[j] == chain.getStage(j < index ? j : j - 1));
+            stages[j].transform(expected);
+            hasAffineStage |= stages[j] instanceof AffineTransform;
+         }
+
+         chain.transform(point, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         assertEquals(hasAffineStage, chain.getFlattenedTransform() instanceof AffineTransform);
+      }
+
+      try
+      {
+         new TransformChain().removeStage(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testBulkTransform() throws Exception
+   {
+      Random random = new Random(4534L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Transform[] stages = nextStages(random, 1 + random.nextInt(6), random.nextBoolean());
+         TransformChain chain = new TransformChain();
+         for (Transform stage : stages)
+            addStage(chain, stage);
+
+         int numberOfPoints = random.nextInt(100);
+         double[] original = new double[3 * numberOfPoints];
+         double[] expected = new double[3 * numberOfPoints];
+         double[] actual = new double[3 * numberOfPoints];
+         Point3DArray originalArray = new Point3DArray();
+         Point3DArray actualArray = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            point.get(3 * j, original);
+            originalArray.add(point);
+            for (Transform stage : stages)
+               stage.transform(point);
+            point.get(3 * j, expected);
+         }
+
+         chain.transformPoints(original, 0, actual, 0, numberOfPoints);
+         for (int j = 0; j < actual.length; j++)
+            assertEquals(expected[j], actual[j], EPS);
+
+         chain.inverseTransformPoints(expected, 0, actual, 0, numberOfPoints);
+         for (int j = 0; j < actual.length; j++)
+            assertEquals(original[j], actual[j], EPS);
+
+         chain.transform(originalArray, actualArray);
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            assertEquals(expected[3 * j], actualArray.getX(j), EPS);
+            assertEquals(expected[3 * j + 1], actualArray.getY(j), EPS);
+            assertEquals(expected[3 * j + 2], actualArray.getZ(j), EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testStageVersions() throws Exception
+   {
+      Random random = new Random(4534L);
+
+      RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      long version = rigidBodyTransform.getVersion();
+      rigidBodyTransform.transform(new Point3D());
+      rigidBodyTransform.inverseTransform(new Point3D());
+      assertEquals(version, rigidBodyTransform.getVersion());
+      rigidBodyTransform.setTranslationX(1.0);
+      assertNotEquals(version, version = rigidBodyTransform.getVersion());
+      rigidBodyTransform.multiply(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      assertNotEquals(version, version = rigidBodyTransform.getVersion());
+      rigidBodyTransform.setRotationYawAndZeroTranslation(1.0);
+      assertNotEquals(version, version = rigidBodyTransform.getVersion());
+
+      QuaternionBasedTransform quaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      version = quaternionBasedTransform.getVersion();
+      quaternionBasedTransform.transform(new Point3D());
+      assertEquals(version, quaternionBasedTransform.getVersion());
+      quaternionBasedTransform.invert();
+      assertNotEquals(version, version = quaternionBasedTransform.getVersion());
+      quaternionBasedTransform.prependTranslation(1.0, 2.0, 3.0);
+      assertNotEquals(version, version = quaternionBasedTransform.getVersion());
+
+      AffineTransform affineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+      version = affineTransform.getVersion();
+      affineTransform.transform(new Point3D());
+      assertEquals(version, affineTransform.getVersion());
+      affineTransform.setScale(2.0);
+      assertNotEquals(version, version = affineTransform.getVersion());
+      affineTransform.preMultiply(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      assertNotEquals(version, version = affineTransform.getVersion());
+      affineTransform.setToNaN();
+      assertNotEquals(version, version = affineTransform.getVersion());
+   }
+
+   @Test
+   public void testNonUniformScales() throws Exception
+   {
+      AffineTransform firstScale = new AffineTransform();
+      firstScale.setScale(1.0, 3.0, 1.0);
+      RigidBodyTransform yaw = new RigidBodyTransform();
+      yaw.setRotationYaw(0.7);
+      AffineTransform secondScale = new AffineTransform();
+      secondScale.setScale(1.0, 3.0, 1.0);
+
+      TransformChain chain = new TransformChain();
+      chain.addStage(firstScale);
+      chain.addStage(yaw);
+
+      try
+      {
+         // The product would be sheared.
+         chain.addStage(secondScale);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+      assertEquals(2, chain.getNumberOfStages());
+
+      secondScale.setScale(2.0);
+      chain.addStage(secondScale);
+
+      Point3D original = new Point3D(1.0, 2.0, 3.0);
+      Point3D expected = new Point3D();
+      Point3D actual = new Point3D();
+      firstScale.transform(original, expected);
+      yaw.transform(expected);
+      secondScale.transform(expected);
+      chain.transform(original, actual);
+      EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+      // The stage is modified after having been added.
+      secondScale.setScale(1.0, 3.0, 1.0);
+
+      try
+      {
+         chain.transform(original, actual);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalStateException e)
+      {
+         // good
+      }
+
+      secondScale.setScale(3.0);
+      firstScale.transform(original, expected);
+      yaw.transform(expected);
+      secondScale.transform(expected);
+      chain.transform(original, actual);
+      EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+   }
+
+   private static Transform[] nextStages(Random random, int numberOfStages, boolean rigidOnly)
+   {
+      Transform[] stages = new Transform[numberOfStages];
+
+      for (int i = 0; i < numberOfStages; i++)
+      {
+         switch (random.nextInt(rigidOnly ? 2 : 3))
+         {
+         case 0:
+            stages[i] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            break;
+         case 1:
+            stages[i] = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            break;
+         default:
+            stages[i] = nextUniformlyScaledAffineTransform(random);
+            break;
+         }
+      }
+
+      // Only the first stage can have a non-uniform scale for the chain to be an affine transform.
+      if (!rigidOnly)
+         stages[0] = EuclidCoreRandomTools.nextAffineTransform(random);
+
+      return stages;
+   }
+
+   private static AffineTransform nextUniformlyScaledAffineTransform(Random random)
+   {
+      AffineTransform affineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+      affineTransform.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+      return affineTransform;
+   }
+
+   private static void addStage(TransformChain chain, Transform stage)
+   {
+      if (stage instanceof RigidBodyTransform)
+         chain.addStage((RigidBodyTransform) stage);
+      else if (stage instanceof QuaternionBasedTransform)
+         chain.addStage((QuaternionBasedTransform) stage);
+      else
+         chain.addStage((AffineTransform) stage);
+   }
+}
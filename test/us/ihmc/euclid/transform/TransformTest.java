@@ -1,5 +1,7 @@
 package us.ihmc.euclid.transform;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.Random;
 
 import org.junit.Test;
@@ -19,6 +21,7 @@ import us.ihmc.euclid.tuple4D.Vector4D;
 public abstract class TransformTest<T extends Transform>
 {
    private static final double EPS = 1.0e-10;
+   private static final double EPS_FLOAT = 1.0e-4;
 
    public abstract T createRandomTransform(Random random);
 
@@ -67,6 +70,104 @@ public abstract class TransformTest<T extends Transform>
       }
    }
 
+   @Test
+   public void testTransformWithInterleavedArrays() throws Exception
+   {
+      Random random = new Random(34534L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         T transform = createRandomTransform(random);
+         int numberOfTuples = random.nextInt(50);
+         int originalOffset = random.nextInt(10);
+         int transformedOffset = random.nextInt(10);
+
+         double[] tuplesOriginal = new double[originalOffset + 3 * numberOfTuples];
+         float[] tuplesOriginal32 = new float[tuplesOriginal.length];
+         for (int j = 0; j < tuplesOriginal.length; j++)
+         {
+            tuplesOriginal[j] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            tuplesOriginal32[j] = (float) tuplesOriginal[j];
+         }
+
+         double[] tuplesTransformed = new double[transformedOffset + 3 * numberOfTuples];
+         float[] tuplesTransformed32 = new float[tuplesTransformed.length];
+         Point3D pointExpected = new Point3D();
+         Point3D pointActual = new Point3D();
+         Vector3D vectorExpected = new Vector3D();
+         Vector3D vectorActual = new Vector3D();
+
+         { // Test transformPoints(double[], int, double[], int, int) and transformPoints(float[], int, float[], int, int)
+            transform.transformPoints(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+            transform.transformPoints(tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset, numberOfTuples);
+
+            for (int j = 0; j < numberOfTuples; j++)
+            {
+               pointExpected.set(originalOffset + 3 * j, tuplesOriginal);
+               transform.transform(pointExpected);
+               pointActual.set(transformedOffset + 3 * j, tuplesTransformed);
+               EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS);
+               pointActual.set(transformedOffset + 3 * j, tuplesTransformed32);
+               EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS_FLOAT);
+            }
+         }
+
+         { // Test transformVectors(double[], int, double[], int, int) and transformVectors(float[], int, float[], int, int)
+            transform.transformVectors(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+            transform.transformVectors(tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset, numberOfTuples);
+
+            for (int j = 0; j < numberOfTuples; j++)
+            {
+               vectorExpected.set(originalOffset + 3 * j, tuplesOriginal);
+               transform.transform(vectorExpected);
+               vectorActual.set(transformedOffset + 3 * j, tuplesTransformed);
+               EuclidCoreTestTools.assertTuple3DEquals(vectorExpected, vectorActual, EPS);
+               vectorActual.set(transformedOffset + 3 * j, tuplesTransformed32);
+               EuclidCoreTestTools.assertTuple3DEquals(vectorExpected, vectorActual, EPS_FLOAT);
+            }
+         }
+
+         { // Test inverseTransformPoints(double[], int, double[], int, int) and inverseTransformPoints(float[], int, float[], int, int)
+            transform.inverseTransformPoints(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+            transform.inverseTransformPoints(tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset, numberOfTuples);
+
+            for (int j = 0; j < numberOfTuples; j++)
+            {
+               pointExpected.set(originalOffset + 3 * j, tuplesOriginal);
+               transform.inverseTransform(pointExpected);
+               pointActual.set(transformedOffset + 3 * j, tuplesTransformed);
+               EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS);
+               pointActual.set(transformedOffset + 3 * j, tuplesTransformed32);
+               EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS_FLOAT);
+            }
+         }
+
+         { // Test inverseTransformVectors(double[], int, double[], int, int) and inverseTransformVectors(float[], int, float[], int, int)
+            transform.inverseTransformVectors(tuplesOriginal, originalOffset, tuplesTransformed, transformedOffset, numberOfTuples);
+            transform.inverseTransformVectors(tuplesOriginal32, originalOffset, tuplesTransformed32, transformedOffset, numberOfTuples);
+
+            for (int j = 0; j < numberOfTuples; j++)
+            {
+               vectorExpected.set(originalOffset + 3 * j, tuplesOriginal);
+               transform.inverseTransform(vectorExpected);
+               vectorActual.set(transformedOffset + 3 * j, tuplesTransformed);
+               EuclidCoreTestTools.assertTuple3DEquals(vectorExpected, vectorActual, EPS);
+               vectorActual.set(transformedOffset + 3 * j, tuplesTransformed32);
+               EuclidCoreTestTools.assertTuple3DEquals(vectorExpected, vectorActual, EPS_FLOAT);
+            }
+         }
+
+         { // Test in-place transformPoints followed by inverseTransformPoints
+            double[] tuples = tuplesOriginal.clone();
+            transform.transformPoints(tuples, originalOffset, tuples, originalOffset, numberOfTuples);
+            transform.inverseTransformPoints(tuples, originalOffset, tuples, originalOffset, numberOfTuples);
+
+            for (int j = 0; j < tuples.length; j++)
+               assertEquals(tuplesOriginal[j], tuples[j], EPS);
+         }
+      }
+   }
+
    @Test
    public void testInverseTransformWithTuple2D() throws Exception
    {
@@ -0,0 +1,109 @@
+package us.ihmc.euclid.tuple2D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ByteBufferPoint2DTest extends Point2DBasicsTest<ByteBufferPoint2D>
+{
+   public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testFlyweight() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that the components are written to and read from the buffer at the current offset
+         boolean singlePrecision = random.nextBoolean();
+         int numberOfTuples = 1 + random.nextInt(20);
+         int componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+         ByteBuffer buffer = random.nextBoolean() ? ByteBuffer.allocateDirect(2 * componentSize * numberOfTuples) : ByteBuffer.allocate(2 * componentSize * numberOfTuples);
+         buffer.order(random.nextBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+         ByteBufferPoint2D flyweight = new ByteBufferPoint2D(buffer, 0, singlePrecision);
+         assertEquals(2 * componentSize, flyweight.getSizeInBytes());
+
+         Point2D[] expected = new Point2D[numberOfTuples];
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            expected[j] = singlePrecision ? new Point2D(EuclidCoreRandomTools.nextPoint2D32(random)) : EuclidCoreRandomTools.nextPoint2D(random);
+            flyweight.setIndex(j);
+            assertEquals(j * flyweight.getSizeInBytes(), flyweight.getOffset());
+            flyweight.set(expected[j]);
+         }
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            flyweight.setOffset(j * 2 * componentSize);
+            EuclidCoreTestTools.assertTuple2DEquals(expected[j], flyweight, EPS);
+            assertEquals(expected[j].getX(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 0 * componentSize) : buffer.getDouble(flyweight.getOffset() + 0 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getY(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 1 * componentSize) : buffer.getDouble(flyweight.getOffset() + 1 * componentSize),
+                         EPS);
+         }
+
+         assertEquals(0, buffer.position());
+         assertEquals(buffer.capacity(), buffer.limit());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that operations performed on the flyweight match the ones performed on a heap object
+         boolean singlePrecision = random.nextBoolean();
+         ByteBufferPoint2D flyweight = new ByteBufferPoint2D(ByteBuffer.allocateDirect(64), 16, singlePrecision);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform2D(random);
+         Point2D expected = singlePrecision ? new Point2D(EuclidCoreRandomTools.nextPoint2D32(random)) : EuclidCoreRandomTools.nextPoint2D(random);
+         flyweight.set(expected);
+         expected.set(flyweight);
+
+         { // Apply the same operation to both and compare
+            transform.transform(expected);
+            transform.transform(flyweight);
+            EuclidCoreTestTools.assertTuple2DEquals(expected, flyweight, singlePrecision ? 1.0e-5 : EPS);
+         }
+
+         assertTrue(flyweight.equals(new Point2D(flyweight)));
+         assertEquals(new Point2D(flyweight).hashCode(), flyweight.hashCode());
+      }
+   }
+
+   @Override
+   public ByteBufferPoint2D createEmptyTuple()
+   {
+      return new ByteBufferPoint2D(ByteBuffer.allocateDirect(8 + 2 * Double.BYTES), 8, false);
+   }
+
+   @Override
+   public ByteBufferPoint2D createTuple(double x, double y)
+   {
+      ByteBufferPoint2D flyweight = createEmptyTuple();
+      flyweight.set(x, y);
+      return flyweight;
+   }
+
+   @Override
+   public ByteBufferPoint2D createRandomTuple(Random random)
+   {
+      ByteBufferPoint2D flyweight = createEmptyTuple();
+      flyweight.set(EuclidCoreRandomTools.nextPoint2D(random));
+      return flyweight;
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-15;
+   }
+}
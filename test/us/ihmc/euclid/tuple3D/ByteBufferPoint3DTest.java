@@ -0,0 +1,112 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ByteBufferPoint3DTest extends Point3DBasicsTest<ByteBufferPoint3D>
+{
+   public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testFlyweight() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that the components are written to and read from the buffer at the current offset
+         boolean singlePrecision = random.nextBoolean();
+         int numberOfTuples = 1 + random.nextInt(20);
+         int componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+         ByteBuffer buffer = random.nextBoolean() ? ByteBuffer.allocateDirect(3 * componentSize * numberOfTuples) : ByteBuffer.allocate(3 * componentSize * numberOfTuples);
+         buffer.order(random.nextBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+         ByteBufferPoint3D flyweight = new ByteBufferPoint3D(buffer, 0, singlePrecision);
+         assertEquals(3 * componentSize, flyweight.getSizeInBytes());
+
+         Point3D[] expected = new Point3D[numberOfTuples];
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            expected[j] = singlePrecision ? new Point3D(EuclidCoreRandomTools.nextPoint3D32(random)) : EuclidCoreRandomTools.nextPoint3D(random);
+            flyweight.setIndex(j);
+            assertEquals(j * flyweight.getSizeInBytes(), flyweight.getOffset());
+            flyweight.set(expected[j]);
+         }
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            flyweight.setOffset(j * 3 * componentSize);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], flyweight, EPS);
+            assertEquals(expected[j].getX(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 0 * componentSize) : buffer.getDouble(flyweight.getOffset() + 0 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getY(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 1 * componentSize) : buffer.getDouble(flyweight.getOffset() + 1 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getZ(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 2 * componentSize) : buffer.getDouble(flyweight.getOffset() + 2 * componentSize),
+                         EPS);
+         }
+
+         assertEquals(0, buffer.position());
+         assertEquals(buffer.capacity(), buffer.limit());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that operations performed on the flyweight match the ones performed on a heap object
+         boolean singlePrecision = random.nextBoolean();
+         ByteBufferPoint3D flyweight = new ByteBufferPoint3D(ByteBuffer.allocateDirect(64), 16, singlePrecision);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         Point3D expected = singlePrecision ? new Point3D(EuclidCoreRandomTools.nextPoint3D32(random)) : EuclidCoreRandomTools.nextPoint3D(random);
+         flyweight.set(expected);
+         expected.set(flyweight);
+
+         { // Apply the same operation to both and compare
+            transform.transform(expected);
+            transform.transform(flyweight);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, flyweight, singlePrecision ? 1.0e-5 : EPS);
+         }
+
+         assertTrue(flyweight.equals(new Point3D(flyweight)));
+         assertEquals(new Point3D(flyweight).hashCode(), flyweight.hashCode());
+      }
+   }
+
+   @Override
+   public ByteBufferPoint3D createEmptyTuple()
+   {
+      return new ByteBufferPoint3D(ByteBuffer.allocateDirect(8 + 3 * Double.BYTES), 8, false);
+   }
+
+   @Override
+   public ByteBufferPoint3D createTuple(double x, double y, double z)
+   {
+      ByteBufferPoint3D flyweight = createEmptyTuple();
+      flyweight.set(x, y, z);
+      return flyweight;
+   }
+
+   @Override
+   public ByteBufferPoint3D createRandomTuple(Random random)
+   {
+      ByteBufferPoint3D flyweight = createEmptyTuple();
+      flyweight.set(EuclidCoreRandomTools.nextPoint3D(random));
+      return flyweight;
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-15;
+   }
+}
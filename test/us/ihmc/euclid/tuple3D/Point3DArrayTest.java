@@ -0,0 +1,334 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class Point3DArrayTest
+{
+   private static final double EPS = 1.0e-12;
+   public static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(6435L);
+
+      { // Test Point3DArray()
+         Point3DArray array = new Point3DArray();
+         assertEquals(0, array.size());
+         assertTrue(array.isEmpty());
+         assertEquals(Tuple3DArray.DEFAULT_INITIAL_CAPACITY, array.capacity());
+      }
+
+      { // Test Point3DArray(int initialCapacity)
+         int initialCapacity = random.nextInt(100);
+         Point3DArray array = new Point3DArray(initialCapacity);
+         assertEquals(0, array.size());
+         assertEquals(initialCapacity, array.capacity());
+
+         try
+         {
+            new Point3DArray(-1);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test Point3DArray(Point3DArray other)
+         Point3DArray expected = nextPoint3DArray(random);
+         Point3DArray actual = new Point3DArray(expected);
+         assertEquals(expected, actual);
+      }
+   }
+
+   @Test
+   public void testAddAndGet() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int size = random.nextInt(100);
+         Point3D[] expected = new Point3D[size];
+         Point3DArray array = new Point3DArray(0);
+
+         for (int j = 0; j < size; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            if (random.nextBoolean())
+               array.add(expected[j]);
+            else
+               array.add(expected[j].getX(), expected[j].getY(), expected[j].getZ());
+         }
+
+         assertEquals(size, array.size());
+         assertTrue(array.capacity() >= size);
+
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < size; j++)
+         {
+            array.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+            assertEquals(expected[j].getX(), array.getX(j), 0.0);
+            assertEquals(expected[j].getY(), array.getY(j), 0.0);
+            assertEquals(expected[j].getZ(), array.getZ(j), 0.0);
+            assertEquals(expected[j].getX(), array.getXArray()[j], 0.0);
+            assertEquals(expected[j].getY(), array.getYArray()[j], 0.0);
+            assertEquals(expected[j].getZ(), array.getZArray()[j], 0.0);
+         }
+
+         try
+         {
+            array.get(size, actual);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            array.getX(-1);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testSetters() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray array = nextPoint3DArray(random, 1 + random.nextInt(50));
+         int index = random.nextInt(array.size());
+         Point3D expected = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D actual = new Point3D();
+
+         array.set(index, expected);
+         array.get(index, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+
+         expected = EuclidCoreRandomTools.nextPoint3D(random);
+         array.set(index, expected.getX(), expected.getY(), expected.getZ());
+         array.get(index, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+
+         expected = EuclidCoreRandomTools.nextPoint3D(random);
+         array.setX(index, expected.getX());
+         array.setY(index, expected.getY());
+         array.setZ(index, expected.getZ());
+         array.get(index, actual);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+
+         try
+         {
+            array.set(array.size(), expected);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test set(Point3DArray other)
+         Point3DArray expected = nextPoint3DArray(random);
+         Point3DArray actual = nextPoint3DArray(random);
+         actual.set(expected);
+         assertEquals(expected, actual);
+      }
+   }
+
+   @Test
+   public void testSizeAndCapacity() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray array = nextPoint3DArray(random);
+         Point3DArray original = new Point3DArray(array);
+
+         int newCapacity = array.capacity() + random.nextInt(100);
+         array.ensureCapacity(newCapacity);
+         assertTrue(array.capacity() >= newCapacity);
+         assertEquals(original, array);
+
+         int newSize = array.size() + random.nextInt(100);
+         array.setSize(newSize);
+         assertEquals(newSize, array.size());
+         assertTrue(array.capacity() >= newSize);
+
+         for (int j = 0; j < original.size(); j++)
+         {
+            assertEquals(original.getX(j), array.getX(j), 0.0);
+            assertEquals(original.getY(j), array.getY(j), 0.0);
+            assertEquals(original.getZ(j), array.getZ(j), 0.0);
+         }
+
+         int capacity = array.capacity();
+         array.clear();
+         assertTrue(array.isEmpty());
+         assertEquals(capacity, array.capacity());
+      }
+   }
+
+   @Test
+   public void testSetToZero() throws Exception
+   {
+      Random random = new Random(3453L);
+      Point3DArray array = nextPoint3DArray(random, 20);
+      array.setToZero();
+      assertEquals(20, array.size());
+
+      for (int i = 0; i < array.size(); i++)
+      {
+         assertEquals(0.0, array.getX(i), 0.0);
+         assertEquals(0.0, array.getY(i), 0.0);
+         assertEquals(0.0, array.getZ(i), 0.0);
+      }
+   }
+
+   @Test
+   public void testSetToNaN() throws Exception
+   {
+      Random random = new Random(3453L);
+      Point3DArray array = nextPoint3DArray(random, 20);
+      assertFalse(array.containsNaN());
+      array.setToNaN();
+      assertEquals(20, array.size());
+      assertTrue(array.containsNaN());
+
+      for (int i = 0; i < array.size(); i++)
+      {
+         assertTrue(Double.isNaN(array.getX(i)));
+         assertTrue(Double.isNaN(array.getY(i)));
+         assertTrue(Double.isNaN(array.getZ(i)));
+      }
+   }
+
+   @Test
+   public void testContainsNaN() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray array = nextPoint3DArray(random, 1 + random.nextInt(50));
+         assertFalse(array.containsNaN());
+         int index = random.nextInt(array.size());
+
+         switch (random.nextInt(3))
+         {
+         case 0:
+            array.setX(index, Double.NaN);
+            break;
+         case 1:
+            array.setY(index, Double.NaN);
+            break;
+         default:
+            array.setZ(index, Double.NaN);
+            break;
+         }
+         assertTrue(array.containsNaN());
+      }
+   }
+
+   @Test
+   public void testEpsilonEquals() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray array1 = nextPoint3DArray(random, 1 + random.nextInt(50));
+         Point3DArray array2 = new Point3DArray(array1);
+         assertTrue(array1.epsilonEquals(array2, EPS));
+
+         int index = random.nextInt(array1.size());
+         array2.setX(index, array2.getX(index) + 0.99 * EPS);
+         assertTrue(array1.epsilonEquals(array2, EPS));
+         array2.setX(index, array2.getX(index) + 1.01 * EPS);
+         assertFalse(array1.epsilonEquals(array2, EPS));
+
+         array2.set(array1);
+         array2.add(0.0, 0.0, 0.0);
+         assertFalse(array1.epsilonEquals(array2, EPS));
+      }
+   }
+
+   @Test
+   public void testEquals() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray array1 = nextPoint3DArray(random, 1 + random.nextInt(50));
+         Point3DArray array2 = new Point3DArray(array1);
+
+         assertTrue(array1.equals(array1));
+         assertTrue(array1.equals(array2));
+         assertFalse(array1.equals(null));
+         assertFalse(array1.equals(new Vector3DArray()));
+         assertEquals(array1.hashCode(), array2.hashCode());
+
+         int index = random.nextInt(array1.size());
+         array2.setZ(index, array2.getZ(index) + 1.0e-7);
+         assertFalse(array1.equals(array2));
+         assertNotEquals(array1.hashCode(), array2.hashCode());
+
+         Vector3DArray vectorArray1 = new Vector3DArray();
+         Vector3DArray vectorArray2 = new Vector3DArray();
+         vectorArray1.add(array1.getX(0), array1.getY(0), array1.getZ(0));
+         vectorArray2.add(array1.getX(0), array1.getY(0), array1.getZ(0));
+         assertTrue(vectorArray1.equals(vectorArray2));
+      }
+   }
+
+   @Test
+   public void testToString() throws Exception
+   {
+      Point3DArray array = new Point3DArray();
+      assertEquals("[]", array.toString());
+      array.add(new Point3D(1.0, 2.0, 3.0));
+      array.add(new Point3D(4.0, 5.0, 6.0));
+      assertEquals("[" + new Point3D(1.0, 2.0, 3.0) + ", " + new Point3D(4.0, 5.0, 6.0) + "]", array.toString());
+   }
+
+   private static Point3DArray nextPoint3DArray(Random random)
+   {
+      return nextPoint3DArray(random, random.nextInt(100));
+   }
+
+   private static Point3DArray nextPoint3DArray(Random random, int size)
+   {
+      Point3DArray array = new Point3DArray();
+      for (int i = 0; i < size; i++)
+         array.add(EuclidCoreRandomTools.nextPoint3D(random));
+      return array;
+   }
+}
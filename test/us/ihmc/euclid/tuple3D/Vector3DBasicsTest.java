@@ -12,6 +12,7 @@ import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.transform.AffineTransform;
 import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
@@ -247,6 +248,38 @@ public abstract class Vector3DBasicsTest<T extends Vector3DBasics> extends Tuple
       }
    }
 
+   @Test
+   public void testFastNormalize()
+   {
+      Random random = new Random(312310L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         T expected = createRandomTuple(random);
+         expected.normalize();
+
+         // Close to unitary: the approximation is used.
+         T actual = createEmptyTuple();
+         actual.setAndScale(1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT), expected);
+         actual.fastNormalize();
+         // The approximation has a relative error of about 1.0e-13 in this range.
+         double epsilon = Math.max(getEpsilon(), 1.0e-12);
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, epsilon);
+         assertEquals(1.0, actual.length(), epsilon);
+
+         // Far from unitary: falls back to the exact normalization.
+         actual.setAndScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0), expected);
+         T normalized = createEmptyTuple();
+         normalized.setAndNormalize(actual);
+         actual.fastNormalize();
+         EuclidCoreTestTools.assertTuple3DEquals(normalized, actual, 0.0);
+
+         actual.setToNaN();
+         actual.fastNormalize();
+         EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(actual);
+      }
+   }
+
    @Test
    public void testApplyTransform() throws Exception
    {
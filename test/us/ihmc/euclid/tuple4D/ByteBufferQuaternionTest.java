@@ -0,0 +1,116 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class ByteBufferQuaternionTest extends QuaternionBasicsTest<ByteBufferQuaternion>
+{
+   public static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testFlyweight() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that the components are written to and read from the buffer at the current offset
+         boolean singlePrecision = random.nextBoolean();
+         int numberOfTuples = 1 + random.nextInt(20);
+         int componentSize = singlePrecision ? Float.BYTES : Double.BYTES;
+         ByteBuffer buffer = random.nextBoolean() ? ByteBuffer.allocateDirect(4 * componentSize * numberOfTuples) : ByteBuffer.allocate(4 * componentSize * numberOfTuples);
+         buffer.order(random.nextBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+         ByteBufferQuaternion flyweight = new ByteBufferQuaternion(buffer, 0, singlePrecision);
+         assertEquals(4 * componentSize, flyweight.getSizeInBytes());
+
+         Quaternion[] expected = new Quaternion[numberOfTuples];
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            expected[j] = singlePrecision ? new Quaternion(EuclidCoreRandomTools.nextQuaternion32(random)) : EuclidCoreRandomTools.nextQuaternion(random);
+            flyweight.setIndex(j);
+            assertEquals(j * flyweight.getSizeInBytes(), flyweight.getOffset());
+            flyweight.set(expected[j]);
+         }
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            flyweight.setOffset(j * 4 * componentSize);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], flyweight, EPS);
+            assertEquals(expected[j].getX(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 0 * componentSize) : buffer.getDouble(flyweight.getOffset() + 0 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getY(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 1 * componentSize) : buffer.getDouble(flyweight.getOffset() + 1 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getZ(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 2 * componentSize) : buffer.getDouble(flyweight.getOffset() + 2 * componentSize),
+                         EPS);
+            assertEquals(expected[j].getS(),
+                         singlePrecision ? buffer.getFloat(flyweight.getOffset() + 3 * componentSize) : buffer.getDouble(flyweight.getOffset() + 3 * componentSize),
+                         EPS);
+         }
+
+         assertEquals(0, buffer.position());
+         assertEquals(buffer.capacity(), buffer.limit());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test that operations performed on the flyweight match the ones performed on a heap object
+         boolean singlePrecision = random.nextBoolean();
+         ByteBufferQuaternion flyweight = new ByteBufferQuaternion(ByteBuffer.allocateDirect(64), 16, singlePrecision);
+         Quaternion multiplier = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion expected = singlePrecision ? new Quaternion(EuclidCoreRandomTools.nextQuaternion32(random)) : EuclidCoreRandomTools.nextQuaternion(random);
+         flyweight.set(expected);
+         expected.set(flyweight);
+
+         { // Apply the same operation to both and compare
+            expected.multiply(multiplier);
+            flyweight.multiply(multiplier);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, flyweight, singlePrecision ? 1.0e-5 : EPS);
+         }
+
+         assertTrue(flyweight.equals(new Quaternion(flyweight)));
+         assertEquals(new Quaternion(flyweight).hashCode(), flyweight.hashCode());
+      }
+   }
+
+   @Override
+   public ByteBufferQuaternion createEmptyTuple()
+   {
+      ByteBufferQuaternion flyweight = new ByteBufferQuaternion(ByteBuffer.allocateDirect(8 + 4 * Double.BYTES), 8, false);
+      flyweight.setToZero();
+      return flyweight;
+   }
+
+   @Override
+   public ByteBufferQuaternion createTuple(double x, double y, double z, double s)
+   {
+      ByteBufferQuaternion flyweight = createEmptyTuple();
+      flyweight.setUnsafe(x, y, z, s);
+      return flyweight;
+   }
+
+   @Override
+   public ByteBufferQuaternion createRandomTuple(Random random)
+   {
+      ByteBufferQuaternion flyweight = createEmptyTuple();
+      flyweight.set(EuclidCoreRandomTools.nextQuaternion(random));
+      return flyweight;
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-14;
+   }
+}
@@ -843,6 +843,45 @@ public abstract class QuaternionBasicsTest<T extends QuaternionBasics> extends T
       assertTrue(actual.isUnitary(getEpsilon()));
    }
 
+   @Test
+   public void testFastNormalize()
+   {
+      Random random = new Random(4564L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         T expected = createRandomTuple(random);
+         T actual = createEmptyTuple();
+
+         // Close to unitary: the approximation is used.
+         double scale = 1.0 + EuclidCoreRandomTools.nextDouble(random, 0.4 * EuclidCoreTools.EPS_NORM_FAST_INVERSE_SQRT);
+         actual.setUnsafe(scale * expected.getX(), scale * expected.getY(), scale * expected.getZ(), scale * expected.getS());
+         actual.fastNormalize();
+         // The approximation has a relative error of about 1.0e-13 in this range.
+         double epsilon = Math.max(getEpsilon(), 1.0e-12);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, epsilon);
+         assertTrue(actual.isUnitary(epsilon));
+
+         // Far from unitary: falls back to the exact normalization.
+         scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         actual.setUnsafe(scale * expected.getX(), scale * expected.getY(), scale * expected.getZ(), scale * expected.getS());
+         T normalized = createEmptyTuple();
+         normalized.setUnsafe(actual.getX(), actual.getY(), actual.getZ(), actual.getS());
+         normalized.normalize();
+         actual.fastNormalize();
+         EuclidCoreTestTools.assertQuaternionEquals(normalized, actual, 0.0);
+      }
+
+      T actual = createEmptyTuple();
+      actual.setUnsafe(0.0, 0.0, 0.0, 0.0);
+      actual.fastNormalize();
+      EuclidCoreTestTools.assertQuaternionIsSetToZero(actual);
+
+      actual.setToNaN();
+      actual.fastNormalize();
+      EuclidCoreTestTools.assertTuple4DContainsOnlyNaN(actual);
+   }
+
    @Test
    public void testSetToZero()
    {
@@ -1348,6 +1387,46 @@ public abstract class QuaternionBasicsTest<T extends QuaternionBasics> extends T
       }
    }
 
+   @Test
+   public void testIntegrate() throws Exception
+   {
+      Random random = new Random(35454L);
+
+      T expected = createEmptyTuple();
+      T actual = createEmptyTuple();
+      T rotation = createEmptyTuple();
+      Vector3D rotationVector = new Vector3D();
+      double epsilon = Math.max(getEpsilon(), 1.0e-14);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         T original = createRandomTuple(random);
+         double dt = random.nextDouble();
+         // Alternates between the series expansion and the exact exponential map.
+         double maxAngle = i % 2 == 0 ? QuaternionTools.SMALL_INTEGRATION_ANGLE : Math.PI;
+         Vector3D angularVelocity = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, random.nextDouble() * maxAngle / dt);
+         rotationVector.setAndScale(dt, angularVelocity);
+         QuaternionConversion.convertRotationVectorToQuaternion(rotationVector, rotation);
+
+         QuaternionTools.multiply(original, rotation, expected);
+         actual.set(original);
+         actual.integrateInBodyFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, epsilon);
+
+         QuaternionTools.multiply(rotation, original, expected);
+         actual.set(original);
+         actual.integrateInWorldFrame(angularVelocity, dt);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, epsilon);
+      }
+
+      T original = createRandomTuple(random);
+      actual.set(original);
+      actual.integrateInBodyFrame(new Vector3D(), 1.0);
+      EuclidCoreTestTools.assertQuaternionEquals(original, actual, getEpsilon());
+      actual.integrateInWorldFrame(EuclidCoreRandomTools.nextVector3D(random), 0.0);
+      EuclidCoreTestTools.assertQuaternionEquals(original, actual, getEpsilon());
+   }
+
    @Test
    public void testPrependYawPitchRoll() throws Exception
    {
@@ -1575,6 +1654,68 @@ public abstract class QuaternionBasicsTest<T extends QuaternionBasics> extends T
       }
    }
 
+   @Test
+   public void testNlerpAndFastSlerp() throws Exception
+   {
+      Random random = new Random(723459L);
+      T actual = createEmptyTuple();
+      Quaternion expected = new Quaternion();
+      double epsilon = Math.max(10.0 * getEpsilon(), 1.0e-12);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Rotations arbitrarily far from each other
+         T q0 = createRandomTuple(random);
+         T qf = createRandomTuple(random);
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         expected.interpolate(q0, qf, alpha);
+
+         actual.nlerp(q0, qf, alpha);
+         assertTrue(angularDistance(expected, actual) < 0.143 + epsilon);
+         assertTrue(actual.isUnitary(epsilon));
+         actual.set(q0);
+         actual.nlerp(qf, alpha);
+         assertTrue(angularDistance(expected, actual) < 0.143 + epsilon);
+
+         actual.fastSlerp(q0, qf, alpha);
+         assertTrue(angularDistance(expected, actual) < 1.7e-5 + epsilon);
+         assertTrue(actual.isUnitary(epsilon));
+         actual.set(q0);
+         actual.fastSlerp(qf, alpha);
+         assertTrue(angularDistance(expected, actual) < 1.7e-5 + epsilon);
+
+         actual.nlerp(q0, qf, 0.0);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(q0, actual, epsilon);
+         actual.nlerp(q0, qf, 1.0);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, epsilon);
+         actual.fastSlerp(q0, qf, 0.0);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(q0, actual, epsilon);
+         actual.fastSlerp(q0, qf, 1.0);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, epsilon);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Rotations that are less than 10 degrees apart
+         T q0 = createRandomTuple(random);
+         T qf = createEmptyTuple();
+         qf.set(q0);
+         Vector3D axis = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         qf.append(new AxisAngle(axis, Math.toRadians(EuclidCoreRandomTools.nextDouble(random, 10.0))));
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         expected.interpolate(q0, qf, alpha);
+
+         actual.nlerp(q0, qf, alpha);
+         assertTrue(angularDistance(expected, actual) < 2.2e-5 + epsilon);
+         actual.fastSlerp(q0, qf, alpha);
+         assertTrue(angularDistance(expected, actual) < epsilon);
+      }
+   }
+
+   private static double angularDistance(QuaternionReadOnly q1, QuaternionReadOnly q2)
+   {
+      double distance = q1.distancePrecise(q2);
+      return Math.min(distance, 2.0 * Math.PI - distance);
+   }
+
    @Test
    public void testApplyTransform()
    {
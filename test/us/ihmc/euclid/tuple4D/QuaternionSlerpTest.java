@@ -0,0 +1,120 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class QuaternionSlerpTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 1000;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(34534L);
+      QuaternionSlerp slerp = new QuaternionSlerp();
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         slerp.set(q0, qf);
+
+         for (int j = 0; j < 10; j++)
+         {
+            double alpha = EuclidCoreRandomTools.nextDouble(random, -0.5, 1.5);
+            expected.interpolate(q0, qf, alpha);
+            slerp.interpolate(alpha, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+         }
+
+         slerp.interpolate(0.0, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(q0, actual, EPS);
+         slerp.interpolate(1.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, EPS);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Almost identical quaternions
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = new Quaternion(q0);
+         qf.appendYawRotation(EuclidCoreRandomTools.nextDouble(random, 1.0e-7));
+         if (random.nextBoolean())
+            qf.negate();
+         slerp.set(q0, qf);
+
+         double alpha = random.nextDouble();
+         expected.interpolate(q0, qf, alpha);
+         slerp.interpolate(alpha, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testSampling() throws Exception
+   {
+      Random random = new Random(2346L);
+      QuaternionSlerp slerp = new QuaternionSlerp();
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         if (i % 10 == 0)
+         {
+            qf.set(q0);
+            qf.appendRollRotation(EuclidCoreRandomTools.nextDouble(random, 1.0e-7));
+         }
+         slerp.set(q0, qf);
+
+         int numberOfSamples = 2 + random.nextInt(500);
+         slerp.startSampling(numberOfSamples);
+
+         for (int j = 0; j < numberOfSamples; j++)
+         {
+            assertTrue(slerp.hasNextSample());
+            slerp.nextSample(actual);
+            expected.interpolate(q0, qf, j / (numberOfSamples - 1.0));
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, 1.0e-10);
+         }
+
+         assertFalse(slerp.hasNextSample());
+
+         try
+         {
+            slerp.nextSample(actual);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good
+         }
+      }
+
+      try
+      {
+         slerp.startSampling(1);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      slerp.startSampling(10);
+      slerp.set(new Quaternion(), new Quaternion());
+      assertFalse(slerp.hasNextSample());
+   }
+}